@@ -0,0 +1,82 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hu.aestallon.adventofcode.year2023.day02;
+
+import hu.aestallon.adventofcode.year2023.day02.internal.Sample;
+import hu.aestallon.adventofcode.year2023.util.AocIO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CubeConundrumBenchmark {
+
+  private static final Sample BOUND = Sample.of(12, 13, 14);
+
+  private List<String>  lines;
+  private CubeConundrum cubeConundrum;
+  private List<Sample>  bounds;
+
+  @Setup
+  public void setUp() {
+    lines = AocIO.lines("02", "input02.txt");
+    cubeConundrum = CubeConundrum.create(lines);
+    final var random = new SplittableRandom(42L);
+    bounds = Stream
+        .generate(() -> Sample.of(random.nextInt(21), random.nextInt(21), random.nextInt(21)))
+        .limit(10_000)
+        .toList();
+  }
+
+  @Benchmark
+  public CubeConundrum parse() {
+    return CubeConundrum.create(lines);
+  }
+
+  @Benchmark
+  public long solvePart1() {
+    return cubeConundrum.solvePart1(BOUND);
+  }
+
+  @Benchmark
+  public long[] solvePart1ForManyBounds() {
+    return cubeConundrum.solvePart1(bounds);
+  }
+
+  @Benchmark
+  public long solvePart2() {
+    return cubeConundrum.solvePart2();
+  }
+
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hu.aestallon.adventofcode.year2023.day11;
+
+import hu.aestallon.adventofcode.year2023.util.AocIO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CosmicExpansionBenchmark {
+
+  private List<String>    lines;
+  private CosmicExpansion cosmicExpansion1;
+  private CosmicExpansion cosmicExpansion2;
+
+  @Setup
+  public void setUp() {
+    lines = AocIO.lines("11", "input11.txt");
+    cosmicExpansion1 = new CosmicExpansion(lines, 2);
+    cosmicExpansion2 = new CosmicExpansion(lines, 1_000_000);
+  }
+
+  @Benchmark
+  public CosmicExpansion parse() {
+    return new CosmicExpansion(lines, 2);
+  }
+
+  @Benchmark
+  public long solvePart1() {
+    return cosmicExpansion1.solve();
+  }
+
+  @Benchmark
+  public long solvePart2() {
+    return cosmicExpansion2.solve();
+  }
+
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hu.aestallon.adventofcode.year2023.day14;
+
+import hu.aestallon.adventofcode.year2023.day14.internal.Direction;
+import hu.aestallon.adventofcode.year2023.util.AocIO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Part 2 is driven by the cycle detection in the test, so its unit of work, a single spin
+ * {@link ParabolicReflectorDish#cycle()}, is benchmarked instead.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParabolicReflectorDishBenchmark {
+
+  private List<String>           lines;
+  private ParabolicReflectorDish dish;
+
+  @Setup
+  public void setUp() {
+    lines = AocIO.lines("14", "input14.txt");
+    dish = new ParabolicReflectorDish(lines);
+  }
+
+  @Benchmark
+  public ParabolicReflectorDish parse() {
+    return new ParabolicReflectorDish(lines);
+  }
+
+  @Benchmark
+  public long solvePart1() {
+    return dish.tilt(Direction.NORTH).currentLoad(Direction.NORTH);
+  }
+
+  @Benchmark
+  public ParabolicReflectorDish cycle() {
+    return dish.cycle();
+  }
+
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package hu.aestallon.adventofcode.year2023.footprint;
+
+import hu.aestallon.adventofcode.year2023.generator.Generators;
+import hu.aestallon.adventofcode.year2023.generator.InputGenerator;
+import hu.aestallon.adventofcode.year2023.solver.Solver;
+import hu.aestallon.adventofcode.year2023.solver.Solvers;
+import org.openjdk.jol.info.GraphLayout;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Reports the retained heap of the parsed models of grid- and table-heavy days at several input
+ * sizes, walking the object graph of each model with JOL.
+ *
+ * <p>Usage: {@code <report directory> [day...]}. Every model is measured on generated inputs of the
+ * same seed, so the reports of two revisions can be compared. The footprint is written to
+ * {@code footprint.csv}, as retained bytes and bytes per input byte, together with the class
+ * histogram of each day's largest model in {@code dayNN.txt}.
+ */
+public final class ModelFootprint {
+
+  private static final Logger log = LoggerFactory.getLogger(ModelFootprint.class);
+
+  private static final long SEED = 2023L;
+
+  /** The measured days, with the input sizes in the unit of their generator. */
+  private static final Map<Integer, long[]> SIZES = new LinkedHashMap<>();
+
+  static {
+    SIZES.put(3, new long[] { 50, 140, 500 });
+    SIZES.put(5, new long[] { 10, 100, 1_000 });
+    SIZES.put(11, new long[] { 50, 140, 500 });
+    SIZES.put(14, new long[] { 50, 100, 500 });
+    SIZES.put(16, new long[] { 50, 110, 500 });
+    SIZES.put(18, new long[] { 100, 1_000, 10_000 });
+  }
+
+  private record Measurement(int day, long size, String unit, long inputBytes, long modelBytes) {
+
+    double bytesPerInputByte() {
+      return (double) modelBytes / inputBytes;
+    }
+
+    String toCsv() {
+      return String.format(
+          Locale.ROOT, "%d,%d,%s,%d,%d,%.2f",
+          day, size, unit, inputBytes, modelBytes, bytesPerInputByte());
+    }
+
+  }
+
+  public static void main(String[] args) throws IOException {
+    if (args.length < 1) {
+      log.error("Usage: <report directory> [day...]");
+      return;
+    }
+
+    final Path reportDirectory = Path.of(args[0]);
+    final List<Integer> days = (args.length > 1)
+        ? Arrays.stream(args, 1, args.length).map(String::trim).map(Integer::valueOf).toList()
+        : List.copyOf(SIZES.keySet());
+    Files.createDirectories(reportDirectory);
+
+    final List<Measurement> measurements = new ArrayList<>();
+    for (final int day : days) {
+      final long[] sizes = SIZES.get(day);
+      if (sizes == null) {
+        log.error("Day {} is not measured, choose from {}", day, SIZES.keySet());
+        continue;
+      }
+
+      final Solver<?> solver = Solvers.forDay(day).orElseThrow();
+      final InputGenerator generator = Generators.forDay(day).orElseThrow();
+      GraphLayout largest = null;
+      for (final long size : sizes) {
+        final String input = generate(generator, size);
+        final GraphLayout layout = GraphLayout.parseInstance(solver.parse(input.lines().toList()));
+        final var measurement = new Measurement(
+            day, size, generator.sizeUnit(),
+            input.getBytes(StandardCharsets.ISO_8859_1).length, layout.totalSize());
+        measurements.add(measurement);
+        largest = layout;
+        log.info("Day {}, {} {}: {} input bytes, {} model bytes, {} bytes per input byte",
+            day, size, measurement.unit(), measurement.inputBytes(), measurement.modelBytes(),
+            "%.2f".formatted(measurement.bytesPerInputByte()));
+      }
+      Files.writeString(
+          reportDirectory.resolve("day%02d.txt".formatted(day)),
+          largest.toFootprint());
+    }
+
+    final List<String> csv = new ArrayList<>();
+    csv.add("day,size,unit,input_bytes,model_bytes,bytes_per_input_byte");
+    measurements.stream().map(Measurement::toCsv).forEach(csv::add);
+    Files.write(reportDirectory.resolve("footprint.csv"), csv);
+  }
+
+  private static String generate(InputGenerator generator, long size) throws IOException {
+    final var out = new StringWriter();
+    generator.generate(size, new SplittableRandom(SEED), out);
+    return out.toString();
+  }
+
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hu.aestallon.adventofcode.year2023.daemon;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+/**
+ * Asks a running {@link Daemon} to solve a puzzle, and prints the answer.
+ *
+ * <p>Usage: {@code <day> <part> <input path>}. Both the time the daemon spent solving and the
+ * round trip time are printed, the latter to be compared against starting a fresh JVM.
+ */
+public final class Client implements AutoCloseable {
+
+  private static final Logger log = LoggerFactory.getLogger(Client.class);
+
+  public static void main(String[] args) throws IOException {
+    if (args.length != 3) {
+      log.error("Usage: <day> <part> <input path>");
+      return;
+    }
+
+    final var request = new Protocol.Request(
+        Integer.parseInt(args[0]),
+        Integer.parseInt(args[1]),
+        Path.of(args[2]));
+    try (final var client = new Client()) {
+      final long start = System.nanoTime();
+      final Protocol.Response response = client.solve(request);
+      final long roundTrip = System.nanoTime() - start;
+      System.out.println(response.answer());
+      log.info(
+          "Day {} part {} solved in {} ms, round trip took {} ms",
+          request.day(), request.part(), response.nanos() / 1e6, roundTrip / 1e6);
+    }
+  }
+
+  private final SocketChannel  channel;
+  private final BufferedReader in;
+  private final BufferedWriter out;
+
+  public Client() throws IOException {
+    this.channel = SocketChannel.open(Protocol.address());
+    this.in = new BufferedReader(new InputStreamReader(
+        Channels.newInputStream(channel), StandardCharsets.UTF_8));
+    this.out = new BufferedWriter(new OutputStreamWriter(
+        Channels.newOutputStream(channel), StandardCharsets.UTF_8));
+  }
+
+  /** Returns the answer of the given part of the given day to the input at the given path. */
+  public long solve(int day, int part, Path input) throws IOException {
+    return solve(new Protocol.Request(day, part, input)).answer();
+  }
+
+  private Protocol.Response solve(Protocol.Request request) throws IOException {
+    out.write(request.format());
+    out.write('\n');
+    out.flush();
+
+    final String line = in.readLine();
+    if (line == null) {
+      throw new IOException("The daemon closed the connection!");
+    }
+    return Protocol.Response.parse(line);
+  }
+
+  @Override
+  public void close() throws IOException {
+    channel.close();
+  }
+
+}
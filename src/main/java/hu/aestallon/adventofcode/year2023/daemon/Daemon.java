@@ -0,0 +1,185 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hu.aestallon.adventofcode.year2023.daemon;
+
+import hu.aestallon.adventofcode.year2023.solver.Solver;
+import hu.aestallon.adventofcode.year2023.solver.Solvers;
+import hu.aestallon.adventofcode.year2023.util.MappedInput;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps every solver loaded in a single JVM, and solves puzzles requested over a Unix domain
+ * socket, so repeated runs do not pay for JVM startup, class loading and JIT warm-up.
+ *
+ * <p>Every connection is served on a virtual thread of its own. Requests of the same day are
+ * serialised, as solvers are not required to be thread-safe.
+ *
+ * @see Protocol
+ */
+public final class Daemon {
+
+  private static final Logger log = LoggerFactory.getLogger(Daemon.class);
+
+  public static void main(String[] args) throws IOException {
+    final UnixDomainSocketAddress address = Protocol.address();
+    final var daemon = new Daemon.Server(address);
+    Runtime.getRuntime().addShutdownHook(Thread.ofPlatform().unstarted(daemon::stop));
+    daemon.serve();
+  }
+
+  private record Resident(Solver<?> solver, ReentrantLock lock) {}
+
+  /** Accepts connections until stopped, serving each of them on a virtual thread of its own. */
+  static final class Server {
+
+    private final UnixDomainSocketAddress address;
+    private final ServerSocketChannel     channel;
+    private final ExecutorService         executor;
+    private final Map<Integer, Resident>  solvers;
+    /** The open client connections, closed on stop to release handlers waiting for a request. */
+    private final Set<SocketChannel>      connections = ConcurrentHashMap.newKeySet();
+
+    Server(UnixDomainSocketAddress address) throws IOException {
+      this.address = address;
+      this.solvers = Solvers.providers(Set.of()).stream()
+          .collect(Collectors.toMap(
+              it -> Solvers.puzzleOf(it).day(),
+              it -> new Resident(it.get(), new ReentrantLock())));
+
+      // a socket file left behind by a daemon which was killed would prevent binding:
+      Files.deleteIfExists(address.getPath());
+      this.channel = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+      this.channel.bind(address);
+      this.executor = Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    void serve() {
+      log.info("Serving days {} on {}", solvers.keySet(), address.getPath());
+      while (channel.isOpen()) {
+        try {
+          final SocketChannel connection = channel.accept();
+          executor.submit(() -> handle(connection));
+        } catch (IOException e) {
+          if (channel.isOpen()) {
+            log.error("Failed to accept connection", e);
+          }
+        }
+      }
+    }
+
+    private void handle(SocketChannel connection) {
+      connections.add(connection);
+      try (connection;
+           final var in = new BufferedReader(new InputStreamReader(
+               Channels.newInputStream(connection), StandardCharsets.UTF_8));
+           final var out = new BufferedWriter(new OutputStreamWriter(
+               Channels.newOutputStream(connection), StandardCharsets.UTF_8))) {
+        if (!channel.isOpen()) {
+          // accepted just before stopping, thus maybe after the open connections were closed
+          return;
+        }
+        String line;
+        while ((line = in.readLine()) != null) {
+          if (line.isBlank()) {
+            continue;
+          }
+          out.write(respond(line));
+          out.write('\n');
+          out.flush();
+        }
+      } catch (IOException e) {
+        if (channel.isOpen()) {
+          log.warn("Connection failed", e);
+        }
+      } finally {
+        connections.remove(connection);
+      }
+    }
+
+    private String respond(String line) {
+      try {
+        final var request = Protocol.Request.parse(line);
+        final Resident resident = solvers.get(request.day());
+        if (resident == null) {
+          return Protocol.ERROR + " No solver exists for day " + request.day();
+        }
+        if (request.part() == 2 && !resident.solver.hasPart2()) {
+          return Protocol.ERROR + " Part 2 of day " + request.day() + " is not solved yet";
+        }
+
+        resident.lock.lock();
+        try {
+          final long start = System.nanoTime();
+          final long answer = solve(resident.solver, request);
+          return new Protocol.Response(answer, System.nanoTime() - start).format();
+        } finally {
+          resident.lock.unlock();
+        }
+      } catch (IOException e) {
+        log.warn("Cannot read input of [ {} ]", line, e);
+        return Protocol.ERROR + " Cannot read input file: " + e;
+      } catch (RuntimeException e) {
+        log.error("Failed to answer [ {} ]", line, e);
+        return Protocol.ERROR + " " + e;
+      }
+    }
+
+    private static <M> long solve(Solver<M> solver, Protocol.Request request)
+        throws IOException {
+      final M model = solver.parse(MappedInput.map(request.input()));
+      return (request.part() == 1) ? solver.solvePart1(model) : solver.solvePart2(model);
+    }
+
+    void stop() {
+      log.info("Shutting down");
+      try {
+        channel.close();
+        // handlers of idle clients are blocked reading, and would keep the executor from closing:
+        for (final SocketChannel connection : connections) {
+          connection.close();
+        }
+        executor.close();
+        Files.deleteIfExists(address.getPath());
+      } catch (IOException e) {
+        log.error("Failed to clean up {}", address.getPath(), e);
+      }
+    }
+
+  }
+
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hu.aestallon.adventofcode.year2023.daemon;
+
+import java.net.UnixDomainSocketAddress;
+import java.nio.file.Path;
+
+/**
+ * The line-based protocol spoken between the {@link Daemon} and its {@link Client}s.
+ *
+ * <p>A request is a single line of the form {@code <day> <part> <input path>}. It is answered
+ * either by {@code OK <answer> <nanos>}, where {@code nanos} is the time spent parsing and solving
+ * in the daemon, or by {@code ERR <message>}. A connection may carry any number of requests, each
+ * answered before the next one is read.
+ */
+final class Protocol {
+
+  static final String OK    = "OK";
+  static final String ERROR = "ERR";
+
+  private Protocol() {}
+
+  /** Returns the socket given by the {@code aoc.socket} system property, or the default one. */
+  static UnixDomainSocketAddress address() {
+    final String socket = System.getProperty("aoc.socket");
+    return UnixDomainSocketAddress.of((socket == null)
+        ? Path.of(System.getProperty("java.io.tmpdir"), "advent-of-code-2023.sock")
+        : Path.of(socket));
+  }
+
+  record Request(int day, int part, Path input) {
+
+    static Request parse(String line) {
+      final String[] parts = line.trim().split("\\s+", 3);
+      if (parts.length != 3) {
+        throw new IllegalArgumentException(
+            "Expected <day> <part> <input path>, but got: " + line);
+      }
+
+      final int part = Integer.parseInt(parts[1]);
+      if (part != 1 && part != 2) {
+        throw new IllegalArgumentException("Part must be 1 or 2, but was " + part);
+      }
+      return new Request(Integer.parseInt(parts[0]), part, Path.of(parts[2]));
+    }
+
+    String format() {
+      return day + " " + part + " " + input.toAbsolutePath();
+    }
+
+  }
+
+  record Response(long answer, long nanos) {
+
+    static Response parse(String line) {
+      final String[] parts = line.trim().split("\\s+", 3);
+      if (parts.length == 0 || !OK.equals(parts[0])) {
+        throw new IllegalStateException(line.startsWith(ERROR)
+            ? line.substring(ERROR.length()).trim()
+            : "Unexpected response: " + line);
+      }
+      if (parts.length != 3) {
+        throw new IllegalArgumentException("Expected OK <answer> <nanos>, but got: " + line);
+      }
+      return new Response(Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+    }
+
+    String format() {
+      return OK + " " + answer + " " + nanos;
+    }
+
+  }
+
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hu.aestallon.adventofcode.year2023.day01;
+
+import java.util.Arrays;
+
+/**
+ * Finds the first, or the last number in a range of characters, where a number is either a digit
+ * or the name of one between one and nine.
+ *
+ * <p>The names are compiled into an Aho-Corasick automaton, completed into a transition table over
+ * the letters they use, so every character is a single lookup, and a scan stops at the first
+ * recognised number. {@link #LAST} is built from the reversed names and scans backwards, thus the
+ * first number it finds is the one that starts last. As no name contains another, the number that
+ * ends first is also the one that starts first.
+ */
+final class NumberAutomaton {
+
+  private static final String[] NAMES = {
+      "one", "two", "three",
+      "four", "five", "six",
+      "seven", "eight", "nine"
+  };
+
+  /** Letter classes indexed by ASCII code, zero standing for any character not in the names. */
+  private static final byte[] LETTER_CLASS = new byte[128];
+  private static final int    ALPHABET;
+
+  static {
+    byte letters = 0;
+    for (final String name : NAMES) {
+      for (int i = 0; i < name.length(); i++) {
+        if (LETTER_CLASS[name.charAt(i)] == 0) {
+          LETTER_CLASS[name.charAt(i)] = ++letters;
+        }
+      }
+    }
+    ALPHABET = letters + 1;
+  }
+
+  static final NumberAutomaton FIRST = new NumberAutomaton(false);
+  static final NumberAutomaton LAST  = new NumberAutomaton(true);
+
+  private final boolean backwards;
+  private final int[]   transitions;
+  /** The number recognised upon entering a state, or zero if there is none. */
+  private final byte[]  numbers;
+
+  private NumberAutomaton(boolean backwards) {
+    this.backwards = backwards;
+
+    final int maxStates = 1 + Arrays.stream(NAMES).mapToInt(String::length).sum();
+    final int[] next = new int[maxStates * ALPHABET];
+    final byte[] found = new byte[maxStates];
+    Arrays.fill(next, -1);
+    int states = 1;
+    for (int n = 0; n < NAMES.length; n++) {
+      final String name = NAMES[n];
+      int state = 0;
+      for (int i = 0; i < name.length(); i++) {
+        final int c = LETTER_CLASS[name.charAt(backwards ? name.length() - 1 - i : i)];
+        if (next[state * ALPHABET + c] < 0) {
+          next[state * ALPHABET + c] = states++;
+        }
+        state = next[state * ALPHABET + c];
+      }
+      found[state] = (byte) (n + 1);
+    }
+
+    // Breadth-first, every missing transition is replaced by the one of the failure state:
+    final int[] failure = new int[states];
+    final int[] queue = new int[states];
+    int head = 0;
+    int tail = 0;
+    for (int c = 0; c < ALPHABET; c++) {
+      if (next[c] < 0) {
+        next[c] = 0;
+      } else {
+        queue[tail++] = next[c];
+      }
+    }
+    while (head < tail) {
+      final int state = queue[head++];
+      if (found[state] == 0) {
+        found[state] = found[failure[state]];
+      }
+      for (int c = 0; c < ALPHABET; c++) {
+        final int fallback = next[failure[state] * ALPHABET + c];
+        if (next[state * ALPHABET + c] < 0) {
+          next[state * ALPHABET + c] = fallback;
+        } else {
+          failure[next[state * ALPHABET + c]] = fallback;
+          queue[tail++] = next[state * ALPHABET + c];
+        }
+      }
+    }
+
+    this.transitions = Arrays.copyOf(next, states * ALPHABET);
+    this.numbers = Arrays.copyOf(found, states);
+  }
+
+  /**
+   * Returns the value of the first number found in {@code [from, to)} in the direction of this
+   * automaton, or {@code -1} if there is none.
+   */
+  int find(CharSequence s, int from, int to) {
+    final int step = backwards ? -1 : 1;
+    int state = 0;
+    for (int i = backwards ? to - 1 : from; i >= from && i < to; i += step) {
+      final char c = s.charAt(i);
+      if (c >= '0' && c <= '9') {
+        return c - '0';
+      }
+      state = transitions[state * ALPHABET + ((c < 128) ? LETTER_CLASS[c] : 0)];
+      if (numbers[state] != 0) {
+        return numbers[state];
+      }
+    }
+    return -1;
+  }
+
+}
@@ -16,53 +16,119 @@
 
 package hu.aestallon.adventofcode.year2023.day01;
 
+import hu.aestallon.adventofcode.year2023.solver.IncrementalSolver;
+import hu.aestallon.adventofcode.year2023.util.ByteScan;
 import hu.aestallon.adventofcode.year2023.util.Digits;
+import hu.aestallon.adventofcode.year2023.util.MappedInput;
 
 import java.util.List;
-import java.util.OptionalInt;
-import java.util.function.Function;
-import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 final class Trebuchet {
 
-  private static final String[] NUMBERS = {
-      "one", "two", "three",
-      "four", "five", "six",
-      "seven", "eight", "nine"
-  };
+  /** The calibration value of the line in {@code [from, to)} of a sequence. */
+  @FunctionalInterface
+  private interface CalibrationValue {
+    int of(CharSequence s, int from, int to);
+  }
+
+  /** Only the outermost digits matter, so they are searched for from both ends of the line. */
+  private static int calibrationValue(CharSequence s, int from, int to) {
+    final int first = ByteScan.firstDigit(s, from, to);
+    if (first < 0) {
+      return 0;
+    }
+    final int last = ByteScan.lastDigit(s, first, to);
+    return Digits.digit(s.charAt(first)) * 10 + Digits.digit(s.charAt(last));
+  }
+
+  /** Both ends of the line are scanned only up to the outermost numbers. */
+  private static int spelledCalibrationValue(CharSequence s, int from, int to) {
+    final int head = NumberAutomaton.FIRST.find(s, from, to);
+    if (head < 0) {
+      return 0;
+    }
+    return head * 10 + NumberAutomaton.LAST.find(s, from, to);
+  }
+
+  /** Sums the calibration values of every line in a run of whole lines, in place. */
+  private static long sumOfLines(CharSequence chunk, CalibrationValue calibrationValue) {
+    final int length = chunk.length();
+    long sum = 0L;
+    int from = 0;
+    while (from < length) {
+      final int lineBreak = ByteScan.indexOf(chunk, from, length, '\n');
+      final int to = (lineBreak < 0) ? length : lineBreak;
+      sum += calibrationValue.of(chunk, from, to);
+      from = to + 1;
+    }
+    return sum;
+  }
+
+  static IncrementalSolver incrementalPart1() {
+    return new Incremental(Trebuchet::calibrationValue);
+  }
 
-  private static OptionalInt findIntAt(String s, int idx) {
-    return (idx >= s.length()) ? OptionalInt.empty() : match(s.substring(idx));
+  static IncrementalSolver incrementalPart2() {
+    return new Incremental(Trebuchet::spelledCalibrationValue);
   }
 
-  private static OptionalInt match(String s) {
-    return IntStream.rangeClosed(1, NUMBERS.length)
-        .filter(i -> s.startsWith(String.valueOf(i)) || s.startsWith(NUMBERS[i - 1]))
-        .findFirst();
+  /** Sums the calibration values of lines as they arrive. */
+  private static final class Incremental implements IncrementalSolver {
+
+    private final CalibrationValue calibrationValue;
+    private long                   sum;
+
+    private Incremental(CalibrationValue calibrationValue) {
+      this.calibrationValue = calibrationValue;
+    }
+
+    @Override
+    public void accept(CharSequence line) {
+      sum += calibrationValue.of(line, 0, line.length());
+    }
+
+    @Override
+    public long currentAnswer() {
+      return sum;
+    }
+
   }
 
-  private final List<String> lines;
+  /**
+   * Splits the given input into newline-aligned chunks, to be scanned in place and in parallel by
+   * the solutions.
+   */
+  static Trebuchet of(MappedInput input) {
+    return new Trebuchet(input.parallelChunks().toList(), true);
+  }
+
+  /** Runs of whole lines: either single lines, or chunks of a mapped input. */
+  private final List<? extends CharSequence> chunks;
+  private final boolean                      parallel;
 
   Trebuchet(List<String> lines) {
-    this.lines = lines;
+    this(lines, false);
+  }
+
+  private Trebuchet(List<? extends CharSequence> chunks, boolean parallel) {
+    this.chunks = chunks;
+    this.parallel = parallel;
   }
 
-  int solvePart1() {
-    return solve(s -> s.chars().filter(Character::isDigit).map(Digits::digit).toArray());
+  private long sum(CalibrationValue calibrationValue) {
+    final Stream<? extends CharSequence> chunks = parallel
+        ? this.chunks.parallelStream()
+        : this.chunks.stream();
+    return chunks.mapToLong(it -> sumOfLines(it, calibrationValue)).sum();
   }
 
-  int solvePart2() {
-    return solve(s -> IntStream.range(0, s.length())
-        .flatMap(i -> findIntAt(s, i).stream())
-        .toArray());
+  long solvePart1() {
+    return sum(Trebuchet::calibrationValue);
   }
 
-  private int solve(Function<String, int[]> stringToDigits) {
-    return lines.stream()
-        .map(stringToDigits)
-        .filter(arr -> arr.length > 0)
-        .mapToInt(arr -> arr[0] * 10 + arr[arr.length - 1])
-        .sum();
+  long solvePart2() {
+    return sum(Trebuchet::spelledCalibrationValue);
   }
 
 }
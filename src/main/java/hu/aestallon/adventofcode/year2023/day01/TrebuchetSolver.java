@@ -0,0 +1,59 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hu.aestallon.adventofcode.year2023.day01;
+
+import hu.aestallon.adventofcode.year2023.solver.IncrementalSolver;
+import hu.aestallon.adventofcode.year2023.solver.Puzzle;
+import hu.aestallon.adventofcode.year2023.solver.Solver;
+import hu.aestallon.adventofcode.year2023.util.MappedInput;
+
+import java.util.List;
+import java.util.Optional;
+
+@Puzzle(day = 1, title = "Trebuchet?!")
+public final class TrebuchetSolver implements Solver<Trebuchet> {
+
+  @Override
+  public Trebuchet parse(List<String> lines) {
+    return new Trebuchet(lines);
+  }
+
+  @Override
+  public Trebuchet parse(MappedInput input) {
+    return Trebuchet.of(input);
+  }
+
+  @Override
+  public long solvePart1(Trebuchet trebuchet) {
+    return trebuchet.solvePart1();
+  }
+
+  @Override
+  public long solvePart2(Trebuchet trebuchet) {
+    return trebuchet.solvePart2();
+  }
+
+  @Override
+  public Optional<IncrementalSolver> incremental(int part) {
+    return Optional.of(switch (part) {
+      case 1 -> Trebuchet.incrementalPart1();
+      case 2 -> Trebuchet.incrementalPart2();
+      default -> throw new IllegalArgumentException("No such part: " + part);
+    });
+  }
+
+}
@@ -18,35 +18,194 @@ package hu.aestallon.adventofcode.year2023.day02;
 
 import hu.aestallon.adventofcode.year2023.day02.internal.Game;
 import hu.aestallon.adventofcode.year2023.day02.internal.Sample;
+import hu.aestallon.adventofcode.year2023.solver.IncrementalSolver;
+import hu.aestallon.adventofcode.year2023.util.FenwickTree2D;
+import hu.aestallon.adventofcode.year2023.util.MappedInput;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.function.IntUnaryOperator;
+import java.util.function.ToLongFunction;
+import java.util.stream.IntStream;
 
 public final class CubeConundrum {
 
   public static CubeConundrum create(List<String> lines) {
     return new CubeConundrum(lines.stream()
         .map(Game::parse)
-        .toList());
+        .toList(), false);
   }
 
-  private final List<Game> games;
+  /** Parses, and later on solves the games of the given input in parallel. */
+  public static CubeConundrum create(MappedInput input) {
+    return new CubeConundrum(input.parallelLines()
+        .map(Game::parse)
+        .toList(), true);
+  }
+
+  static IncrementalSolver incrementalPart1(final Sample bound) {
+    return new Incremental(it -> it.isPossible(bound) ? it.id() : 0L);
+  }
+
+  static IncrementalSolver incrementalPart2() {
+    return new Incremental(it -> it.lowerBound().power());
+  }
+
+  /** Sums a value of each game as they arrive. */
+  private static final class Incremental implements IncrementalSolver {
+
+    private final ToLongFunction<Game> value;
+    private long                       sum;
 
-  private CubeConundrum(List<Game> games) {
-    this.games = games;
+    private Incremental(ToLongFunction<Game> value) {
+      this.value = value;
+    }
+
+    @Override
+    public void accept(CharSequence line) {
+      sum += value.applyAsLong(Game.parse(line));
+    }
+
+    @Override
+    public long currentAnswer() {
+      return sum;
+    }
+
+  }
+
+  /** Games in a single chunk of a parallel pass over the columns. */
+  private static final int CHUNK_SIZE = 1 << 12;
+  /** The largest 2-D index built for a batch of bounds, in cells. */
+  private static final int MAX_INDEX_CELLS = 1 << 20;
+
+  /**
+   * Each game reduced to its ID and the lower bound of its samples, in columns, as that bound alone
+   * decides both parts.
+   */
+  private final int[]   ids;
+  private final int[]   maxR;
+  private final int[]   maxG;
+  private final int[]   maxB;
+  private final boolean parallel;
+
+  private CubeConundrum(List<Game> games, boolean parallel) {
+    final int n = games.size();
+    this.ids = new int[n];
+    this.maxR = new int[n];
+    this.maxG = new int[n];
+    this.maxB = new int[n];
+    for (int i = 0; i < n; i++) {
+      final Game game = games.get(i);
+      final Sample lowerBound = game.lowerBound();
+      ids[i] = game.id();
+      maxR[i] = lowerBound.r();
+      maxG[i] = lowerBound.g();
+      maxB[i] = lowerBound.b();
+    }
+    this.parallel = parallel;
   }
 
-  int solvePart1(final Sample bound) {
-    return games.stream()
-        .filter(it -> it.isPossible(bound))
-        .mapToInt(Game::id)
+  /** Sums the given chunked pass over the columns, on the common pool if the input is parallel. */
+  private long sumOverChunks(ChunkSum chunkSum) {
+    if (!parallel) {
+      return chunkSum.of(0, ids.length);
+    }
+    return IntStream
+        .range(0, (ids.length + CHUNK_SIZE - 1) / CHUNK_SIZE)
+        .parallel()
+        .mapToLong(c -> chunkSum.of(
+            c * CHUNK_SIZE,
+            Math.min(ids.length, (c + 1) * CHUNK_SIZE)))
         .sum();
   }
 
+  @FunctionalInterface
+  private interface ChunkSum {
+    long of(int from, int to);
+  }
+
+  long solvePart1(final Sample bound) {
+    return sumOverChunks((from, to) -> possibleIdSum(from, to, bound));
+  }
+
+  private long possibleIdSum(int from, int to, Sample bound) {
+    final int r = bound.r();
+    final int g = bound.g();
+    final int b = bound.b();
+    long sum = 0L;
+    for (int i = from; i < to; i++) {
+      if (maxR[i] <= r && maxG[i] <= g && maxB[i] <= b) {
+        sum += ids[i];
+      }
+    }
+    return sum;
+  }
+
+  /**
+   * Answers part 1 for each of the given bounds at once.
+   *
+   * <p>Games and bounds are both swept in the order of red. Every game within the red of the
+   * current bound is added to a 2-D Fenwick tree over the ranks of its green and blue, so a bound
+   * takes a single prefix sum of that tree. Should the tree grow too large, because of too many
+   * distinct green and blue values, each bound is answered by a pass over the columns instead.
+   */
+  long[] solvePart1(final List<Sample> bounds) {
+    final long[] answers = new long[bounds.size()];
+    final int[] greens = IntStream.of(maxG).sorted().distinct().toArray();
+    final int[] blues = IntStream.of(maxB).sorted().distinct().toArray();
+    if ((long) greens.length * blues.length > MAX_INDEX_CELLS) {
+      for (int q = 0; q < answers.length; q++) {
+        answers[q] = solvePart1(bounds.get(q));
+      }
+      return answers;
+    }
+
+    final long[] games = sortedByRed(ids.length, i -> maxR[i]);
+    final long[] queries = sortedByRed(answers.length, q -> bounds.get(q).r());
+    final var index = new FenwickTree2D(greens.length, blues.length);
+    int next = 0;
+    for (final long query : queries) {
+      final Sample bound = bounds.get((int) query);
+      while (next < games.length && (games[next] >>> 32) <= bound.r()) {
+        final int game = (int) games[next++];
+        index.add(
+            Arrays.binarySearch(greens, maxG[game]),
+            Arrays.binarySearch(blues, maxB[game]),
+            ids[game]);
+      }
+      answers[(int) query] = index.prefixSum(
+          countAtMost(greens, bound.g()),
+          countAtMost(blues, bound.b()));
+    }
+    return answers;
+  }
+
+  /** Returns the indices {@code [0, n)} in the lower half of longs, sorted by red in the upper. */
+  private static long[] sortedByRed(int n, IntUnaryOperator red) {
+    final long[] order = new long[n];
+    for (int i = 0; i < n; i++) {
+      order[i] = ((long) red.applyAsInt(i) << 32) | i;
+    }
+    Arrays.sort(order);
+    return order;
+  }
+
+  private static int countAtMost(int[] sorted, int value) {
+    final int idx = Arrays.binarySearch(sorted, value);
+    return (idx < 0) ? -idx - 1 : idx + 1;
+  }
+
+  /** Sums the powers of the lower bounds in a single pass over the columns. */
   long solvePart2() {
-    return games.stream()
-        .map(Game::lowerBound)
-        .mapToLong(Sample::power)
-        .sum();
+    return sumOverChunks(this::powerSum);
+  }
+
+  private long powerSum(int from, int to) {
+    long sum = 0L;
+    for (int i = from; i < to; i++) {
+      sum += (long) maxR[i] * maxG[i] * maxB[i];
+    }
+    return sum;
   }
 
 }
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hu.aestallon.adventofcode.year2023.day02;
+
+import hu.aestallon.adventofcode.year2023.day02.internal.Sample;
+import hu.aestallon.adventofcode.year2023.solver.IncrementalSolver;
+import hu.aestallon.adventofcode.year2023.solver.Puzzle;
+import hu.aestallon.adventofcode.year2023.solver.Solver;
+import hu.aestallon.adventofcode.year2023.util.MappedInput;
+
+import java.util.List;
+import java.util.Optional;
+
+@Puzzle(day = 2, title = "Cube Conundrum")
+public final class CubeConundrumSolver implements Solver<CubeConundrum> {
+
+  private static final Sample BOUND = Sample.of(12, 13, 14);
+
+  @Override
+  public CubeConundrum parse(List<String> lines) {
+    return CubeConundrum.create(lines);
+  }
+
+  @Override
+  public CubeConundrum parse(MappedInput input) {
+    return CubeConundrum.create(input);
+  }
+
+  @Override
+  public long solvePart1(CubeConundrum cubeConundrum) {
+    return cubeConundrum.solvePart1(BOUND);
+  }
+
+  @Override
+  public long solvePart2(CubeConundrum cubeConundrum) {
+    return cubeConundrum.solvePart2();
+  }
+
+  @Override
+  public Optional<IncrementalSolver> incremental(int part) {
+    return Optional.of(switch (part) {
+      case 1 -> CubeConundrum.incrementalPart1(BOUND);
+      case 2 -> CubeConundrum.incrementalPart2();
+      default -> throw new IllegalArgumentException("No such part: " + part);
+    });
+  }
+
+}
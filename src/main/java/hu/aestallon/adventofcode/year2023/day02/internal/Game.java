@@ -16,52 +16,53 @@
 
 package hu.aestallon.adventofcode.year2023.day02.internal;
 
+import hu.aestallon.adventofcode.year2023.util.Cursor;
+import hu.aestallon.adventofcode.year2023.util.Fields;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.Arrays;
+import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 public record Game(int id, Set<Sample> samples) {
 
   private static final Logger log = LoggerFactory.getLogger(Game.class);
 
-  public static void logParseError(String input, String reason) {
+  public static void logParseError(CharSequence input, String reason) {
     log.error("Failed to parse [ {} ] as [ Game ] - {}!", input, reason);
   }
 
-  public static Game parse(String s) {
-    if (s == null || s.isBlank()) {
+  public static Game parse(CharSequence s) {
+    if (s == null || Cursor.isBlank(s)) {
       logParseError(s, "NULL or empty string");
       throw new IllegalArgumentException("Game string must not be null!");
     }
 
-    final int colonIdx = s.indexOf(':');
+    final int colonIdx = Cursor.of(s).indexOf(':');
     if (colonIdx < 0) {
       logParseError(s, "no header found");
       throw new IllegalArgumentException("Colon missing!");
     }
 
-    final var header = s.substring(0, colonIdx).trim();
-    int lastWspInHeader = header.indexOf(' ');
-    if (lastWspInHeader < 0) {
+    final var header = Cursor.of(s, 0, colonIdx).skipWhitespace().skipWord();
+    if (!header.hasNextNumber()) {
       logParseError(s, "header cannot be split to title and ID");
       throw new IllegalArgumentException("header-ID separator missing!");
     }
 
-    final int id = Integer.parseInt(header.substring(lastWspInHeader + 1));
+    final int id = header.nextInt();
 
     if (colonIdx == s.length() - 1) {
       logParseError(s, "terminates on colon");
       throw new IllegalArgumentException("No content found!");
     }
 
-    final var content = s.substring(colonIdx + 1);
-    final Set<Sample> samples = Arrays.stream(content.split(";"))
-        .map(Sample::parse)
-        .collect(Collectors.toSet());
+    final Set<Sample> samples = new HashSet<>();
+    final var sampleFields = Fields.of(s, colonIdx + 1, s.length(), ';');
+    while (sampleFields.next()) {
+      samples.add(Sample.parse(s, sampleFields.start(), sampleFields.end()));
+    }
 
     return new Game(id, samples);
   }
@@ -16,7 +16,9 @@
 
 package hu.aestallon.adventofcode.year2023.day02.internal;
 
-import java.util.Arrays;
+import hu.aestallon.adventofcode.year2023.util.Cursor;
+import hu.aestallon.adventofcode.year2023.util.Fields;
+
 import java.util.Objects;
 
 public final class Sample {
@@ -26,12 +28,15 @@ public final class Sample {
     GREEN("green"),
     BLUE("blue");
 
-    private static Colour parse(String s) {
-      Objects.requireNonNull(s, "s must not be null!");
-      return Arrays.stream(Colour.values())
-          .filter(c -> s.equalsIgnoreCase(c.strVal))
-          .findFirst()
-          .orElseThrow();
+    private static final Colour[] VALUES = values();
+
+    private static Colour parse(Cursor cursor) {
+      for (final Colour c : VALUES) {
+        if (cursor.tryConsumeIgnoreCase(c.strVal)) {
+          return c;
+        }
+      }
+      throw new IllegalArgumentException("Illegal colour in " + cursor);
     }
 
     private final String strVal;
@@ -41,32 +46,33 @@ public final class Sample {
     }
   }
 
-  private record ColourQuantity(Colour colour, int quantity) {}
-
-  public static Sample parse(String s) {
-    return Arrays.stream(s.split(","))
-        .map(String::trim)
-        .map(x -> x.split("\\s"))
-        .map(arr -> {
-          if (arr.length != 2) {
-            throw new IllegalArgumentException("Illegal format " + Arrays.toString(arr));
-          }
-
-          final int quantity = Integer.parseInt(arr[0]);
-          final Colour colour = Colour.parse(arr[1]);
-          return new ColourQuantity(colour, quantity);
-        })
-        .reduce(
-            empty(),
-            (sm, cq) -> {
-              switch (cq.colour) {
-                case RED -> sm.r += cq.quantity;
-                case GREEN -> sm.g += cq.quantity;
-                case BLUE -> sm.b += cq.quantity;
-              }
-              return sm;
-            },
-            (sm1, sm2) -> new Sample(sm1.r + sm2.r, sm1.g + sm2.g, sm1.b + sm2.b));
+  public static Sample parse(CharSequence s) {
+    Objects.requireNonNull(s, "s must not be null!");
+    return parse(s, 0, s.length());
+  }
+
+  static Sample parse(CharSequence s, int from, int to) {
+    final Sample sample = empty();
+    final var colourQuantities = Fields.of(s, from, to, ',');
+    while (colourQuantities.next()) {
+      final Cursor cursor = colourQuantities.cursor();
+      if (!cursor.hasNextNumber()) {
+        throw new IllegalArgumentException("Illegal format " + cursor);
+      }
+
+      final int quantity = cursor.nextInt();
+      final Colour colour = Colour.parse(cursor);
+      if (cursor.skipWhitespace().hasNext()) {
+        throw new IllegalArgumentException("Illegal format " + cursor);
+      }
+
+      switch (colour) {
+        case RED -> sample.r += quantity;
+        case GREEN -> sample.g += quantity;
+        case BLUE -> sample.b += quantity;
+      }
+    }
+    return sample;
   }
 
   public static Sample max(Sample s1, Sample s2) {
@@ -95,6 +101,18 @@ public final class Sample {
     this.b = b;
   }
 
+  public int r() {
+    return r;
+  }
+
+  public int g() {
+    return g;
+  }
+
+  public int b() {
+    return b;
+  }
+
   /** Returns the "power" of the sample set: the product of the colours. */
   public long power() {
     return ((long) r) * g * b;
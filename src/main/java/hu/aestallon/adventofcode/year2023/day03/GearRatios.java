@@ -17,16 +17,20 @@
 package hu.aestallon.adventofcode.year2023.day03;
 
 import hu.aestallon.adventofcode.year2023.day03.internal.Schematic;
+import hu.aestallon.adventofcode.year2023.util.Grid;
+import hu.aestallon.adventofcode.year2023.util.MappedInput;
 
 import java.util.List;
 
 public final class GearRatios {
 
   public static GearRatios create(List<String> lines) {
-    final char[][] rawSchematic = lines.stream()
-        .map(String::toCharArray)
-        .toArray(char[][]::new);
-    return new GearRatios(new Schematic(rawSchematic));
+    return new GearRatios(new Schematic(Grid.of(lines)));
+  }
+
+  /** Builds the schematic straight from the bytes of the input, without splitting it into lines. */
+  public static GearRatios create(MappedInput input) {
+    return new GearRatios(new Schematic(Grid.of(input.toByteArray())));
   }
 
   private final Schematic schematic;
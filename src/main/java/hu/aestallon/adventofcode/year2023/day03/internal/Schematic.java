@@ -16,7 +16,9 @@
 
 package hu.aestallon.adventofcode.year2023.day03.internal;
 
+import hu.aestallon.adventofcode.year2023.util.Coordinates;
 import hu.aestallon.adventofcode.year2023.util.Digits;
+import hu.aestallon.adventofcode.year2023.util.Grid;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -37,39 +39,35 @@ public class Schematic {
 
   private final Token[][] tokens;
 
-  public Schematic(char[][] raw) {
+  public Schematic(Grid raw) {
     Objects.requireNonNull(raw, "raw must not be null!");
-    if (raw.length == 0 || Arrays.stream(raw).anyMatch(arr -> arr == null || arr.length == 0)) {
-      throw new IllegalArgumentException(
-          "Raw array is empty or contains empty rows! " + Arrays.toString(raw));
-    }
-    this.tokens = new Token[raw.length][];
+    this.tokens = new Token[raw.rows()][];
     initTokens(raw);
   }
 
-  private void initTokens(char[][] raw) {
+  private void initTokens(Grid raw) {
     final List<Token> currentRowTokens = new ArrayList<>();
     int currentNum = 0;
-    for (int row = 0; row < raw.length; row++) {
-      for (int col = 0; col < raw[row].length; col++) {
-        final char c = raw[row][col];
+    for (int row = 0; row < raw.rows(); row++) {
+      for (int col = 0; col < raw.cols(); col++) {
+        final char c = (char) raw.get(row, col);
         if (Digits.isDigit(c)) {
           currentNum = currentNum * 10 + Digits.digit(c);
         } else {
           if (currentNum != 0) {
-            currentRowTokens.add(new Number(currentNum, new Coordinate(row, col - 1)));
+            currentRowTokens.add(new Number(currentNum, row, col - 1));
             currentNum = 0;
           }
 
           if (isSymbol(c)) {
-            currentRowTokens.add(new Symbol(c, new Coordinate(row, col)));
+            currentRowTokens.add(new Symbol(c, Coordinates.of(row, col)));
           }
         }
       }
 
       // handle number termination at the end of a row:
       if (currentNum != 0) {
-        currentRowTokens.add(new Number(currentNum, new Coordinate(row, raw[row].length - 1)));
+        currentRowTokens.add(new Number(currentNum, row, raw.cols() - 1));
         currentNum = 0;
       }
 
@@ -94,8 +92,6 @@ public class Schematic {
         .map(tokenType::cast);
   }
 
-  private record Coordinate(int row, int col) {}
-
   public sealed interface Token permits Number, Symbol {
     boolean isAdjacent(Token that);
 
@@ -109,10 +105,10 @@ public class Schematic {
     private final int  endCol;
     private final long value;
 
-    private Number(final long value, Coordinate endCoordinate) {
-      row = endCoordinate.row();
-      startCol = endCoordinate.col() - Digits.digitCount(value) + 1;
-      endCol = endCoordinate.col();
+    private Number(final long value, final int row, final int endCol) {
+      this.row = row;
+      this.startCol = endCol - Digits.digitCount(value) + 1;
+      this.endCol = endCol;
       this.value = value;
     }
 
@@ -178,14 +174,22 @@ public class Schematic {
   }
 
   public final class Symbol implements Token {
-    private final char       value;
-    private final Coordinate position;
+    private final char value;
+    private final long position;
 
-    private Symbol(char value, Coordinate position) {
+    private Symbol(char value, long position) {
       this.value = value;
       this.position = position;
     }
 
+    private int row() {
+      return Coordinates.row(position);
+    }
+
+    private int col() {
+      return Coordinates.col(position);
+    }
+
     private Optional<Gear> asGear() {
       if (value != '*') {
         return Optional.empty();
@@ -209,11 +213,11 @@ public class Schematic {
       }
 
       return switch (that) {
-        case Symbol s -> Math.abs(this.position.col - s.position.col) < 2
-                         && Math.abs(this.position.row - s.position.row) < 2;
-        case Number n -> Math.abs(this.position.row - n.row) < 2
-                         && position.col >= (n.startCol - 1)
-                         && position.col <= (n.endCol + 1);
+        case Symbol s -> Math.abs(col() - s.col()) < 2
+                         && Math.abs(row() - s.row()) < 2;
+        case Number n -> Math.abs(row() - n.row) < 2
+                         && col() >= (n.startCol - 1)
+                         && col() <= (n.endCol + 1);
       };
     }
 
@@ -221,8 +225,8 @@ public class Schematic {
     public Set<Token> adjacentTo() {
       return IntStream
           .rangeClosed(
-              Math.max(position.row - 1, 0),
-              Math.min(position.row + 1, Schematic.this.tokens.length - 1))
+              Math.max(row() - 1, 0),
+              Math.min(row() + 1, Schematic.this.tokens.length - 1))
           .mapToObj(i -> Schematic.this.tokens[i])
           .flatMap(Arrays::stream)
           .filter(t -> t.isAdjacent(this))
@@ -234,19 +238,19 @@ public class Schematic {
       if (this == o) {return true;}
       if (o == null || getClass() != o.getClass()) {return false;}
       Symbol symbol = (Symbol) o;
-      return value == symbol.value && Objects.equals(position, symbol.position);
+      return value == symbol.value && position == symbol.position;
     }
 
     @Override
     public int hashCode() {
-      return Objects.hash(value, position);
+      return 31 * Character.hashCode(value) + Long.hashCode(position);
     }
 
     @Override
     public String toString() {
       return new StringJoiner(", ", Symbol.class.getSimpleName() + "[ ", " ]")
           .add("value=" + value)
-          .add("position=" + position)
+          .add("position=" + Coordinates.toString(position))
           .toString();
     }
   }
@@ -17,6 +17,7 @@
 package hu.aestallon.adventofcode.year2023.day04;
 
 import hu.aestallon.adventofcode.year2023.day04.internal.Card;
+import hu.aestallon.adventofcode.year2023.solver.IncrementalSolver;
 
 import java.util.Arrays;
 import java.util.List;
@@ -28,6 +29,78 @@ public class Scratchcards {
     return new Scratchcards(lines.stream().map(Card::parse).toList());
   }
 
+  static IncrementalSolver incrementalPart1() {
+    return new IncrementalSolver() {
+      private long sum;
+
+      @Override
+      public void accept(CharSequence line) {
+        sum += Card.parse(line).value();
+      }
+
+      @Override
+      public long currentAnswer() {
+        return sum;
+      }
+    };
+  }
+
+  static IncrementalSolver incrementalPart2() {
+    return new IncrementalCopyCount();
+  }
+
+  /**
+   * Counts the copies of cards as they arrive, which must happen in the order of their IDs.
+   *
+   * <p>Cards only ever win copies of later cards, so the copy count of a card is final by the time
+   * it arrives. The copies each card wins are recorded in a difference array: a card with {@code c}
+   * copies and {@code m} matches adds {@code c} at the next card, and takes it back after the
+   * {@code m}-th one. The copy count of the next card is then the running sum of this array.
+   */
+  private static final class IncrementalCopyCount implements IncrementalSolver {
+
+    private long[] wonCopyDiffs = new long[16];
+    private long   wonCopies;
+    private int    cardCount;
+    private long   copyCount;
+
+    @Override
+    public void accept(CharSequence line) {
+      final Card card = Card.parse(line);
+      if (card.id() != cardCount + 1) {
+        throw new IllegalArgumentException(
+            "Expected card " + (cardCount + 1) + ", but got card " + card.id() + "!");
+      }
+
+      final int i = cardCount++;
+      wonCopies += diffAt(i);
+      final long copies = 1L + wonCopies;
+      copyCount += copies;
+
+      if (card.matches() > 0) {
+        addDiff(i + 1, copies);
+        addDiff(i + 1 + card.matches(), -copies);
+      }
+    }
+
+    private long diffAt(int i) {
+      return (i < wonCopyDiffs.length) ? wonCopyDiffs[i] : 0L;
+    }
+
+    private void addDiff(int i, long diff) {
+      if (i >= wonCopyDiffs.length) {
+        wonCopyDiffs = Arrays.copyOf(wonCopyDiffs, Math.max(i + 1, wonCopyDiffs.length * 2));
+      }
+      wonCopyDiffs[i] += diff;
+    }
+
+    @Override
+    public long currentAnswer() {
+      return copyCount;
+    }
+
+  }
+
   private final List<Card> cards;
 
   private Scratchcards(List<Card> cards) {this.cards = cards;}
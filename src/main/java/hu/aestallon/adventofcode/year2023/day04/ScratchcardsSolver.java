@@ -0,0 +1,53 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hu.aestallon.adventofcode.year2023.day04;
+
+import hu.aestallon.adventofcode.year2023.solver.IncrementalSolver;
+import hu.aestallon.adventofcode.year2023.solver.Puzzle;
+import hu.aestallon.adventofcode.year2023.solver.Solver;
+
+import java.util.List;
+import java.util.Optional;
+
+@Puzzle(day = 4, title = "Scratchcards")
+public final class ScratchcardsSolver implements Solver<Scratchcards> {
+
+  @Override
+  public Scratchcards parse(List<String> lines) {
+    return Scratchcards.create(lines);
+  }
+
+  @Override
+  public long solvePart1(Scratchcards scratchcards) {
+    return scratchcards.solvePart1();
+  }
+
+  @Override
+  public long solvePart2(Scratchcards scratchcards) {
+    return scratchcards.solvePart2();
+  }
+
+  @Override
+  public Optional<IncrementalSolver> incremental(int part) {
+    return Optional.of(switch (part) {
+      case 1 -> Scratchcards.incrementalPart1();
+      case 2 -> Scratchcards.incrementalPart2();
+      default -> throw new IllegalArgumentException("No such part: " + part);
+    });
+  }
+
+}
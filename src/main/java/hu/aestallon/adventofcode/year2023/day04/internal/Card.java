@@ -16,65 +16,74 @@
 
 package hu.aestallon.adventofcode.year2023.day04.internal;
 
+import hu.aestallon.adventofcode.year2023.util.Cursor;
+import hu.aestallon.adventofcode.year2023.util.IntHashSet;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.Arrays;
-import java.util.Set;
-import java.util.stream.Collectors;
-
 public class Card {
 
   private static final Logger log = LoggerFactory.getLogger(Card.class);
 
-  public static void logParseError(String input, String reason) {
+  public static void logParseError(CharSequence input, String reason) {
     log.error("Failed to parse [ {} ] as [ Card ] - {}!", input, reason);
   }
 
-  public static Card parse(String s) {
-    if (s == null || s.isBlank()) {
+  public static Card parse(CharSequence s) {
+    if (s == null || Cursor.isBlank(s)) {
       logParseError(s, "Input is null or blank");
       throw new IllegalArgumentException("s must not be null or empty!");
     }
 
-    final int headerDelimiter = s.indexOf(':');
+    final var cursor = Cursor.of(s);
+    final int headerDelimiter = cursor.indexOf(':');
     if (headerDelimiter < 0) {
       logParseError(s, "Header missing");
+      throw new IllegalArgumentException("Colon missing!");
     }
 
-    final String[] headerParts = s.substring(0, headerDelimiter).trim().split("\\s");
-    final int id = Integer.parseInt(headerParts[headerParts.length - 1]);
+    final var header = Cursor.of(s, 0, headerDelimiter).skipWhitespace().skipWord();
+    final int id = header.nextInt();
 
-    final var bodyStr = s.substring(headerDelimiter + 1);
-    final String[] bodyParts = bodyStr.split("\\|");
-    if (bodyParts.length != 2) {
+    final int bodyDelimiter = cursor.skip(headerDelimiter + 1).indexOf('|');
+    if (bodyDelimiter < 0) {
       logParseError(s, "Body part count is not 2");
+      throw new IllegalArgumentException("Body delimiter missing!");
     }
 
-    final var winningNumbers = processBodyPart(bodyParts[0]);
-    final var playingNumbers = processBodyPart(bodyParts[1]);
+    final var winningNumbers = processBodyPart(Cursor.of(s, headerDelimiter + 1, bodyDelimiter));
+    final var playingNumbers = processBodyPart(Cursor.of(s, bodyDelimiter + 1, s.length()));
     return new Card(id, winningNumbers, playingNumbers);
   }
 
-  private static Set<Integer> processBodyPart(String s) {
-    return Arrays.stream(s.trim().split("\\s"))
-        .filter(it -> !it.isBlank())
-        .map(Integer::parseInt)
-        .collect(Collectors.toSet());
+  private static IntHashSet processBodyPart(Cursor cursor) {
+    final var numbers = new IntHashSet(32);
+    while (cursor.hasNextNumber()) {
+      numbers.add(cursor.nextInt());
+    }
+    return numbers;
+  }
+
+  private static int countMatches(IntHashSet winningNumbers, IntHashSet playingNumbers) {
+    final int[] matches = { 0 };
+    playingNumbers.forEach(n -> {
+      if (winningNumbers.contains(n)) {
+        matches[0]++;
+      }
+    });
+    return matches[0];
   }
 
-  private final int          id;
-  private final Set<Integer> winningNumbers;
-  private final Set<Integer> playingNumbers;
-  private final int          matches;
+  private final int        id;
+  private final IntHashSet winningNumbers;
+  private final IntHashSet playingNumbers;
+  private final int        matches;
 
-  private Card(int id, Set<Integer> winningNumbers, Set<Integer> playingNumbers) {
+  private Card(int id, IntHashSet winningNumbers, IntHashSet playingNumbers) {
     this.id = id;
     this.winningNumbers = winningNumbers;
     this.playingNumbers = playingNumbers;
-    this.matches = (int) playingNumbers.stream()
-        .filter(winningNumbers::contains)
-        .count();
+    this.matches = countMatches(winningNumbers, playingNumbers);
   }
 
   public int id() {
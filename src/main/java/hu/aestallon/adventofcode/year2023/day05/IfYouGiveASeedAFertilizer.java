@@ -17,6 +17,8 @@
 package hu.aestallon.adventofcode.year2023.day05;
 
 import hu.aestallon.adventofcode.year2023.day05.internal.Almanac;
+import hu.aestallon.adventofcode.year2023.solver.SnapshotCodec;
+import hu.aestallon.adventofcode.year2023.util.Snapshot;
 
 import java.util.Comparator;
 import java.util.List;
@@ -24,11 +26,33 @@ import java.util.Map;
 
 final class IfYouGiveASeedAFertilizer {
 
+  static final SnapshotCodec<IfYouGiveASeedAFertilizer> SNAPSHOT_CODEC = new SnapshotCodec<>() {
+    @Override
+    public String schema() {
+      return "day05.Almanac/1";
+    }
+
+    @Override
+    public void write(IfYouGiveASeedAFertilizer model, Snapshot.Writer out) {
+      model.almanac.writeTo(out);
+    }
+
+    @Override
+    public IfYouGiveASeedAFertilizer read(Snapshot.Reader in) {
+      return new IfYouGiveASeedAFertilizer(Almanac.readFrom(in));
+    }
+  };
+
   private final Almanac almanac;
 
   IfYouGiveASeedAFertilizer(List<String> lines) {
-    this.almanac = Almanac.parse(lines);
+    this(Almanac.parse(lines));
   }
+
+  private IfYouGiveASeedAFertilizer(Almanac almanac) {
+    this.almanac = almanac;
+  }
+
   long solvePart1() {
     return almanac.seedsByLocation().values().stream()
         .mapToLong(Long::longValue)
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hu.aestallon.adventofcode.year2023.day05;
+
+import hu.aestallon.adventofcode.year2023.solver.Puzzle;
+import hu.aestallon.adventofcode.year2023.solver.SnapshotCodec;
+import hu.aestallon.adventofcode.year2023.solver.Solver;
+
+import java.util.List;
+import java.util.Optional;
+
+@Puzzle(day = 5, title = "If You Give A Seed A Fertilizer")
+public final class IfYouGiveASeedAFertilizerSolver implements Solver<IfYouGiveASeedAFertilizer> {
+
+  @Override
+  public IfYouGiveASeedAFertilizer parse(List<String> lines) {
+    return new IfYouGiveASeedAFertilizer(lines);
+  }
+
+  @Override
+  public long solvePart1(IfYouGiveASeedAFertilizer problem) {
+    return problem.solvePart1();
+  }
+
+  @Override
+  public long solvePart2(IfYouGiveASeedAFertilizer problem) {
+    return problem.solvePart2();
+  }
+
+  @Override
+  public Optional<SnapshotCodec<IfYouGiveASeedAFertilizer>> snapshotCodec() {
+    return Optional.of(IfYouGiveASeedAFertilizer.SNAPSHOT_CODEC);
+  }
+
+}
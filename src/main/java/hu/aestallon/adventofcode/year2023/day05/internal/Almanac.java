@@ -16,6 +16,9 @@
 
 package hu.aestallon.adventofcode.year2023.day05.internal;
 
+import hu.aestallon.adventofcode.year2023.util.Cursor;
+import hu.aestallon.adventofcode.year2023.util.LoopEvent;
+import hu.aestallon.adventofcode.year2023.util.Snapshot;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -54,34 +57,27 @@ public final class Almanac {
     }
   }
 
-  public static Almanac parse(List<String> lines) {
+  public static Almanac parse(List<? extends CharSequence> lines) {
     // first line is seeds:
-    String seedLine = lines.get(0);
-    int headerDelimiter = seedLine.indexOf(':');
-    long[] seeds = Arrays.stream(seedLine.substring(headerDelimiter + 1).trim().split("\\s"))
-        .map(String::trim)
-        .mapToLong(Long::parseLong)
-        .toArray();
+    long[] seeds = Cursor.of(lines.get(0)).skipPast(':').nextLongs();
 
     int ptr = 2;
     MapRange[][] ranges = new MapRange[7][];
     int rangePtr = 0;
     List<MapRange> currentRanges = new ArrayList<>();
     while (ptr < lines.size()) {
-      final String s = lines.get(ptr++);
-      if (s.contains("map:")) {
+      final CharSequence s = lines.get(ptr++);
+      if (!s.isEmpty() && s.charAt(s.length() - 1) == ':') {
         continue;
       }
 
-      if (s.isBlank()) {
+      if (Cursor.isBlank(s)) {
         MapRange[] range = currentRanges.toArray(MapRange[]::new);
         ranges[rangePtr++] = range;
         currentRanges.clear();
       } else {
-        final long[] lineNums = Arrays.stream(s.trim().split("\\s"))
-            .mapToLong(Long::parseLong)
-            .toArray();
-        currentRanges.add(new MapRange(lineNums[0], lineNums[1], lineNums[2]));
+        final var cursor = Cursor.of(s);
+        currentRanges.add(new MapRange(cursor.nextLong(), cursor.nextLong(), cursor.nextLong()));
       }
     }
     MapRange[] range = currentRanges.toArray(MapRange[]::new);
@@ -100,6 +96,28 @@ public final class Almanac {
         ranges[6]);
   }
 
+  /**
+   * Reads an almanac written by {@link #writeTo(Snapshot.Writer)}.
+   *
+   * @throws IllegalStateException if the next sections do not hold an almanac
+   */
+  public static Almanac readFrom(Snapshot.Reader in) {
+    final long[] seeds = in.readLongs();
+    final MapRange[][] ranges = new MapRange[7][];
+    for (int i = 0; i < ranges.length; i++) {
+      final long[] table = in.readLongs();
+      if (table.length % 3 != 0) {
+        throw new IllegalStateException("Range table of " + table.length + " longs is not packed!");
+      }
+      ranges[i] = new MapRange[table.length / 3];
+      for (int j = 0; j < ranges[i].length; j++) {
+        ranges[i][j] = new MapRange(table[3 * j], table[3 * j + 1], table[3 * j + 2]);
+      }
+    }
+    return new Almanac(
+        seeds, ranges[0], ranges[1], ranges[2], ranges[3], ranges[4], ranges[5], ranges[6]);
+  }
+
   private record SeedRange(long start, long length) {
 
     boolean hasSeed(long seed) {
@@ -132,7 +150,23 @@ public final class Almanac {
     this.humidityToLocation = humidityToLocation;
     this.seedRanges = initSeedRanges(seeds);
   }
-  
+
+  /** Writes the seeds, then each range table packed as {@code (dest, src, length)} triples. */
+  public void writeTo(Snapshot.Writer out) {
+    out.writeLongs(seeds);
+    for (final MapRange[] ranges : new MapRange[][] {
+        seedToSoil, soilToFertilizer, fertilizerToWater, waterToLight, lightToTemperature,
+        temperatureToHumidity, humidityToLocation }) {
+      final long[] table = new long[ranges.length * 3];
+      for (int i = 0; i < ranges.length; i++) {
+        table[3 * i] = ranges[i].dest;
+        table[3 * i + 1] = ranges[i].src;
+        table[3 * i + 2] = ranges[i].length;
+      }
+      out.writeLongs(table);
+    }
+  }
+
   private SeedRange[] initSeedRanges(long[] seeds) {
     return IntStream.range(0, seeds.length / 2)
         .mapToObj(i -> new SeedRange(seeds[2 * i], seeds[2 * i + 1]))
@@ -176,16 +210,22 @@ public final class Almanac {
         .boxed()
         .collect(toMap(
             Function.identity(),
-            this::getLocationOfSeed
+            this::getLocationOfSeed,
+            // a number may be listed more than once, and it is the same seed every time:
+            (location, __) -> location
         ));
   }
 
   public long lowestLocation() {
+    final var event = new LoopEvent();
+    event.begin();
     for (long i = 0L; i < Long.MAX_VALUE; i++) {
       if (getSeedOfLocation(i).isPresent()) {
+        event.report(5, "Almanac.lowestLocation", i + 1);
         return i;
       }
     }
+    event.report(5, "Almanac.lowestLocation", Long.MAX_VALUE);
     return -1L;
   }
 }
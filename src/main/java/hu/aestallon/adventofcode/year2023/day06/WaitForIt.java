@@ -17,16 +17,11 @@
 package hu.aestallon.adventofcode.year2023.day06;
 
 import hu.aestallon.adventofcode.year2023.day06.internal.Race;
+import hu.aestallon.adventofcode.year2023.util.Cursor;
 
-import java.util.Arrays;
 import java.util.List;
-import java.util.Set;
 import java.util.stream.IntStream;
 
-import static java.util.stream.Collectors.collectingAndThen;
-import static java.util.stream.Collectors.joining;
-import static java.util.stream.Collectors.toSet;
-
 final class WaitForIt {
 
   static WaitForIt create(List<String> lines) {
@@ -36,32 +31,33 @@ final class WaitForIt {
     final long longTime = asSingleNumber(times);
     final long longDist = asSingleNumber(topDistances);
 
-    return IntStream.range(0, Math.min(times.length, topDistances.length))
+    final List<Race> races = IntStream.range(0, Math.min(times.length, topDistances.length))
         .mapToObj(i -> new Race(times[i], topDistances[i]))
-        .collect(collectingAndThen(toSet(), races1 -> new WaitForIt(
-            races1,
-            new Race(longTime, longDist))));
+        .toList();
+    return new WaitForIt(races, new Race(longTime, longDist));
   }
 
+  /** Concatenates the decimal digits of the given numbers, without formatting them as text. */
   private static long asSingleNumber(int[] nums) {
-    return Arrays.stream(nums)
-        .mapToObj(String::valueOf)
-        .collect(collectingAndThen(joining(), Long::parseLong));
+    long result = 0L;
+    for (final int n : nums) {
+      long shift = 10L;
+      while (shift <= n) {
+        shift *= 10L;
+      }
+      result = Math.addExact(Math.multiplyExact(result, shift), n);
+    }
+    return result;
   }
 
-  private static int[] parseLine(String line) {
-    final int prefixDelimiter = line.indexOf(':');
-    return Arrays.stream(line.substring(prefixDelimiter + 1).trim().split("\\s"))
-        .filter(it -> !it.isBlank())
-        .map(String::trim)
-        .mapToInt(Integer::parseInt)
-        .toArray();
+  private static int[] parseLine(CharSequence line) {
+    return Cursor.of(line).skipPast(':').nextInts();
   }
 
-  private final Set<Race> races;
-  private final Race      longRace;
+  private final List<Race> races;
+  private final Race       longRace;
 
-  private WaitForIt(Set<Race> races, Race longRace) {
+  private WaitForIt(List<Race> races, Race longRace) {
     this.races = races;
     this.longRace = longRace;
   }
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hu.aestallon.adventofcode.year2023.day06;
+
+import hu.aestallon.adventofcode.year2023.solver.Puzzle;
+import hu.aestallon.adventofcode.year2023.solver.Solver;
+
+import java.util.List;
+
+@Puzzle(day = 6, title = "Wait For It")
+public final class WaitForItSolver implements Solver<WaitForIt> {
+
+  @Override
+  public WaitForIt parse(List<String> lines) {
+    return WaitForIt.create(lines);
+  }
+
+  @Override
+  public long solvePart1(WaitForIt waitForIt) {
+    return waitForIt.solvePart1();
+  }
+
+  @Override
+  public long solvePart2(WaitForIt waitForIt) {
+    return waitForIt.solvePart2();
+  }
+
+}
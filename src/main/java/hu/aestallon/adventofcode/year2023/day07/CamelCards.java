@@ -17,38 +17,74 @@
 package hu.aestallon.adventofcode.year2023.day07;
 
 import hu.aestallon.adventofcode.year2023.day07.internal.Hand;
+import hu.aestallon.adventofcode.year2023.day07.internal.Hands;
+import hu.aestallon.adventofcode.year2023.solver.IncrementalSolver;
+import hu.aestallon.adventofcode.year2023.util.FenwickTree;
 
 import java.util.List;
 import java.util.function.Function;
-import java.util.stream.IntStream;
-
-import static java.util.Comparator.reverseOrder;
 
 final class CamelCards {
 
-  private final List<String> lines;
+  static IncrementalSolver incrementalPart1() {
+    return new Incremental(Hand::parse);
+  }
+
+  static IncrementalSolver incrementalPart2() {
+    return new Incremental(Hand::parseWithJokers);
+  }
+
+  /**
+   * Keeps the total winnings up to date as hands arrive in any order.
+   *
+   * <p>A new hand ranks right above every hand not stronger than itself, and pushes every stronger
+   * hand up by one rank, which adds their bids to the winnings once more. The count and the bids of
+   * hands are kept in Fenwick trees indexed by {@link Hand#strength()}, so both are found in
+   * logarithmic time.
+   */
+  private static final class Incremental implements IncrementalSolver {
+
+    private final Function<String, Hand> handParser;
+    private final FenwickTree            counts = new FenwickTree(Hand.STRENGTH_BOUND);
+    private final FenwickTree            bids   = new FenwickTree(Hand.STRENGTH_BOUND);
+    private long                         winnings;
+
+    private Incremental(Function<String, Hand> handParser) {
+      this.handParser = handParser;
+    }
+
+    @Override
+    public void accept(CharSequence line) {
+      final Hand hand = handParser.apply(line.toString());
+      final int strength = hand.strength();
+
+      final long weakerCount = counts.prefixSum(strength + 1);
+      final long strongerBids = bids.sum() - bids.prefixSum(strength + 1);
+      winnings += (weakerCount + 1) * hand.bid() + strongerBids;
+
+      counts.add(strength, 1L);
+      bids.add(strength, hand.bid());
+    }
+
+    @Override
+    public long currentAnswer() {
+      return winnings;
+    }
+
+  }
+
+  private final Hands hands;
 
   CamelCards(List<String> lines) {
-    this.lines = lines;
+    this.hands = Hands.parse(lines);
   }
 
   long solvePart1() {
-    return solve(Hand::parse);
+    return hands.totalWinnings(false);
   }
 
   long solvePart2() {
-    return solve(Hand::parseWithJokers);
-  }
-
-  private long solve(Function<String, Hand> handParser) {
-    final int[] bids = lines.stream()
-        .map(handParser)
-        .sorted(reverseOrder())
-        .mapToInt(Hand::bid)
-        .toArray();
-    return IntStream.range(0, bids.length)
-        .mapToLong(i -> (long) (i + 1) * bids[i])
-        .sum();
+    return hands.totalWinnings(true);
   }
 
 }
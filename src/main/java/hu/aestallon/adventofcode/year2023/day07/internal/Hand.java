@@ -20,18 +20,20 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Arrays;
-import java.util.Map;
 import java.util.StringJoiner;
 import java.util.function.IntFunction;
 import java.util.stream.IntStream;
 
-import static java.util.stream.Collectors.counting;
-import static java.util.stream.Collectors.groupingBy;
-
 public final class Hand implements Comparable<Hand> {
 
   private static final Logger log = LoggerFactory.getLogger(Hand.class);
 
+  private static final int RANK_COUNT = Rank.values().length;
+
+  /** An exclusive upper bound of the {@link #strength()} of hands. */
+  public static final int STRENGTH_BOUND =
+      HandType.values().length * (int) Math.pow(RANK_COUNT, 5);
+
   public static Hand parse(String s) {
     return parse(s, Rank::parse);
   }
@@ -55,15 +57,48 @@ public final class Hand implements Comparable<Hand> {
     return new Hand(cards, bid);
   }
 
-  private static HandType determineType(Card[] cards) {
-    final var countByRank = Arrays.stream(cards).collect(groupingBy(Card::rank, counting()));
-    final var arity = countByRank.size() - (countByRank.containsKey(Rank.JOKER) ? 1 : 0);
-    final var maxOccurrence = countByRank.entrySet().stream()
-        .filter(it -> Rank.JOKER != it.getKey())
-        .mapToLong(Map.Entry::getValue)
-        .max()
-        .orElse(0);
-    final var jokerCount = countByRank.getOrDefault(Rank.JOKER, 0L).intValue();
+  /**
+   * Returns the strength of the hand of the given cards, as {@link #strength()} does.
+   *
+   * @param precedences the precedences of the ranks of the 5 cards, starting at {@code from}
+   */
+  static int strength(byte[] precedences, int from) {
+    return strength(determineType(precedences, from, from + 5), precedences, from, from + 5);
+  }
+
+  private static int strength(HandType type, byte[] precedences, int from, int to) {
+    int strength = HandType.values().length - 1 - type.precedence();
+    for (int i = from; i < to; i++) {
+      strength = strength * RANK_COUNT + (RANK_COUNT - 1 - precedences[i]);
+    }
+    return strength;
+  }
+
+  private static byte[] precedencesOf(Card[] cards) {
+    final byte[] precedences = new byte[cards.length];
+    for (int i = 0; i < cards.length; i++) {
+      precedences[i] = (byte) cards[i].rank().precedence();
+    }
+    return precedences;
+  }
+
+  /** Returns the type of the hand of the cards of the given precedences in {@code [from, to)}. */
+  private static HandType determineType(byte[] precedences, int from, int to) {
+    final int[] countByRank = new int[RANK_COUNT];
+    for (int i = from; i < to; i++) {
+      countByRank[precedences[i]]++;
+    }
+
+    final int jokerCount = countByRank[Rank.JOKER.precedence()];
+    int arity = 0;
+    int maxOccurrence = 0;
+    for (int rank = 0; rank < RANK_COUNT; rank++) {
+      if (rank != Rank.JOKER.precedence() && countByRank[rank] > 0) {
+        arity++;
+        maxOccurrence = Math.max(maxOccurrence, countByRank[rank]);
+      }
+    }
+
     return switch (jokerCount) {
       case 5, 4 -> HandType.FIVE_OF_A_KIND;
       case 3 -> (arity == 1) ? HandType.FIVE_OF_A_KIND : HandType.FOUR_OF_A_KIND;
@@ -71,14 +106,14 @@ public final class Hand implements Comparable<Hand> {
         case 1 -> HandType.FIVE_OF_A_KIND;
         case 2 -> HandType.FOUR_OF_A_KIND;
         case 3 -> HandType.THREE_OF_A_KIND;
-        default -> throw new AssertionError("Illegal card amount: " + cards.length);
+        default -> throw new AssertionError("Illegal card amount: " + (to - from));
       };
       case 1 -> switch (arity) {
         case 1 -> HandType.FIVE_OF_A_KIND;
         case 2 -> (maxOccurrence == 3) ? HandType.FOUR_OF_A_KIND : HandType.FULL_HOUSE;
         case 3 -> HandType.THREE_OF_A_KIND;
         case 4 -> HandType.ONE_PAIR;
-        default -> throw new AssertionError("Illegal card amount: " + cards.length);
+        default -> throw new AssertionError("Illegal card amount: " + (to - from));
       };
       case 0 -> switch (arity) {
         case 1 -> HandType.FIVE_OF_A_KIND;
@@ -98,13 +133,21 @@ public final class Hand implements Comparable<Hand> {
   private Hand(Card[] cards, int bid) {
     this.cards = cards;
     this.bid = bid;
-    this.type = determineType(cards);
+    this.type = determineType(precedencesOf(cards), 0, cards.length);
   }
 
   public int bid() {
     return bid;
   }
 
+  /**
+   * Returns the strength of this hand as a number in {@code [0, STRENGTH_BOUND)}, which is greater
+   * for stronger hands, and equal for hands of equal strength.
+   */
+  public int strength() {
+    return strength(type, precedencesOf(cards), 0, cards.length);
+  }
+
   @Override
   public int compareTo(Hand that) {
     final int typePrecedence = this.type.precedence() - that.type.precedence();
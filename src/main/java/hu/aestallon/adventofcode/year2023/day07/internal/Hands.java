@@ -0,0 +1,99 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hu.aestallon.adventofcode.year2023.day07.internal;
+
+import hu.aestallon.adventofcode.year2023.util.Cursor;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The hands of an input, parsed once for both ways of playing them.
+ *
+ * <p>The cards of every hand are kept as the precedences of their ranks, 5 bytes per hand, with
+ * {@code J} read as a jack. Playing with jokers only changes how jacks are ranked, so jokers are
+ * applied to a copy of a hand's cards while its strength is calculated.
+ */
+public final class Hands {
+
+  private static final int HAND_SIZE = 5;
+
+  /**
+   * Parses hands of the form {@code 32T3K 765}.
+   *
+   * @throws IllegalArgumentException if a line is not such a hand
+   */
+  public static Hands parse(List<? extends CharSequence> lines) {
+    final byte[] cards = new byte[lines.size() * HAND_SIZE];
+    final int[] bids = new int[lines.size()];
+    for (int i = 0; i < lines.size(); i++) {
+      final CharSequence line = lines.get(i);
+      if (line.length() <= HAND_SIZE) {
+        throw new IllegalArgumentException("[ " + line + " ] is not a hand with a bid!");
+      }
+      for (int c = 0; c < HAND_SIZE; c++) {
+        cards[i * HAND_SIZE + c] = Rank.precedenceOf(line.charAt(c));
+      }
+      bids[i] = Cursor.of(line, HAND_SIZE, line.length()).nextInt();
+    }
+    return new Hands(cards, bids);
+  }
+
+  private final byte[] cards;
+  private final int[]  bids;
+
+  private Hands(byte[] cards, int[] bids) {
+    this.cards = cards;
+    this.bids = bids;
+  }
+
+  public int size() {
+    return bids.length;
+  }
+
+  /**
+   * Returns the sum of the bids of the hands multiplied by their rank, the weakest hand being of
+   * rank 1. Equally strong hands are ranked in their input order.
+   */
+  public long totalWinnings(boolean withJokers) {
+    final byte jack = (byte) Rank._J.precedence();
+    final byte joker = (byte) Rank.JOKER.precedence();
+    final byte[] hand = new byte[HAND_SIZE];
+
+    // strengths fit into 31 bits, so each hand is sorted by its strength, then by its index:
+    final long[] order = new long[bids.length];
+    for (int i = 0; i < bids.length; i++) {
+      System.arraycopy(cards, i * HAND_SIZE, hand, 0, HAND_SIZE);
+      if (withJokers) {
+        for (int c = 0; c < HAND_SIZE; c++) {
+          if (hand[c] == jack) {
+            hand[c] = joker;
+          }
+        }
+      }
+      order[i] = ((long) Hand.strength(hand, 0) << 32) | i;
+    }
+    Arrays.sort(order);
+
+    long winnings = 0L;
+    for (int rank = 0; rank < order.length; rank++) {
+      winnings += (rank + 1L) * bids[(int) order[rank]];
+    }
+    return winnings;
+  }
+
+}
@@ -35,6 +35,32 @@ enum Rank {
   _2('2', 12),
   JOKER('Y', 13);
 
+  private static final byte[] PRECEDENCE_BY_SYMBOL = new byte[128];
+
+  static {
+    Arrays.fill(PRECEDENCE_BY_SYMBOL, (byte) -1);
+    for (final Rank rank : values()) {
+      if (rank != JOKER) {
+        PRECEDENCE_BY_SYMBOL[rank.symbol] = (byte) rank.precedence;
+      }
+    }
+  }
+
+  /**
+   * Returns the precedence of the rank of the given symbol, treating {@code J} as a jack.
+   *
+   * @throws IllegalArgumentException if the symbol is not a rank
+   */
+  static byte precedenceOf(final char symbol) {
+    final byte precedence = (symbol < PRECEDENCE_BY_SYMBOL.length)
+        ? PRECEDENCE_BY_SYMBOL[symbol]
+        : -1;
+    if (precedence < 0) {
+      throw new IllegalArgumentException(symbol + " is not a valid RANK!");
+    }
+    return precedence;
+  }
+
   private static Rank parse(final char symbol) {
     return Arrays.stream(Rank.values())
         .filter(it -> it.symbol == symbol)
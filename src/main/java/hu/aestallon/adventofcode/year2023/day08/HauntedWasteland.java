@@ -17,17 +17,43 @@
 package hu.aestallon.adventofcode.year2023.day08;
 
 import hu.aestallon.adventofcode.year2023.day08.internal.WastelandMap;
+import hu.aestallon.adventofcode.year2023.solver.SnapshotCodec;
+import hu.aestallon.adventofcode.year2023.util.Snapshot;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 public class HauntedWasteland {
 
+  static final SnapshotCodec<HauntedWasteland> SNAPSHOT_CODEC = new SnapshotCodec<>() {
+    @Override
+    public String schema() {
+      return "day08.HauntedWasteland/1";
+    }
+
+    @Override
+    public void write(HauntedWasteland model, Snapshot.Writer out) {
+      out.writeBytes(model.instructions.getBytes(StandardCharsets.ISO_8859_1));
+      model.map.writeTo(out);
+    }
+
+    @Override
+    public HauntedWasteland read(Snapshot.Reader in) {
+      final String instructions = new String(in.readBytes(), StandardCharsets.ISO_8859_1);
+      return new HauntedWasteland(instructions, WastelandMap.readFrom(in));
+    }
+  };
+
   private final String       instructions;
   private final WastelandMap map;
 
   HauntedWasteland(List<String> lines) {
-    this.instructions = lines.getFirst();
-    this.map = WastelandMap.parse(lines.subList(2, lines.size()));
+    this(lines.getFirst(), WastelandMap.parse(lines.subList(2, lines.size())));
+  }
+
+  private HauntedWasteland(String instructions, WastelandMap map) {
+    this.instructions = instructions;
+    this.map = map;
   }
 
   int solvePart1() {
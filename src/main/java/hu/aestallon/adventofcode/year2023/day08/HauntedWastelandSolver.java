@@ -0,0 +1,49 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hu.aestallon.adventofcode.year2023.day08;
+
+import hu.aestallon.adventofcode.year2023.solver.Puzzle;
+import hu.aestallon.adventofcode.year2023.solver.SnapshotCodec;
+import hu.aestallon.adventofcode.year2023.solver.Solver;
+
+import java.util.List;
+import java.util.Optional;
+
+@Puzzle(day = 8, title = "Haunted Wasteland")
+public final class HauntedWastelandSolver implements Solver<HauntedWasteland> {
+
+  @Override
+  public HauntedWasteland parse(List<String> lines) {
+    return new HauntedWasteland(lines);
+  }
+
+  @Override
+  public long solvePart1(HauntedWasteland hauntedWasteland) {
+    return hauntedWasteland.solvePart1();
+  }
+
+  @Override
+  public long solvePart2(HauntedWasteland hauntedWasteland) {
+    return hauntedWasteland.solvePart2();
+  }
+
+  @Override
+  public Optional<SnapshotCodec<HauntedWasteland>> snapshotCodec() {
+    return Optional.of(HauntedWasteland.SNAPSHOT_CODEC);
+  }
+
+}
@@ -16,54 +16,100 @@
 
 package hu.aestallon.adventofcode.year2023.day08.internal;
 
+import hu.aestallon.adventofcode.year2023.util.IntIntHashMap;
+import hu.aestallon.adventofcode.year2023.util.LoopEvent;
+import hu.aestallon.adventofcode.year2023.util.Snapshot;
+
 import java.math.BigInteger;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
-import java.util.TreeMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import static java.util.stream.Collectors.collectingAndThen;
 import static java.util.stream.Collectors.toList;
-import static java.util.stream.Collectors.toMap;
 
+/**
+ * The network of nodes in the wasteland.
+ *
+ * <p>Node ids are three base-36 digits, so each one is kept as an {@code int} below
+ * {@code 36^3}, and the two neighbours of a node are packed into a single {@code int} value.
+ * Thus, suffixes of an id are remainders modulo a power of 36.
+ */
 public final class WastelandMap {
 
-  private record MapNode(String id, String left, String right) {
-    private static final String  REGEX   = "^([A-Z0-9]{3}) = \\(([A-Z0-9]{3}), ([A-Z0-9]{3})\\)$";
-    private static final Pattern PATTERN = Pattern.compile(REGEX);
+  private static final int RADIX = 36;
+
+  private static final String  REGEX   = "^([A-Z0-9]{3}) = \\(([A-Z0-9]{3}), ([A-Z0-9]{3})\\)$";
+  private static final Pattern PATTERN = Pattern.compile(REGEX);
+
+  private static int nodeId(String s) {
+    return Integer.parseInt(s, RADIX);
+  }
+
+  private static int left(int neighbours) {
+    return neighbours >>> 16;
+  }
+
+  private static int right(int neighbours) {
+    return neighbours & 0xFFFF;
+  }
 
-    private static MapNode parse(String s) {
-      final Matcher m = PATTERN.matcher(s);
+  public static WastelandMap parse(List<String> lines) {
+    final var nodes = new IntIntHashMap(lines.size());
+    for (final String line : lines) {
+      final Matcher m = PATTERN.matcher(line);
       if (!m.find()) {
-        throw new IllegalArgumentException(s + " cannot be parsed as a MapNode!");
+        throw new IllegalArgumentException(line + " cannot be parsed as a MapNode!");
       }
 
-      return new MapNode(m.group(1), m.group(2), m.group(3));
+      final int left = nodeId(m.group(2));
+      final int right = nodeId(m.group(3));
+      nodes.put(nodeId(m.group(1)), (left << 16) | right);
     }
+    return new WastelandMap(nodes);
   }
 
-  public static WastelandMap parse(List<String> lines) {
-    final var mapNodes = lines.stream()
-        .map(MapNode::parse)
-        .collect(toMap(
-            MapNode::id,
-            it -> it,
-            (a, b) -> b,
-            TreeMap::new));
-    return new WastelandMap(mapNodes);
+  /**
+   * Reads a map written by {@link #writeTo(Snapshot.Writer)}.
+   *
+   * @throws IllegalStateException if the next sections do not hold a map
+   */
+  public static WastelandMap readFrom(Snapshot.Reader in) {
+    final int[] ids = in.readInts();
+    final int[] neighbours = in.readInts();
+    if (ids.length != neighbours.length) {
+      throw new IllegalStateException(
+          ids.length + " nodes cannot have " + neighbours.length + " pairs of neighbours!");
+    }
+
+    final var nodes = new IntIntHashMap(ids.length);
+    for (int i = 0; i < ids.length; i++) {
+      nodes.put(ids[i], neighbours[i]);
+    }
+    return new WastelandMap(nodes);
   }
 
   private static Turn[] parseTurns(String s) {
     return s.chars().mapToObj(Turn::parse).toArray(Turn[]::new);
   }
 
-  private final Map<String, MapNode> nodes;
+  private final IntIntHashMap nodes;
 
-  private WastelandMap(Map<String, MapNode> nodes) {
+  private WastelandMap(IntIntHashMap nodes) {
     this.nodes = nodes;
   }
 
+  /** Writes the node ids, then the packed neighbours of each node, as parallel int arrays. */
+  public void writeTo(Snapshot.Writer out) {
+    final int[] ids = nodes.keys();
+    final int[] neighbours = new int[ids.length];
+    for (int i = 0; i < ids.length; i++) {
+      neighbours[i] = nodes.getOrDefault(ids[i], -1);
+    }
+    out.writeInts(ids).writeInts(neighbours);
+  }
+
   public int stepsToTraverse(String from, String to, String stepsStr) {
     final var journey = new Journey(from, to);
     return journey.go(parseTurns(stepsStr));
@@ -71,9 +117,11 @@ public final class WastelandMap {
 
   public long ghostStepsToTraverse(String stepStr) {
     final Turn[] turns = parseTurns(stepStr);
-    return nodes.keySet().stream()
-        .filter(it -> it.endsWith("A"))
-        .map(it -> new Journey(it, "Z"))
+    final int start = nodeId("A");
+    return Arrays.stream(nodes.keys())
+        .filter(it -> it % RADIX == start)
+        .sorted()
+        .mapToObj(it -> new Journey(it, "Z"))
         .mapToInt(it -> it.go(turns))
         .mapToObj(BigInteger::valueOf)
         .collect(collectingAndThen(toList(), this::lcm));
@@ -88,27 +136,45 @@ public final class WastelandMap {
   }
 
   private final class Journey {
-    private final String from;
-    private final String to;
+    private final int from;
+    private final int to;
+    private final int suffixModulus;
 
     private Journey(String from, String to) {
+      this(nodeId(from), to);
+    }
+
+    private Journey(int from, String to) {
       this.from = from;
-      this.to = to;
+      this.to = nodeId(to);
+      int modulus = 1;
+      for (int i = 0; i < to.length(); i++) {
+        modulus *= RADIX;
+      }
+      this.suffixModulus = modulus;
     }
 
     private int go(Turn[] turns) {
+      final var event = new LoopEvent();
+      event.begin();
+
       int stepsTaken = 0;
-      String currNode = from;
-      while (!currNode.endsWith(to)) {
+      int currNode = from;
+      while (currNode % suffixModulus != to) {
         final Turn turn = turns[stepsTaken++ % turns.length];
         currNode = takeStep(currNode, turn);
       }
+
+      event.report(8, "Journey.go", stepsTaken);
       return stepsTaken;
     }
 
-    private String takeStep(String currNode, Turn turn) {
-      final MapNode n = nodes.get(currNode);
-      return (turn == Turn.LEFT) ? n.left : n.right;
+    private int takeStep(int currNode, Turn turn) {
+      final int neighbours = nodes.getOrDefault(currNode, -1);
+      if (neighbours == -1) {
+        throw new IllegalStateException("No such node: " + Integer.toString(currNode, RADIX));
+      }
+      return (turn == Turn.LEFT) ? left(neighbours) : right(neighbours);
     }
   }
 
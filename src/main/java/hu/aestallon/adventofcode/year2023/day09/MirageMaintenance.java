@@ -17,34 +17,82 @@
 package hu.aestallon.adventofcode.year2023.day09;
 
 import hu.aestallon.adventofcode.year2023.day09.internal.Sequence;
+import hu.aestallon.adventofcode.year2023.solver.IncrementalSolver;
+import hu.aestallon.adventofcode.year2023.util.MappedInput;
 
 import java.util.ArrayDeque;
 import java.util.Deque;
 import java.util.List;
+import java.util.stream.Stream;
 
 final class MirageMaintenance {
 
+  /** Parses, and later on extrapolates the sequences of the given input in parallel. */
+  static MirageMaintenance of(MappedInput input) {
+    return new MirageMaintenance(input.parallelLines().map(Sequence::parse).toList(), true);
+  }
+
+  static IncrementalSolver incrementalPart1() {
+    return new Incremental(Sequence.Position.LAST);
+  }
+
+  static IncrementalSolver incrementalPart2() {
+    return new Incremental(Sequence.Position.FIRST);
+  }
+
+  /** Sums the predictions of sequences as they arrive. */
+  private static final class Incremental implements IncrementalSolver {
+
+    private final Sequence.Position position;
+    private long                    sum;
+
+    private Incremental(Sequence.Position position) {
+      this.position = position;
+    }
+
+    @Override
+    public void accept(CharSequence line) {
+      sum += predict(Sequence.parse(line), position).valueAt(position);
+    }
+
+    @Override
+    public long currentAnswer() {
+      return sum;
+    }
+
+  }
+
   private final List<Sequence> sequences;
+  private final boolean        parallel;
 
   MirageMaintenance(List<String> lines) {
-    this.sequences = lines.stream().map(Sequence::parse).toList();
+    this(lines.stream().map(Sequence::parse).toList(), false);
+  }
+
+  private MirageMaintenance(List<Sequence> sequences, boolean parallel) {
+    this.sequences = sequences;
+    this.parallel = parallel;
+  }
+
+  private Stream<Sequence> sequences() {
+    return parallel ? sequences.parallelStream() : sequences.stream();
   }
 
   long solvePart1() {
-    return sequences.stream()
+    return sequences()
         .map(it -> predict(it, Sequence.Position.LAST))
         .mapToLong(Sequence::lastValue)
         .sum();
   }
 
   long solvePart2() {
-    return sequences.stream()
+    return sequences()
         .map(it -> predict(it, Sequence.Position.FIRST))
         .mapToLong(it -> it.valueAt(Sequence.Position.FIRST))
         .sum();
   }
 
-  private Sequence predict(Sequence sequence, Sequence.Position position) {
+  private static Sequence predict(Sequence sequence, Sequence.Position position) {
     if (sequence.isConstant()) {
       return sequence.extrapolate(sequence.valueAt(position), position);
     }
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hu.aestallon.adventofcode.year2023.day09;
+
+import hu.aestallon.adventofcode.year2023.solver.IncrementalSolver;
+import hu.aestallon.adventofcode.year2023.solver.Puzzle;
+import hu.aestallon.adventofcode.year2023.solver.Solver;
+import hu.aestallon.adventofcode.year2023.util.MappedInput;
+
+import java.util.List;
+import java.util.Optional;
+
+@Puzzle(day = 9, title = "Mirage Maintenance")
+public final class MirageMaintenanceSolver implements Solver<MirageMaintenance> {
+
+  @Override
+  public MirageMaintenance parse(List<String> lines) {
+    return new MirageMaintenance(lines);
+  }
+
+  @Override
+  public MirageMaintenance parse(MappedInput input) {
+    return MirageMaintenance.of(input);
+  }
+
+  @Override
+  public long solvePart1(MirageMaintenance mirageMaintenance) {
+    return mirageMaintenance.solvePart1();
+  }
+
+  @Override
+  public long solvePart2(MirageMaintenance mirageMaintenance) {
+    return mirageMaintenance.solvePart2();
+  }
+
+  @Override
+  public Optional<IncrementalSolver> incremental(int part) {
+    return Optional.of(switch (part) {
+      case 1 -> MirageMaintenance.incrementalPart1();
+      case 2 -> MirageMaintenance.incrementalPart2();
+      default -> throw new IllegalArgumentException("No such part: " + part);
+    });
+  }
+
+}
@@ -16,14 +16,16 @@
 
 package hu.aestallon.adventofcode.year2023.day09.internal;
 
+import hu.aestallon.adventofcode.year2023.util.Cursor;
+
 import java.util.Arrays;
 
 public record Sequence(long[] ns) {
 
   public enum Position {FIRST, LAST}
 
-  public static Sequence parse(String s) {
-    return new Sequence(Arrays.stream(s.split("\\s")).mapToLong(Long::parseLong).toArray());
+  public static Sequence parse(CharSequence s) {
+    return new Sequence(Cursor.of(s).nextLongs());
   }
 
   public long lastValue() {
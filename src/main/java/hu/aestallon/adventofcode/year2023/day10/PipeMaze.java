@@ -16,196 +16,181 @@
 
 package hu.aestallon.adventofcode.year2023.day10;
 
-import java.util.ArrayList;
+import hu.aestallon.adventofcode.year2023.util.Coordinates;
+import hu.aestallon.adventofcode.year2023.util.Grid;
+import hu.aestallon.adventofcode.year2023.util.MappedInput;
+
 import java.util.Arrays;
-import java.util.EnumSet;
-import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
-import java.util.Optional;
-import java.util.Set;
-import java.util.function.Function;
-import java.util.function.UnaryOperator;
-import java.util.stream.Stream;
-
-import static java.util.stream.Collectors.toSet;
 
 final class PipeMaze {
 
-  record Coordinate(int row, int col) {
-    static Coordinate of(int row, int col) {
-      return new Coordinate(row, col);
-    }
-
-    boolean outOfBounds(int rows, int cols) {
-      return !(0 <= row && rows > row && 0 <= col && cols > col);
-    }
-  }
-
   private enum Symbol {
-    NS('|', c -> Coordinate.of(c.row - 1, c.col), c -> Coordinate.of(c.row + 1, c.col)),
-    WE('-', c -> Coordinate.of(c.row, c.col - 1), c -> Coordinate.of(c.row, c.col + 1)),
-    NE('L', c -> Coordinate.of(c.row - 1, c.col), c -> Coordinate.of(c.row, c.col + 1)),
-    NW('J', c -> Coordinate.of(c.row - 1, c.col), c -> Coordinate.of(c.row, c.col - 1)),
-    WS('7', c -> Coordinate.of(c.row, c.col - 1), c -> Coordinate.of(c.row + 1, c.col)),
-    SE('F', c -> Coordinate.of(c.row, c.col + 1), c -> Coordinate.of(c.row + 1, c.col)),
-    NONE('.', c -> Coordinate.of(-1, -1), c -> Coordinate.of(-1, -1)),
-    START('S', c -> Coordinate.of(-1, -1), c -> Coordinate.of(-1, -1));
-
-    private final int                       codePoint;
-    private final UnaryOperator<Coordinate> connectionA;
-    private final UnaryOperator<Coordinate> connectionB;
-
-    Symbol(int codePoint, UnaryOperator<Coordinate> connectionA,
-           UnaryOperator<Coordinate> connectionB) {
+    NS('|', -1, 0, 1, 0),
+    WE('-', 0, -1, 0, 1),
+    NE('L', -1, 0, 0, 1),
+    NW('J', -1, 0, 0, -1),
+    WS('7', 0, -1, 1, 0),
+    SE('F', 0, 1, 1, 0),
+    NONE('.', 0, 0, 0, 0),
+    START('S', 0, 0, 0, 0);
+
+    private final int codePoint;
+    private final int dRowA;
+    private final int dColA;
+    private final int dRowB;
+    private final int dColB;
+
+    Symbol(int codePoint, int dRowA, int dColA, int dRowB, int dColB) {
       this.codePoint = codePoint;
-      this.connectionA = connectionA;
-      this.connectionB = connectionB;
-    }
-
-    static Symbol fromCodePoint(final int codePoint) {
-      return Arrays.stream(Symbol.values())
-          .filter(it -> codePoint == it.codePoint)
-          .findFirst()
-          .orElseThrow();
+      this.dRowA = dRowA;
+      this.dColA = dColA;
+      this.dRowB = dRowB;
+      this.dColB = dColB;
     }
-  }
 
-  private record PipeSegment(Symbol symbol, Coordinate coordinate) {
+    private static final Symbol[] BY_CODE_POINT = new Symbol[128];
 
-    static PipeSegment at(Symbol[][] symbols, Coordinate coordinate) {
-      return new PipeSegment(symbols[coordinate.row][coordinate.col], coordinate);
-    }
-
-    private Stream<PipeSegment> connections(Symbol[][] symbols) {
-      if (Symbol.NONE == symbol) {
-        return Stream.empty();
+    static {
+      for (final Symbol symbol : values()) {
+        BY_CODE_POINT[symbol.codePoint] = symbol;
       }
+    }
 
-      final int rows = symbols.length;
-      final int cols = symbols[0].length;
-
-      if (Symbol.START == symbol) {
-        return getStartConnections(symbols);
+    static Symbol fromCodePoint(final int codePoint) {
+      final Symbol symbol = (0 <= codePoint && codePoint < BY_CODE_POINT.length)
+          ? BY_CODE_POINT[codePoint]
+          : null;
+      if (symbol == null) {
+        throw new IllegalArgumentException((char) codePoint + " is not a valid Symbol!");
       }
-
-      final Function<Coordinate, Optional<PipeSegment>> findSegment =
-          it -> it.outOfBounds(rows, cols)
-              ? Optional.empty()
-              : Optional.of(PipeSegment.at(symbols, it));
-      Optional<PipeSegment> segmentA = symbol.connectionA.andThen(findSegment).apply(coordinate);
-      Optional<PipeSegment> segmentB = symbol.connectionB.andThen(findSegment).apply(coordinate);
-      return Stream.concat(segmentA.stream(), segmentB.stream());
+      return symbol;
     }
 
-    private Stream<PipeSegment> getStartConnections(Symbol[][] symbols) {
-      final Set<PipeSegment> connections = new HashSet<>();
-
-      if (coordinate.row > 0) {
-        final var top = PipeSegment.at(symbols, Coordinate.of(coordinate.row - 1, coordinate.col));
-        if (EnumSet.of(Symbol.NS, Symbol.SE, Symbol.WS).contains(top.symbol)) {
-          connections.add(top);
-        }
-      }
+    boolean isPipe() {
+      return this != NONE && this != START;
+    }
 
-      if (coordinate.col > 0) {
-        final var left = PipeSegment.at(symbols, Coordinate.of(coordinate.row, coordinate.col - 1));
-        if (EnumSet.of(Symbol.NE, Symbol.SE, Symbol.WE).contains(left.symbol)) {
-          connections.add(left);
-        }
-      }
+    boolean facesNorth() {
+      return this == NS || this == NW || this == NE;
+    }
 
-      if (coordinate.col < symbols[0].length - 1) {
-        final var right = PipeSegment.at(symbols, Coordinate.of(
-            coordinate.row,
-            coordinate.col + 1));
-        if (EnumSet.of(Symbol.NW, Symbol.WE, Symbol.WS).contains(right.symbol)) {
-          connections.add(right);
-        }
-      }
+    long connectionA(long coordinate) {
+      return Coordinates.move(coordinate, dRowA, dColA);
+    }
 
-      if (coordinate.row < symbols.length - 1) {
-        final var bottom = PipeSegment.at(symbols, Coordinate.of(
-            coordinate.row + 1,
-            coordinate.col));
-        if (EnumSet.of(Symbol.NS, Symbol.NW, Symbol.NE).contains(bottom.symbol)) {
-          connections.add(bottom);
-        }
-      }
+    long connectionB(long coordinate) {
+      return Coordinates.move(coordinate, dRowB, dColB);
+    }
 
-      return connections.stream();
+    boolean connects(long coordinate, long other) {
+      return isPipe() && (connectionA(coordinate) == other || connectionB(coordinate) == other);
     }
   }
 
   static PipeMaze parse(List<String> lines) {
-    final Symbol[][] symbols = lines.stream()
-        .map(it -> it.chars()
-            .mapToObj(Symbol::fromCodePoint)
-            .toArray(Symbol[]::new))
-        .toArray(Symbol[][]::new);
+    return parse(Grid.of(lines));
+  }
+
+  /** Builds the maze straight from the bytes of the input, without splitting it into lines. */
+  static PipeMaze parse(MappedInput input) {
+    return parse(Grid.of(input.toByteArray()));
+  }
+
+  private static PipeMaze parse(Grid symbols) {
+    for (int i = 0; i < symbols.size(); i++) {
+      Symbol.fromCodePoint(symbols.get(i));
+    }
     return new PipeMaze(symbols);
   }
 
-  private final Symbol[][]        symbols;
-  private final List<PipeSegment> loop;
+  private final Grid   symbols;
+  private final long[] loop;
 
-  private PipeMaze(Symbol[][] symbols) {
+  private PipeMaze(Grid symbols) {
     this.symbols = symbols;
     this.loop = findLoop();
   }
 
-  private List<PipeSegment> findLoop() {
-    final var start = findStart();
-    final List<PipeSegment> loop = new LinkedList<>();
-    loop.add(start);
+  private Symbol symbolAt(long coordinate) {
+    if (!symbols.isInBounds(coordinate)) {
+      throw new IllegalStateException(
+          "The loop leaves the maze at " + Coordinates.toString(coordinate));
+    }
+    return Symbol.fromCodePoint(symbols.get(coordinate));
+  }
+
+  private long[] findLoop() {
+    final long start = findStart();
+    long[] loop = new long[64];
+    int size = 0;
+    loop[size++] = start;
 
-    var currSegment = start.connections(symbols).findFirst().orElseThrow();
+    long prev = start;
+    long curr = firstStartConnection(start);
     do {
-      final var nextSegment = currSegment.connections(symbols)
-          .filter(it -> !loop.getLast().equals(it))
-          .findFirst()
-          .orElseThrow();
+      final Symbol symbol = symbolAt(curr);
+      if (!symbol.isPipe()) {
+        throw new IllegalStateException("The loop is broken at " + Coordinates.toString(curr));
+      }
+      final long a = symbol.connectionA(curr);
+      final long next = (a == prev) ? symbol.connectionB(curr) : a;
 
-      loop.add(currSegment);
-      currSegment = nextSegment;
-    } while (!currSegment.equals(start));
+      if (size == loop.length) {
+        loop = Arrays.copyOf(loop, size * 2);
+      }
+      loop[size++] = curr;
+      prev = curr;
+      curr = next;
+    } while (curr != start);
 
-    return loop;
+    return Arrays.copyOf(loop, size);
+  }
+
+  private long firstStartConnection(long start) {
+    final int[] neighbours = new int[4];
+    final int n = symbols.neighbours(symbols.index(start), neighbours);
+    for (int i = 0; i < n; i++) {
+      final long neighbour = symbols.coordinateOf(neighbours[i]);
+      if (symbolAt(neighbour).connects(neighbour, start)) {
+        return neighbour;
+      }
+    }
+    throw new IllegalStateException("START is not connected to any pipe!");
   }
 
   long solvePart1() {
-    return loop.size() / 2;
+    return loop.length / 2;
   }
 
   long solvePart2() {
     long res = 0L;
 
-    final var loopCoords = loop.stream()
-        .map(PipeSegment::coordinate)
-        .collect(toSet());
-    for (int r = 0; r < symbols.length; r++) {
-      final var rowSymbols = symbols[r];
-      final var loopIndices = new ArrayList<Integer>();
-      for (int c = 0; c < symbols[r].length; c++) {
-        if (loopCoords.contains(Coordinate.of(r, c))) {
-          loopIndices.add(c);
+    final boolean[] onLoop = new boolean[symbols.size()];
+    for (final long coordinate : loop) {
+      onLoop[symbols.index(coordinate)] = true;
+    }
+    for (int r = 0; r < symbols.rows(); r++) {
+      // every north-facing pipe of the loop crossed so far flips insideness:
+      int crossings = 0;
+      for (int c = 0; c < symbols.cols(); c++) {
+        final int idx = symbols.index(r, c);
+        if (onLoop[idx]) {
+          if (Symbol.fromCodePoint(symbols.get(idx)).facesNorth()) {
+            crossings++;
+          }
           continue;
         }
-        res += loopIndices.stream()
-                   .map(i -> rowSymbols[i])
-                   .filter(EnumSet.of(Symbol.NS, Symbol.NW, Symbol.NE)::contains)
-                   .count() & 1;
+        res += crossings & 1;
       }
     }
     return res;
   }
 
-  private PipeSegment findStart() {
-    for (int row = 0; row < symbols.length; row++) {
-      for (int col = 0; col < symbols[row].length; col++) {
-        if (Symbol.START == symbols[row][col]) {
-          return new PipeSegment(Symbol.START, new Coordinate(row, col));
-        }
+  private long findStart() {
+    for (int i = 0; i < symbols.size(); i++) {
+      if (Symbol.START.codePoint == symbols.get(i)) {
+        return symbols.coordinateOf(i);
       }
     }
     throw new IllegalStateException("No START PipeSegment is present!");
@@ -17,6 +17,7 @@
 package hu.aestallon.adventofcode.year2023.day11;
 
 import hu.aestallon.adventofcode.year2023.day11.internal.GalaxyChart;
+import hu.aestallon.adventofcode.year2023.util.Grid;
 
 import java.util.List;
 
@@ -25,14 +26,15 @@ final class CosmicExpansion {
   private final GalaxyChart chart;
 
   CosmicExpansion(List<String> lines, int expansionRate) {
-    final char[][] chars = lines.stream().map(String::toCharArray).toArray(char[][]::new);
+    this(Grid.of(lines), expansionRate);
+  }
+
+  CosmicExpansion(Grid chars, int expansionRate) {
     this.chart = GalaxyChart.parse(chars, expansionRate);
   }
 
   long solve() {
-    return chart.galaxyPairs()
-        .mapToLong(pair -> pair.a().distanceTo(pair.b()))
-        .sum();
+    return chart.sumOfPairwiseDistances();
   }
 
 }
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hu.aestallon.adventofcode.year2023.day11;
+
+import hu.aestallon.adventofcode.year2023.solver.Puzzle;
+import hu.aestallon.adventofcode.year2023.solver.Solver;
+import hu.aestallon.adventofcode.year2023.util.Grid;
+import hu.aestallon.adventofcode.year2023.util.MappedInput;
+
+import java.util.List;
+
+@Puzzle(day = 11, title = "Cosmic Expansion")
+public final class CosmicExpansionSolver implements Solver<CosmicExpansionSolver.Charts> {
+
+  private static final int PART_1_EXPANSION_RATE = 2;
+  private static final int PART_2_EXPANSION_RATE = 1_000_000;
+
+  record Charts(CosmicExpansion twofold, CosmicExpansion millionfold) {}
+
+  @Override
+  public Charts parse(MappedInput input) {
+    return parse(Grid.of(input.toByteArray()));
+  }
+
+  @Override
+  public Charts parse(List<String> lines) {
+    return parse(Grid.of(lines));
+  }
+
+  private static Charts parse(Grid chars) {
+    return new Charts(
+        new CosmicExpansion(chars, PART_1_EXPANSION_RATE),
+        new CosmicExpansion(chars, PART_2_EXPANSION_RATE));
+  }
+
+  @Override
+  public long solvePart1(Charts charts) {
+    return charts.twofold().solve();
+  }
+
+  @Override
+  public long solvePart2(Charts charts) {
+    return charts.millionfold().solve();
+  }
+
+  @Override
+  public String parameters() {
+    return "expansionRate=" + PART_1_EXPANSION_RATE + "," + PART_2_EXPANSION_RATE;
+  }
+
+}
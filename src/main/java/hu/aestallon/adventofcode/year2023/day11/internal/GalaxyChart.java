@@ -16,64 +16,54 @@
 
 package hu.aestallon.adventofcode.year2023.day11.internal;
 
-import hu.aestallon.adventofcode.year2023.util.Pair;
+import hu.aestallon.adventofcode.year2023.util.Grid;
 
-import java.util.Map;
-import java.util.TreeMap;
+import java.util.Arrays;
 import java.util.stream.IntStream;
-import java.util.stream.Stream;
 
 public final class GalaxyChart {
 
-  private static final char GALAXY_MARK = '#';
+  private static final byte GALAXY_MARK = '#';
 
-  public static GalaxyChart parse(char[][] chars, int expansionRate) {
-    final Map<Position, Galaxy> galaxiesByPosition = new TreeMap<>();
+  public static GalaxyChart parse(Grid chars, int expansionRate) {
+    long[] xs = new long[64];
+    long[] ys = new long[64];
+    int count = 0;
 
     final int[] emptyRowIndices = emptyRowIndices(chars);
     final int[] emptyColIndices = emptyColIndices(chars);
 
-    for (int row = 0; row < chars.length; row++) {
+    for (int i = chars.indexOf(GALAXY_MARK, 0); i >= 0; i = chars.indexOf(GALAXY_MARK, i + 1)) {
+      final int row = chars.rowOf(i);
+      final int col = chars.colOf(i);
       final int expandedRowCount = countOfItemsLowerThan(emptyRowIndices, row);
-      for (int col = 0; col < chars[row].length; col++) {
-        if (chars[row][col] == GALAXY_MARK) {
-
-          final int expandedColCount = countOfItemsLowerThan(emptyColIndices, col);
-          final int x = (col - expandedColCount) + (expandedColCount * expansionRate);
-          final int y = (row - expandedRowCount) + (expandedRowCount * expansionRate);
-          final Position p = new Position(x, y);
-          galaxiesByPosition.put(p, new Galaxy(p));
-
-        }
+      final int expandedColCount = countOfItemsLowerThan(emptyColIndices, col);
+      if (count == xs.length) {
+        xs = Arrays.copyOf(xs, count * 2);
+        ys = Arrays.copyOf(ys, count * 2);
       }
+      xs[count] = (col - expandedColCount) + ((long) expandedColCount * expansionRate);
+      ys[count] = (row - expandedRowCount) + ((long) expandedRowCount * expansionRate);
+      count++;
     }
 
-    return new GalaxyChart(galaxiesByPosition);
+    return new GalaxyChart(Arrays.copyOf(xs, count), Arrays.copyOf(ys, count));
   }
 
-  private static int[] emptyRowIndices(char[][] chars) {
-    return IntStream.range(0, chars.length)
-        .filter(i -> {
-          for (final char c : chars[i]) {
-            if (c == GALAXY_MARK) {
-              return false;
-            }
-          }
-          return true;
-        })
+  private static int[] emptyRowIndices(Grid chars) {
+    return IntStream.range(0, chars.rows())
+        .filter(i -> !chars.row(i).contains(GALAXY_MARK))
         .toArray();
   }
 
-  private static int[] emptyColIndices(char[][] chars) {
-    return IntStream.range(0, chars[0].length)
-        .filter(i -> {
-          for (final var arr : chars) {
-            if (arr[i] == GALAXY_MARK) {
-              return false;
-            }
-          }
-          return true;
-        })
+  /** Columns are strided, thus galaxies are rather found row by row, marking their columns. */
+  private static int[] emptyColIndices(Grid chars) {
+    final boolean[] occupied = new boolean[chars.cols()];
+    for (int i = chars.indexOf(GALAXY_MARK, 0); i >= 0; i = chars.indexOf(GALAXY_MARK, i + 1)) {
+      occupied[chars.colOf(i)] = true;
+    }
+    return IntStream.range(0, chars.cols())
+        .filter(i -> !occupied[i])
         .toArray();
   }
 
@@ -89,18 +79,37 @@ public final class GalaxyChart {
   }
 
 
-  private final Map<Position, Galaxy> galaxiesByPosition;
+  /** The expanded column of each galaxy, in ascending order. */
+  private final long[] xs;
+  /** The expanded row of each galaxy, in ascending order. */
+  private final long[] ys;
 
-  private GalaxyChart(Map<Position, Galaxy> galaxiesByPosition) {
-    this.galaxiesByPosition = galaxiesByPosition;
+  private GalaxyChart(long[] xs, long[] ys) {
+    // galaxies are discovered row by row, so only the columns need sorting:
+    Arrays.sort(xs);
+    this.xs = xs;
+    this.ys = ys;
   }
 
-  public Stream<Pair<Galaxy, Galaxy>> galaxyPairs() {
-    final Galaxy[] galaxies = galaxiesByPosition.values().toArray(Galaxy[]::new);
-    return IntStream.range(0, galaxies.length - 1)
-        .boxed()
-        .flatMap(i -> IntStream.range(i, galaxies.length)
-            .mapToObj(i2 -> Pair.of(galaxies[i], galaxies[i2])));
+  /**
+   * Returns the sum of the Manhattan distances between every pair of galaxies.
+   *
+   * <p>The distance decomposes into independent horizontal and vertical parts, and along a sorted
+   * axis the {@code i}th coordinate contributes {@code i * v[i] - (v[0] + ... + v[i - 1])}, so
+   * the pairs never need to be enumerated.
+   */
+  public long sumOfPairwiseDistances() {
+    return sumOfPairwiseDistances(xs) + sumOfPairwiseDistances(ys);
+  }
+
+  private static long sumOfPairwiseDistances(long[] sorted) {
+    long sum = 0L;
+    long prefix = 0L;
+    for (int i = 0; i < sorted.length; i++) {
+      sum += i * sorted[i] - prefix;
+      prefix += sorted[i];
+    }
+    return sum;
   }
 
 }
@@ -17,27 +17,47 @@
 package hu.aestallon.adventofcode.year2023.day12;
 
 import hu.aestallon.adventofcode.year2023.day12.internal.RowOfSprings;
+import hu.aestallon.adventofcode.year2023.util.MappedInput;
 
 import java.util.List;
+import java.util.stream.Stream;
 
+/**
+ * The rows of springs, parsed once for both parts. The second part unfolds each row only while it
+ * is being solved, so the unfolded rows are never held all at once.
+ */
 final class HotSprings {
 
-  private final List<String> lines;
+  /** Parses, and later on solves the rows of the given input in parallel. */
+  static HotSprings of(MappedInput input) {
+    return new HotSprings(input.parallelLines().map(RowOfSprings::parse).toList(), true);
+  }
+
+  private final List<RowOfSprings> rows;
+  private final boolean            parallel;
 
   HotSprings(List<String> lines) {
-    this.lines = lines;
+    this(lines.stream().map(RowOfSprings::parse).toList(), false);
+  }
+
+  private HotSprings(List<RowOfSprings> rows, boolean parallel) {
+    this.rows = rows;
+    this.parallel = parallel;
+  }
+
+  private Stream<RowOfSprings> rows() {
+    return parallel ? rows.parallelStream() : rows.stream();
   }
 
   long solvePart1() {
-    return lines.stream()
-        .map(RowOfSprings::parse)
+    return rows()
         .mapToLong(RowOfSprings::solve)
         .sum();
   }
 
   long solvePart2() {
-    return lines.stream()
-        .map(RowOfSprings::parseUnfolded)
+    return rows()
+        .map(it -> it.unfold(5))
         .mapToLong(RowOfSprings::solve)
         .sum();
   }
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hu.aestallon.adventofcode.year2023.day12;
+
+import hu.aestallon.adventofcode.year2023.solver.Puzzle;
+import hu.aestallon.adventofcode.year2023.solver.Solver;
+import hu.aestallon.adventofcode.year2023.util.MappedInput;
+
+import java.util.List;
+
+@Puzzle(day = 12, title = "Hot Springs")
+public final class HotSpringsSolver implements Solver<HotSprings> {
+
+  @Override
+  public HotSprings parse(List<String> lines) {
+    return new HotSprings(lines);
+  }
+
+  @Override
+  public HotSprings parse(MappedInput input) {
+    return HotSprings.of(input);
+  }
+
+  @Override
+  public long solvePart1(HotSprings hotSprings) {
+    return hotSprings.solvePart1();
+  }
+
+  @Override
+  public long solvePart2(HotSprings hotSprings) {
+    return hotSprings.solvePart2();
+  }
+
+}
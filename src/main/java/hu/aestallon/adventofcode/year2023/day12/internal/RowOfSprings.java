@@ -16,105 +16,132 @@
 
 package hu.aestallon.adventofcode.year2023.day12.internal;
 
+import hu.aestallon.adventofcode.year2023.util.Cursor;
+import hu.aestallon.adventofcode.year2023.util.MemoCache;
+import hu.aestallon.adventofcode.year2023.util.MemoEvent;
+
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.IntStream;
 
 import static java.util.stream.Collectors.joining;
 
 public record RowOfSprings(List<SpringState> springs, List<Integer> damagedRuns) {
 
-  private static final Map<RowOfSprings, Long> MEMO = new HashMap<>();
+  /**
+   * Parses a row of the form {@code ???.### 1,1,3}.
+   *
+   * @throws IllegalArgumentException if the row has no damaged runs, or an unknown spring state
+   */
+  public static RowOfSprings parse(CharSequence s) {
+    final var cursor = Cursor.of(s);
+    final int delimiter = cursor.indexOf(' ');
+    if (delimiter < 0) {
+      throw new IllegalArgumentException("[ " + s + " ] has no damaged runs!");
+    }
 
-  public static RowOfSprings parse(String s) {
-    final var parts = s.split("\\s");
-    final var states = parts[0].chars().mapToObj(SpringState::ofCodePoint).toList();
-    final var damagedRuns = Arrays.stream(parts[1].split(","))
-        .map(Integer::parseInt)
-        .toList();
-    return new RowOfSprings(states, damagedRuns);
+    final List<SpringState> states = new ArrayList<>(delimiter);
+    for (int i = 0; i < delimiter; i++) {
+      states.add(SpringState.ofCodePoint(s.charAt(i)));
+    }
+    final List<Integer> damagedRuns = new ArrayList<>();
+    cursor.skip(delimiter + 1);
+    do {
+      damagedRuns.add(cursor.nextInt());
+    } while (cursor.tryConsume(','));
+    return new RowOfSprings(List.copyOf(states), List.copyOf(damagedRuns));
   }
 
-  public static RowOfSprings parseUnfolded(String s) {
-    final var parts = s.split("\\s");
-    final var states = IntStream.range(0, 5)
-        .mapToObj(__ -> parts[0])
-        .collect(joining("?")).chars()
-        .mapToObj(SpringState::ofCodePoint)
-        .toList();
-    final var runs = Arrays.stream(parts[1].split(","))
-        .map(Integer::parseInt)
-        .toList();
-    final var damagedRuns = IntStream.range(0, 5)
-        .mapToObj(__ -> runs)
-        .flatMap(List::stream)
-        .toList();
-    return new RowOfSprings(states, damagedRuns);
+  public static RowOfSprings parseUnfolded(CharSequence s) {
+    return parse(s).unfold(5);
+  }
+
+  /**
+   * Returns this row repeated the given number of times, the springs of the copies joined by
+   * springs of unknown state.
+   */
+  public RowOfSprings unfold(int copies) {
+    final List<SpringState> states = new ArrayList<>(copies * (springs.size() + 1));
+    for (int i = 0; i < copies; i++) {
+      if (i > 0) {
+        states.add(SpringState.UNKNOWN);
+      }
+      states.addAll(springs);
+    }
+    return new RowOfSprings(
+        Collections.unmodifiableList(states),
+        Collections.nCopies(copies, damagedRuns).stream().flatMap(List::stream).toList());
   }
 
   public long solve() {
-    if (springs.isEmpty()) {
-      return damagedRuns.isEmpty() ? 1 : 0;
+    final var event = new MemoEvent();
+    event.begin();
+    final var memo = new Memo(springs.size() * (damagedRuns.size() + 1));
+    final long solution = solve(memo, 0, 0);
+    event.report(12, "RowOfSprings", memo.stats());
+    return solution;
+  }
+
+  /**
+   * Every subproblem is a suffix of this row: the springs from index {@code s} on, and the damaged
+   * runs from index {@code r} on, thus the memo of a row is a table indexed by these two indices.
+   */
+  private int memoKey(int s, int r) {
+    return s * (damagedRuns.size() + 1) + r;
+  }
+
+  private long solve(Memo memo, int s, int r) {
+    if (s == springs.size()) {
+      return (r == damagedRuns.size()) ? 1 : 0;
     }
 
-    return switch (springs.getFirst()) {
-      case OPERATIONAL -> shrinkBy(1, 0).solve();
-      case DAMAGED -> solveInternalAndMemoize();
-      case UNKNOWN -> shrinkBy(1, 0).solve() + solveInternalAndMemoize();
+    return switch (springs.get(s)) {
+      case OPERATIONAL -> solve(memo, s + 1, r);
+      case DAMAGED -> solveInternalAndMemoize(memo, s, r);
+      case UNKNOWN -> solve(memo, s + 1, r) + solveInternalAndMemoize(memo, s, r);
     };
   }
 
-  private long solveInternalAndMemoize() {
-    final long x = solveInternal();
-    MEMO.put(this, x);
+  private long solveInternalAndMemoize(Memo memo, int s, int r) {
+    final int key = memoKey(s, r);
+    final long memoised = memo.get(key);
+    if (memoised != Memo.MISSING) {
+      return memoised;
+    }
+
+    final long x = solveInternal(memo, s, r);
+    memo.counts[key] = x;
     return x;
   }
 
-  private long solveInternal() {
-    final Long solution = MEMO.get(this);
-    if (solution != null) {
-      return solution;
-    }
+  private long solveInternal(Memo memo, int s, int r) {
 
-    if (damagedRuns.isEmpty()) {
+    if (r == damagedRuns.size()) {
       return 0;
     }
 
-    final int firstRun = damagedRuns.getFirst();
-    if (springs.size() < firstRun) {
+    final int firstRun = damagedRuns.get(r);
+    final int remaining = springs.size() - s;
+    if (remaining < firstRun) {
       return 0;
     }
 
-    if (springs.stream().limit(firstRun).anyMatch(it -> SpringState.OPERATIONAL == it)) {
-      return 0;
+    for (int i = s; i < s + firstRun; i++) {
+      if (springs.get(i) == SpringState.OPERATIONAL) {
+        return 0;
+      }
     }
 
-    if (springs.size() == firstRun) {
-      return (damagedRuns.size() == 1) ? 1 : 0;
+    if (remaining == firstRun) {
+      return (damagedRuns.size() - r == 1) ? 1 : 0;
     }
 
-    if (springs.get(firstRun) == SpringState.DAMAGED) {
+    if (springs.get(s + firstRun) == SpringState.DAMAGED) {
       return 0;
     }
 
-    return shrinkBy(firstRun + 1, 1).solve();
-  }
-
-  /**
-   * A copy of row with some amounts of spring-marks and run inscriptions dropped.
-   *
-   * @param spring the amount of {@link SpringState} spring marks to drop, >= 0
-   * @param run    the amount of {@link #damagedRuns} markings to drop, >= 0
-   *
-   * @return a new {@link RowOfSprings} with their leftmost {@code spring} markings and {@code run}
-   * runs dropped
-   */
-  private RowOfSprings shrinkBy(int spring, int run) {
-    return new RowOfSprings(
-        springs.subList(spring, springs.size()),
-        damagedRuns.subList(run, damagedRuns.size()));
+    return solve(memo, s + firstRun + 1, r + 1);
   }
 
   @Override
@@ -124,4 +151,37 @@ public record RowOfSprings(List<SpringState> springs, List<Integer> damagedRuns)
            + damagedRuns.stream().map(String::valueOf).collect(joining(","));
   }
 
+  /**
+   * The memo of a single row, holding the count of each subproblem unboxed. As the table has a slot
+   * for every subproblem, nothing is ever evicted from it.
+   */
+  private static final class Memo {
+
+    private static final long MISSING = -1L;
+
+    private final long[] counts;
+    private long         hits;
+    private long         misses;
+
+    private Memo(int size) {
+      this.counts = new long[size];
+      Arrays.fill(counts, MISSING);
+    }
+
+    private long get(int key) {
+      final long count = counts[key];
+      if (count == MISSING) {
+        misses++;
+      } else {
+        hits++;
+      }
+      return count;
+    }
+
+    private MemoCache.Stats stats() {
+      return new MemoCache.Stats(hits, misses, 0L, misses);
+    }
+
+  }
+
 }
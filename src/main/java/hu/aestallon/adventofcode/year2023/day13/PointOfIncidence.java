@@ -19,6 +19,9 @@ package hu.aestallon.adventofcode.year2023.day13;
 import hu.aestallon.adventofcode.year2023.day13.internal.MirrorField;
 import hu.aestallon.adventofcode.year2023.day13.internal.Reflection;
 import hu.aestallon.adventofcode.year2023.day13.internal.ReflectionType;
+import hu.aestallon.adventofcode.year2023.util.ByteScan;
+import hu.aestallon.adventofcode.year2023.util.Grid;
+import hu.aestallon.adventofcode.year2023.util.MappedInput;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -44,12 +47,51 @@ final class PointOfIncidence {
     return fields;
   }
 
+  /**
+   * Cuts the bytes of the input into fields at blank lines, and builds each field straight from its
+   * bytes, without splitting it into lines.
+   */
+  private static List<MirrorField> parseFields(byte[] input) {
+    final var fields = new ArrayList<MirrorField>();
+    int fieldStart = -1;
+    for (int from = 0; from < input.length; ) {
+      final int lineBreak = ByteScan.indexOf(input, from, input.length, (byte) '\n');
+      final int to = (lineBreak < 0) ? input.length : lineBreak + 1;
+      if (!isBlank(input, from, to)) {
+        fieldStart = (fieldStart < 0) ? from : fieldStart;
+      } else if (fieldStart >= 0) {
+        fields.add(MirrorField.parse(Grid.of(input, fieldStart, from)));
+        fieldStart = -1;
+      }
+      from = to;
+    }
+
+    if (fieldStart >= 0) {
+      fields.add(MirrorField.parse(Grid.of(input, fieldStart, input.length)));
+    }
+    return fields;
+  }
+
+  private static boolean isBlank(byte[] input, int from, int to) {
+    for (int i = from; i < to; i++) {
+      final byte b = input[i];
+      if (b != ' ' && b != '\t' && b != '\r' && b != '\n') {
+        return false;
+      }
+    }
+    return true;
+  }
+
   private final List<MirrorField> fields;
 
   PointOfIncidence(List<String> lines) {
     this.fields = parseFields(lines);
   }
 
+  PointOfIncidence(MappedInput input) {
+    this.fields = parseFields(input.toByteArray());
+  }
+
   long solvePart1() {
     return fields.stream()
         .mapToLong(it -> it.reflections().stream()
@@ -16,45 +16,47 @@
 
 package hu.aestallon.adventofcode.year2023.day13.internal;
 
+import hu.aestallon.adventofcode.year2023.util.Grid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
-import java.util.TreeSet;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
-import static java.util.stream.Collectors.joining;
-
 public final class MirrorField {
 
   private static final Logger log = LoggerFactory.getLogger(MirrorField.class);
 
+  private static final byte ASH  = '.';
+  private static final byte ROCK = '#';
+
   public static MirrorField parse(List<String> lines) {
-    final Material[][] materials = lines.stream()
-        .map(it -> it.chars()
-            .mapToObj(Material::ofCodePoint)
-            .toArray(Material[]::new))
-        .toArray(Material[][]::new);
+    return parse(Grid.of(lines));
+  }
+
+  /** Creates a field of the given grid of materials, which it takes ownership of. */
+  public static MirrorField parse(Grid materials) {
+    for (int i = 0; i < materials.size(); i++) {
+      final byte b = materials.get(i);
+      if (b != ASH && b != ROCK) {
+        throw new IllegalArgumentException((char) b + " is not a Material!");
+      }
+    }
     return new MirrorField(materials);
   }
 
-  private final Material[][]    materials;
+  private final Grid            materials;
   private       Set<Reflection> reflections;
 
-  private MirrorField(Material[][] materials) {
+  private MirrorField(Grid materials) {
     this.materials = materials;
   }
 
   private MirrorField(MirrorField original) {
-    final Material[][] ms = new Material[original.materials.length][];
-    for (int i = 0; i < ms.length; i++) {
-      ms[i] = Arrays.copyOf(original.materials[i], original.materials[i].length);
-    }
-    this.materials = ms;
+    this.materials = original.materials.copy();
   }
 
   public Set<Reflection> reflections() {
@@ -69,30 +71,24 @@ public final class MirrorField {
   }
 
   private Set<Integer> verticalReflections() {
-    var candidates = verticalReflectionCandidates(materials[0]);
-    for (int i = 1; i < materials.length; i++) {
-      candidates.retainAll(verticalReflectionCandidates(materials[i]));
-    }
-    return candidates;
-  }
-
-
-  private Set<Integer> verticalReflectionCandidates(Material[] mats) {
-    return IntStream.range(1, mats.length)
+    final int cols = materials.cols();
+    return IntStream.range(1, cols)
         .filter(i -> {
-          final int span = Math.min(i, mats.length - i);
-          return IntStream.rangeClosed(1, span).allMatch(x -> mats[i - x] == mats[i + x - 1]);
+          final int span = Math.min(i, cols - i);
+          return IntStream.rangeClosed(1, span)
+              .allMatch(x -> materials.col(i - x).mismatch(materials.col(i + x - 1)) < 0);
         })
         .boxed()
         .collect(Collectors.toSet());
   }
 
   private Set<Integer> horizontalReflections() {
-    return IntStream.range(1, materials.length)
+    final int rows = materials.rows();
+    return IntStream.range(1, rows)
         .filter(i -> {
-          final int span = Math.min(i, materials.length - i);
+          final int span = Math.min(i, rows - i);
           return IntStream.rangeClosed(1, span)
-              .allMatch(x -> Arrays.equals(materials[i - x], materials[i + x - 1]));
+              .allMatch(x -> materials.row(i - x).mismatch(materials.row(i + x - 1)) < 0);
         })
         .boxed()
         .collect(Collectors.toSet());
@@ -100,8 +96,8 @@ public final class MirrorField {
 
   public Reflection fixSmudge() {
     // first attempt creating vertical lines of reflections:
-    for (int i = 0; i < materials.length; i++) {
-      for (int j = 0; j < materials[0].length; j++) {
+    for (int i = 0; i < materials.rows(); i++) {
+      for (int j = 0; j < materials.cols(); j++) {
         final var copy = new MirrorField(this);
         copy.flip(i, j);
 
@@ -113,13 +109,12 @@ public final class MirrorField {
     }
 
     // if that did not succeed, find a closely matching pairs of lines:
-    for (int i = 0; i < materials.length - 1; i++) {
-      final var row1 = materials[i];
-      final var row2 = materials[i + 1];
-      final var differentIndices = differentIndices(row1, row2);
-      if (differentIndices.length == 1) {
+    for (int i = 0; i < materials.rows() - 1; i++) {
+      final var row1 = materials.row(i);
+      final var row2 = materials.row(i + 1);
+      if (row1.mismatches(row2) == 1) {
         final var copy = new MirrorField(this);
-        copy.flip(i, differentIndices[0]);
+        copy.flip(i, row1.mismatch(row2));
 
         final var newReflection = newReflectionIn(copy);
         if (newReflection != null) {
@@ -142,23 +137,12 @@ public final class MirrorField {
   }
 
   private void flip(int row, int col) {
-    final var mat = materials[row][col];
-    materials[row][col] = (mat == Material.ASH) ? Material.ROCK : Material.ASH;
-  }
-
-
-  private static <T extends Enum<T>> int[] differentIndices(T[] arr1, T[] arr2) {
-    return IntStream.range(0, Math.min(arr1.length, arr2.length))
-        .filter(i -> arr1[i] != arr2[i])
-        .toArray();
+    final byte mat = materials.get(row, col);
+    materials.set(row, col, (mat == ASH) ? ROCK : ASH);
   }
 
   @Override
   public String toString() {
-    return Arrays.stream(materials)
-        .map(row -> Arrays.stream(row)
-            .map(it -> Material.ROCK == it ? "#" : ".")
-            .collect(joining()))
-        .collect(joining(System.lineSeparator()));
+    return materials.toString();
   }
 }
@@ -17,61 +17,53 @@
 package hu.aestallon.adventofcode.year2023.day14;
 
 import hu.aestallon.adventofcode.year2023.day14.internal.Direction;
+import hu.aestallon.adventofcode.year2023.util.Coordinates;
+import hu.aestallon.adventofcode.year2023.util.Grid;
 
-import java.util.Arrays;
-import java.util.Comparator;
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Objects;
-import java.util.Set;
-import java.util.TreeSet;
-import java.util.stream.Collectors;
-
-import static java.util.stream.Collectors.joining;
+import java.util.Map;
 
 final class ParabolicReflectorDish {
 
+  private static final byte EMPTY      = '.';
+  private static final byte CUBE_ROCK  = '#';
+  private static final byte ROUND_ROCK = 'O';
+
   final long cycleNr;
 
   private final int cols;
   private final int rows;
 
-  private final Set<Rock<?>>  rocks;
-  private final Set<Position> positions;
+  /** The rocks of the dish, one byte per cell, doubling as the set of their positions. */
+  private final Grid cells;
 
   ParabolicReflectorDish(List<String> lines) {
-    this.cycleNr = 0L;
+    this(Grid.of(lines));
+  }
 
-    this.cols = lines.getFirst().length();
-    this.rows = lines.size();
+  /** Creates a dish of the given cells of its input, which it takes ownership of. */
+  ParabolicReflectorDish(Grid cells) {
+    this.cycleNr = 0L;
 
-    this.rocks = new HashSet<>();
-    this.positions = new TreeSet<>();
-    for (int row = 0; row < lines.size(); row++) {
-      final char[] line = lines.get(row).toCharArray();
-      for (int col = 0; col < line.length; col++) {
-        final char c = line[col];
-        if (c == '#' || c == 'O') {
-          final var p = new Position(row, col);
-          final var r = switch (c) {
-            case '#' -> new CubeRock(p);
-            case 'O' -> new RoundRock(p);
-            default -> throw new AssertionError(); // cannot happen
-          };
-          positions.add(p);
-          rocks.add(r);
-        }
+    this.cells = cells;
+    this.cols = cells.cols();
+    this.rows = cells.rows();
+    for (int i = 0; i < cells.size(); i++) {
+      final byte c = cells.get(i);
+      if (c != CUBE_ROCK && c != ROUND_ROCK) {
+        cells.set(i, EMPTY);
       }
     }
   }
 
-  private ParabolicReflectorDish(long cycleNr, int rows, int cols, Set<Rock<?>> rocks) {
+  private ParabolicReflectorDish(long cycleNr, Grid cells) {
     this.cycleNr = cycleNr;
 
-    this.rows = rows;
-    this.cols = cols;
-    this.rocks = rocks;
-    this.positions = rocks.stream().map(it -> it.position).collect(Collectors.toSet());
+    this.rows = cells.rows();
+    this.cols = cells.cols();
+    this.cells = cells;
   }
 
   ParabolicReflectorDish tilt(Direction direction) {
@@ -79,12 +71,18 @@ final class ParabolicReflectorDish {
   }
 
   private ParabolicReflectorDish tilt(long cycleNr, Direction direction) {
-    final Set<Rock<?>> rolledRocks = rocks.stream()
-        .sorted(comparator(direction))
-        .map(it -> it.roll(direction))
-        .map(it -> (Rock<?>) it)
-        .collect(Collectors.toSet());
-    return new ParabolicReflectorDish(cycleNr, rows, cols, rolledRocks);
+    // roll against a copy, so this dish stays intact and can be tilted again. Scanning row-major
+    // reaches the rocks closest to the northern and western edges first, scanning backwards the
+    // ones closest to the southern and eastern edges, so each rock rolls after its blockers:
+    final Grid occupied = cells.copy();
+    final boolean forwards = direction == Direction.NORTH || direction == Direction.WEST;
+    for (int n = 0; n < occupied.size(); n++) {
+      final int i = forwards ? n : occupied.size() - 1 - n;
+      if (occupied.get(i) == ROUND_ROCK) {
+        farthestFree(occupied.coordinateOf(i), direction, occupied);
+      }
+    }
+    return new ParabolicReflectorDish(cycleNr, occupied);
   }
 
   ParabolicReflectorDish cycle() {
@@ -94,33 +92,54 @@ final class ParabolicReflectorDish {
         .tilt(cycleNr + 1, Direction.EAST);
   }
 
-  private Comparator<Rock<?>> comparator(Direction direction) {
-    final Comparator<Rock<?>> n = Comparator.comparingInt(r -> r.position.row);
-    final Comparator<Rock<?>> s = (r1, r2) -> r2.position.row - r1.position.row;
-    final Comparator<Rock<?>> w = Comparator.comparingInt(r -> r.position.col);
-    final Comparator<Rock<?>> e = (r1, r2) -> r2.position.col - r1.position.col;
-    return switch (direction) {
-      case NORTH -> n;
-      case SOUTH -> s;
-      case WEST -> w;
-      case EAST -> e;
-    };
+  /**
+   * Returns the state of this dish after the given number of spin cycles.
+   *
+   * <p>The states eventually repeat themselves, so the spinning is cut short as soon as a state is
+   * encountered for the second time.
+   */
+  ParabolicReflectorDish spin(final long cycles) {
+    final List<ParabolicReflectorDish> states = new ArrayList<>();
+    final Map<ParabolicReflectorDish, Integer> firstIndexByState = new HashMap<>();
+
+    ParabolicReflectorDish dish = this;
+    for (long i = 0; i < cycles; i++) {
+      final Integer firstIdx = firstIndexByState.putIfAbsent(dish, states.size());
+      if (firstIdx != null) {
+        final long cycleSize = i - firstIdx;
+        return states.get((int) (firstIdx + (cycles - i) % cycleSize));
+      }
+
+      states.add(dish);
+      dish = dish.cycle();
+    }
+    return dish;
   }
 
   long currentLoad(Direction direction) {
-    return rocks.stream().mapToLong(it -> it.score(direction)).sum();
+    long load = 0L;
+    for (int i = 0; i < cells.size(); i++) {
+      if (cells.get(i) == ROUND_ROCK) {
+        load += score(cells.coordinateOf(i), direction);
+      }
+    }
+    return load;
+  }
+
+  private int score(long position, Direction direction) {
+    final int row = Coordinates.row(position);
+    final int col = Coordinates.col(position);
+    return switch (direction) {
+      case NORTH -> rows - row;
+      case SOUTH -> row + 1;
+      case WEST -> cols - col;
+      case EAST -> col + 1;
+    };
   }
 
   @Override
   public String toString() {
-    final String[][] arr = new String[rows][cols];
-    for (var r : arr) {
-      Arrays.fill(r, ".");
-    }
-    rocks.forEach(it -> arr[it.position.row][it.position.col] = it.sign());
-    return Arrays.stream(arr)
-        .map(r -> String.join("", r))
-        .collect(joining("\n"));
+    return cells.toString();
   }
 
   @Override
@@ -128,156 +147,27 @@ final class ParabolicReflectorDish {
     if (this == o) {return true;}
     if (o == null || getClass() != o.getClass()) {return false;}
     ParabolicReflectorDish that = (ParabolicReflectorDish) o;
-    return Objects.equals(rocks, that.rocks);
+    // the cells encode exactly the positions of the rocks, and are cheaper to compare:
+    return cells.equals(that.cells);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(rocks);
+    return cells.hashCode();
   }
 
-  private final class Position implements Comparable<Position> {
-
-    final int row;
-    final int col;
-
-    private Position(int row, int col) {
-      this.row = row;
-      this.col = col;
-    }
-
-    private Position farthestFree(Direction direction) {
-      Position p = this;
-      while (p.row >= 0 && p.col >= 0 && p.row < rows && p.col < cols) {
-        Position pRolled = p.apply(direction);
-        if (positions.contains(pRolled) || pRolled.outOfBounds()) {
-          break;
-        } else {
-          p = pRolled;
-        }
+  private static long farthestFree(long position, Direction direction, Grid occupied) {
+    long p = position;
+    while (true) {
+      final long pRolled = Coordinates.move(p, direction.dRow(), direction.dCol());
+      if (!occupied.isInBounds(pRolled) || occupied.get(pRolled) != EMPTY) {
+        break;
       }
-      positions.remove(this);
-      positions.add(p);
-      return p;
-    }
-
-    private Position apply(Direction direction) {
-      return new Position(row + direction.dRow(), col + direction.dCol());
-    }
-
-    private boolean outOfBounds() {
-      return row < 0 || col < 0 || row >= rows || col >= cols;
+      p = pRolled;
     }
-
-    @Override
-    public boolean equals(Object o) {
-      if (this == o) {return true;}
-      if (o == null || getClass() != o.getClass()) {return false;}
-      Position position = (Position) o;
-      return row == position.row && col == position.col;
-    }
-
-    @Override
-    public int hashCode() {
-      return Objects.hash(row, col);
-    }
-
-    @Override
-    public String toString() {
-      return "[" + row + "," + col + "]";
-    }
-
-    @Override
-    public int compareTo(Position that) {
-      final int dRow = this.row - that.row;
-      return (dRow == 0)
-          ? (this.col - that.col)
-          : dRow;
-    }
-
-  }
-
-  private static sealed abstract class Rock<T extends Rock<T>> permits RoundRock, CubeRock {
-    protected final Position position;
-
-    protected Rock(Position position) {
-      this.position = position;
-    }
-
-    protected abstract T roll(Direction direction);
-
-    protected abstract String sign();
-
-    protected abstract int score(Direction direction);
-
-    @Override
-    public boolean equals(Object o) {
-      if (this == o) {return true;}
-      if (o == null || getClass() != o.getClass()) {return false;}
-      Rock<?> rock = (Rock<?>) o;
-      return Objects.equals(position, rock.position);
-    }
-
-    @Override
-    public int hashCode() {
-      return Objects.hash(position);
-    }
-
-    @Override
-    public String toString() {
-      return sign() + position.toString();
-    }
-
-  }
-
-  private final class RoundRock extends Rock<RoundRock> {
-
-    private RoundRock(Position position) {
-      super(position);
-    }
-
-    @Override
-    protected RoundRock roll(Direction direction) {
-      return new RoundRock(position.farthestFree(direction));
-    }
-
-    @Override
-    protected String sign() {
-      return "O";
-    }
-
-    @Override
-    protected int score(Direction direction) {
-      return switch (direction) {
-        case NORTH -> rows - position.row;
-        case SOUTH -> position.row + 1;
-        case WEST -> cols - position.col;
-        case EAST -> position.col + 1;
-      };
-    }
-  }
-
-  private final class CubeRock extends Rock<CubeRock> {
-
-    private CubeRock(Position position) {
-      super(position);
-    }
-
-    @Override
-    protected CubeRock roll(Direction direction) {
-      return this;
-    }
-
-    @Override
-    protected String sign() {
-      return "#";
-    }
-
-    @Override
-    protected int score(Direction direction) {
-      return 0;
-    }
-
+    occupied.set(position, EMPTY);
+    occupied.set(p, ROUND_ROCK);
+    return p;
   }
 
 }
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hu.aestallon.adventofcode.year2023.day14;
+
+import hu.aestallon.adventofcode.year2023.day14.internal.Direction;
+import hu.aestallon.adventofcode.year2023.solver.Puzzle;
+import hu.aestallon.adventofcode.year2023.solver.Solver;
+import hu.aestallon.adventofcode.year2023.util.Grid;
+import hu.aestallon.adventofcode.year2023.util.MappedInput;
+
+import java.util.List;
+
+@Puzzle(day = 14, title = "Parabolic Reflector Dish")
+public final class ParabolicReflectorDishSolver implements Solver<ParabolicReflectorDish> {
+
+  private static final long CYCLES = 1_000_000_000L;
+
+  @Override
+  public ParabolicReflectorDish parse(MappedInput input) {
+    return new ParabolicReflectorDish(Grid.of(input.toByteArray()));
+  }
+
+  @Override
+  public ParabolicReflectorDish parse(List<String> lines) {
+    return new ParabolicReflectorDish(lines);
+  }
+
+  @Override
+  public long solvePart1(ParabolicReflectorDish dish) {
+    return dish.tilt(Direction.NORTH).currentLoad(Direction.NORTH);
+  }
+
+  @Override
+  public long solvePart2(ParabolicReflectorDish dish) {
+    return dish.spin(CYCLES).currentLoad(Direction.NORTH);
+  }
+
+}
@@ -19,16 +19,31 @@ package hu.aestallon.adventofcode.year2023.day15;
 import hu.aestallon.adventofcode.year2023.day15.internal.HolidayHash;
 import hu.aestallon.adventofcode.year2023.day15.internal.HolidayMap;
 import hu.aestallon.adventofcode.year2023.day15.internal.Instruction;
+import hu.aestallon.adventofcode.year2023.util.ByteScan;
 
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.List;
 
 final class LensLibrary {
 
   private final List<Instruction> instructions;
 
-  LensLibrary(String input) {
-    this.instructions = Arrays.stream(input.split(",")).map(Instruction::parse).toList();
+  LensLibrary(CharSequence input) {
+    this.instructions = parseInstructions(input);
+  }
+
+  private static List<Instruction> parseInstructions(CharSequence input) {
+    final List<Instruction> instructions = new ArrayList<>();
+    int from = 0;
+    while (from < input.length()) {
+      final int comma = ByteScan.indexOf(input, from, input.length(), ',');
+      final int to = (comma < 0) ? input.length() : comma;
+      if (to > from) {
+        instructions.add(Instruction.parse(input.subSequence(from, to).toString()));
+      }
+      from = to + 1;
+    }
+    return instructions;
   }
 
   long solvePart1() {
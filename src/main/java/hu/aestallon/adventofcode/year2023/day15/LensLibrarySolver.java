@@ -0,0 +1,50 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hu.aestallon.adventofcode.year2023.day15;
+
+import hu.aestallon.adventofcode.year2023.solver.Puzzle;
+import hu.aestallon.adventofcode.year2023.solver.Solver;
+import hu.aestallon.adventofcode.year2023.util.MappedInput;
+
+import java.util.List;
+
+@Puzzle(day = 15, title = "Lens Library")
+public final class LensLibrarySolver implements Solver<LensLibrary> {
+
+  @Override
+  public LensLibrary parse(List<String> lines) {
+    return new LensLibrary(String.join("", lines));
+  }
+
+  @Override
+  public LensLibrary parse(MappedInput input) {
+    // the sequence is usually a single line, which is then scanned without copying it:
+    final List<CharSequence> lines = input.lines().toList();
+    return new LensLibrary((lines.size() == 1) ? lines.getFirst() : String.join("", lines));
+  }
+
+  @Override
+  public long solvePart1(LensLibrary lensLibrary) {
+    return lensLibrary.solvePart1();
+  }
+
+  @Override
+  public long solvePart2(LensLibrary lensLibrary) {
+    return lensLibrary.solvePart2();
+  }
+
+}
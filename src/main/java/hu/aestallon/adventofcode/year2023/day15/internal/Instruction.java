@@ -16,6 +16,8 @@
 
 package hu.aestallon.adventofcode.year2023.day15.internal;
 
+import hu.aestallon.adventofcode.year2023.util.Digits;
+
 import java.util.Objects;
 
 public final class Instruction {
@@ -33,7 +35,7 @@ public final class Instruction {
     final int removalIdx = s.indexOf('-');
     if (assignmentIdx > 0) {
       op = Operation.ADD;
-      focalLength = Integer.parseInt(s.substring(assignmentIdx + 1));
+      focalLength = Digits.parseInt(s, assignmentIdx + 1, s.length());
       label = s.substring(0, assignmentIdx);
     } else if (removalIdx > 0) {
       op = Operation.REMOVE;
@@ -19,25 +19,54 @@ package hu.aestallon.adventofcode.year2023.day16;
 import hu.aestallon.adventofcode.year2023.day16.internal.Contraption;
 import hu.aestallon.adventofcode.year2023.day16.internal.Direction;
 import hu.aestallon.adventofcode.year2023.day16.internal.Position;
+import hu.aestallon.adventofcode.year2023.solver.SnapshotCodec;
+import hu.aestallon.adventofcode.year2023.util.Grid;
+import hu.aestallon.adventofcode.year2023.util.MappedInput;
+import hu.aestallon.adventofcode.year2023.util.Snapshot;
 
 import java.util.List;
-import java.util.Set;
 
 final class TheFloorWillBeLava {
 
+  static final SnapshotCodec<TheFloorWillBeLava> SNAPSHOT_CODEC = new SnapshotCodec<>() {
+    @Override
+    public String schema() {
+      return "day16.Contraption/1";
+    }
+
+    @Override
+    public void write(TheFloorWillBeLava model, Snapshot.Writer out) {
+      model.contraption.writeTo(out);
+    }
+
+    @Override
+    public TheFloorWillBeLava read(Snapshot.Reader in) {
+      return new TheFloorWillBeLava(Contraption.readFrom(in));
+    }
+  };
+
   private final Contraption contraption;
 
   TheFloorWillBeLava(List<String> lines) {
-    this.contraption = Contraption.parse(lines);
+    this(Contraption.parse(lines));
+  }
+
+  /** Builds the contraption straight from the input bytes, without splitting it into lines. */
+  TheFloorWillBeLava(MappedInput input) {
+    this(Contraption.parse(Grid.of(input.toByteArray())));
+  }
+
+  private TheFloorWillBeLava(Contraption contraption) {
+    this.contraption = contraption;
   }
 
 
   long solvePart1() {
-    return contraption.run(Direction.E, new Position(0, 0)).size();
+    return contraption.energized(Direction.E, new Position(0, 0));
   }
 
   long solvePart2() {
-    return contraption.runAll().mapToInt(Set::size).max().orElse(0);
+    return contraption.runAll().max().orElse(0);
   }
 
 }
@@ -16,75 +16,141 @@
 
 package hu.aestallon.adventofcode.year2023.day16.internal;
 
+import hu.aestallon.adventofcode.year2023.util.CellSet;
+import hu.aestallon.adventofcode.year2023.util.Coordinates;
+import hu.aestallon.adventofcode.year2023.util.Grid;
+import hu.aestallon.adventofcode.year2023.util.LongHashSet;
+import hu.aestallon.adventofcode.year2023.util.LoopEvent;
+import hu.aestallon.adventofcode.year2023.util.Snapshot;
+
 import java.util.Arrays;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.function.LongConsumer;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 public class Contraption {
 
+  private static final Direction[] DIRECTIONS = Direction.values();
+
   public static Contraption parse(List<String> lines) {
-    final var elements = lines.stream()
-        .map(it -> it.chars().mapToObj(Element::parse).toArray(Element[]::new))
-        .toArray(Element[][]::new);
+    return parse(Grid.of(lines));
+  }
+
+  /** Creates a contraption of the given grid of elements, which it takes ownership of. */
+  public static Contraption parse(Grid elements) {
+    for (int i = 0; i < elements.size(); i++) {
+      Element.parse(elements.get(i));
+    }
     return new Contraption(elements);
   }
 
-  private final Element[][] elements;
+  /**
+   * Reads a contraption written by {@link #writeTo(Snapshot.Writer)}.
+   *
+   * @throws IllegalStateException if the next sections do not hold a grid
+   */
+  public static Contraption readFrom(Snapshot.Reader in) {
+    // the elements were validated before they were written:
+    return new Contraption(in.readGrid());
+  }
+
+  private final Grid elements;
 
-  private Contraption(Element[][] elements) {
+  private Contraption(Grid elements) {
     this.elements = elements;
   }
 
-  public Set<Position> run(Direction d, Position p) {
-    return run(new Light(d, p));
+  /** Writes the raw grid of elements. */
+  public void writeTo(Snapshot.Writer out) {
+    out.writeGrid(elements);
+  }
+
+  /** Returns the number of tiles energized by a beam entering at {@code p} in direction {@code d}. */
+  public int energized(Direction d, Position p) {
+    return energized(new Light(d, p).packed());
+  }
+
+  /**
+   * Returns the number of energized tiles, tracing the beams as packed coordinates tagged with the
+   * ordinal of their direction, so no objects are allocated while the wavefront is expanded.
+   */
+  private int energized(long light) {
+    final var event = new LoopEvent();
+    event.begin();
+
+    final int rows = elements.rows();
+    final int cols = elements.cols();
+    final var knownLights = new CellSet(rows * cols * DIRECTIONS.length);
+    final var energized = new CellSet(rows * cols);
+    knownLights.add(lightIndex(light, cols));
+    energized.add(Coordinates.row(light) * cols + Coordinates.col(light));
+
+    long[] runningLights = new long[16];
+    long[] nextLights = new long[16];
+    runningLights[0] = light;
+    int runningCount = 1;
+    int wavefronts = 0;
+    while (runningCount > 0) {
+      wavefronts++;
+      int nextCount = 0;
+      for (int i = 0; i < runningCount; i++) {
+        final long curr = runningLights[i];
+        final int r = Coordinates.row(curr);
+        final int c = Coordinates.col(curr);
+        final Element element = Element.parse(elements.get(r, c));
+        for (final Direction d : element.outgoing(DIRECTIONS[Coordinates.tag(curr)])) {
+          final long next = Coordinates.of(r + d.dr, c + d.dc, d.ordinal());
+          if (!elements.isInBounds(next)) {
+            continue;
+          }
+
+          final int idx = lightIndex(next, cols);
+          if (!knownLights.add(idx)) {
+            continue;
+          }
+          energized.add(idx / DIRECTIONS.length);
+
+          if (nextCount == nextLights.length) {
+            nextLights = Arrays.copyOf(nextLights, nextCount * 2);
+          }
+          nextLights[nextCount++] = next;
+        }
+      }
+
+      final long[] tmp = runningLights;
+      runningLights = nextLights;
+      nextLights = tmp;
+      runningCount = nextCount;
+    }
+
+    event.report(16, "Contraption.energized", wavefronts);
+    return energized.size();
   }
 
-  private Set<Position> run(Light light) {
-    final Set<Light> knownLights = new HashSet<>();
-
-    Set<Light> runningLights = new HashSet<>();
-    runningLights.add(light);
-    do {
-      knownLights.addAll(runningLights);
-      runningLights = runningLights.stream()
-          .flatMap(it -> getElement(it.p()).handle(it).stream())
-          .filter(it -> !isOutOfBounds(it.p()))
-          .filter(it -> !knownLights.contains(it))
-          .collect(Collectors.toSet());
-    } while (!runningLights.isEmpty());
-
-    return knownLights.stream().map(Light::p).collect(Collectors.toSet());
+  private static int lightIndex(long light, int cols) {
+    final int cell = Coordinates.row(light) * cols + Coordinates.col(light);
+    return cell * DIRECTIONS.length + Coordinates.tag(light);
   }
 
-  public Stream<Set<Position>> runAll() {
-    return prepare().map(this::run);
+  public IntStream runAll() {
+    return prepare().mapToInt(it -> energized(it.packed()));
   }
 
   public Stream<Light> prepare() {
     return Arrays.stream(Direction.values())
         .flatMap(it -> switch (it) {
-          case E -> IntStream.range(0, elements.length)
+          case E -> IntStream.range(0, elements.rows())
               .mapToObj(i -> new Light(it, new Position(i, 0)));
-          case W -> IntStream.range(0, elements.length)
-              .mapToObj(i -> new Light(it, new Position(i, elements[i].length - 1)));
-          case N -> IntStream.range(0, elements[elements.length - 1].length)
-              .mapToObj(i -> new Light(it, new Position(elements.length - 1, i)));
-          case S -> IntStream.range(0, elements[0].length)
+          case W -> IntStream.range(0, elements.rows())
+              .mapToObj(i -> new Light(it, new Position(i, elements.cols() - 1)));
+          case N -> IntStream.range(0, elements.cols())
+              .mapToObj(i -> new Light(it, new Position(elements.rows() - 1, i)));
+          case S -> IntStream.range(0, elements.cols())
               .mapToObj(i -> new Light(it, new Position(0, i)));
         });
   }
 
-  private Element getElement(Position p) {
-    return elements[p.r()][p.c()];
-  }
-  private boolean isOutOfBounds(Position p) {
-    return p.r() < 0 || p.c() < 0 || p.r() >= elements.length || p.c() >= elements[0].length;
-  }
-
 
   // -----------------------------------------------------------------------------------------------
   // for visualisation:
@@ -95,25 +161,29 @@ public class Contraption {
 
   public final class ContraptionRunner {
 
-    private final Set<Light> knownLights;
-    private Set<Light> runningLights;
+    private final LongHashSet knownLights;
+    private LongHashSet       runningLights;
 
     public ContraptionRunner(Light startingLight) {
-      this.knownLights = new HashSet<>();
-      this.runningLights = new HashSet<>();
-      runningLights.add(startingLight);
+      this.knownLights = new LongHashSet();
+      this.runningLights = new LongHashSet();
+      runningLights.add(startingLight.packed());
     }
 
-    public Set<Light> knownLights() {
-      return knownLights;
+    /**
+     * Passes every light about to become known in the next step to the given action, packed as
+     * by {@link Coordinates#of(int, int, int)}.
+     */
+    public void forEachRunningLight(LongConsumer action) {
+      runningLights.forEach(action);
     }
 
     public int height() {
-      return elements.length;
+      return elements.rows();
     }
 
     public int width() {
-      return elements[0].length;
+      return elements.cols();
     }
 
     public boolean isComplete() {
@@ -121,12 +191,20 @@ public class Contraption {
     }
 
     public void step() {
-      knownLights.addAll(runningLights);
-      runningLights = runningLights.stream()
-          .flatMap(it -> getElement(it.p()).handle(it).stream())
-          .filter(it -> !isOutOfBounds(it.p()))
-          .filter(it -> !knownLights.contains(it))
-          .collect(Collectors.toSet());
+      runningLights.forEach(knownLights::add);
+      final var nextLights = new LongHashSet(runningLights.size() * 2);
+      runningLights.forEach(curr -> {
+        final int r = Coordinates.row(curr);
+        final int c = Coordinates.col(curr);
+        final Element element = Element.parse(elements.get(r, c));
+        for (final Direction d : element.outgoing(DIRECTIONS[Coordinates.tag(curr)])) {
+          final long next = Coordinates.of(r + d.dr, c + d.dc, d.ordinal());
+          if (elements.isInBounds(next) && !knownLights.contains(next)) {
+            nextLights.add(next);
+          }
+        }
+      });
+      runningLights = nextLights;
     }
 
   }
@@ -16,56 +16,36 @@
 
 package hu.aestallon.adventofcode.year2023.day16.internal;
 
-import java.util.List;
+import java.util.Arrays;
+import java.util.function.Function;
 
 enum Element {
 
-  NONE {
-    @Override
-    List<Light> handle(Light light) {
-      return List.of(light.move());
-    }
-  },
-  MIRROR_A { // \
-    @Override
-    List<Light> handle(Light light) {
-      return List.of(switch (light.d()) {
-        case N -> light.copy(Direction.W).move();
-        case E -> light.copy(Direction.S).move();
-        case S -> light.copy(Direction.E).move();
-        case W -> light.copy(Direction.N).move();
-      });
-    }
-  },
-  MIRROR_B { // /
-    @Override
-    List<Light> handle(Light light) {
-      return List.of(switch (light.d()) {
-        case N -> light.copy(Direction.E).move();
-        case E -> light.copy(Direction.N).move();
-        case S -> light.copy(Direction.W).move();
-        case W -> light.copy(Direction.S).move();
-      });
-    }
-  },
-  SPLITTER_H { // -
-    @Override
-    List<Light> handle(Light light) {
-      return switch (light.d()) {
-        case N, S -> List.of(light.copy(Direction.W).move(), light.copy(Direction.E).move());
-        case W, E -> List.of(light.move());
-      };
-    }
-  },
-  SPLITTER_V { // |
-    @Override
-    List<Light> handle(Light light) {
-      return switch (light.d()) {
-        case W, E -> List.of(light.copy(Direction.N).move(), light.copy(Direction.S).move());
-        case N, S -> List.of(light.move());
-      };
-    }
-  };
+  NONE(d -> new Direction[] { d }),
+  MIRROR_A(d -> new Direction[] { // \
+      switch (d) {
+        case N -> Direction.W;
+        case E -> Direction.S;
+        case S -> Direction.E;
+        case W -> Direction.N;
+      }
+  }),
+  MIRROR_B(d -> new Direction[] { // /
+      switch (d) {
+        case N -> Direction.E;
+        case E -> Direction.N;
+        case S -> Direction.W;
+        case W -> Direction.S;
+      }
+  }),
+  SPLITTER_H(d -> switch (d) { // -
+    case N, S -> new Direction[] { Direction.W, Direction.E };
+    case W, E -> new Direction[] { d };
+  }),
+  SPLITTER_V(d -> switch (d) { // |
+    case W, E -> new Direction[] { Direction.N, Direction.S };
+    case N, S -> new Direction[] { d };
+  });
 
   static Element parse(int codePoint) {
     return switch (codePoint) {
@@ -78,6 +58,20 @@ enum Element {
     };
   }
 
-  abstract List<Light> handle(Light light);
+  /** The outgoing directions of light, indexed by the ordinal of its incoming direction. */
+  private final Direction[][] outgoing;
+
+  Element(Function<Direction, Direction[]> handler) {
+    this.outgoing = Arrays.stream(Direction.values()).map(handler).toArray(Direction[][]::new);
+  }
+
+  /**
+   * Returns the directions light entering this element in the given direction leaves in.
+   *
+   * <p>The returned array is shared, and must not be modified.
+   */
+  Direction[] outgoing(Direction incoming) {
+    return outgoing[incoming.ordinal()];
+  }
 
 }
@@ -16,14 +16,13 @@
 
 package hu.aestallon.adventofcode.year2023.day16.internal;
 
-public record Light(Direction d, Position p) {
+import hu.aestallon.adventofcode.year2023.util.Coordinates;
 
-  Light move() {
-    return new Light(d, new Position(p.r() + d.dr, p.c() + d.dc));
-  }
+public record Light(Direction d, Position p) {
 
-  Light copy(Direction d) {
-    return new Light(d, p);
+  /** Returns this light as a packed coordinate, tagged with the ordinal of its direction. */
+  long packed() {
+    return Coordinates.of(p.r(), p.c(), d.ordinal());
   }
 
 }
@@ -17,21 +17,41 @@
 package hu.aestallon.adventofcode.year2023.day16.visualisation;
 
 import hu.aestallon.adventofcode.year2023.day16.internal.Contraption;
+import hu.aestallon.adventofcode.year2023.day16.internal.Direction;
 import hu.aestallon.adventofcode.year2023.day16.internal.Light;
 import hu.aestallon.adventofcode.year2023.day16.internal.Position;
 import hu.aestallon.adventofcode.year2023.util.AocIO;
+import hu.aestallon.adventofcode.year2023.util.Coordinates;
+import hu.aestallon.adventofcode.year2023.visualisation.FrameRenderer;
+import hu.aestallon.adventofcode.year2023.visualisation.FrameSink;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import javax.swing.*;
 import java.awt.*;
+import java.io.IOException;
 import java.util.List;
+import java.util.Optional;
 
+/**
+ * Shows the beams of every starting light spreading through the contraption, one after another.
+ *
+ * <p>Given a {@code --png=<directory>} or a {@code --gif=<file>} argument, the beam entering the
+ * top left corner heading east is rendered into frames without a display instead.
+ */
 final class Demo extends JFrame {
 
+  private static final Logger log = LoggerFactory.getLogger(Demo.class);
+
   public static final int SCALE = 5;
   public static final int SPEED = 10;
   public static final int DELAY = 1_000;
 
+  private static final int DARK  = Color.BLACK.getRGB();
+  private static final int LIGHT = Color.YELLOW.getRGB();
+
   private final ContraptionSimulator simulator;
+  private final FrameRenderer        renderer;
   private final int                  speed;
 
   private Timer   timer;
@@ -39,6 +59,7 @@ final class Demo extends JFrame {
 
   public Demo(ContraptionSimulator simulator, int speed) {
     this.simulator = simulator;
+    this.renderer = simulator.newRenderer();
     this.speed = speed;
     this.simulationComplete = false;
 
@@ -57,8 +78,7 @@ final class Demo extends JFrame {
 
     timer = new Timer(speed, e -> {
       if (!simulationComplete) {
-        simulator.step();
-        canvas.setPs(simulator.positions());
+        simulator.step(renderer);
         canvas.repaint();
 
         if (simulator.isComplete()) {
@@ -67,7 +87,7 @@ final class Demo extends JFrame {
           Timer restartTimer = new Timer(DELAY, e1 -> {
             if (simulator.hasNext()) {
               simulator.next();
-              canvas.clearCoordinates();
+              renderer.fill(DARK);
               canvas.repaint();
               startSimulation();
 
@@ -111,8 +131,8 @@ final class Demo extends JFrame {
       return runners.get(idx).isComplete();
     }
 
-    public void step() {
-      runners.get(idx).step();
+    public void step(FrameRenderer renderer) {
+      Demo.step(runners.get(idx), renderer);
     }
 
     public int height() {
@@ -123,46 +143,67 @@ final class Demo extends JFrame {
       return runners.get(idx).width();
     }
 
-    public java.util.List<Position> positions() {
-      return runners.get(idx).knownLights().stream().map(Light::p).toList();
+    private FrameRenderer newRenderer() {
+      return Demo.newRenderer(runners.get(idx));
     }
   }
 
+  private static FrameRenderer newRenderer(Contraption.ContraptionRunner runner) {
+    final var renderer = new FrameRenderer(runner.height(), runner.width(), SCALE);
+    renderer.fill(DARK);
+    return renderer;
+  }
+
+  /** Steps the beams, painting only the cells they reach in this step. */
+  private static void step(Contraption.ContraptionRunner runner, FrameRenderer renderer) {
+    runner.forEachRunningLight(
+        it -> renderer.paint(Coordinates.row(it), Coordinates.col(it), LIGHT));
+    runner.step();
+  }
+
   private class Canvas extends JPanel {
-    private java.util.List<Position> ps;
 
     public Canvas() {
       setPreferredSize(new Dimension(Demo.this.getWidth(), Demo.this.getHeight()));
     }
 
-    public void setPs(java.util.List<Position> ps) {
-      this.ps = ps;
-    }
-
-    public void clearCoordinates() {
-      this.ps = null;
-    }
-
     @Override
     protected void paintComponent(Graphics g) {
       super.paintComponent(g);
-      g.setColor(Color.BLACK);
-      g.fillRect(0, 0, getWidth(), getHeight());
+      g.drawImage(renderer.image(), 0, 0, null);
+    }
+  }
 
-      if (ps != null) {
-        g.setColor(Color.YELLOW);
-        ps.forEach(it -> g.fillRect(it.c() * SCALE, it.r() * SCALE, SCALE, SCALE));
+  /** Renders a frame of every step of the given beam, and the dark contraption before it. */
+  private static void render(Contraption.ContraptionRunner runner, FrameSink sink)
+      throws IOException {
+    final long start = System.nanoTime();
+    final FrameRenderer renderer = newRenderer(runner);
+    int frames = 0;
+    try (sink) {
+      sink.write(renderer);
+      frames++;
+      while (!runner.isComplete()) {
+        step(runner, renderer);
+        sink.write(renderer);
+        frames++;
       }
     }
+    log.info("Rendered {} frames in {} ms", frames, (System.nanoTime() - start) / 1_000_000);
   }
 
-  public static void main(String[] args) {
+  public static void main(String[] args) throws IOException {
     final var lines = AocIO.lines("16", "input16.txt");
     final var contraption = Contraption.parse(lines);
-    final var simulator = new ContraptionSimulator(contraption);
 
+    final Optional<FrameSink> sink = FrameSink.fromArgs(args);
+    if (sink.isPresent()) {
+      render(contraption.newRunner(new Light(Direction.E, new Position(0, 0))), sink.get());
+      return;
+    }
+
+    final var simulator = new ContraptionSimulator(contraption);
     SwingUtilities.invokeLater(() -> new Demo(simulator, SPEED).setVisible(true));
   }
 
 }
-
@@ -16,6 +16,8 @@
 
 package hu.aestallon.adventofcode.year2023.day18;
 
+import hu.aestallon.adventofcode.year2023.util.Grid;
+
 import java.awt.*;
 import java.util.HashSet;
 import java.util.List;
@@ -24,7 +26,12 @@ import java.util.stream.IntStream;
 
 public final class LavaductLagoon {
 
-  private final Color[][] colours;
+  private static final byte GROUND = '.';
+  private static final byte TRENCH = '#';
+
+  private final Grid  trenches;
+  /** The RGB colour of each trench, indexed like the cells of {@link #trenches}. */
+  private final int[] colours;
 
   public LavaductLagoon(List<String> lines) {
     int r = 0, c = 0;
@@ -42,32 +49,41 @@ public final class LavaductLagoon {
 
     final int maxR = cubes.stream().mapToInt(Cube::r).max().orElse(0);
     final int maxC = cubes.stream().mapToInt(Cube::c).max().orElse(0);
-    colours = new Color[maxR - minR + 1][maxC - minC + 1];
-    cubes.forEach(it -> colours[it.r - minR][it.c - minC] = it.colour);
+    trenches = Grid.filled(maxR - minR + 1, maxC - minC + 1, GROUND);
+    colours = new int[trenches.size()];
+    cubes.forEach(it -> {
+      final int idx = trenches.index(it.r - minR, it.c - minC);
+      trenches.set(idx, TRENCH);
+      colours[idx] = it.colour.getRGB();
+    });
+  }
+
+  public boolean isTrench(int r, int c) {
+    return trenches.get(r, c) == TRENCH;
   }
 
   public boolean inside(int r, int c) {
-    if (r == 0 || c == 0 || r == colours.length - 1 || c == colours[0].length - 1) {
-      return colours[r][c] != null;
+    if (r == 0 || c == 0 || r == trenches.rows() - 1 || c == trenches.cols() - 1) {
+      return isTrench(r, c);
     }
 
-    if (colours[r][c] != null) {
+    if (isTrench(r, c)) {
       return true;
     }
 
     int passages = 0;
     for (int i = 0; i < c; i++) {
-      if (colours[r][i] != null) {
+      if (isTrench(r, i)) {
         int nbCnt = 0;
-        if (i > 0 && colours[r][i - 1] != null) {
+        if (i > 0 && isTrench(r, i - 1)) {
           nbCnt++;
         }
-        if (colours[r][i + 1] != null) {
+        if (isTrench(r, i + 1)) {
           nbCnt++;
         }
         if (nbCnt == 0) {
           passages++;
-        } else if (nbCnt == 1 && colours[r - 1][i] != null) {
+        } else if (nbCnt == 1 && isTrench(r - 1, i)) {
           passages++;
         }
       }
@@ -76,8 +92,8 @@ public final class LavaductLagoon {
   }
 
   long solvePart1() {
-    return IntStream.range(0, colours.length)
-        .mapToLong(r -> IntStream.range(0, colours[r].length)
+    return IntStream.range(0, trenches.rows())
+        .mapToLong(r -> IntStream.range(0, trenches.cols())
             .filter(c -> inside(r, c))
             .count())
         .sum();
@@ -138,15 +154,16 @@ public final class LavaductLagoon {
 
 
   public int width() {
-    return colours[0].length;
+    return trenches.cols();
   }
 
   public int height() {
-    return colours.length;
+    return trenches.rows();
   }
 
-  public Color[][] colours() {
-    return colours;
+  /** Returns the RGB colour of the trench at the given cell, which must be a trench. */
+  public int colour(int r, int c) {
+    return colours[trenches.index(r, c)];
   }
 
 }
@@ -18,24 +18,52 @@ package hu.aestallon.adventofcode.year2023.day18.visualisation;
 
 import hu.aestallon.adventofcode.year2023.day18.LavaductLagoon;
 import hu.aestallon.adventofcode.year2023.util.AocIO;
+import hu.aestallon.adventofcode.year2023.visualisation.FrameRenderer;
+import hu.aestallon.adventofcode.year2023.visualisation.FrameSink;
 
 import javax.swing.*;
 import java.awt.*;
+import java.io.IOException;
+import java.util.Optional;
 
+/**
+ * Shows the dug out lagoon, with the trenches in their colours.
+ *
+ * <p>Given a {@code --png=<directory>} or a {@code --gif=<file>} argument, the lagoon is rendered
+ * into a single frame without a display instead.
+ */
 public class Demo extends JFrame {
 
   public static final int SCALE = 2;
 
-  private final LavaductLagoon lagoon;
+  private final FrameRenderer renderer;
 
   public Demo(LavaductLagoon lagoon) {
-    this.lagoon = lagoon;
+    this.renderer = render(lagoon);
     init();
   }
 
+  /** The lagoon never changes, so it is rendered once, rather than on every repaint. */
+  private static FrameRenderer render(LavaductLagoon lagoon) {
+    final var renderer = new FrameRenderer(lagoon.height(), lagoon.width(), SCALE);
+    final int ground = Color.LIGHT_GRAY.getRGB();
+    final int inside = Color.WHITE.getRGB();
+    renderer.fill(ground);
+    for (int r = 0; r < lagoon.height(); r++) {
+      for (int c = 0; c < lagoon.width(); c++) {
+        if (lagoon.isTrench(r, c)) {
+          renderer.paint(r, c, lagoon.colour(r, c));
+        } else if (lagoon.inside(r, c)) {
+          renderer.paint(r, c, inside);
+        }
+      }
+    }
+    return renderer;
+  }
+
   private void init() {
     setTitle("Lavaduct Lagoon");
-    setSize(lagoon.width() * SCALE, lagoon.height() * SCALE);
+    setSize(renderer.cols() * SCALE, renderer.rows() * SCALE);
     setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
 
     Canvas canvas = new Canvas();
@@ -52,32 +80,22 @@ public class Demo extends JFrame {
     @Override
     protected void paintComponent(Graphics g) {
       super.paintComponent(g);
-      g.setColor(Color.LIGHT_GRAY);
-      g.fillRect(0, 0, getWidth(), getHeight());
-      Color[][] colours = lagoon.colours();
-      for (int r = 0; r < colours.length; r++) {
-        for (int c = 0; c < colours[r].length; c++) {
-          final Color colour = colours[r][c];
-          if (colour == null) {
-            if (lagoon.inside(r, c)) {
-              g.setColor(Color.WHITE);
-            } else {
-              g.setColor(Color.LIGHT_GRAY);
-            }
-          } else {
-            g.setColor(colour);
-          }
-          g.fillRect(c * SCALE, r * SCALE, SCALE, SCALE);
-        }
-      }
+      g.drawImage(renderer.image(), 0, 0, null);
     }
 
   }
 
-  public static void main(String[] args) {
+  public static void main(String[] args) throws IOException {
     final var lines = AocIO.lines("18", "input18.txt");
     final var lagoon = new LavaductLagoon(lines);
 
+    final Optional<FrameSink> sink = FrameSink.fromArgs(args);
+    if (sink.isPresent()) {
+      try (final FrameSink frames = sink.get()) {
+        frames.write(render(lagoon));
+      }
+      return;
+    }
     SwingUtilities.invokeLater(() -> new Demo(lagoon).setVisible(true));
   }
 
@@ -16,19 +16,24 @@
 
 package hu.aestallon.adventofcode.year2023.day19.internal;
 
+import hu.aestallon.adventofcode.year2023.util.Fields;
+
 public record MachinePart(long x, long m, long a, long s) {
 
-  public static MachinePart parse(String s) {
-    final var vals = s.substring(1, s.length() - 1).split(",");
+  public static MachinePart parse(CharSequence s) {
+    final var vals = Fields.of(s, 1, s.length() - 1, ',');
     return new MachinePart(
-        extractLong(vals[0]),
-        extractLong(vals[1]),
-        extractLong(vals[2]),
-        extractLong(vals[3]));
+        extractLong(vals),
+        extractLong(vals),
+        extractLong(vals),
+        extractLong(vals));
   }
 
-  private static long extractLong(final String val) {
-    return Long.parseLong(val.substring(val.indexOf('=') + 1));
+  private static long extractLong(final Fields vals) {
+    if (!vals.next()) {
+      throw new IllegalArgumentException("Machine part is missing a rating!");
+    }
+    return vals.cursor().skipPast('=').nextLong();
   }
 
   public long sum() {
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hu.aestallon.adventofcode.year2023.generator;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.random.RandomGenerator;
+
+/** Generates random hands with bids up to 1000. */
+final class CamelCardsGenerator implements InputGenerator {
+
+  private static final String CARDS = "23456789TJQKA";
+
+  @Override
+  public int day() {
+    return 7;
+  }
+
+  @Override
+  public String sizeUnit() {
+    return "hands";
+  }
+
+  @Override
+  public void generate(long size, RandomGenerator random, Writer out) throws IOException {
+    final char[] hand = new char[5];
+    for (long i = 0; i < size; i++) {
+      for (int c = 0; c < hand.length; c++) {
+        hand[c] = CARDS.charAt(random.nextInt(CARDS.length()));
+      }
+      out.write(hand);
+      out.append(' ').append(Integer.toString(random.nextInt(1, 1001))).append('\n');
+    }
+  }
+
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hu.aestallon.adventofcode.year2023.generator;
+
+import java.util.random.RandomGenerator;
+
+/** Generates an image with galaxies in 2% of the cells, and about 10% of empty rows and columns. */
+final class CosmicExpansionGenerator extends GridGenerator {
+
+  @Override
+  public int day() {
+    return 11;
+  }
+
+  @Override
+  RowFiller rows(int side, RandomGenerator random) {
+    final boolean[] emptyCols = new boolean[side];
+    for (int c = 0; c < side; c++) {
+      emptyCols[c] = random.nextInt(10) == 0;
+    }
+
+    return (row, cells) -> {
+      final boolean emptyRow = random.nextInt(10) == 0;
+      for (int c = 0; c < cells.length; c++) {
+        cells[c] = (!emptyRow && !emptyCols[c] && random.nextInt(50) == 0) ? '#' : '.';
+      }
+    };
+  }
+
+}
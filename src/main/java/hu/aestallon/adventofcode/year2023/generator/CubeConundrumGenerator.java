@@ -0,0 +1,69 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hu.aestallon.adventofcode.year2023.generator;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.random.RandomGenerator;
+
+/** Generates games of one to six samples, each showing up to 20 cubes of some colours. */
+final class CubeConundrumGenerator implements InputGenerator {
+
+  private static final String[] COLOURS = { "red", "green", "blue" };
+
+  @Override
+  public int day() {
+    return 2;
+  }
+
+  @Override
+  public String sizeUnit() {
+    return "games";
+  }
+
+  @Override
+  public void generate(long size, RandomGenerator random, Writer out) throws IOException {
+    final StringBuilder line = new StringBuilder(128);
+    for (long game = 1; game <= size; game++) {
+      line.setLength(0);
+      line.append("Game ").append(game).append(": ");
+      final int samples = random.nextInt(1, 7);
+      for (int s = 0; s < samples; s++) {
+        if (s > 0) {
+          line.append("; ");
+        }
+        // a non-empty subset of the colours, in a random order:
+        final int subset = random.nextInt(1, 8);
+        final int offset = random.nextInt(COLOURS.length);
+        boolean first = true;
+        for (int c = 0; c < COLOURS.length; c++) {
+          final int colour = (c + offset) % COLOURS.length;
+          if ((subset & (1 << colour)) == 0) {
+            continue;
+          }
+          if (!first) {
+            line.append(", ");
+          }
+          line.append(random.nextInt(1, 21)).append(' ').append(COLOURS[colour]);
+          first = false;
+        }
+      }
+      out.append(line).append('\n');
+    }
+  }
+
+}
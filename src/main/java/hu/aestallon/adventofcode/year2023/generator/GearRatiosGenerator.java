@@ -0,0 +1,56 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hu.aestallon.adventofcode.year2023.generator;
+
+import java.util.random.RandomGenerator;
+
+/** Generates an engine schematic of scattered part numbers of up to three digits and symbols. */
+final class GearRatiosGenerator extends GridGenerator {
+
+  private static final String SYMBOLS = "*#+$/@=%&-";
+
+  @Override
+  public int day() {
+    return 3;
+  }
+
+  @Override
+  RowFiller rows(int side, RandomGenerator random) {
+    return (row, cells) -> {
+      int c = 0;
+      while (c < cells.length) {
+        final int roll = random.nextInt(100);
+        if (roll < 10) {
+          // a number, which has to be terminated by something other than a digit:
+          final int digits = Math.min(random.nextInt(1, 4), cells.length - c);
+          cells[c++] = (char) ('1' + random.nextInt(9));
+          for (int d = 1; d < digits; d++) {
+            cells[c++] = (char) ('0' + random.nextInt(10));
+          }
+          if (c < cells.length) {
+            cells[c++] = (random.nextInt(4) == 0) ? pick(SYMBOLS, random) : '.';
+          }
+        } else if (roll < 16) {
+          cells[c++] = (random.nextInt(3) == 0) ? '*' : pick(SYMBOLS, random);
+        } else {
+          cells[c++] = '.';
+        }
+      }
+    };
+  }
+
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hu.aestallon.adventofcode.year2023.generator;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Writes a generated input to disk.
+ *
+ * <p>Usage: {@code <day> <size> [seed] [file]}. The seed defaults to {@value #DEFAULT_SEED}, and
+ * the file to {@code inputNN-<size>-<seed>.txt} in the working directory.
+ */
+public final class Generate {
+
+  private static final Logger log = LoggerFactory.getLogger(Generate.class);
+
+  static final long DEFAULT_SEED = 2023L;
+
+  public static void main(String[] args) throws IOException {
+    if (args.length < 2) {
+      log.error("Usage: <day> <size> [seed] [file]");
+      return;
+    }
+
+    final int day = Integer.parseInt(args[0].trim());
+    final long size = parseSize(args[1]);
+    final long seed = (args.length > 2) ? Long.parseLong(args[2].trim()) : DEFAULT_SEED;
+    final Path file = (args.length > 3)
+        ? Path.of(args[3])
+        : Path.of("input%02d-%d-%d.txt".formatted(day, size, seed));
+
+    final var generator = Generators.forDay(day).orElse(null);
+    if (generator == null) {
+      log.error("No generator exists for day {}", day);
+      return;
+    }
+
+    final long start = System.nanoTime();
+    generator.generate(size, seed, file);
+    log.info(
+        "Generated day {} input of {} {} into {} in {} ms",
+        day, size, generator.sizeUnit(), file, (System.nanoTime() - start) / 1_000_000);
+  }
+
+  /** Parses a size, which may also be given as a power of ten, e.g. {@code 1e6}. */
+  static long parseSize(String s) {
+    final String size = s.trim().replace("_", "");
+    final int e = size.toLowerCase().indexOf('e');
+    if (e < 0) {
+      return Long.parseLong(size);
+    }
+    return Math.multiplyExact(
+        Long.parseLong(size.substring(0, e)),
+        (long) Math.pow(10, Integer.parseInt(size.substring(e + 1))));
+  }
+
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hu.aestallon.adventofcode.year2023.generator;
+
+import java.util.List;
+import java.util.Optional;
+
+/** The input generators of every day. */
+public final class Generators {
+
+  private static final List<InputGenerator> GENERATORS = List.of(
+      new TrebuchetGenerator(),
+      new CubeConundrumGenerator(),
+      new GearRatiosGenerator(),
+      new ScratchcardsGenerator(),
+      new IfYouGiveASeedAFertilizerGenerator(),
+      new WaitForItGenerator(),
+      new CamelCardsGenerator(),
+      new HauntedWastelandGenerator(),
+      new MirageMaintenanceGenerator(),
+      new PipeMazeGenerator(),
+      new CosmicExpansionGenerator(),
+      new HotSpringsGenerator(),
+      new PointOfIncidenceGenerator(),
+      new ParabolicReflectorDishGenerator(),
+      new LensLibraryGenerator(),
+      new TheFloorWillBeLavaGenerator(),
+      new LavaductLagoonGenerator());
+
+  private Generators() {}
+
+  public static List<InputGenerator> all() {
+    return GENERATORS;
+  }
+
+  public static Optional<InputGenerator> forDay(int day) {
+    return GENERATORS.stream().filter(it -> it.day() == day).findFirst();
+  }
+
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hu.aestallon.adventofcode.year2023.generator;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.random.RandomGenerator;
+
+/**
+ * Base of generators producing a square grid, written row by row.
+ *
+ * <p>The size is the number of both rows and columns. As grids are held in a single array by the
+ * solvers, it may not exceed {@value #MAX_SIDE}.
+ */
+abstract class GridGenerator implements InputGenerator {
+
+  static final int MAX_SIDE = 46_340;
+
+  /** Fills the cells of one row of the grid, from top to bottom. */
+  @FunctionalInterface
+  interface RowFiller {
+    void fill(int row, char[] cells);
+  }
+
+  @Override
+  public String sizeUnit() {
+    return "rows and columns";
+  }
+
+  @Override
+  public void generate(long size, RandomGenerator random, Writer out) throws IOException {
+    if (size < minSide() || size > MAX_SIDE) {
+      throw new IllegalArgumentException(
+          "Grid side must be in [" + minSide() + ", " + MAX_SIDE + "], but was " + size);
+    }
+
+    final int side = (int) size;
+    final RowFiller filler = rows(side, random);
+    final char[] cells = new char[side];
+    for (int r = 0; r < side; r++) {
+      filler.fill(r, cells);
+      out.write(cells);
+      out.write('\n');
+    }
+  }
+
+  int minSide() {
+    return 1;
+  }
+
+  /** Prepares the generation of a grid of the given side. */
+  abstract RowFiller rows(int side, RandomGenerator random);
+
+  static char pick(String chars, RandomGenerator random) {
+    return chars.charAt(random.nextInt(chars.length()));
+  }
+
+}
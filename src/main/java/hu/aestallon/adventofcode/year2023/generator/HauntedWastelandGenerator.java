@@ -0,0 +1,116 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hu.aestallon.adventofcode.year2023.generator;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.random.RandomGenerator;
+
+/**
+ * Generates a network of the given number of nodes.
+ *
+ * <p>Like in the original puzzle, the nodes form disjoint rings, each entered from a single node
+ * ending in {@code A}, and containing a single node ending in {@code Z}, whose successor is the
+ * first node of the ring. {@code AAA} and {@code ZZZ} share the first ring. As node names are
+ * three characters long, at most {@value #MAX_NODES} nodes can be generated.
+ */
+final class HauntedWastelandGenerator implements InputGenerator {
+
+  private static final String SYMBOLS   = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+  private static final int    MAX_GHOSTS = 6;
+  private static final int    MAX_NODES  = 36 * 36 * 34 + 2 * MAX_GHOSTS;
+
+  @Override
+  public int day() {
+    return 8;
+  }
+
+  @Override
+  public String sizeUnit() {
+    return "nodes";
+  }
+
+  @Override
+  public void generate(long size, RandomGenerator random, Writer out) throws IOException {
+    if (size < 3 || size > MAX_NODES) {
+      throw new IllegalArgumentException(
+          "Node count must be in [3, " + MAX_NODES + "], but was " + size);
+    }
+
+    final int nodes = (int) size;
+    final int ghosts = Math.min(MAX_GHOSTS, nodes / 3);
+
+    final int turns = random.nextInt(200, 300);
+    for (int i = 0; i < turns; i++) {
+      out.write(random.nextBoolean() ? 'L' : 'R');
+    }
+    out.write("\n\n");
+
+    final List<String> starts = new ArrayList<>();
+    final List<String> ends = new ArrayList<>();
+    final List<String> inner = new ArrayList<>();
+    for (int i = 0; i < 36 * 36; i++) {
+      final String prefix = "" + SYMBOLS.charAt(i / 36) + SYMBOLS.charAt(i % 36);
+      if (!prefix.equals("AA")) {
+        starts.add(prefix + 'A');
+      }
+      if (!prefix.equals("ZZ")) {
+        ends.add(prefix + 'Z');
+      }
+      for (int c = 0; c < SYMBOLS.length(); c++) {
+        final char last = SYMBOLS.charAt(c);
+        if (last != 'A' && last != 'Z') {
+          inner.add(prefix + last);
+        }
+      }
+    }
+    final Random shuffler = new Random(random.nextLong());
+    Collections.shuffle(starts, shuffler);
+    Collections.shuffle(ends, shuffler);
+    Collections.shuffle(inner, shuffler);
+    starts.addFirst("AAA");
+    ends.addFirst("ZZZ");
+
+    final int innerNodes = nodes - 2 * ghosts;
+    int next = 0;
+    for (int ring = 0; ring < ghosts; ring++) {
+      final int ringSize = (ring == ghosts - 1)
+          ? innerNodes - next
+          : innerNodes / ghosts;
+      final String first = inner.get(next);
+      writeNode(out, starts.get(ring), first);
+      for (int i = 0; i < ringSize - 1; i++) {
+        writeNode(out, inner.get(next + i), inner.get(next + i + 1));
+      }
+      writeNode(out, inner.get(next + ringSize - 1), ends.get(ring));
+      writeNode(out, ends.get(ring), first);
+      next += ringSize;
+    }
+  }
+
+  /** Both turns lead to the same successor, so every ring is traversed in the same time. */
+  private static void writeNode(Writer out, String node, String successor) throws IOException {
+    out.append(node).append(" = (")
+        .append(successor).append(", ")
+        .append(successor).append(")\n");
+  }
+
+}
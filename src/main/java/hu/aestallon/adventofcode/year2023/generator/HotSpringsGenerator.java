@@ -0,0 +1,76 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hu.aestallon.adventofcode.year2023.generator;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.random.RandomGenerator;
+
+/**
+ * Generates condition records of 5 to 20 springs.
+ *
+ * <p>Each record is a random arrangement of operational and damaged springs, with some springs
+ * then hidden as unknown, so it always has at least one valid arrangement.
+ */
+final class HotSpringsGenerator implements InputGenerator {
+
+  @Override
+  public int day() {
+    return 12;
+  }
+
+  @Override
+  public String sizeUnit() {
+    return "records";
+  }
+
+  @Override
+  public void generate(long size, RandomGenerator random, Writer out) throws IOException {
+    final StringBuilder springs = new StringBuilder(20);
+    final StringBuilder runs = new StringBuilder(40);
+    for (long i = 0; i < size; i++) {
+      springs.setLength(0);
+      runs.setLength(0);
+
+      final int length = random.nextInt(5, 21);
+      int run = 0;
+      for (int s = 0; s < length; s++) {
+        // the first spring is forced damaged, so there is at least one run:
+        final boolean damaged = (s == 0) || random.nextInt(5) < 2;
+        if (damaged) {
+          run++;
+        } else if (run > 0) {
+          appendRun(runs, run);
+          run = 0;
+        }
+        springs.append((random.nextInt(5) < 2) ? '?' : damaged ? '#' : '.');
+      }
+      if (run > 0) {
+        appendRun(runs, run);
+      }
+      out.append(springs).append(' ').append(runs).append('\n');
+    }
+  }
+
+  private static void appendRun(StringBuilder runs, int run) {
+    if (!runs.isEmpty()) {
+      runs.append(',');
+    }
+    runs.append(run);
+  }
+
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hu.aestallon.adventofcode.year2023.generator;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Generates an almanac of the given number of seed ranges.
+ *
+ * <p>Each of the seven maps cuts {@code [0, 2^32)} into {@value #RANGES_PER_MAP} segments at
+ * random, and maps them onto a random permutation of themselves, so every map is a bijection of
+ * the whole domain just like in the original puzzle.
+ *
+ * <p>The seed ranges cover about a given fraction of the domain in total, however many of them
+ * there are. Part 2 scans the locations upwards until one of them maps back onto a seed, so the
+ * less the seeds cover, the longer that scan walks: were the ranges as long as in the original
+ * puzzle, a thousand of them would cover almost every location, and the scan would stop at once.
+ */
+final class IfYouGiveASeedAFertilizerGenerator implements InputGenerator {
+
+  private static final String[] MAPS = {
+      "seed-to-soil", "soil-to-fertilizer", "fertilizer-to-water", "water-to-light",
+      "light-to-temperature", "temperature-to-humidity", "humidity-to-location" };
+
+  private static final long   DOMAIN           = 1L << 32;
+  private static final int    RANGES_PER_MAP   = 40;
+  private static final double DEFAULT_COVERAGE = 0.01;
+
+  private final double coverage;
+
+  IfYouGiveASeedAFertilizerGenerator() {
+    this(DEFAULT_COVERAGE);
+  }
+
+  /**
+   * @param coverage the fraction of the domain covered by all the seed ranges together, in
+   *                 {@code (0, 1]}
+   */
+  IfYouGiveASeedAFertilizerGenerator(double coverage) {
+    if (!(coverage > 0.0 && coverage <= 1.0)) {
+      throw new IllegalArgumentException("Coverage must be in (0, 1], but was " + coverage);
+    }
+    this.coverage = coverage;
+  }
+
+  @Override
+  public int day() {
+    return 5;
+  }
+
+  @Override
+  public String sizeUnit() {
+    return "seed ranges";
+  }
+
+  @Override
+  public void generate(long size, RandomGenerator random, Writer out) throws IOException {
+    // lengths are uniform up to twice the mean, so they add up to the coverage on average:
+    final long maxLength = Math.max(1L, (long) (2 * coverage * DOMAIN / size));
+    out.write("seeds:");
+    for (long i = 0; i < size; i++) {
+      final long start = random.nextLong(DOMAIN);
+      final long length = random.nextLong(1, Math.min(maxLength, DOMAIN - start) + 1);
+      out.append(' ').append(Long.toString(start)).append(' ').append(Long.toString(length));
+    }
+    out.write('\n');
+
+    for (final String map : MAPS) {
+      out.append('\n').append(map).append(" map:\n");
+
+      final long[] cuts = new long[RANGES_PER_MAP + 1];
+      for (int i = 1; i < RANGES_PER_MAP; i++) {
+        cuts[i] = random.nextLong(1, DOMAIN);
+      }
+      cuts[RANGES_PER_MAP] = DOMAIN;
+      Arrays.sort(cuts);
+
+      final int[] order = permutation(RANGES_PER_MAP, random);
+      long destination = 0L;
+      for (final int segment : order) {
+        final long source = cuts[segment];
+        final long length = cuts[segment + 1] - source;
+        if (length > 0) {
+          out.append(Long.toString(destination)).append(' ')
+              .append(Long.toString(source)).append(' ')
+              .append(Long.toString(length)).append('\n');
+        }
+        destination += length;
+      }
+    }
+  }
+
+  private static int[] permutation(int n, RandomGenerator random) {
+    final int[] res = new int[n];
+    for (int i = 0; i < n; i++) {
+      res[i] = i;
+    }
+    for (int i = n - 1; i > 0; i--) {
+      final int j = random.nextInt(i + 1);
+      final int tmp = res[i];
+      res[i] = res[j];
+      res[j] = tmp;
+    }
+    return res;
+  }
+
+}
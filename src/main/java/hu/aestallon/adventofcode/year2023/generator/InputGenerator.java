@@ -0,0 +1,59 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hu.aestallon.adventofcode.year2023.generator;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Generates valid puzzle inputs of a day at an arbitrary scale.
+ *
+ * <p>The output is written as it is generated, so inputs far larger than the heap can be created.
+ * The same size and seed always produce the same input.
+ */
+public interface InputGenerator {
+
+  int day();
+
+  /** Describes what the size of the generated input counts, e.g. {@code "lines"}. */
+  String sizeUnit();
+
+  void generate(long size, RandomGenerator random, Writer out) throws IOException;
+
+  default void generate(long size, long seed, Path file) throws IOException {
+    if (size <= 0) {
+      throw new IllegalArgumentException("Size must be positive, but was " + size);
+    }
+
+    final Path parent = file.toAbsolutePath().getParent();
+    if (parent != null) {
+      Files.createDirectories(parent);
+    }
+    try (final var out = new BufferedWriter(
+        Files.newBufferedWriter(file, StandardCharsets.ISO_8859_1),
+        1 << 16)) {
+      generate(size, new SplittableRandom(seed), out);
+    }
+  }
+
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hu.aestallon.adventofcode.year2023.generator;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.random.RandomGenerator;
+
+/**
+ * Generates a dig plan of about the given number of instructions.
+ *
+ * <p>The trench is the outline of a histogram: a straight edge on top, and a bottom edge stepping
+ * up and down between columns of random widths, which is always a simple closed loop.
+ */
+final class LavaductLagoonGenerator implements InputGenerator {
+
+  @Override
+  public int day() {
+    return 18;
+  }
+
+  @Override
+  public String sizeUnit() {
+    return "instructions";
+  }
+
+  @Override
+  public void generate(long size, RandomGenerator random, Writer out) throws IOException {
+    final int columns = Math.toIntExact(Math.max(1, (size - 2) / 2));
+    final int[] widths = new int[columns];
+    final int[] heights = new int[columns];
+    long totalWidth = 0L;
+    for (int i = 0; i < columns; i++) {
+      widths[i] = random.nextInt(1, 11);
+      totalWidth += widths[i];
+      do {
+        heights[i] = random.nextInt(1, 21);
+      } while (i > 0 && heights[i] == heights[i - 1]);
+    }
+
+    writeInstruction(out, 'R', totalWidth, random);
+    writeInstruction(out, 'D', heights[columns - 1], random);
+    for (int i = columns - 1; i > 0; i--) {
+      writeInstruction(out, 'L', widths[i], random);
+      final int dHeight = heights[i - 1] - heights[i];
+      writeInstruction(out, (dHeight > 0) ? 'D' : 'U', Math.abs(dHeight), random);
+    }
+    writeInstruction(out, 'L', widths[0], random);
+    writeInstruction(out, 'U', heights[0], random);
+  }
+
+  private static void writeInstruction(Writer out, char direction, long length,
+                                       RandomGenerator random) throws IOException {
+    out.append(direction).append(' ')
+        .append(Long.toString(length)).append(" (#")
+        .append("%06x".formatted(random.nextInt(1 << 24))).append(")\n");
+  }
+
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hu.aestallon.adventofcode.year2023.generator;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.random.RandomGenerator;
+
+/**
+ * Generates an initialisation sequence of the given number of steps.
+ *
+ * <p>Labels are drawn from a pool growing with the square root of the step count, so lenses are
+ * frequently replaced and removed.
+ */
+final class LensLibraryGenerator implements InputGenerator {
+
+  @Override
+  public int day() {
+    return 15;
+  }
+
+  @Override
+  public String sizeUnit() {
+    return "steps";
+  }
+
+  @Override
+  public void generate(long size, RandomGenerator random, Writer out) throws IOException {
+    final int labels = (int) Math.max(26, Math.min(1_000_000, Math.sqrt(size) * 10));
+    final StringBuilder step = new StringBuilder(16);
+    for (long i = 0; i < size; i++) {
+      step.setLength(0);
+      if (i > 0) {
+        step.append(',');
+      }
+      // a label is the base-26 representation of its index in the pool, padded to two letters:
+      final int labelStart = step.length();
+      int label = random.nextInt(labels);
+      do {
+        step.append((char) ('a' + label % 26));
+        label /= 26;
+      } while (label > 0);
+      if (step.length() - labelStart < 2) {
+        step.append('a');
+      }
+
+      if (random.nextInt(4) == 0) {
+        step.append('-');
+      } else {
+        step.append('=').append(random.nextInt(1, 10));
+      }
+      out.append(step);
+    }
+    out.write('\n');
+  }
+
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hu.aestallon.adventofcode.year2023.generator;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.random.RandomGenerator;
+
+/** Generates histories of 21 values, each sampled from a random polynomial of degree up to 6. */
+final class MirageMaintenanceGenerator implements InputGenerator {
+
+  private static final int LENGTH = 21;
+
+  @Override
+  public int day() {
+    return 9;
+  }
+
+  @Override
+  public String sizeUnit() {
+    return "histories";
+  }
+
+  @Override
+  public void generate(long size, RandomGenerator random, Writer out) throws IOException {
+    final long[] coefficients = new long[7];
+    final StringBuilder line = new StringBuilder(256);
+    for (long i = 0; i < size; i++) {
+      final int degree = random.nextInt(coefficients.length);
+      for (int d = 0; d <= degree; d++) {
+        coefficients[d] = random.nextLong(-9, 10);
+      }
+
+      line.setLength(0);
+      for (int x = 0; x < LENGTH; x++) {
+        long value = 0L;
+        for (int d = degree; d >= 0; d--) {
+          value = value * (x - 5) + coefficients[d];
+        }
+        if (x > 0) {
+          line.append(' ');
+        }
+        line.append(value);
+      }
+      out.append(line).append('\n');
+    }
+  }
+
+}
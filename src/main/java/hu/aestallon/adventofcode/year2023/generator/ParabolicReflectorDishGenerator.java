@@ -14,17 +14,25 @@
  * limitations under the License.
  */
 
-package hu.aestallon.adventofcode.year2023.day13.internal;
+package hu.aestallon.adventofcode.year2023.generator;
 
-public enum Material {
+import java.util.random.RandomGenerator;
 
-  ASH, ROCK;
+/** Generates a platform with cube-shaped rocks in 10%, and rounded rocks in 20% of the cells. */
+final class ParabolicReflectorDishGenerator extends GridGenerator {
 
-  public static Material ofCodePoint(final int codePoint) {
-    return switch (codePoint) {
-      case '.' -> ASH;
-      case '#' -> ROCK;
-      default -> throw new IllegalArgumentException((char) codePoint + " is not a Material!");
+  @Override
+  public int day() {
+    return 14;
+  }
+
+  @Override
+  RowFiller rows(int side, RandomGenerator random) {
+    return (row, cells) -> {
+      for (int c = 0; c < cells.length; c++) {
+        final int roll = random.nextInt(10);
+        cells[c] = (roll == 0) ? '#' : (roll < 3) ? 'O' : '.';
+      }
     };
   }
 
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hu.aestallon.adventofcode.year2023.generator;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Generates a maze whose loop is the outline of a histogram, with junk pipes everywhere else.
+ *
+ * <p>The loop runs along the whole top row, starting at the top left corner. Then, from right to
+ * left, it descends to a random depth in each column, stepping between the depths of neighbouring
+ * columns, and finally returns to the start along the leftmost column. Every column is visited by
+ * a single vertical run, so the loop never crosses itself.
+ */
+final class PipeMazeGenerator extends GridGenerator {
+
+  private static final String JUNK = ".|-LJ7F";
+
+  @Override
+  public int day() {
+    return 10;
+  }
+
+  @Override
+  int minSide() {
+    return 3;
+  }
+
+  @Override
+  RowFiller rows(int side, RandomGenerator random) {
+    // depths[c] is the row at which the loop leaves column c towards the left, in [1, side - 1]:
+    final int[] depths = new int[side];
+    depths[side - 1] = random.nextInt(1, side);
+    for (int c = side - 2; c >= 1; c--) {
+      final int step = random.nextInt(-2, 3);
+      depths[c] = Math.clamp(depths[c + 1] + step, 1, side - 1);
+    }
+
+    return (row, cells) -> {
+      for (int c = 0; c < cells.length; c++) {
+        final char symbol = symbolOnLoop(row, c, side, depths);
+        cells[c] = (symbol == 0) ? pick(JUNK, random) : symbol;
+      }
+    };
+  }
+
+  /** Returns the pipe of the loop at the given cell, or {@code 0} if it is not on the loop. */
+  private static char symbolOnLoop(int row, int col, int side, int[] depths) {
+    if (row == 0) {
+      return (col == 0) ? 'S' : (col == side - 1) ? '7' : '-';
+    }
+    if (col == side - 1) {
+      return (row < depths[col]) ? '|' : (row == depths[col]) ? 'J' : 0;
+    }
+    if (col == 0) {
+      return (row < depths[1]) ? '|' : (row == depths[1]) ? 'L' : 0;
+    }
+
+    // the loop enters from the right at the depth of the previous column, and leaves to the left:
+    final int in = depths[col + 1];
+    final int out = depths[col];
+    if (row < Math.min(in, out) || row > Math.max(in, out)) {
+      return 0;
+    }
+    if (in == out) {
+      return '-';
+    }
+    if (row == in) {
+      return (out > in) ? 'F' : 'L';
+    }
+    if (row == out) {
+      return (out > in) ? 'J' : '7';
+    }
+    return '|';
+  }
+
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hu.aestallon.adventofcode.year2023.generator;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.random.RandomGenerator;
+
+/**
+ * Generates patterns of 5 to 17 rows and columns, each having a perfect horizontal or vertical
+ * reflection.
+ */
+final class PointOfIncidenceGenerator implements InputGenerator {
+
+  @Override
+  public int day() {
+    return 13;
+  }
+
+  @Override
+  public String sizeUnit() {
+    return "patterns";
+  }
+
+  @Override
+  public void generate(long size, RandomGenerator random, Writer out) throws IOException {
+    final char[][] pattern = new char[17][17];
+    for (long i = 0; i < size; i++) {
+      final int rows = random.nextInt(5, 18);
+      final int cols = random.nextInt(5, 18);
+      for (int r = 0; r < rows; r++) {
+        for (int c = 0; c < cols; c++) {
+          pattern[r][c] = random.nextBoolean() ? '#' : '.';
+        }
+      }
+
+      if (random.nextBoolean()) {
+        final int line = random.nextInt(1, rows);
+        for (int x = 1; x <= Math.min(line, rows - line); x++) {
+          System.arraycopy(pattern[line - x], 0, pattern[line + x - 1], 0, cols);
+        }
+      } else {
+        final int line = random.nextInt(1, cols);
+        for (int r = 0; r < rows; r++) {
+          for (int x = 1; x <= Math.min(line, cols - line); x++) {
+            pattern[r][line + x - 1] = pattern[r][line - x];
+          }
+        }
+      }
+
+      if (i > 0) {
+        out.write('\n');
+      }
+      for (int r = 0; r < rows; r++) {
+        out.write(pattern[r], 0, cols);
+        out.write('\n');
+      }
+    }
+  }
+
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hu.aestallon.adventofcode.year2023.generator;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.random.RandomGenerator;
+
+/**
+ * Generates cards of 10 winning numbers and 25 numbers held.
+ *
+ * <p>Cards win on average about half a match, so the number of copies won in part 2 stays bounded
+ * no matter how many cards there are.
+ */
+final class ScratchcardsGenerator implements InputGenerator {
+
+  private static final int WINNING = 10;
+  private static final int HELD    = 25;
+
+  @Override
+  public int day() {
+    return 4;
+  }
+
+  @Override
+  public String sizeUnit() {
+    return "cards";
+  }
+
+  @Override
+  public void generate(long size, RandomGenerator random, Writer out) throws IOException {
+    final int[] numbers = new int[99];
+    final StringBuilder line = new StringBuilder(128);
+    for (long card = 1; card <= size; card++) {
+      // a random permutation of 1..99: the first 10 win, the held ones are taken past them
+      for (int i = 0; i < numbers.length; i++) {
+        numbers[i] = i + 1;
+      }
+      for (int i = 0; i < WINNING + HELD; i++) {
+        final int j = random.nextInt(i, numbers.length);
+        final int tmp = numbers[i];
+        numbers[i] = numbers[j];
+        numbers[j] = tmp;
+      }
+
+      final int roll = random.nextInt(100);
+      final int matches = (int) Math.min(
+          (roll < 60) ? 0 : (roll < 90) ? 1 : (roll < 97) ? 2 : 3,
+          size - card);
+
+      line.setLength(0);
+      line.append("Card ").append(String.format("%3d", card)).append(':');
+      for (int i = 0; i < WINNING; i++) {
+        appendNumber(line, numbers[i]);
+      }
+      line.append(" |");
+      for (int i = 0; i < matches; i++) {
+        appendNumber(line, numbers[i]);
+      }
+      for (int i = matches; i < HELD; i++) {
+        appendNumber(line, numbers[WINNING + i]);
+      }
+      out.append(line).append('\n');
+    }
+  }
+
+  private static void appendNumber(StringBuilder line, int number) {
+    line.append((number < 10) ? "  " : " ").append(number);
+  }
+
+}
@@ -14,18 +14,27 @@
  * limitations under the License.
  */
 
-package hu.aestallon.adventofcode.year2023.day11.internal;
+package hu.aestallon.adventofcode.year2023.generator;
 
-public record Position(long x, long y) implements Comparable<Position> {
+import java.util.random.RandomGenerator;
+
+/** Generates a contraption with mirrors and splitters in 10% of the cells. */
+final class TheFloorWillBeLavaGenerator extends GridGenerator {
+
+  private static final String ELEMENTS = "\\/|-";
+
+  @Override
+  public int day() {
+    return 16;
+  }
 
   @Override
-  public int compareTo(Position that) {
-    final long dX = this.x - that.x;
-    if (dX == 0L) {
-      return (int) (this.y - that.y);
-    } else {
-      return (int) dX;
-    }
+  RowFiller rows(int side, RandomGenerator random) {
+    return (row, cells) -> {
+      for (int c = 0; c < cells.length; c++) {
+        cells[c] = (random.nextInt(10) == 0) ? pick(ELEMENTS, random) : '.';
+      }
+    };
   }
 
 }
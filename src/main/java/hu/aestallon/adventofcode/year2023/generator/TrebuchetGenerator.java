@@ -0,0 +1,60 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hu.aestallon.adventofcode.year2023.generator;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.random.RandomGenerator;
+
+/** Generates calibration lines mixing letters, digits and spelled-out digits. */
+final class TrebuchetGenerator implements InputGenerator {
+
+  private static final String[] SPELLED = {
+      "one", "two", "three", "four", "five", "six", "seven", "eight", "nine" };
+  private static final String   LETTERS = "abcdefghijklmnopqrstuvwxyz";
+
+  @Override
+  public int day() {
+    return 1;
+  }
+
+  @Override
+  public String sizeUnit() {
+    return "lines";
+  }
+
+  @Override
+  public void generate(long size, RandomGenerator random, Writer out) throws IOException {
+    final StringBuilder line = new StringBuilder(64);
+    for (long i = 0; i < size; i++) {
+      line.setLength(0);
+      final int tokens = random.nextInt(2, 12);
+      // every line needs at least one digit for part 1:
+      final int digitAt = random.nextInt(tokens);
+      for (int t = 0; t < tokens; t++) {
+        final int kind = (t == digitAt) ? 0 : random.nextInt(4);
+        switch (kind) {
+          case 0 -> line.append((char) ('1' + random.nextInt(9)));
+          case 1 -> line.append(SPELLED[random.nextInt(SPELLED.length)]);
+          default -> line.append(LETTERS.charAt(random.nextInt(LETTERS.length())));
+        }
+      }
+      out.append(line).append('\n');
+    }
+  }
+
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hu.aestallon.adventofcode.year2023.generator;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Generates beatable races whose single part 2 race takes about the given time.
+ *
+ * <p>Part 2 reads the digits of all the races as a single race, which has to fit into a
+ * {@code long}, and has to be squared by the solver. Thus the input cannot grow by the number of
+ * races: instead, the digits of a part 2 race time of the magnitude of the given size are cut into
+ * at least {@value #MIN_RACES} races of 1 to 3 digits each. Sizes of more than
+ * {@value #MAX_DIGITS} digits are rejected.
+ *
+ * <p>Every race distance has fewer than twice as many digits as its time, which keeps the part 2
+ * distance below the best distance of the part 2 race as well.
+ */
+final class WaitForItGenerator implements InputGenerator {
+
+  private static final int MIN_RACES  = 3;
+  private static final int MAX_DIGITS = 9;
+
+  @FunctionalInterface
+  private interface RaceWriter {
+    void write(long time, int digits) throws IOException;
+  }
+
+  @Override
+  public int day() {
+    return 6;
+  }
+
+  @Override
+  public String sizeUnit() {
+    return "race time";
+  }
+
+  @Override
+  public void generate(long size, RandomGenerator random, Writer out) throws IOException {
+    final int digits = Math.max(MIN_RACES, Long.toString(size).length());
+    if (digits > MAX_DIGITS) {
+      throw new IllegalArgumentException(
+          "A race time of " + size + " does not fit the part 2 solver, choose at most "
+          + MAX_DIGITS + " digits!");
+    }
+
+    // the races are generated twice from the same seed, so no race is kept in memory:
+    final long seed = random.nextLong();
+    out.write("Time:    ");
+    races(seed, digits, (time, __) -> out.append(' ').append(Long.toString(time)));
+
+    out.write("\nDistance:");
+    final var distances = new SplittableRandom(random.nextLong());
+    races(seed, digits, (time, timeDigits) -> {
+      final long best = (time / 2) * (time - time / 2);
+      final long bound = Math.min(best, pow10(2 * timeDigits - 1));
+      out.append(' ').append(Long.toString(distances.nextLong(bound)));
+    });
+    out.write('\n');
+  }
+
+  private static void races(long seed, int digits, RaceWriter writer) throws IOException {
+    final var random = new SplittableRandom(seed);
+    int races = 0;
+    for (int remaining = digits; remaining > 0; races++) {
+      final int stillNeeded = Math.max(0, MIN_RACES - 1 - races);
+      final int length = random.nextInt(1, Math.min(3, remaining - stillNeeded) + 1);
+      // no race starts with a zero, so its digits are concatenated as they are written:
+      final long time = (length == 1)
+          ? random.nextLong(2, 10)
+          : random.nextLong(pow10(length - 1), pow10(length));
+      writer.write(time, length);
+      remaining -= length;
+    }
+  }
+
+  private static long pow10(int exponent) {
+    long result = 1L;
+    for (int i = 0; i < exponent; i++) {
+      result *= 10L;
+    }
+    return result;
+  }
+
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package hu.aestallon.adventofcode.year2023.solver;
+
+import hu.aestallon.adventofcode.year2023.util.AocIO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Solves many independent inputs of the same day concurrently, e.g. the inputs of many users.
+ *
+ * <p>Every input is parsed and solved on a virtual thread of its own, by a solver instance of its
+ * own, as solvers are not required to be thread-safe. Inputs are parsed sequentially on their
+ * thread: the cores are kept busy by solving many inputs at once, rather than by splitting each.
+ *
+ * <p>At most a given number of inputs are in flight at a time. Submitting the next input blocks
+ * until one of them is solved, so lazily produced inputs are not all read ahead, and the inputs and
+ * models held at once are bounded by the in-flight limit. The answers are not: they are all kept
+ * until the last input is solved, and are returned in submission order.
+ */
+public final class Batch {
+
+  private static final Logger log = LoggerFactory.getLogger(Batch.class);
+
+  /**
+   * The answers to a single input. A part which is not solved yet has no answer, and an input
+   * which could not be parsed or solved only has its failure, so that a single input cannot lose
+   * the answers to all the others. The failure is an exception, or a {@link StackOverflowError} of
+   * a solver recursing too deep on its input. Any other error leaves the JVM in no state to go on
+   * solving, so it is thrown by the batch instead.
+   */
+  public record Answers(
+      OptionalLong part1,
+      OptionalLong part2,
+      Optional<Throwable> failure) {
+
+    private static Answers failed(Throwable failure) {
+      return new Answers(OptionalLong.empty(), OptionalLong.empty(), Optional.of(failure));
+    }
+
+    public boolean isSolved() {
+      return failure.isEmpty();
+    }
+
+  }
+
+  /**
+   * Creates a batch solving inputs of the given day.
+   *
+   * @throws IllegalArgumentException if no solver exists for the day, or the in-flight limit is
+   *     not positive
+   */
+  public static Batch forDay(int day, int maxInFlight) {
+    if (maxInFlight < 1) {
+      throw new IllegalArgumentException("In-flight limit must be positive: " + maxInFlight);
+    }
+    return Solvers.providers(Set.of(day)).stream()
+        .findFirst()
+        .map(it -> new Batch(day, it::get, maxInFlight))
+        .orElseThrow(() -> new IllegalArgumentException("No solver exists for day " + day));
+  }
+
+  private final int                               day;
+  private final Supplier<? extends Solver<?>> solvers;
+  private final int                          maxInFlight;
+
+  /** Creates a batch solving each input by a new solver of the given supplier. */
+  Batch(int day, Supplier<? extends Solver<?>> solvers, int maxInFlight) {
+    this.day = day;
+    this.solvers = solvers;
+    this.maxInFlight = maxInFlight;
+  }
+
+  /** Solves the input files at the given paths. */
+  public List<Answers> solveFiles(Iterable<Path> inputs) {
+    return solve(inputs, it -> {
+      try (final var lines = AocIO.lines(it)) {
+        return lines.map(CharSequence::toString).toList();
+      }
+    });
+  }
+
+  /** Solves inputs already split into lines. */
+  public List<Answers> solveLines(Iterable<? extends List<String>> inputs) {
+    return solve(inputs, it -> it);
+  }
+
+  private <I> List<Answers> solve(Iterable<I> inputs, Function<I, List<String>> reader) {
+    final var inFlight = new Semaphore(maxInFlight);
+    final List<Future<Answers>> answers = new ArrayList<>();
+    try (final var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (final I input : inputs) {
+        inFlight.acquireUninterruptibly();
+        final int index = answers.size();
+        answers.add(executor.submit(() -> {
+          try {
+            return solve(solvers.get(), reader.apply(input));
+          } catch (Exception | StackOverflowError e) {
+            log.warn("Day {} failed to solve input #{}", day, index, e);
+            return Answers.failed(e);
+          } finally {
+            inFlight.release();
+          }
+        }));
+      }
+    }
+    // closing the executor waited for every input to be solved:
+    return answers.stream().map(Batch::answersOf).toList();
+  }
+
+  private static Answers answersOf(Future<Answers> answers) {
+    if (answers.state() == Future.State.FAILED) {
+      // only the errors not caught above may escape the solving of an input:
+      throw (Error) answers.exceptionNow();
+    }
+    return answers.resultNow();
+  }
+
+  private static <M> Answers solve(Solver<M> solver, List<String> lines) {
+    final M model = solver.parse(lines);
+    return new Answers(
+        OptionalLong.of(solver.solvePart1(model)),
+        solver.hasPart2() ? OptionalLong.of(solver.solvePart2(model)) : OptionalLong.empty(),
+        Optional.empty());
+  }
+
+}
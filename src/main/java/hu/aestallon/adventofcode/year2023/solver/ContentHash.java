@@ -0,0 +1,125 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hu.aestallon.adventofcode.year2023.solver;
+
+import hu.aestallon.adventofcode.year2023.util.MappedInput;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.List;
+
+/**
+ * A fast, non-cryptographic 64-bit hash of textual content.
+ *
+ * <p>Characters are packed four at a time, or raw bytes eight at a time into a {@code long} and
+ * folded in with a multiply-rotate step, followed by a final avalanche, so every input bit affects
+ * every output bit.
+ */
+final class ContentHash {
+
+  private static final long SEED = 0x9E3779B97F4A7C15L;
+  private static final long K1   = 0xC2B2AE3D27D4EB4FL;
+  private static final long K2   = 0x165667B19E3779F9L;
+
+  private long hash   = SEED;
+  private long acc    = 0L;
+  private int  bits   = 0;
+  private long length = 0L;
+
+  private ContentHash() {}
+
+  /** Hashes the given lines, each terminated by a {@code \n}. */
+  static long of(List<? extends CharSequence> lines) {
+    final var h = new ContentHash();
+    for (final CharSequence line : lines) {
+      h.append(line);
+      h.append('\n');
+    }
+    return h.finish();
+  }
+
+  /**
+   * Hashes the raw bytes of the given input, without splitting it into lines, thus its line
+   * terminators are part of the hash.
+   */
+  static long of(MappedInput input) {
+    final var h = new ContentHash();
+    for (final ByteBuffer region : input.regions()) {
+      h.append(region.order(ByteOrder.BIG_ENDIAN));
+    }
+    return h.finish();
+  }
+
+  static long of(CharSequence s) {
+    final var h = new ContentHash();
+    h.append(s);
+    return h.finish();
+  }
+
+  private void append(CharSequence s) {
+    for (int i = 0, n = s.length(); i < n; i++) {
+      append(s.charAt(i));
+    }
+  }
+
+  private void append(char c) {
+    append(c, Character.SIZE);
+  }
+
+  private void append(ByteBuffer bytes) {
+    int i = bytes.position();
+    final int end = bytes.limit();
+    for (; i < end && bits > 0; i++) {
+      append(bytes.get(i) & 0xFF, Byte.SIZE);
+    }
+    // whole words, which equal the bytes appended one by one, as they are read big-endian:
+    for (; i + Long.BYTES <= end; i += Long.BYTES) {
+      acc = bytes.getLong(i);
+      length += Long.BYTES;
+      fold();
+    }
+    for (; i < end; i++) {
+      append(bytes.get(i) & 0xFF, Byte.SIZE);
+    }
+  }
+
+  private void append(int value, int width) {
+    acc = (acc << width) | value;
+    length++;
+    bits += width;
+    if (bits == Long.SIZE) {
+      fold();
+    }
+  }
+
+  private void fold() {
+    hash = Long.rotateLeft(hash ^ (acc * K1), 31) * K2;
+    acc = 0L;
+    bits = 0;
+  }
+
+  private long finish() {
+    if (bits > 0) {
+      fold();
+    }
+    long h = hash ^ length;
+    h = (h ^ (h >>> 33)) * 0xFF51AFD7ED558CCDL;
+    h = (h ^ (h >>> 33)) * 0xC4CEB9FE1A85EC53L;
+    return h ^ (h >>> 33);
+  }
+
+}
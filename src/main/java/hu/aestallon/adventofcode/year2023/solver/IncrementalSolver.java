@@ -0,0 +1,44 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hu.aestallon.adventofcode.year2023.solver;
+
+/**
+ * Solves one part of a puzzle whose input is only ever appended to, keeping the answer up to date
+ * with every new line instead of solving the whole input again.
+ *
+ * @see Solver#incremental(int)
+ */
+public interface IncrementalSolver {
+
+  /**
+   * Accepts the next line of the input.
+   *
+   * @throws IllegalArgumentException if the line cannot be parsed
+   */
+  void accept(CharSequence line);
+
+  /** Returns the answer to the lines accepted so far. */
+  long currentAnswer();
+
+  default IncrementalSolver acceptAll(Iterable<? extends CharSequence> lines) {
+    for (final CharSequence line : lines) {
+      accept(line);
+    }
+    return this;
+  }
+
+}
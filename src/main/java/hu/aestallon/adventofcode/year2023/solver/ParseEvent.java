@@ -0,0 +1,58 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hu.aestallon.adventofcode.year2023.solver;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.util.function.Supplier;
+
+/** Flight Recorder event spanning the parsing of a day's input into its model. */
+@Name("hu.aestallon.adventofcode.Parse")
+@Label("Parse")
+@Category({ "Advent of Code", "Phases" })
+@Description("Parsing the puzzle input of a day")
+@StackTrace(false)
+final class ParseEvent extends jdk.jfr.Event {
+
+  @Label("Day")
+  int day;
+
+  @Label("Input Size")
+  @DataAmount
+  long inputSize;
+
+  static <T> T record(int day, long inputSize, Supplier<T> parse) {
+    final var event = new ParseEvent();
+    event.begin();
+    try {
+      return parse.get();
+    } finally {
+      event.end();
+      if (event.shouldCommit()) {
+        event.day = day;
+        event.inputSize = inputSize;
+        event.commit();
+      }
+    }
+  }
+
+}
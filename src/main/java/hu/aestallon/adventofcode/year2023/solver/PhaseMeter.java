@@ -0,0 +1,62 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hu.aestallon.adventofcode.year2023.solver;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Measures the wall time, CPU time and heap allocation of consecutive phases executed on the
+ * current thread.
+ *
+ * <p>CPU time and allocation are tracked per thread, thus work a phase hands off to other threads
+ * is not accounted for.
+ */
+final class PhaseMeter {
+
+  private static final com.sun.management.ThreadMXBean THREADS =
+      (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+  record Phase(String name, long wallNanos, long cpuNanos, long allocatedBytes) {}
+
+  private final List<Phase> phases = new ArrayList<>();
+
+  <T> T measure(String name, Supplier<T> phase) {
+    final long allocated = THREADS.getCurrentThreadAllocatedBytes();
+    final long cpu = THREADS.getCurrentThreadCpuTime();
+    final long wall = System.nanoTime();
+
+    try {
+      return phase.get();
+    } finally {
+      // a failed phase is measured too, so it can be reported:
+      phases.add(new Phase(
+          name,
+          System.nanoTime() - wall,
+          THREADS.getCurrentThreadCpuTime() - cpu,
+          THREADS.getCurrentThreadAllocatedBytes() - allocated));
+    }
+  }
+
+  List<Phase> phases() {
+    return Collections.unmodifiableList(phases);
+  }
+
+}
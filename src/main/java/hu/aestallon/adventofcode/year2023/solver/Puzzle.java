@@ -14,19 +14,22 @@
  * limitations under the License.
  */
 
-package hu.aestallon.adventofcode.year2023.day11.internal;
+package hu.aestallon.adventofcode.year2023.solver;
 
-public record Galaxy(Position position) implements Comparable<Galaxy> {
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
 
-  @Override
-  public int compareTo(Galaxy that) {
-    return this.position.compareTo(that.position);
-  }
+/** Identifies the day a {@link Solver} implementation belongs to. */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Puzzle {
 
-  public long distanceTo(Galaxy that) {
-    final long dX = this.position.x() - that.position.x();
-    final long dY = this.position.y() - that.position.y();
-    return Math.abs(dX) + Math.abs(dY);
-  }
+  int day();
+
+  String title();
 
 }
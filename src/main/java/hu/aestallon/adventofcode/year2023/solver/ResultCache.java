@@ -0,0 +1,238 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hu.aestallon.adventofcode.year2023.solver;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
+
+/**
+ * A persistent store of the answers of solvers, keyed by the content of the input they were given.
+ *
+ * <p>Every answer is stored in a file of its own, named after the hash of its {@link Key}, which
+ * is also written into the file to rule out hash collisions. A lookup refreshes the modification
+ * time of the file, and whenever the store grows beyond its size bound, the least recently used
+ * answers are evicted.
+ *
+ * <p>The size of the store is counted as answers are put into it, thus the directory is only
+ * listed once to initialise the count, and again whenever the count crosses the bound.
+ */
+final class ResultCache {
+
+  private static final Logger log = LoggerFactory.getLogger(ResultCache.class);
+
+  static final long DEFAULT_MAX_BYTES = 1L << 20;
+
+  private static final String SUFFIX = ".answer";
+
+  /** Returns a cache which never holds any answer. */
+  static ResultCache disabled() {
+    return new ResultCache(null, 0L);
+  }
+
+  static Path defaultDirectory() {
+    return Path.of(System.getProperty("user.home"), ".cache", "advent-of-code-2023");
+  }
+
+  record Key(int day, int part, String version, String parameters, long inputHash) {
+
+    private String asString() {
+      return "%d|%d|%s|%s|%016x".formatted(day, part, version, parameters, inputHash);
+    }
+
+    private String fileName() {
+      return "%016x%s".formatted(ContentHash.of(asString()), SUFFIX);
+    }
+
+  }
+
+  private final Path directory;
+  private final long maxBytes;
+  /** The total size of the stored answers, or {@code -1} until the directory is first listed. */
+  private long       storedBytes = -1L;
+
+  ResultCache(Path directory, long maxBytes) {
+    this.directory = directory;
+    this.maxBytes = maxBytes;
+  }
+
+  boolean isEnabled() {
+    return directory != null;
+  }
+
+  /**
+   * Looks up the answers of both parts of the given solver to the input of the given
+   * {@link ContentHash}.
+   */
+  Lookup lookup(int day, Solver<?> solver, long inputHash) {
+    if (!isEnabled()) {
+      return new Lookup(day, solver, 0L);
+    }
+
+    final var lookup = new Lookup(day, solver, inputHash);
+    for (int part = 1; part <= 2; part++) {
+      final Key key = lookup.key(part);
+      final Long answer = get(key);
+      if (answer != null) {
+        lookup.answers.put(part, answer);
+      }
+    }
+    return lookup;
+  }
+
+  private Long get(Key key) {
+    final Path file = directory.resolve(key.fileName());
+    try {
+      final List<String> content = Files.readAllLines(file);
+      if (content.size() != 2 || !content.getFirst().equals(key.asString())) {
+        return null;
+      }
+
+      Files.setLastModifiedTime(file, FileTime.from(Instant.now()));
+      return Long.parseLong(content.getLast());
+    } catch (NoSuchFileException e) {
+      return null;
+    } catch (IOException | NumberFormatException e) {
+      log.warn("Cannot read cached answer {}", file, e);
+      return null;
+    }
+  }
+
+  private synchronized void put(Key key, long answer) {
+    try {
+      Files.createDirectories(directory);
+      if (storedBytes < 0L) {
+        storedBytes = entries().stream().mapToLong(Entry::size).sum();
+      }
+
+      final Path file = directory.resolve(key.fileName());
+      final long replaced = sizeOf(file);
+      final Path tmp = Files.createTempFile(directory, "answer", ".tmp");
+      Files.writeString(tmp, key.asString() + "\n" + answer + "\n");
+      final long written = Files.size(tmp);
+      Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+      storedBytes += written - replaced;
+      if (storedBytes > maxBytes) {
+        storedBytes = evict();
+      }
+    } catch (IOException e) {
+      log.warn("Cannot cache answer of {}", key, e);
+    }
+  }
+
+  private static long sizeOf(Path file) throws IOException {
+    try {
+      return Files.size(file);
+    } catch (NoSuchFileException e) {
+      return 0L;
+    }
+  }
+
+  private record Entry(Path file, long size, FileTime lastUsed) {}
+
+  private List<Entry> entries() throws IOException {
+    final List<Entry> entries = new ArrayList<>();
+    try (final Stream<Path> files = Files.list(directory)) {
+      for (final Path file : (Iterable<Path>) files::iterator) {
+        if (!file.getFileName().toString().endsWith(SUFFIX)) {
+          continue;
+        }
+        try {
+          final var attrs = Files.readAttributes(file, BasicFileAttributes.class);
+          entries.add(new Entry(file, attrs.size(), attrs.lastModifiedTime()));
+        } catch (NoSuchFileException e) {
+          // evicted concurrently
+        }
+      }
+    }
+    return entries;
+  }
+
+  /** Evicts the least recently used answers beyond the size bound, and returns the size left. */
+  private long evict() throws IOException {
+    final List<Entry> entries = entries();
+    long total = entries.stream().mapToLong(Entry::size).sum();
+    if (total <= maxBytes) {
+      return total;
+    }
+
+    entries.sort(Comparator.comparing(Entry::lastUsed));
+    for (final Entry entry : entries) {
+      if (total <= maxBytes) {
+        break;
+      }
+      Files.deleteIfExists(entry.file);
+      total -= entry.size;
+    }
+    return total;
+  }
+
+  /** The cached answers of a solver to one input. */
+  final class Lookup {
+
+    private final int                day;
+    private final Solver<?>          solver;
+    private final long               inputHash;
+    private final Map<Integer, Long> answers = new HashMap<>();
+
+    private Lookup(int day, Solver<?> solver, long inputHash) {
+      this.day = day;
+      this.solver = solver;
+      this.inputHash = inputHash;
+    }
+
+    private Key key(int part) {
+      return new Key(day, part, solver.version(), solver.parameters(), inputHash);
+    }
+
+    boolean contains(int part) {
+      return answers.containsKey(part);
+    }
+
+    /** Returns the cached answer of the given part, solving and caching it if there is none. */
+    long getOrSolve(int part, LongSupplier solve) {
+      final Long cached = answers.get(part);
+      if (cached != null) {
+        return cached;
+      }
+
+      final long answer = solve.getAsLong();
+      if (isEnabled()) {
+        put(key(part), answer);
+      }
+      return answer;
+    }
+
+  }
+
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hu.aestallon.adventofcode.year2023.solver;
+
+import hu.aestallon.adventofcode.year2023.util.AocIO;
+import hu.aestallon.adventofcode.year2023.util.MappedInput;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+/**
+ * Runs the solvers of the selected days concurrently on a fork-join pool, and prints the time and
+ * memory spent in each phase.
+ *
+ * <p>Days are given as arguments, either one by one or as inclusive ranges, e.g.
+ * {@code 1 3 5-9}. Without arguments, every available day is run.
+ *
+ * <p>With the {@code --cache} option, answers are cached in a {@link ResultCache} in the user's
+ * cache directory, or in the directory given as {@code --cache=<dir>}. Parts with a cached answer
+ * to the same input are not solved again, and if both are cached, the input is not even parsed.
+ *
+ * <p>With the {@code --snapshot} option, the parsed models of solvers providing a
+ * {@link SnapshotCodec} are stored in a {@link SnapshotStore} in the user's cache directory, or in
+ * the directory given as {@code --snapshot=<dir>}. Re-running the same input loads the model from
+ * its snapshot instead of parsing the input again.
+ *
+ * <p>When running under Flight Recorder, every parse and solve phase is recorded as a
+ * {@link ParseEvent} or {@link SolveEvent} respectively.
+ */
+public final class Runner {
+
+  private static final Logger log = LoggerFactory.getLogger(Runner.class);
+
+  private static final String ROW_FORMAT = "%-5s %-7s %20s %12s %12s %14s%n";
+
+  record Report(Puzzle puzzle, List<PhaseMeter.Phase> phases, Map<String, String> answers) {
+    long wallNanos() {
+      return phases.stream().mapToLong(PhaseMeter.Phase::wallNanos).sum();
+    }
+  }
+
+  private static final String CACHE_OPTION    = "--cache";
+  private static final String SNAPSHOT_OPTION = "--snapshot";
+
+  public static void main(String[] args) {
+    final ResultCache cache = parseCache(args);
+    final SnapshotStore snapshots = parseSnapshots(args);
+    final String[] days = Arrays.stream(args)
+        .filter(it -> !it.startsWith("--"))
+        .toArray(String[]::new);
+    final List<ServiceLoader.Provider<Solver<?>>> providers = Solvers.providers(parseDays(days));
+    if (providers.isEmpty()) {
+      log.error("No solvers found for days {}", List.of(args));
+      return;
+    }
+
+    final List<Report> reports;
+    try (final var pool = new ForkJoinPool()) {
+      final List<ForkJoinTask<Report>> tasks = providers.stream()
+          .map(it -> pool.submit(() -> run(Solvers.puzzleOf(it), it.get(), cache, snapshots)))
+          .toList();
+      reports = tasks.stream().map(ForkJoinTask::join).toList();
+    }
+
+    print(reports);
+  }
+
+  static ResultCache parseCache(String... args) {
+    return directoryOption(CACHE_OPTION, ResultCache.defaultDirectory(), args)
+        .map(it -> new ResultCache(it, ResultCache.DEFAULT_MAX_BYTES))
+        .orElseGet(ResultCache::disabled);
+  }
+
+  static SnapshotStore parseSnapshots(String... args) {
+    return directoryOption(SNAPSHOT_OPTION, SnapshotStore.defaultDirectory(), args)
+        .map(SnapshotStore::new)
+        .orElseGet(SnapshotStore::disabled);
+  }
+
+  /** Returns the directory given as {@code <option>=<dir>}, or the default for a bare option. */
+  private static Optional<Path> directoryOption(String option, Path defaultDir, String... args) {
+    return Arrays.stream(args)
+        .filter(it -> it.equals(option) || it.startsWith(option + "="))
+        .reduce((a, b) -> b)
+        .map(it -> it.equals(option) ? defaultDir : Path.of(it.substring(option.length() + 1)));
+  }
+
+  static Set<Integer> parseDays(String... args) {
+    final Set<Integer> days = new TreeSet<>();
+    for (final String arg : args) {
+      final int rangeDelimiter = arg.indexOf('-');
+      if (rangeDelimiter < 0) {
+        days.add(Integer.parseInt(arg.trim()));
+      } else {
+        final int from = Integer.parseInt(arg.substring(0, rangeDelimiter).trim());
+        final int to = Integer.parseInt(arg.substring(rangeDelimiter + 1).trim());
+        IntStream.rangeClosed(from, to).forEach(days::add);
+      }
+    }
+    return days;
+  }
+
+  private static <M> Report run(
+      Puzzle puzzle,
+      Solver<M> solver,
+      ResultCache cache,
+      SnapshotStore snapshots) {
+    final var meter = new PhaseMeter();
+    final int day = puzzle.day();
+    final ResultCache.Lookup cached;
+    final M model;
+    final long inputSize;
+    try {
+      final MappedInput input = meter.measure("read", () -> read(day));
+      inputSize = input.size();
+      // the raw bytes are hashed, so a fully cached run never splits the input into lines:
+      final long inputHash = (cache.isEnabled() || snapshots.isEnabled())
+          ? meter.measure("hash", () -> ContentHash.of(input))
+          : 0L;
+      cached = cache.isEnabled()
+          ? meter.measure("cache", () -> cache.lookup(day, solver, inputHash))
+          : cache.lookup(day, solver, inputHash);
+      model = (cached.contains(1) && (cached.contains(2) || !solver.hasPart2()))
+          ? null
+          : meter.measure("parse", () -> ParseEvent.record(
+              day,
+              inputSize,
+              () -> snapshots.loadOrParse(day, solver, inputHash, () -> solver.parse(input))));
+    } catch (RuntimeException e) {
+      log.error("Day {} failed!", day, e);
+      // the failed phase is the last one measured:
+      return new Report(puzzle, meter.phases(), Map.of(meter.phases().getLast().name(), "error"));
+    }
+
+    final String part1 = meter.measure("part 1", answer(puzzle, () -> cached.getOrSolve(
+        1,
+        () -> SolveEvent.record(day, 1, inputSize, () -> solver.solvePart1(model)))));
+    final String part2 = meter.measure("part 2", !solver.hasPart2()
+        ? () -> "n/a"
+        : answer(puzzle, () -> cached.getOrSolve(
+            2,
+            () -> SolveEvent.record(day, 2, inputSize, () -> solver.solvePart2(model)))));
+    return new Report(puzzle, meter.phases(), Map.of("part 1", part1, "part 2", part2));
+  }
+
+  private static MappedInput read(int day) {
+    try {
+      return AocIO.map(Solvers.inputOf(day));
+    } catch (IOException e) {
+      throw new UncheckedIOException("Cannot read the input of day " + day, e);
+    }
+  }
+
+  private static Supplier<String> answer(Puzzle puzzle, LongSupplier part) {
+    return () -> {
+      try {
+        return String.valueOf(part.getAsLong());
+      } catch (RuntimeException e) {
+        log.error("Day {} failed!", puzzle.day(), e);
+        return "error";
+      }
+    };
+  }
+
+  private static void print(List<Report> reports) {
+    System.out.printf(ROW_FORMAT, "Day", "Phase", "Result", "Wall [ms]", "CPU [ms]", "Alloc [KiB]");
+    for (final Report report : reports) {
+      System.out.printf("%n%02d - %s%n", report.puzzle.day(), report.puzzle.title());
+      for (final PhaseMeter.Phase phase : report.phases) {
+        System.out.printf(
+            ROW_FORMAT,
+            "",
+            phase.name(),
+            report.answers.getOrDefault(phase.name(), ""),
+            "%.3f".formatted(phase.wallNanos() / 1e6),
+            "%.3f".formatted(phase.cpuNanos() / 1e6),
+            phase.allocatedBytes() / 1024);
+      }
+    }
+
+    System.out.printf("%nSlowest days:%n");
+    reports.stream()
+        .sorted(Comparator.comparingLong(Report::wallNanos).reversed())
+        .forEach(it -> System.out.printf(
+            "%02d %-35s %12.3f ms%n",
+            it.puzzle.day(),
+            it.puzzle.title(),
+            it.wallNanos() / 1e6));
+  }
+
+}
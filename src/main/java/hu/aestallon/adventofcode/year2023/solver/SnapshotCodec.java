@@ -0,0 +1,44 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hu.aestallon.adventofcode.year2023.solver;
+
+import hu.aestallon.adventofcode.year2023.util.Snapshot;
+
+/**
+ * Converts the parsed model of a solver to and from a {@link Snapshot}, so it can be loaded again
+ * without parsing its input.
+ *
+ * @param <M> the type of the parsed puzzle model
+ */
+public interface SnapshotCodec<M> {
+
+  /**
+   * Names the model and the layout of its sections, e.g. {@code "day05.Almanac/1"}. It has to be
+   * changed whenever {@link #write(Object, Snapshot.Writer)} changes what it writes.
+   */
+  String schema();
+
+  void write(M model, Snapshot.Writer out);
+
+  /**
+   * Reads a model written by {@link #write(Object, Snapshot.Writer)}.
+   *
+   * @throws IllegalStateException if the sections do not hold such a model
+   */
+  M read(Snapshot.Reader in);
+
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hu.aestallon.adventofcode.year2023.solver;
+
+import hu.aestallon.adventofcode.year2023.util.Snapshot;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.function.Supplier;
+
+/**
+ * A persistent store of parsed puzzle models, keyed by the content of the input they were parsed
+ * from.
+ *
+ * <p>Every model is stored as a {@link Snapshot} named after the hash of the day, the version and
+ * parameters of its solver, the schema of its codec and the hash of its input. Snapshots which
+ * cannot be read for any reason are ignored, and the input is parsed again instead.
+ */
+final class SnapshotStore {
+
+  private static final Logger log = LoggerFactory.getLogger(SnapshotStore.class);
+
+  private static final String SUFFIX = ".snapshot";
+
+  /** Returns a store which never holds any snapshot. */
+  static SnapshotStore disabled() {
+    return new SnapshotStore(null);
+  }
+
+  static Path defaultDirectory() {
+    return ResultCache.defaultDirectory().resolve("snapshots");
+  }
+
+  private final Path directory;
+
+  SnapshotStore(Path directory) {
+    this.directory = directory;
+  }
+
+  boolean isEnabled() {
+    return directory != null;
+  }
+
+  /**
+   * Returns the model of the input of the given {@link ContentHash}, loading it from its snapshot
+   * if there is one, or parsing it and storing its snapshot otherwise.
+   */
+  <M> M loadOrParse(int day, Solver<M> solver, long inputHash, Supplier<M> parse) {
+    if (!isEnabled() || solver.snapshotCodec().isEmpty()) {
+      return parse.get();
+    }
+
+    final SnapshotCodec<M> codec = solver.snapshotCodec().get();
+    final Path file = directory.resolve(fileName(day, solver, codec, inputHash));
+    try {
+      final Snapshot.Reader in = Snapshot.Reader.map(file, codec.schema());
+      final M model = codec.read(in);
+      if (!in.isExhausted()) {
+        throw new IllegalStateException(file + " holds more than a model!");
+      }
+      log.debug("Loaded day {} from [ {} ]", day, file);
+      return model;
+    } catch (NoSuchFileException e) {
+      log.debug("No snapshot of day {} at [ {} ]", day, file);
+    } catch (IOException | RuntimeException e) {
+      log.warn("Cannot load snapshot {}", file, e);
+    }
+
+    final M model = parse.get();
+    try {
+      final var out = new Snapshot.Writer(codec.schema());
+      codec.write(model, out);
+      out.writeTo(file);
+    } catch (IOException e) {
+      log.warn("Cannot store snapshot of day {}", day, e);
+    }
+    return model;
+  }
+
+  private static String fileName(int day, Solver<?> solver, SnapshotCodec<?> codec, long input) {
+    final String key = "%d|%s|%s|%s|%016x".formatted(
+        day, solver.version(), solver.parameters(), codec.schema(), input);
+    return "%016x%s".formatted(ContentHash.of(key), SUFFIX);
+  }
+
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hu.aestallon.adventofcode.year2023.solver;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.util.function.LongSupplier;
+
+/** Flight Recorder event spanning the solution of one part of a day's puzzle. */
+@Name("hu.aestallon.adventofcode.Solve")
+@Label("Solve")
+@Category({ "Advent of Code", "Phases" })
+@Description("Solving one part of the puzzle of a day")
+@StackTrace(false)
+final class SolveEvent extends jdk.jfr.Event {
+
+  @Label("Day")
+  int day;
+
+  @Label("Part")
+  int part;
+
+  @Label("Input Size")
+  @DataAmount
+  long inputSize;
+
+  static long record(int day, int part, long inputSize, LongSupplier solve) {
+    final var event = new SolveEvent();
+    event.begin();
+    try {
+      return solve.getAsLong();
+    } finally {
+      event.end();
+      if (event.shouldCommit()) {
+        event.day = day;
+        event.part = part;
+        event.inputSize = inputSize;
+        event.commit();
+      }
+    }
+  }
+
+}
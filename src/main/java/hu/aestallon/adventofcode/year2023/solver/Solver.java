@@ -0,0 +1,88 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hu.aestallon.adventofcode.year2023.solver;
+
+import hu.aestallon.adventofcode.year2023.util.MappedInput;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A solution of a single day, split into its parse and solve phases.
+ *
+ * <p>Implementations are discovered through {@link java.util.ServiceLoader}, and must be annotated
+ * with {@link Puzzle} so they can be selected by day without being instantiated.
+ *
+ * @param <M> the type of the parsed puzzle model shared by both parts
+ */
+public interface Solver<M> {
+
+  M parse(List<String> lines);
+
+  /**
+   * Parses the puzzle model straight from a memory-mapped input.
+   *
+   * <p>By default, the lines are copied into a list first. Solutions treating every line
+   * independently should override this to process {@link MappedInput#parallelLines()} instead.
+   */
+  default M parse(MappedInput input) {
+    return parse(input.lines().map(CharSequence::toString).toList());
+  }
+
+  long solvePart1(M model);
+
+  /** Solves the second part of the puzzle. Only called if {@link #hasPart2()}. */
+  long solvePart2(M model);
+
+  /** Tells whether the second part of the puzzle is solved yet. */
+  default boolean hasPart2() {
+    return true;
+  }
+
+  /**
+   * Returns a solver of the given part, which keeps its answer up to date as lines are appended to
+   * the input, if the part can be solved incrementally.
+   */
+  default Optional<IncrementalSolver> incremental(int part) {
+    return Optional.empty();
+  }
+
+  /**
+   * Returns the codec of the parsed model, if it can be stored as a snapshot and loaded again
+   * without parsing the input.
+   */
+  default Optional<SnapshotCodec<M>> snapshotCodec() {
+    return Optional.empty();
+  }
+
+  /**
+   * Identifies the revision of this solution. Cached answers are only reused by a solver of the
+   * same version, so it has to be changed whenever the answers it yields may change.
+   */
+  default String version() {
+    return "1";
+  }
+
+  /**
+   * Describes the parameters this solver uses besides its input, if any, so answers calculated
+   * with different parameters are never mixed up.
+   */
+  default String parameters() {
+    return "";
+  }
+
+}
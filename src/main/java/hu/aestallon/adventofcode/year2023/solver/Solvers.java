@@ -0,0 +1,70 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hu.aestallon.adventofcode.year2023.solver;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.ServiceLoader;
+import java.util.Set;
+
+/**
+ * Discovers the available {@link Solver}s.
+ *
+ * <p>Providers are filtered by their {@link Puzzle} annotation, so solvers of days which are not
+ * requested are never initialised.
+ */
+public final class Solvers {
+
+  @SuppressWarnings("unchecked")
+  private static final Class<Solver<?>> SOLVER_TYPE = (Class<Solver<?>>) (Class<?>) Solver.class;
+
+  private Solvers() {}
+
+  public static Puzzle puzzleOf(ServiceLoader.Provider<Solver<?>> provider) {
+    final Puzzle puzzle = provider.type().getAnnotation(Puzzle.class);
+    if (puzzle == null) {
+      throw new IllegalStateException(provider.type() + " is not annotated with @Puzzle!");
+    }
+    return puzzle;
+  }
+
+  /**
+   * Returns the solver providers for the given days, ordered by day.
+   *
+   * @param days the days to select, or an empty set to select every available day
+   */
+  public static List<ServiceLoader.Provider<Solver<?>>> providers(Set<Integer> days) {
+    return ServiceLoader.load(SOLVER_TYPE).stream()
+        .filter(it -> days.isEmpty() || days.contains(puzzleOf(it).day()))
+        .sorted(Comparator.comparingInt(it -> puzzleOf(it).day()))
+        .toList();
+  }
+
+  public static Optional<Solver<?>> forDay(int day) {
+    return providers(Set.of(day)).stream()
+        .findFirst()
+        .map(ServiceLoader.Provider::get);
+  }
+
+  /** Returns the classpath location of the problem input of the given day. */
+  public static String[] inputOf(int day) {
+    final String dd = "%02d".formatted(day);
+    return new String[] { dd, "input" + dd + ".txt" };
+  }
+
+}
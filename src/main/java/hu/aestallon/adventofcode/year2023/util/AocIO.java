@@ -22,10 +22,15 @@ import org.slf4j.LoggerFactory;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public final class AocIO {
 
@@ -35,20 +40,80 @@ public final class AocIO {
     final var loc = Arrays.stream(path).collect(Collectors.joining("/", "/", ""));
 
     log.debug("Loading classpath resource from [ {} ]", loc);
-    try (final var in = AocIO.class.getResourceAsStream(loc)) {
-      if (in == null) {
-        log.error("Could not access resource from [ {} ]", loc);
+    final var url = AocIO.class.getResource(loc);
+    if (url == null) {
+      log.error("Could not access resource from [ {} ]", loc);
+      return Collections.emptyList();
+    }
+
+    if ("file".equals(url.getProtocol())) {
+      try (final var lines = lines(Path.of(url.toURI()))) {
+        return lines.map(CharSequence::toString).toList();
+      } catch (URISyntaxException | UncheckedIOException e) {
+        log.error(e.getMessage(), e);
         return Collections.emptyList();
       }
+    }
 
-      try (var reader = new InputStreamReader(in);
-           var br = new BufferedReader(reader);
-           var lines = br.lines()) {
-        return lines.toList();
-      }
+    // resources packaged into an archive cannot be mapped:
+    try (final var in = url.openStream();
+         var reader = new InputStreamReader(in);
+         var br = new BufferedReader(reader);
+         var lines = br.lines()) {
+      return lines.toList();
     } catch (IOException e) {
       log.error(e.getMessage(), e);
       return Collections.emptyList();
     }
   }
+
+  /**
+   * Returns the lines of the file at the given path as a lazily populated stream, backed by a
+   * memory mapping of the file.
+   *
+   * @throws UncheckedIOException if the file cannot be read
+   * @see MappedInput#lines()
+   */
+  public static Stream<CharSequence> lines(Path path) {
+    try {
+      return map(path).lines();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Maps the classpath resource at the given path, or reads it onto the heap if it is packaged into
+   * an archive.
+   *
+   * @throws IOException if there is no such resource, or it cannot be read
+   */
+  public static MappedInput map(String... path) throws IOException {
+    final var loc = Arrays.stream(path).collect(Collectors.joining("/", "/", ""));
+    final var url = AocIO.class.getResource(loc);
+    if (url == null) {
+      throw new NoSuchFileException(loc);
+    }
+
+    if ("file".equals(url.getProtocol())) {
+      try {
+        return MappedInput.map(Path.of(url.toURI()));
+      } catch (URISyntaxException e) {
+        throw new IOException(e);
+      }
+    }
+    try (final var in = url.openStream()) {
+      return MappedInput.of(in.readAllBytes());
+    }
+  }
+
+  /**
+   * Maps the file at the given path.
+   *
+   * @throws IOException if the file cannot be read
+   */
+  public static MappedInput map(Path path) throws IOException {
+    log.debug("Mapping file from [ {} ]", path);
+    return MappedInput.map(path);
+  }
 }
@@ -0,0 +1,340 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hu.aestallon.adventofcode.year2023.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * Searches ranges of bytes for single byte values and for ASCII digits.
+ *
+ * <p>If the {@code jdk.incubator.vector} module is present (see {@code --add-modules}), ranges are
+ * compared as many bytes at a time as the widest vector shape of the CPU holds. Otherwise, or if
+ * the {@code aoc.vector} system property is {@code false}, the bytes are compared one by one.
+ *
+ * <p>Ranges are given as {@code [from, to)}, and found indices are relative to the start of the
+ * searched array, buffer or sequence, not to {@code from}. Direct buffers, like the regions of a
+ * {@link MappedInput}, are copied to the heap in chunks before a vectorised search, thus short
+ * ranges of them are searched byte by byte.
+ */
+public final class ByteScan {
+
+  private static final Logger log = LoggerFactory.getLogger(ByteScan.class);
+
+  /** The operations implemented both with and without vectors, over ranges of arrays. */
+  interface Kernel {
+
+    int indexOf(byte[] a, int from, int to, byte b);
+
+    int lastIndexOf(byte[] a, int from, int to, byte b);
+
+    int countOf(byte[] a, int from, int to, byte b);
+
+    long maskOf(byte[] a, int from, int to, byte b);
+
+    int firstDigit(byte[] a, int from, int to);
+
+    int lastDigit(byte[] a, int from, int to);
+
+  }
+
+  /** What a search of a buffer looks for: a given byte, or any ASCII digit. */
+  private enum Target { BYTE, DIGIT }
+
+  private static final int    CHUNK_SIZE     = 1 << 12;
+  private static final int    COPY_THRESHOLD = 128;
+  private static final Kernel KERNEL         = kernel();
+
+  private static final ThreadLocal<byte[]> CHUNK = ThreadLocal.withInitial(
+      () -> new byte[CHUNK_SIZE]);
+
+  private static Kernel kernel() {
+    if (!Boolean.parseBoolean(System.getProperty("aoc.vector", "true"))
+        || ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+      return new Scalar();
+    }
+
+    try {
+      final var kernel = new VectorByteScan();
+      log.debug("Scanning bytes with vectors of [ {} ] lanes", kernel.lanes());
+      return kernel;
+    } catch (LinkageError e) {
+      log.warn("Falling back to scanning bytes one by one: {}", e.getMessage());
+      return new Scalar();
+    }
+  }
+
+  private ByteScan() {}
+
+  /** Whether searches are vectorised. */
+  public static boolean isVectorized() {
+    return !(KERNEL instanceof Scalar);
+  }
+
+  static boolean isDigit(byte b) {
+    return b >= '0' && b <= '9';
+  }
+
+  // -----------------------------------------------------------------------------------------------
+  // arrays:
+
+  public static int indexOf(byte[] a, int from, int to, byte b) {
+    Objects.checkFromToIndex(from, to, a.length);
+    return KERNEL.indexOf(a, from, to, b);
+  }
+
+  public static int lastIndexOf(byte[] a, int from, int to, byte b) {
+    Objects.checkFromToIndex(from, to, a.length);
+    return KERNEL.lastIndexOf(a, from, to, b);
+  }
+
+  public static int countOf(byte[] a, int from, int to, byte b) {
+    Objects.checkFromToIndex(from, to, a.length);
+    return KERNEL.countOf(a, from, to, b);
+  }
+
+  /**
+   * Returns a mask of the occurrences of a byte among the first 64 bytes of a range: bit {@code i}
+   * is set if {@code a[from + i] == b}.
+   */
+  public static long maskOf(byte[] a, int from, int to, byte b) {
+    Objects.checkFromToIndex(from, to, a.length);
+    return KERNEL.maskOf(a, from, Math.min(to, from + Long.SIZE), b);
+  }
+
+  public static int firstDigit(byte[] a, int from, int to) {
+    Objects.checkFromToIndex(from, to, a.length);
+    return KERNEL.firstDigit(a, from, to);
+  }
+
+  public static int lastDigit(byte[] a, int from, int to) {
+    Objects.checkFromToIndex(from, to, a.length);
+    return KERNEL.lastDigit(a, from, to);
+  }
+
+  // -----------------------------------------------------------------------------------------------
+  // buffers, searched between absolute indices, ignoring their position and limit:
+
+  public static int indexOf(ByteBuffer buffer, int from, int to, byte b) {
+    return forwards(buffer, from, to, Target.BYTE, b);
+  }
+
+  public static int lastIndexOf(ByteBuffer buffer, int from, int to, byte b) {
+    return backwards(buffer, from, to, Target.BYTE, b);
+  }
+
+  public static int firstDigit(ByteBuffer buffer, int from, int to) {
+    return forwards(buffer, from, to, Target.DIGIT, (byte) 0);
+  }
+
+  public static int lastDigit(ByteBuffer buffer, int from, int to) {
+    return backwards(buffer, from, to, Target.DIGIT, (byte) 0);
+  }
+
+  private static boolean matches(byte actual, Target target, byte b) {
+    return (target == Target.DIGIT) ? isDigit(actual) : actual == b;
+  }
+
+  private static int search(byte[] a, int from, int to, Target target, byte b, boolean forwards) {
+    if (target == Target.DIGIT) {
+      return forwards ? KERNEL.firstDigit(a, from, to) : KERNEL.lastDigit(a, from, to);
+    }
+    return forwards ? KERNEL.indexOf(a, from, to, b) : KERNEL.lastIndexOf(a, from, to, b);
+  }
+
+  private static int forwards(ByteBuffer buffer, int from, int to, Target target, byte b) {
+    Objects.checkFromToIndex(from, to, buffer.capacity());
+    if (buffer.hasArray()) {
+      final int offset = buffer.arrayOffset();
+      final int idx = search(buffer.array(), offset + from, offset + to, target, b, true);
+      return (idx < 0) ? -1 : idx - offset;
+    }
+
+    if (to - from < COPY_THRESHOLD || !isVectorized()) {
+      for (int i = from; i < to; i++) {
+        if (matches(buffer.get(i), target, b)) {
+          return i;
+        }
+      }
+      return -1;
+    }
+
+    final byte[] chunk = CHUNK.get();
+    for (int start = from; start < to; start += chunk.length) {
+      final int length = Math.min(chunk.length, to - start);
+      buffer.get(start, chunk, 0, length);
+      final int idx = search(chunk, 0, length, target, b, true);
+      if (idx >= 0) {
+        return start + idx;
+      }
+    }
+    return -1;
+  }
+
+  private static int backwards(ByteBuffer buffer, int from, int to, Target target, byte b) {
+    Objects.checkFromToIndex(from, to, buffer.capacity());
+    if (buffer.hasArray()) {
+      final int offset = buffer.arrayOffset();
+      final int idx = search(buffer.array(), offset + from, offset + to, target, b, false);
+      return (idx < 0) ? -1 : idx - offset;
+    }
+
+    if (to - from < COPY_THRESHOLD || !isVectorized()) {
+      for (int i = to - 1; i >= from; i--) {
+        if (matches(buffer.get(i), target, b)) {
+          return i;
+        }
+      }
+      return -1;
+    }
+
+    final byte[] chunk = CHUNK.get();
+    for (int end = to; end > from; end -= chunk.length) {
+      final int start = Math.max(from, end - chunk.length);
+      buffer.get(start, chunk, 0, end - start);
+      final int idx = search(chunk, 0, end - start, target, b, false);
+      if (idx >= 0) {
+        return start + idx;
+      }
+    }
+    return -1;
+  }
+
+  // -----------------------------------------------------------------------------------------------
+  // character sequences, which are only scanned as bytes if they are slices of a buffer:
+
+  public static int indexOf(CharSequence s, int from, int to, char c) {
+    Objects.checkFromToIndex(from, to, s.length());
+    if (s instanceof ByteSlice slice) {
+      if (c > 0xFF) {
+        return -1;
+      }
+      final int idx = indexOf(slice.buffer(), slice.offset() + from, slice.offset() + to, (byte) c);
+      return (idx < 0) ? -1 : idx - slice.offset();
+    }
+    if (s instanceof String str) {
+      // String::indexOf is an intrinsic of the JVM already:
+      final int idx = str.indexOf(c, from);
+      return (idx < to) ? idx : -1;
+    }
+    for (int i = from; i < to; i++) {
+      if (s.charAt(i) == c) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  public static int firstDigit(CharSequence s, int from, int to) {
+    Objects.checkFromToIndex(from, to, s.length());
+    if (s instanceof ByteSlice slice) {
+      final int idx = firstDigit(slice.buffer(), slice.offset() + from, slice.offset() + to);
+      return (idx < 0) ? -1 : idx - slice.offset();
+    }
+    for (int i = from; i < to; i++) {
+      if (Digits.isDigit(s.charAt(i))) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  public static int lastDigit(CharSequence s, int from, int to) {
+    Objects.checkFromToIndex(from, to, s.length());
+    if (s instanceof ByteSlice slice) {
+      final int idx = lastDigit(slice.buffer(), slice.offset() + from, slice.offset() + to);
+      return (idx < 0) ? -1 : idx - slice.offset();
+    }
+    for (int i = to - 1; i >= from; i--) {
+      if (Digits.isDigit(s.charAt(i))) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /** Compares bytes one by one. */
+  static final class Scalar implements Kernel {
+
+    @Override
+    public int indexOf(byte[] a, int from, int to, byte b) {
+      for (int i = from; i < to; i++) {
+        if (a[i] == b) {
+          return i;
+        }
+      }
+      return -1;
+    }
+
+    @Override
+    public int lastIndexOf(byte[] a, int from, int to, byte b) {
+      for (int i = to - 1; i >= from; i--) {
+        if (a[i] == b) {
+          return i;
+        }
+      }
+      return -1;
+    }
+
+    @Override
+    public int countOf(byte[] a, int from, int to, byte b) {
+      int count = 0;
+      for (int i = from; i < to; i++) {
+        if (a[i] == b) {
+          count++;
+        }
+      }
+      return count;
+    }
+
+    @Override
+    public long maskOf(byte[] a, int from, int to, byte b) {
+      long mask = 0L;
+      for (int i = from; i < to; i++) {
+        if (a[i] == b) {
+          mask |= 1L << (i - from);
+        }
+      }
+      return mask;
+    }
+
+    @Override
+    public int firstDigit(byte[] a, int from, int to) {
+      for (int i = from; i < to; i++) {
+        if (isDigit(a[i])) {
+          return i;
+        }
+      }
+      return -1;
+    }
+
+    @Override
+    public int lastDigit(byte[] a, int from, int to) {
+      for (int i = to - 1; i >= from; i--) {
+        if (isDigit(a[i])) {
+          return i;
+        }
+      }
+      return -1;
+    }
+
+  }
+
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hu.aestallon.adventofcode.year2023.util;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * A {@link CharSequence} view of a range of bytes in a {@link ByteBuffer}.
+ *
+ * <p>Every byte is interpreted as a single ISO-8859-1 character, which is a superset of the ASCII
+ * puzzle inputs. The bytes are not copied: a slice is only valid as long as its underlying buffer
+ * is.
+ */
+public final class ByteSlice implements CharSequence {
+
+  private final ByteBuffer buffer;
+  private final int        offset;
+  private final int        length;
+
+  ByteSlice(ByteBuffer buffer, int offset, int length) {
+    Objects.checkFromIndexSize(offset, length, buffer.limit());
+    this.buffer = buffer;
+    this.offset = offset;
+    this.length = length;
+  }
+
+  ByteBuffer buffer() {
+    return buffer;
+  }
+
+  int offset() {
+    return offset;
+  }
+
+  public byte byteAt(int index) {
+    Objects.checkIndex(index, length);
+    return buffer.get(offset + index);
+  }
+
+  @Override
+  public int length() {
+    return length;
+  }
+
+  @Override
+  public char charAt(int index) {
+    return (char) (byteAt(index) & 0xFF);
+  }
+
+  @Override
+  public ByteSlice subSequence(int start, int end) {
+    Objects.checkFromToIndex(start, end, length);
+    return new ByteSlice(buffer, offset + start, end - start);
+  }
+
+  @Override
+  public String toString() {
+    final byte[] bytes = new byte[length];
+    buffer.get(offset, bytes);
+    return new String(bytes, StandardCharsets.ISO_8859_1);
+  }
+
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hu.aestallon.adventofcode.year2023.util;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.IntConsumer;
+
+/**
+ * A set of the flat indices of cells in a {@link Grid}, or of any other dense range
+ * {@code [0, capacity)} of {@code int}s, stored as one bit per possible member.
+ *
+ * <p>Unlike a {@link java.util.BitSet}, its capacity is fixed, {@link #add(int)} reports whether
+ * the member was new, and the size is kept up to date instead of being counted on demand.
+ */
+public final class CellSet {
+
+  private final long[] words;
+  private final int    capacity;
+  private int          size;
+
+  public CellSet(int capacity) {
+    if (capacity < 0) {
+      throw new IllegalArgumentException("Capacity must not be negative: " + capacity);
+    }
+    this.capacity = capacity;
+    this.words = new long[(capacity + 63) >>> 6];
+  }
+
+  /** Creates a set of the cells of the given grid. */
+  public static CellSet of(Grid grid) {
+    return new CellSet(grid.size());
+  }
+
+  public int capacity() {
+    return capacity;
+  }
+
+  /** Adds the given cell, returning whether it was absent. */
+  public boolean add(int cell) {
+    Objects.checkIndex(cell, capacity);
+    final int w = cell >>> 6;
+    final long bit = 1L << cell;
+    if ((words[w] & bit) != 0L) {
+      return false;
+    }
+    words[w] |= bit;
+    size++;
+    return true;
+  }
+
+  /** Removes the given cell, returning whether it was present. */
+  public boolean remove(int cell) {
+    Objects.checkIndex(cell, capacity);
+    final int w = cell >>> 6;
+    final long bit = 1L << cell;
+    if ((words[w] & bit) == 0L) {
+      return false;
+    }
+    words[w] &= ~bit;
+    size--;
+    return true;
+  }
+
+  public boolean contains(int cell) {
+    Objects.checkIndex(cell, capacity);
+    return (words[cell >>> 6] & (1L << cell)) != 0L;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  public void clear() {
+    Arrays.fill(words, 0L);
+    size = 0;
+  }
+
+  /** Passes the cells of this set to the given action in ascending order. */
+  public void forEach(IntConsumer action) {
+    for (int w = 0; w < words.length; w++) {
+      long word = words[w];
+      while (word != 0L) {
+        action.accept((w << 6) + Long.numberOfTrailingZeros(word));
+        word &= word - 1;
+      }
+    }
+  }
+
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hu.aestallon.adventofcode.year2023.util;
+
+/**
+ * Packs a (row, column) coordinate, and optionally a 2-bit tag, into a single {@code long}.
+ *
+ * <p>The layout is {@code [ tag : 2 | row : 31 | col : 31 ]}, with both row and column stored as
+ * signed values, so coordinates stepping just outside a grid can be represented as well. A packed
+ * coordinate is a plain value: it can be compared with {@code ==}, and untagged coordinates with
+ * non-negative components order row-major with {@link Long#compare(long, long)}.
+ *
+ * <p>The tag is meant for small enumerations travelling together with a position, like the
+ * direction of a beam of light.
+ */
+public final class Coordinates {
+
+  public static final int MIN = -(1 << 30);
+  public static final int MAX = (1 << 30) - 1;
+
+  private static final int  BITS      = 31;
+  private static final long MASK      = (1L << BITS) - 1;
+  private static final int  TAG_SHIFT = 2 * BITS;
+  private static final long TAG_MASK  = 0b11L << TAG_SHIFT;
+
+  private Coordinates() {}
+
+  public static long of(final int row, final int col) {
+    return ((row & MASK) << BITS) | (col & MASK);
+  }
+
+  /**
+   * Packs a coordinate with a tag.
+   *
+   * @param tag a value in {@code [0, 3]}
+   */
+  public static long of(final int row, final int col, final int tag) {
+    return ((long) tag << TAG_SHIFT) | of(row, col);
+  }
+
+  public static int row(final long coordinate) {
+    return (int) ((coordinate << 2) >> (BITS + 2));
+  }
+
+  public static int col(final long coordinate) {
+    return (int) ((coordinate << (BITS + 2)) >> (BITS + 2));
+  }
+
+  public static int tag(final long coordinate) {
+    return (int) (coordinate >>> TAG_SHIFT);
+  }
+
+  public static long withTag(final long coordinate, final int tag) {
+    return (coordinate & ~TAG_MASK) | ((long) tag << TAG_SHIFT);
+  }
+
+  public static long untagged(final long coordinate) {
+    return coordinate & ~TAG_MASK;
+  }
+
+  /** Returns the coordinate moved by the given offsets, keeping its tag. */
+  public static long move(final long coordinate, final int dRow, final int dCol) {
+    return of(row(coordinate) + dRow, col(coordinate) + dCol, tag(coordinate));
+  }
+
+  public static boolean isInBounds(final long coordinate, final int rows, final int cols) {
+    final int row = row(coordinate);
+    final int col = col(coordinate);
+    return 0 <= row && row < rows && 0 <= col && col < cols;
+  }
+
+  public static int manhattanDistance(final long c1, final long c2) {
+    return Math.abs(row(c1) - row(c2)) + Math.abs(col(c1) - col(c2));
+  }
+
+  public static String toString(final long coordinate) {
+    return "[" + row(coordinate) + "," + col(coordinate) + "]";
+  }
+
+}
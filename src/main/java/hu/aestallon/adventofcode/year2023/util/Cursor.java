@@ -0,0 +1,244 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hu.aestallon.adventofcode.year2023.util;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * A forward-only scanner over a range of a {@link CharSequence}.
+ *
+ * <p>Numbers and delimiters are read straight from the underlying sequence, so scanning a line
+ * does not allocate any intermediate {@code String}s or arrays. Whitespace means spaces and tabs
+ * here.
+ */
+public final class Cursor {
+
+  public static Cursor of(final CharSequence s) {
+    return of(s, 0, s.length());
+  }
+
+  public static Cursor of(final CharSequence s, final int from, final int to) {
+    Objects.checkFromToIndex(from, to, s.length());
+    return new Cursor(s, from, to);
+  }
+
+  public static Cursor of(final byte[] bytes, final int from, final int to) {
+    Objects.checkFromToIndex(from, to, bytes.length);
+    return new Cursor(new ByteSlice(ByteBuffer.wrap(bytes), from, to - from), 0, to - from);
+  }
+
+  public static boolean isBlank(final CharSequence s) {
+    return !of(s).skipWhitespace().hasNext();
+  }
+
+  private static boolean isWhitespace(final char c) {
+    return c == ' ' || c == '\t';
+  }
+
+  private static boolean isDigit(final char c) {
+    return c >= '0' && c <= '9';
+  }
+
+  private CharSequence s;
+  private int          position;
+  private int          end;
+
+  private Cursor(CharSequence s, int from, int to) {
+    this.s = s;
+    this.position = from;
+    this.end = to;
+  }
+
+  /** Repositions this cursor onto {@code [from, to)} of the given sequence. */
+  Cursor reset(final CharSequence s, final int from, final int to) {
+    this.s = s;
+    this.position = from;
+    this.end = to;
+    return this;
+  }
+
+  public int position() {
+    return position;
+  }
+
+  public int end() {
+    return end;
+  }
+
+  public boolean hasNext() {
+    return position < end;
+  }
+
+  public char peek() {
+    if (!hasNext()) {
+      throw new IllegalStateException("Cursor is exhausted at [ " + position + " ]!");
+    }
+    return s.charAt(position);
+  }
+
+  public Cursor skip(final int n) {
+    position = Math.min(position + n, end);
+    return this;
+  }
+
+  public Cursor skipWhitespace() {
+    while (position < end && isWhitespace(s.charAt(position))) {
+      position++;
+    }
+    return this;
+  }
+
+  /** Skips the next run of non-whitespace characters. */
+  public Cursor skipWord() {
+    while (position < end && !isWhitespace(s.charAt(position))) {
+      position++;
+    }
+    return this;
+  }
+
+  /**
+   * Moves this cursor past the next occurrence of the given character.
+   *
+   * @throws IllegalArgumentException if the character does not occur in the remaining range
+   */
+  public Cursor skipPast(final char c) {
+    final int idx = indexOf(c);
+    if (idx < 0) {
+      throw new IllegalArgumentException(
+          "[ " + s.subSequence(position, end) + " ] does not contain '" + c + "'!");
+    }
+    position = idx + 1;
+    return this;
+  }
+
+  /** Returns the index of the next occurrence of the given character, or -1 if there is none. */
+  public int indexOf(final char c) {
+    return ByteScan.indexOf(s, position, end, c);
+  }
+
+  /**
+   * Consumes the given character if it is next, ignoring leading whitespace.
+   *
+   * @return whether the character was consumed
+   */
+  public boolean tryConsume(final char c) {
+    skipWhitespace();
+    if (position < end && s.charAt(position) == c) {
+      position++;
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * Consumes the given word if it is next, ignoring case and leading whitespace.
+   *
+   * @return whether the word was consumed
+   */
+  public boolean tryConsumeIgnoreCase(final CharSequence word) {
+    skipWhitespace();
+    final int length = word.length();
+    if (end - position < length) {
+      return false;
+    }
+
+    for (int i = 0; i < length; i++) {
+      if (Character.toLowerCase(s.charAt(position + i)) != Character.toLowerCase(word.charAt(i))) {
+        return false;
+      }
+    }
+    position += length;
+    return true;
+  }
+
+  /** Whether the next non-whitespace characters form a number. */
+  public boolean hasNextNumber() {
+    skipWhitespace();
+    if (position >= end) {
+      return false;
+    }
+
+    final char c = s.charAt(position);
+    return isDigit(c) || (c == '-' && position + 1 < end && isDigit(s.charAt(position + 1)));
+  }
+
+  /**
+   * Reads the next signed decimal number, skipping leading whitespace.
+   *
+   * @throws NumberFormatException if the next token is not a number
+   */
+  public long nextLong() {
+    skipWhitespace();
+    final int from = position;
+    if (position < end && s.charAt(position) == '-') {
+      position++;
+    }
+    while (position < end && isDigit(s.charAt(position))) {
+      position++;
+    }
+    return Digits.parseLong(s, from, position);
+  }
+
+  /**
+   * Reads the next signed decimal number, skipping leading whitespace.
+   *
+   * @throws NumberFormatException if the next token is not a number or does not fit an int
+   */
+  public int nextInt() {
+    final long value = nextLong();
+    if (value != (int) value) {
+      throw new NumberFormatException(value + " does not fit into an int!");
+    }
+    return (int) value;
+  }
+
+  /** Reads all whitespace separated numbers remaining in the range. */
+  public long[] nextLongs() {
+    final long[] values = new long[countNumbers()];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = nextLong();
+    }
+    return values;
+  }
+
+  /** Reads all whitespace separated numbers remaining in the range. */
+  public int[] nextInts() {
+    final int[] values = new int[countNumbers()];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = nextInt();
+    }
+    return values;
+  }
+
+  private int countNumbers() {
+    final int start = position;
+    int count = 0;
+    while (hasNextNumber()) {
+      skipWord();
+      count++;
+    }
+    position = start;
+    return count;
+  }
+
+  @Override
+  public String toString() {
+    return "Cursor[ " + s.subSequence(position, end) + " ]";
+  }
+
+}
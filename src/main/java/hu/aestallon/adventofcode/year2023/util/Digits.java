@@ -28,6 +28,62 @@ public final class Digits {
     return Character.digit(codePoint, 10);
   }
 
+  /**
+   * Parses the signed decimal integer spanning {@code [from, to)} of the given sequence without
+   * creating an intermediate {@code String}.
+   *
+   * @throws NumberFormatException if the range is empty, contains a non-digit character or
+   *                               overflows an {@code int}
+   */
+  public static int parseInt(final CharSequence s, final int from, final int to) {
+    final long value = parseLong(s, from, to);
+    if (value != (int) value) {
+      throw new NumberFormatException(
+          "[ " + s.subSequence(from, to) + " ] does not fit into an int!");
+    }
+    return (int) value;
+  }
+
+  /**
+   * Parses the signed decimal integer spanning {@code [from, to)} of the given sequence without
+   * creating an intermediate {@code String}.
+   *
+   * @throws NumberFormatException if the range is empty, contains a non-digit character or
+   *                               overflows a {@code long}
+   */
+  public static long parseLong(final CharSequence s, final int from, final int to) {
+    final boolean negative = from < to && s.charAt(from) == '-';
+    int i = negative ? from + 1 : from;
+    if (i >= to) {
+      throw new NumberFormatException(
+          "[ " + s.subSequence(from, to) + " ] is not a number!");
+    }
+
+    long value = 0L;
+    for (; i < to; i++) {
+      final int d = s.charAt(i) - '0';
+      if (d < 0 || d > 9) {
+        throw new NumberFormatException(
+            "[ " + s.subSequence(from, to) + " ] is not a number!");
+      }
+      // accumulate negatively, so Long.MIN_VALUE can be parsed as well:
+      if (value < (Long.MIN_VALUE + d) / 10) {
+        throw new NumberFormatException(
+            "[ " + s.subSequence(from, to) + " ] does not fit into a long!");
+      }
+      value = value * 10 - d;
+    }
+
+    if (negative) {
+      return value;
+    }
+    if (value == Long.MIN_VALUE) {
+      throw new NumberFormatException(
+          "[ " + s.subSequence(from, to) + " ] does not fit into a long!");
+    }
+    return -value;
+  }
+
   public static int digitCount(long num) {
     int length = 0;
     long temp = 1;
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hu.aestallon.adventofcode.year2023.util;
+
+import java.util.Objects;
+
+/**
+ * A Fenwick (binary indexed) tree of {@code long} values over the index range {@code [0, size)},
+ * supporting point updates and prefix sums in {@code O(log size)}.
+ *
+ * <p>The tree is sparse: only the nodes touched by updates are stored, so a huge index range may be
+ * used even if only a few indices are ever updated.
+ */
+public final class FenwickTree {
+
+  private final int             size;
+  private final LongLongHashMap nodes = new LongLongHashMap();
+
+  public FenwickTree(int size) {
+    if (size < 0) {
+      throw new IllegalArgumentException("Size must not be negative: " + size);
+    }
+    this.size = size;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  /** Adds {@code delta} to the value at {@code index}. */
+  public void add(int index, long delta) {
+    Objects.checkIndex(index, size);
+    for (int i = index + 1; i <= size; i += i & -i) {
+      nodes.addTo(i, delta);
+    }
+  }
+
+  /** Returns the sum of the given number of leading values, i.e. at indices {@code [0, count)}. */
+  public long prefixSum(int count) {
+    Objects.checkFromToIndex(0, count, size);
+
+    long sum = 0L;
+    for (int i = count; i > 0; i -= i & -i) {
+      sum += nodes.getOrDefault(i, 0L);
+    }
+    return sum;
+  }
+
+  /** Returns the sum of all values. */
+  public long sum() {
+    return prefixSum(size);
+  }
+
+}
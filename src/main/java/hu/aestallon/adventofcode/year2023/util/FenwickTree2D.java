@@ -0,0 +1,78 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hu.aestallon.adventofcode.year2023.util;
+
+import java.util.Objects;
+
+/**
+ * A dense, two-dimensional Fenwick (binary indexed) tree of {@code long} values over a grid of
+ * {@code rows} by {@code columns} cells, supporting point updates and sums over rectangles spanning
+ * from the origin in {@code O(log rows * log columns)}.
+ *
+ * <p>Unlike {@link FenwickTree}, every node is stored, in a single array of
+ * {@code (rows + 1) * (columns + 1)} sums, so it is meant for grids of compressed coordinates.
+ */
+public final class FenwickTree2D {
+
+  private final int    rows;
+  private final int    columns;
+  private final long[] sums;
+
+  public FenwickTree2D(int rows, int columns) {
+    if (rows < 0 || columns < 0) {
+      throw new IllegalArgumentException(
+          "Dimensions must not be negative: " + rows + " x " + columns);
+    }
+    this.rows = rows;
+    this.columns = columns;
+    this.sums = new long[Math.multiplyExact(rows + 1, columns + 1)];
+  }
+
+  public int rows() {
+    return rows;
+  }
+
+  public int columns() {
+    return columns;
+  }
+
+  /** Adds {@code delta} to the value of the cell at the given row and column. */
+  public void add(int row, int column, long delta) {
+    Objects.checkIndex(row, rows);
+    Objects.checkIndex(column, columns);
+    for (int i = row + 1; i <= rows; i += i & -i) {
+      for (int j = column + 1; j <= columns; j += j & -j) {
+        sums[i * (columns + 1) + j] += delta;
+      }
+    }
+  }
+
+  /** Returns the sum of the values in the given number of leading rows and columns. */
+  public long prefixSum(int rowCount, int columnCount) {
+    Objects.checkFromToIndex(0, rowCount, rows);
+    Objects.checkFromToIndex(0, columnCount, columns);
+
+    long sum = 0L;
+    for (int i = rowCount; i > 0; i -= i & -i) {
+      for (int j = columnCount; j > 0; j -= j & -j) {
+        sum += sums[i * (columns + 1) + j];
+      }
+    }
+    return sum;
+  }
+
+}
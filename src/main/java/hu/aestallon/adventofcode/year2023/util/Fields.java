@@ -0,0 +1,103 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hu.aestallon.adventofcode.year2023.util;
+
+import java.util.Objects;
+
+/**
+ * Iterates over the fields of a {@link CharSequence} range separated by a delimiter, without
+ * splitting the sequence into {@code String}s.
+ *
+ * <p>The fields are those of {@code String.split(delimiter, -1)}: unlike {@code String.split} with
+ * the default limit, trailing empty fields are kept, so {@code "a,b,"} has the fields {@code "a"},
+ * {@code "b"} and {@code ""}, and an empty range has a single empty field.
+ *
+ * <pre>{@code
+ * final var fields = Fields.of(s, ',');
+ * while (fields.next()) {
+ *   sum += fields.cursor().nextInt();
+ * }
+ * }</pre>
+ */
+public final class Fields {
+
+  public static Fields of(final CharSequence s, final char delimiter) {
+    return of(s, 0, s.length(), delimiter);
+  }
+
+  public static Fields of(final CharSequence s, final int from, final int to,
+                          final char delimiter) {
+    Objects.checkFromToIndex(from, to, s.length());
+    return new Fields(s, from, to, delimiter);
+  }
+
+  private final CharSequence s;
+  private final int          end;
+  private final char         delimiter;
+  private final Cursor       cursor;
+
+  private int start;
+  private int fieldEnd;
+
+  private Fields(CharSequence s, int from, int to, char delimiter) {
+    this.s = s;
+    this.end = to;
+    this.delimiter = delimiter;
+    this.cursor = Cursor.of(s, from, from);
+    this.start = -1;
+    this.fieldEnd = from - 1;
+  }
+
+  /**
+   * Advances to the next field.
+   *
+   * @return {@code false} if there are no more fields
+   */
+  public boolean next() {
+    if (fieldEnd >= end) {
+      return false;
+    }
+
+    start = fieldEnd + 1;
+    fieldEnd = start;
+    while (fieldEnd < end && s.charAt(fieldEnd) != delimiter) {
+      fieldEnd++;
+    }
+    return true;
+  }
+
+  /** The inclusive start index of the current field. */
+  public int start() {
+    return start;
+  }
+
+  /** The exclusive end index of the current field. */
+  public int end() {
+    return fieldEnd;
+  }
+
+  /**
+   * Returns a cursor over the current field.
+   *
+   * <p>The same cursor instance is reused for every field, and it is only valid until the next
+   * call to {@link #next()}.
+   */
+  public Cursor cursor() {
+    return cursor.reset(s, start, fieldEnd);
+  }
+
+}
@@ -0,0 +1,415 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hu.aestallon.adventofcode.year2023.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A rectangular grid of single-byte cells, stored in one row-major {@code byte[]}.
+ *
+ * <p>Cells are addressed either by {@code (row, col)}, by a packed {@link Coordinates coordinate},
+ * or by their flat index {@code row * cols + col}. Iterating neighbours through flat indices
+ * avoids both the bounds checks of nested arrays and the allocation of coordinate objects.
+ */
+public final class Grid {
+
+  private static final int[] D_ROW_4 = { -1, 0, 0, 1 };
+  private static final int[] D_COL_4 = { 0, -1, 1, 0 };
+  private static final int[] D_ROW_8 = { -1, -1, -1, 0, 0, 1, 1, 1 };
+  private static final int[] D_COL_8 = { -1, 0, 1, -1, 1, -1, 0, 1 };
+
+  /**
+   * Creates a grid of the given lines, each character becoming a cell.
+   *
+   * @throws IllegalArgumentException if there are no lines, or they differ in length
+   */
+  public static Grid of(List<? extends CharSequence> lines) {
+    if (lines.isEmpty() || lines.getFirst().isEmpty()) {
+      throw new IllegalArgumentException("Cannot create an empty Grid!");
+    }
+
+    final int rows = lines.size();
+    final int cols = lines.getFirst().length();
+    final byte[] cells = new byte[rows * cols];
+    for (int r = 0; r < rows; r++) {
+      final CharSequence line = lines.get(r);
+      if (line.length() != cols) {
+        throw new IllegalArgumentException(
+            "Line " + r + " is " + line.length() + " long instead of " + cols + ": " + line);
+      }
+      for (int c = 0; c < cols; c++) {
+        cells[r * cols + c] = (byte) line.charAt(c);
+      }
+    }
+    return new Grid(rows, cols, cells);
+  }
+
+  /**
+   * Creates a grid of the raw bytes of an input file.
+   *
+   * <p>Lines may be terminated by {@code \n} or {@code \r\n}, and a trailing line terminator is
+   * ignored.
+   *
+   * @throws IllegalArgumentException if there are no lines, or they differ in length
+   */
+  public static Grid of(byte[] input) {
+    return of(input, 0, input.length);
+  }
+
+  /**
+   * Creates a grid of the raw bytes of an input file in {@code [from, to)}, e.g. one of many grids
+   * separated by blank lines.
+   *
+   * @see #of(byte[])
+   */
+  public static Grid of(byte[] input, int from, int to) {
+    Objects.checkFromToIndex(from, to, input.length);
+    int end = to;
+    while (end > from && (input[end - 1] == '\n' || input[end - 1] == '\r')) {
+      end--;
+    }
+
+    final int lineBreak = ByteScan.indexOf(input, from, end, (byte) '\n');
+    int cols = ((lineBreak < 0) ? end : lineBreak) - from;
+    if (cols > 0 && input[from + cols - 1] == '\r') {
+      cols--;
+    }
+    if (cols == 0) {
+      throw new IllegalArgumentException("Cannot create an empty Grid!");
+    }
+
+    final int length = end - from;
+    final int stride = (cols < length && input[from + cols] == '\r') ? cols + 2 : cols + 1;
+    if ((length + stride - cols) % stride != 0) {
+      throw new IllegalArgumentException("Lines of the input differ in length!");
+    }
+    final int rows = (length + stride - cols) / stride;
+    final byte[] cells = new byte[rows * cols];
+    for (int r = 0; r < rows; r++) {
+      final int start = from + r * stride;
+      // lines differing in length may still add up to whole strides, thus each one is checked:
+      if (ByteScan.indexOf(input, start, start + cols, (byte) '\n') >= 0
+          || ByteScan.indexOf(input, start, start + cols, (byte) '\r') >= 0
+          || (r < rows - 1 && !isTerminator(input, start + cols, stride - cols))) {
+        throw new IllegalArgumentException("Line " + r + " of the input is not " + cols + " long!");
+      }
+      System.arraycopy(input, start, cells, r * cols, cols);
+    }
+    return new Grid(rows, cols, cells);
+  }
+
+  /** Tells whether the given number of bytes at {@code from} are a {@code \n} or {@code \r\n}. */
+  private static boolean isTerminator(byte[] input, int from, int length) {
+    return (length == 1)
+        ? input[from] == '\n'
+        : input[from] == '\r' && input[from + 1] == '\n';
+  }
+
+  /**
+   * Creates a grid of the given row-major cells, without copying them.
+   *
+   * @throws IllegalArgumentException if the cells do not fill a {@code rows * cols} grid
+   */
+  public static Grid of(int rows, int cols, byte[] cells) {
+    if (rows <= 0 || cols <= 0 || cells.length != rows * cols) {
+      throw new IllegalArgumentException(
+          "Cannot create a " + rows + "x" + cols + " Grid of " + cells.length + " cells!");
+    }
+    return new Grid(rows, cols, cells);
+  }
+
+  public static Grid filled(int rows, int cols, byte value) {
+    if (rows <= 0 || cols <= 0) {
+      throw new IllegalArgumentException("Cannot create an empty Grid!");
+    }
+    final byte[] cells = new byte[rows * cols];
+    Arrays.fill(cells, value);
+    return new Grid(rows, cols, cells);
+  }
+
+  private final int    rows;
+  private final int    cols;
+  private final byte[] cells;
+
+  private Grid(int rows, int cols, byte[] cells) {
+    this.rows = rows;
+    this.cols = cols;
+    this.cells = cells;
+  }
+
+  /** Returns the cells themselves, for writing them out in bulk. */
+  byte[] cells() {
+    return cells;
+  }
+
+  public int rows() {
+    return rows;
+  }
+
+  public int cols() {
+    return cols;
+  }
+
+  public int size() {
+    return cells.length;
+  }
+
+  public boolean isInBounds(int row, int col) {
+    return 0 <= row && row < rows && 0 <= col && col < cols;
+  }
+
+  public boolean isInBounds(long coordinate) {
+    return Coordinates.isInBounds(coordinate, rows, cols);
+  }
+
+  public int index(int row, int col) {
+    Objects.checkIndex(row, rows);
+    Objects.checkIndex(col, cols);
+    return row * cols + col;
+  }
+
+  public int index(long coordinate) {
+    return index(Coordinates.row(coordinate), Coordinates.col(coordinate));
+  }
+
+  public int rowOf(int index) {
+    return index / cols;
+  }
+
+  public int colOf(int index) {
+    return index % cols;
+  }
+
+  public long coordinateOf(int index) {
+    return Coordinates.of(index / cols, index % cols);
+  }
+
+  public byte get(int index) {
+    return cells[index];
+  }
+
+  public byte get(int row, int col) {
+    return cells[index(row, col)];
+  }
+
+  public byte get(long coordinate) {
+    return cells[index(coordinate)];
+  }
+
+  public void set(int index, byte value) {
+    cells[index] = value;
+  }
+
+  public void set(int row, int col, byte value) {
+    cells[index(row, col)] = value;
+  }
+
+  public void set(long coordinate, byte value) {
+    cells[index(coordinate)] = value;
+  }
+
+  /**
+   * Collects the flat indices of the in-bounds orthogonal neighbours of a cell into {@code out},
+   * in the order up, left, right, down.
+   *
+   * @param out an array of at least 4 elements
+   * @return the number of neighbours written to {@code out}
+   */
+  public int neighbours(int index, int[] out) {
+    return neighbours(index, D_ROW_4, D_COL_4, out);
+  }
+
+  /**
+   * Collects the flat indices of the in-bounds orthogonal and diagonal neighbours of a cell into
+   * {@code out}, in row-major order.
+   *
+   * @param out an array of at least 8 elements
+   * @return the number of neighbours written to {@code out}
+   */
+  public int adjacent(int index, int[] out) {
+    return neighbours(index, D_ROW_8, D_COL_8, out);
+  }
+
+  private int neighbours(int index, int[] dRows, int[] dCols, int[] out) {
+    final int row = index / cols;
+    final int col = index % cols;
+    int n = 0;
+    for (int i = 0; i < dRows.length; i++) {
+      final int r = row + dRows[i];
+      final int c = col + dCols[i];
+      if (isInBounds(r, c)) {
+        out[n++] = r * cols + c;
+      }
+    }
+    return n;
+  }
+
+  public Line row(int row) {
+    Objects.checkIndex(row, rows);
+    return new Line(row * cols, 1, cols);
+  }
+
+  public Line col(int col) {
+    Objects.checkIndex(col, cols);
+    return new Line(col, cols, rows);
+  }
+
+  public int count(byte value) {
+    return ByteScan.countOf(cells, 0, cells.length, value);
+  }
+
+  /**
+   * Returns the flat index of the first cell holding the given value, starting the search at
+   * {@code from}, or {@code -1} if there is none.
+   */
+  public int indexOf(byte value, int from) {
+    return (from >= cells.length) ? -1 : ByteScan.indexOf(cells, from, cells.length, value);
+  }
+
+  public void fill(byte value) {
+    Arrays.fill(cells, value);
+  }
+
+  /** Copies the cells of {@code source} into this grid, which must have the same dimensions. */
+  public void copyFrom(Grid source) {
+    if (source.rows != rows || source.cols != cols) {
+      throw new IllegalArgumentException(
+          "Cannot copy a " + source.rows + "x" + source.cols + " grid into a "
+          + rows + "x" + cols + " one!");
+    }
+    System.arraycopy(source.cells, 0, cells, 0, cells.length);
+  }
+
+  public Grid copy() {
+    return new Grid(rows, cols, cells.clone());
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {return true;}
+    if (o == null || getClass() != o.getClass()) {return false;}
+    Grid grid = (Grid) o;
+    return rows == grid.rows && cols == grid.cols && Arrays.equals(cells, grid.cells);
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * Integer.hashCode(cols) + Arrays.hashCode(cells);
+  }
+
+  @Override
+  public String toString() {
+    final StringBuilder sb = new StringBuilder(rows * (cols + 1));
+    for (int r = 0; r < rows; r++) {
+      if (r > 0) {
+        sb.append('\n');
+      }
+      sb.append(new String(cells, r * cols, cols, StandardCharsets.ISO_8859_1));
+    }
+    return sb.toString();
+  }
+
+  /** A view of a single row or column of the grid, reflecting later changes of its cells. */
+  public final class Line {
+
+    private final int start;
+    private final int stride;
+    private final int length;
+
+    private Line(int start, int stride, int length) {
+      this.start = start;
+      this.stride = stride;
+      this.length = length;
+    }
+
+    public int length() {
+      return length;
+    }
+
+    public byte get(int i) {
+      Objects.checkIndex(i, length);
+      return cells[start + i * stride];
+    }
+
+    public int indexOf(byte value) {
+      if (stride == 1) {
+        final int idx = ByteScan.indexOf(cells, start, start + length, value);
+        return (idx < 0) ? -1 : idx - start;
+      }
+      for (int i = 0, idx = start; i < length; i++, idx += stride) {
+        if (cells[idx] == value) {
+          return i;
+        }
+      }
+      return -1;
+    }
+
+    public boolean contains(byte value) {
+      return indexOf(value) >= 0;
+    }
+
+    /** Returns the number of positions at which this line and {@code that} differ. */
+    public int mismatches(Line that) {
+      if (this.length != that.length) {
+        throw new IllegalArgumentException("Cannot compare lines of different lengths!");
+      }
+      final byte[] thoseCells = that.cells();
+      int count = 0;
+      for (int i = 0, a = start, b = that.start; i < length; i++, a += stride, b += that.stride) {
+        if (cells[a] != thoseCells[b]) {
+          count++;
+        }
+      }
+      return count;
+    }
+
+    /**
+     * Returns the first position at which this line and {@code that} differ, or {@code -1} if they
+     * are equal.
+     */
+    public int mismatch(Line that) {
+      if (this.length != that.length) {
+        throw new IllegalArgumentException("Cannot compare lines of different lengths!");
+      }
+      final byte[] thoseCells = that.cells();
+      for (int i = 0, a = start, b = that.start; i < length; i++, a += stride, b += that.stride) {
+        if (cells[a] != thoseCells[b]) {
+          return i;
+        }
+      }
+      return -1;
+    }
+
+    private byte[] cells() {
+      return cells;
+    }
+
+    @Override
+    public String toString() {
+      final StringBuilder sb = new StringBuilder(length);
+      for (int i = 0; i < length; i++) {
+        sb.append((char) (get(i) & 0xFF));
+      }
+      return sb.toString();
+    }
+
+  }
+
+}
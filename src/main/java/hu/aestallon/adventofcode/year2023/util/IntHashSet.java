@@ -0,0 +1,144 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hu.aestallon.adventofcode.year2023.util;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * A set of {@code int}s, stored in a single open-addressing table with linear probing, so entries
+ * are neither boxed nor wrapped in nodes.
+ *
+ * <p>Slots holding {@code 0} are free, thus the presence of {@code 0} itself is tracked separately.
+ */
+public final class IntHashSet {
+
+  private static final float LOAD_FACTOR = 0.75f;
+
+  static int mix(int key) {
+    final int h = key * 0x9E3779B9;
+    return h ^ (h >>> 16);
+  }
+
+  private int[]   slots;
+  private int     mask;
+  private int     size;
+  private boolean containsZero;
+
+  public IntHashSet() {
+    this(8);
+  }
+
+  public IntHashSet(int expectedSize) {
+    final int capacity = capacityFor(expectedSize);
+    this.slots = new int[capacity];
+    this.mask = capacity - 1;
+  }
+
+  static int capacityFor(int expectedSize) {
+    final int capacity = (int) Math.ceil(Math.max(expectedSize, 2) / LOAD_FACTOR);
+    return Integer.highestOneBit(capacity - 1) << 1;
+  }
+
+  /** Adds the given key, returning whether it was absent. */
+  public boolean add(int key) {
+    if (key == 0) {
+      if (containsZero) {
+        return false;
+      }
+      containsZero = true;
+      size++;
+      return true;
+    }
+
+    int i = mix(key) & mask;
+    while (slots[i] != 0) {
+      if (slots[i] == key) {
+        return false;
+      }
+      i = (i + 1) & mask;
+    }
+    slots[i] = key;
+    if (++size > slots.length * LOAD_FACTOR) {
+      rehash(slots.length * 2);
+    }
+    return true;
+  }
+
+  public boolean contains(int key) {
+    if (key == 0) {
+      return containsZero;
+    }
+
+    int i = mix(key) & mask;
+    while (slots[i] != 0) {
+      if (slots[i] == key) {
+        return true;
+      }
+      i = (i + 1) & mask;
+    }
+    return false;
+  }
+
+  private void rehash(int capacity) {
+    final int[] old = slots;
+    slots = new int[capacity];
+    mask = capacity - 1;
+    for (final int key : old) {
+      if (key != 0) {
+        int i = mix(key) & mask;
+        while (slots[i] != 0) {
+          i = (i + 1) & mask;
+        }
+        slots[i] = key;
+      }
+    }
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  public void clear() {
+    Arrays.fill(slots, 0);
+    containsZero = false;
+    size = 0;
+  }
+
+  public void forEach(IntConsumer action) {
+    if (containsZero) {
+      action.accept(0);
+    }
+    for (final int key : slots) {
+      if (key != 0) {
+        action.accept(key);
+      }
+    }
+  }
+
+  @Override
+  public String toString() {
+    final var sb = new StringBuilder("[");
+    forEach(it -> sb.append(sb.length() > 1 ? ", " : "").append(it));
+    return sb.append(']').toString();
+  }
+
+}
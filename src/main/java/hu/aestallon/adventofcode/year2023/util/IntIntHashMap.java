@@ -0,0 +1,139 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hu.aestallon.adventofcode.year2023.util;
+
+import java.util.Arrays;
+
+/**
+ * A map of {@code int} keys to {@code int} values, stored in parallel open-addressing tables with
+ * linear probing, so entries are neither boxed nor wrapped in nodes.
+ *
+ * <p>Slots holding the key {@code 0} are free, thus the value of {@code 0} itself is kept
+ * separately.
+ */
+public final class IntIntHashMap {
+
+  private static final float LOAD_FACTOR = 0.75f;
+
+  private int[]   keys;
+  private int[]   values;
+  private int     mask;
+  private int     size;
+  private boolean containsZero;
+  private int     zeroValue;
+
+  public IntIntHashMap() {
+    this(8);
+  }
+
+  public IntIntHashMap(int expectedSize) {
+    final int capacity = IntHashSet.capacityFor(expectedSize);
+    this.keys = new int[capacity];
+    this.values = new int[capacity];
+    this.mask = capacity - 1;
+  }
+
+  private int slotOf(int key) {
+    int i = IntHashSet.mix(key) & mask;
+    while (keys[i] != 0 && keys[i] != key) {
+      i = (i + 1) & mask;
+    }
+    return i;
+  }
+
+  /** Associates the given value with the given key, replacing the previous one, if any. */
+  public void put(int key, int value) {
+    if (key == 0) {
+      if (!containsZero) {
+        containsZero = true;
+        size++;
+      }
+      zeroValue = value;
+      return;
+    }
+
+    final int i = slotOf(key);
+    values[i] = value;
+    if (keys[i] == 0) {
+      keys[i] = key;
+      if (++size > keys.length * LOAD_FACTOR) {
+        rehash(keys.length * 2);
+      }
+    }
+  }
+
+  /** Returns the value associated with the given key, or {@code missing} if there is none. */
+  public int getOrDefault(int key, int missing) {
+    if (key == 0) {
+      return containsZero ? zeroValue : missing;
+    }
+
+    final int i = slotOf(key);
+    return (keys[i] == 0) ? missing : values[i];
+  }
+
+  public boolean containsKey(int key) {
+    return (key == 0) ? containsZero : keys[slotOf(key)] != 0;
+  }
+
+  private void rehash(int capacity) {
+    final int[] oldKeys = keys;
+    final int[] oldValues = values;
+    keys = new int[capacity];
+    values = new int[capacity];
+    mask = capacity - 1;
+    for (int j = 0; j < oldKeys.length; j++) {
+      if (oldKeys[j] != 0) {
+        final int i = slotOf(oldKeys[j]);
+        keys[i] = oldKeys[j];
+        values[i] = oldValues[j];
+      }
+    }
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  public void clear() {
+    Arrays.fill(keys, 0);
+    Arrays.fill(values, 0);
+    containsZero = false;
+    zeroValue = 0;
+    size = 0;
+  }
+
+  /** Returns the keys of this map in no particular order. */
+  public int[] keys() {
+    final int[] result = new int[size];
+    int n = 0;
+    if (containsZero) {
+      result[n++] = 0;
+    }
+    for (final int key : keys) {
+      if (key != 0) {
+        result[n++] = key;
+      }
+    }
+    return result;
+  }
+
+}
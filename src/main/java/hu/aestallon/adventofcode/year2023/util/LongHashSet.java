@@ -0,0 +1,139 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hu.aestallon.adventofcode.year2023.util;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+/**
+ * A set of {@code long}s, stored in a single open-addressing table with linear probing, so entries
+ * are neither boxed nor wrapped in nodes.
+ *
+ * <p>Slots holding {@code 0} are free, thus the presence of {@code 0} itself is tracked separately.
+ */
+public final class LongHashSet {
+
+  private static final float LOAD_FACTOR = 0.75f;
+
+  static int mix(long key) {
+    final long h = key * 0x9E3779B97F4A7C15L;
+    return (int) (h ^ (h >>> 32));
+  }
+
+  private long[]  slots;
+  private int     mask;
+  private int     size;
+  private boolean containsZero;
+
+  public LongHashSet() {
+    this(8);
+  }
+
+  public LongHashSet(int expectedSize) {
+    final int capacity = IntHashSet.capacityFor(expectedSize);
+    this.slots = new long[capacity];
+    this.mask = capacity - 1;
+  }
+
+  /** Adds the given key, returning whether it was absent. */
+  public boolean add(long key) {
+    if (key == 0L) {
+      if (containsZero) {
+        return false;
+      }
+      containsZero = true;
+      size++;
+      return true;
+    }
+
+    int i = mix(key) & mask;
+    while (slots[i] != 0L) {
+      if (slots[i] == key) {
+        return false;
+      }
+      i = (i + 1) & mask;
+    }
+    slots[i] = key;
+    if (++size > slots.length * LOAD_FACTOR) {
+      rehash(slots.length * 2);
+    }
+    return true;
+  }
+
+  public boolean contains(long key) {
+    if (key == 0L) {
+      return containsZero;
+    }
+
+    int i = mix(key) & mask;
+    while (slots[i] != 0L) {
+      if (slots[i] == key) {
+        return true;
+      }
+      i = (i + 1) & mask;
+    }
+    return false;
+  }
+
+  private void rehash(int capacity) {
+    final long[] old = slots;
+    slots = new long[capacity];
+    mask = capacity - 1;
+    for (final long key : old) {
+      if (key != 0L) {
+        int i = mix(key) & mask;
+        while (slots[i] != 0L) {
+          i = (i + 1) & mask;
+        }
+        slots[i] = key;
+      }
+    }
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  public void clear() {
+    Arrays.fill(slots, 0L);
+    containsZero = false;
+    size = 0;
+  }
+
+  public void forEach(LongConsumer action) {
+    if (containsZero) {
+      action.accept(0L);
+    }
+    for (final long key : slots) {
+      if (key != 0L) {
+        action.accept(key);
+      }
+    }
+  }
+
+  public long[] toArray() {
+    final long[] keys = new long[size];
+    final int[] i = { 0 };
+    forEach(it -> keys[i[0]++] = it);
+    return keys;
+  }
+
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hu.aestallon.adventofcode.year2023.util;
+
+import java.util.Arrays;
+
+/**
+ * A map of {@code long} keys to {@code long} values, stored in parallel open-addressing tables with
+ * linear probing, so entries are neither boxed nor wrapped in nodes.
+ *
+ * <p>Slots holding the key {@code 0} are free, thus the value of {@code 0} itself is kept
+ * separately.
+ */
+public final class LongLongHashMap {
+
+  private static final float LOAD_FACTOR = 0.75f;
+
+  private long[]  keys;
+  private long[]  values;
+  private int     mask;
+  private int     size;
+  private boolean containsZero;
+  private long    zeroValue;
+
+  public LongLongHashMap() {
+    this(8);
+  }
+
+  public LongLongHashMap(int expectedSize) {
+    final int capacity = IntHashSet.capacityFor(expectedSize);
+    this.keys = new long[capacity];
+    this.values = new long[capacity];
+    this.mask = capacity - 1;
+  }
+
+  private int slotOf(long key) {
+    int i = LongHashSet.mix(key) & mask;
+    while (keys[i] != 0L && keys[i] != key) {
+      i = (i + 1) & mask;
+    }
+    return i;
+  }
+
+  /** Associates the given value with the given key, replacing the previous one, if any. */
+  public void put(long key, long value) {
+    if (key == 0L) {
+      if (!containsZero) {
+        containsZero = true;
+        size++;
+      }
+      zeroValue = value;
+      return;
+    }
+
+    final int i = slotOf(key);
+    values[i] = value;
+    if (keys[i] == 0L) {
+      keys[i] = key;
+      if (++size > keys.length * LOAD_FACTOR) {
+        rehash(keys.length * 2);
+      }
+    }
+  }
+
+  /**
+   * Adds {@code delta} to the value associated with the given key, treating a missing value as
+   * {@code 0}, and returns the new value.
+   */
+  public long addTo(long key, long delta) {
+    if (key == 0L) {
+      if (!containsZero) {
+        containsZero = true;
+        size++;
+      }
+      return zeroValue += delta;
+    }
+
+    final int i = slotOf(key);
+    if (keys[i] != 0L) {
+      return values[i] += delta;
+    }
+
+    keys[i] = key;
+    values[i] = delta;
+    if (++size > keys.length * LOAD_FACTOR) {
+      rehash(keys.length * 2);
+    }
+    return delta;
+  }
+
+  /** Returns the value associated with the given key, or {@code missing} if there is none. */
+  public long getOrDefault(long key, long missing) {
+    if (key == 0L) {
+      return containsZero ? zeroValue : missing;
+    }
+
+    final int i = slotOf(key);
+    return (keys[i] == 0L) ? missing : values[i];
+  }
+
+  public boolean containsKey(long key) {
+    return (key == 0L) ? containsZero : keys[slotOf(key)] != 0L;
+  }
+
+  private void rehash(int capacity) {
+    final long[] oldKeys = keys;
+    final long[] oldValues = values;
+    keys = new long[capacity];
+    values = new long[capacity];
+    mask = capacity - 1;
+    for (int j = 0; j < oldKeys.length; j++) {
+      if (oldKeys[j] != 0L) {
+        final int i = slotOf(oldKeys[j]);
+        keys[i] = oldKeys[j];
+        values[i] = oldValues[j];
+      }
+    }
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  public void clear() {
+    Arrays.fill(keys, 0L);
+    Arrays.fill(values, 0L);
+    containsZero = false;
+    zeroValue = 0L;
+    size = 0;
+  }
+
+}
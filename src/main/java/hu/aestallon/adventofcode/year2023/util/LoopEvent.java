@@ -0,0 +1,69 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hu.aestallon.adventofcode.year2023.util;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event spanning a hot loop, reporting how many iterations it took.
+ *
+ * <p>The event is meant to be committed once, after the loop has finished, with the iterations
+ * counted in a local variable in the meantime:
+ *
+ * <pre>{@code
+ * final var event = new LoopEvent();
+ * event.begin();
+ * long steps = 0L;
+ * while (...) {
+ *   steps++;
+ * }
+ * event.report(8, "Journey.go", steps);
+ * }</pre>
+ *
+ * <p>When the event is disabled, {@link #report(int, String, long)} does nothing.
+ */
+@Name("hu.aestallon.adventofcode.Loop")
+@Label("Loop")
+@Category({ "Advent of Code", "Loops" })
+@Description("A hot loop of a solver, with the number of iterations it took")
+@StackTrace(false)
+public final class LoopEvent extends jdk.jfr.Event {
+
+  @Label("Day")
+  int day;
+
+  @Label("Loop")
+  String loop;
+
+  @Label("Iterations")
+  long iterations;
+
+  public void report(int day, String loop, long iterations) {
+    end();
+    if (shouldCommit()) {
+      this.day = day;
+      this.loop = loop;
+      this.iterations = iterations;
+      commit();
+    }
+  }
+
+}
@@ -0,0 +1,272 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hu.aestallon.adventofcode.year2023.util;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A read-only, memory-mapped view of a text file.
+ *
+ * <p>A single mapping cannot exceed 2 GiB, so larger files are mapped as consecutive regions, each
+ * of them cut at a line break. Lines are exposed as {@link ByteSlice}s pointing into the mapping,
+ * thus iterating over them does not copy the file content onto the heap.
+ */
+public final class MappedInput {
+
+  static final MappedInput EMPTY = new MappedInput(List.of(), 0L);
+
+  private static final long MAX_REGION_SIZE = Integer.MAX_VALUE;
+
+  /** Maps the file at the given path, failing if it cannot be read. */
+  public static MappedInput map(Path path) throws IOException {
+    return map(path, MAX_REGION_SIZE);
+  }
+
+  static MappedInput map(Path path, long maxRegionSize) throws IOException {
+    try (final var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      final long size = channel.size();
+      final List<ByteBuffer> regions = new ArrayList<>();
+      long position = 0L;
+      while (position < size) {
+        final long length = Math.min(size - position, maxRegionSize);
+        final ByteBuffer region = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+
+        int end = (int) length;
+        if (position + length < size) {
+          end = ByteScan.lastIndexOf(region, 0, region.limit(), (byte) '\n') + 1;
+          if (end == 0) {
+            throw new IOException(
+                "Line at offset " + position + " of [ " + path + " ] exceeds " + maxRegionSize
+                + " bytes!");
+          }
+        }
+
+        regions.add(region.slice(0, end));
+        position += end;
+      }
+
+      return new MappedInput(regions, size);
+    }
+  }
+
+  /** Wraps content already read onto the heap, e.g. a resource packaged into an archive. */
+  static MappedInput of(byte[] content) {
+    return (content.length == 0)
+        ? EMPTY
+        : new MappedInput(List.of(ByteBuffer.wrap(content)), content.length);
+  }
+
+  private final List<ByteBuffer> regions;
+  private final long             size;
+
+  private MappedInput(List<ByteBuffer> regions, long size) {
+    this.regions = regions;
+    this.size = size;
+  }
+
+  /** Returns the size of the mapped file in bytes. */
+  public long size() {
+    return size;
+  }
+
+  /**
+   * Returns read-only views of the consecutive regions the file is mapped as, each of them ending
+   * at a line break, or at the end of the file.
+   */
+  public List<ByteBuffer> regions() {
+    return regions.stream().map(ByteBuffer::asReadOnlyBuffer).toList();
+  }
+
+  /**
+   * Copies the content of the file onto the heap in a single bulk copy per region, e.g. to build a
+   * {@link Grid} of it.
+   *
+   * @throws IllegalStateException if the file is larger than an array can be
+   */
+  public byte[] toByteArray() {
+    if (size > Integer.MAX_VALUE - 8) {
+      throw new IllegalStateException("Input of " + size + " bytes does not fit into an array!");
+    }
+    final byte[] content = new byte[(int) size];
+    int position = 0;
+    for (final ByteBuffer region : regions) {
+      final int length = region.remaining();
+      region.get(region.position(), content, position, length);
+      position += length;
+    }
+    return content;
+  }
+
+  /**
+   * Returns a lazily populated stream of the lines in the mapped file.
+   *
+   * <p>Lines are terminated by {@code \n} or {@code \r\n}, and terminators are not included in the
+   * returned lines.
+   */
+  public Stream<CharSequence> lines() {
+    return StreamSupport.stream(lineSpliterator(), false);
+  }
+
+  /**
+   * Returns a parallel stream of the lines in the mapped file.
+   *
+   * <p>The file is split into chunks of roughly equal size at line breaks, thus lines may be
+   * processed on as many threads as the common fork-join pool has, without ever being copied onto
+   * the heap first.
+   *
+   * @see #lines()
+   */
+  public Stream<CharSequence> parallelLines() {
+    return StreamSupport.stream(lineSpliterator(), true);
+  }
+
+  /**
+   * Returns a parallel stream of chunks of the mapped file, each of them a run of whole lines.
+   *
+   * <p>The file is split the same way as by {@link #parallelLines()}, but every chunk is passed on
+   * as a single {@link ByteSlice}, line terminators included, leaving it to the consumer to find
+   * the lines in it. Thus no object is created per line.
+   */
+  public Stream<CharSequence> parallelChunks() {
+    return StreamSupport.stream(new LineSpliterator(true), true);
+  }
+
+  private LineSpliterator lineSpliterator() {
+    return new LineSpliterator(false);
+  }
+
+  /**
+   * Iterates over the lines between a position in a region and the end of another, and splits
+   * that range at line breaks.
+   *
+   * <p>No line spans two regions, so whole regions are split off as long as the range spans more
+   * than one. A single region is halved at the first line break after its middle.
+   *
+   * <p>In {@code chunked} mode, the rest of the current region is passed on at once instead of
+   * line by line.
+   */
+  private final class LineSpliterator implements Spliterator<CharSequence> {
+
+    private static final int MIN_SPLIT_SIZE = 1 << 14;
+
+    private final boolean chunked;
+    private int           region;
+    private int           position;
+    private final int     endRegion;
+    private int           end;
+
+    /** Covers the whole file. */
+    private LineSpliterator(boolean chunked) {
+      this(chunked, 0, 0, regions.size(), regions.isEmpty() ? 0 : regions.getLast().limit());
+    }
+
+    /** Covers everything from {@code position} of {@code region} until {@code end} of the last. */
+    private LineSpliterator(boolean chunked, int region, int position, int endRegion, int end) {
+      this.chunked = chunked;
+      this.region = region;
+      this.position = position;
+      this.endRegion = endRegion;
+      this.end = end;
+    }
+
+    private int limitOf(int i) {
+      return (i == endRegion - 1) ? end : regions.get(i).limit();
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super CharSequence> action) {
+      while (region < endRegion && position >= limitOf(region)) {
+        region++;
+        position = 0;
+      }
+      if (region >= endRegion) {
+        return false;
+      }
+
+      final ByteBuffer buffer = regions.get(region);
+      final int limit = limitOf(region);
+      if (chunked) {
+        action.accept(new ByteSlice(buffer, position, limit - position));
+        position = limit;
+        return true;
+      }
+
+      final int lineBreak = ByteScan.indexOf(buffer, position, limit, (byte) '\n');
+      int lineEnd = (lineBreak < 0) ? limit : lineBreak;
+
+      final int next = lineEnd + 1;
+      if (lineEnd > position && buffer.get(lineEnd - 1) == '\r') {
+        lineEnd--;
+      }
+      action.accept(new ByteSlice(buffer, position, lineEnd - position));
+      position = next;
+      return true;
+    }
+
+    @Override
+    public Spliterator<CharSequence> trySplit() {
+      if (endRegion - region > 1) {
+        final int mid = (region + endRegion) >>> 1;
+        final var prefix = new LineSpliterator(chunked, region, position, mid, limitOf(mid - 1));
+        region = mid;
+        position = 0;
+        return prefix;
+      }
+
+      if (region >= endRegion || end - position < MIN_SPLIT_SIZE) {
+        return null;
+      }
+
+      final ByteBuffer buffer = regions.get(region);
+      final int lineBreak = ByteScan.indexOf(buffer, (position + end) >>> 1, end, (byte) '\n');
+      if (lineBreak < 0 || lineBreak >= end - 1) {
+        return null;
+      }
+
+      final var prefix = new LineSpliterator(chunked, region, position, region + 1, lineBreak + 1);
+      position = lineBreak + 1;
+      return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+      // the number of bytes left, which is an upper bound of the number of lines:
+      long size = 0L;
+      for (int i = region; i < endRegion; i++) {
+        size += limitOf(i) - ((i == region) ? position : 0);
+      }
+      return Math.max(size, 0L);
+    }
+
+    @Override
+    public int characteristics() {
+      return Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE;
+    }
+
+  }
+
+}
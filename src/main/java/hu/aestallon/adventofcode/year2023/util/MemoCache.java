@@ -0,0 +1,170 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hu.aestallon.adventofcode.year2023.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A memo of a bounded size, evicting its least recently used entries once it is full.
+ *
+ * <p>A {@link #scoped(int) scoped} memo is meant to live as long as a single computation on a
+ * single thread, e.g. solving a row of a puzzle, so it may be dropped as a whole once that is done.
+ * A {@link #striped(int) striped} memo may be shared by threads: its entries are spread over
+ * independently locked stripes, each of them evicting on its own.
+ *
+ * <p>Values must not be {@code null}, as {@code null} signals a missing entry. The hits, misses and
+ * evictions of the memo are counted, and can be reported through a {@link MemoEvent}.
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of memoised values
+ */
+public final class MemoCache<K, V> {
+
+  public record Stats(long hits, long misses, long evictions, long size) {}
+
+  /** Creates a memo holding at most {@code maxSize} entries, to be used by a single thread. */
+  public static <K, V> MemoCache<K, V> scoped(int maxSize) {
+    return new MemoCache<>(maxSize, 1, false);
+  }
+
+  /**
+   * Creates a memo holding about {@code maxSize} entries at most, which may be used by many threads
+   * concurrently.
+   */
+  public static <K, V> MemoCache<K, V> striped(int maxSize) {
+    final int threads = Runtime.getRuntime().availableProcessors();
+    final int stripes = Integer.highestOneBit(threads * 4 - 1) << 1;
+    return new MemoCache<>(maxSize, stripes, true);
+  }
+
+  private final Stripe<K, V>[] stripes;
+  private final boolean        concurrent;
+
+  private MemoCache(int maxSize, int stripeCount, boolean concurrent) {
+    if (maxSize < 1) {
+      throw new IllegalArgumentException("Memo size must be positive: " + maxSize);
+    }
+
+    final int stripeSize = Math.max(1, (maxSize + stripeCount - 1) / stripeCount);
+    // generic arrays cannot be created, but every element is a Stripe<K, V> filled in right below:
+    @SuppressWarnings("unchecked")
+    final Stripe<K, V>[] stripes = (Stripe<K, V>[]) new Stripe<?, ?>[stripeCount];
+    for (int i = 0; i < stripeCount; i++) {
+      stripes[i] = new Stripe<>(stripeSize);
+    }
+    this.stripes = stripes;
+    this.concurrent = concurrent;
+  }
+
+  private Stripe<K, V> stripeOf(Object key) {
+    final int h = key.hashCode();
+    return stripes[(h ^ (h >>> 16)) & (stripes.length - 1)];
+  }
+
+  /** Returns the value memoised for the given key, or {@code null} if there is none. */
+  public V get(K key) {
+    final Stripe<K, V> stripe = stripeOf(key);
+    if (!concurrent) {
+      return stripe.get(key);
+    }
+
+    stripe.lock.lock();
+    try {
+      return stripe.get(key);
+    } finally {
+      stripe.lock.unlock();
+    }
+  }
+
+  /** Memoises the given value for the given key, evicting the least recently used entry if full. */
+  public void put(K key, V value) {
+    Objects.requireNonNull(value, "Memoised values must not be null!");
+    final Stripe<K, V> stripe = stripeOf(key);
+    if (!concurrent) {
+      stripe.entries.put(key, value);
+      return;
+    }
+
+    stripe.lock.lock();
+    try {
+      stripe.entries.put(key, value);
+    } finally {
+      stripe.lock.unlock();
+    }
+  }
+
+  public Stats stats() {
+    long hits = 0L;
+    long misses = 0L;
+    long evictions = 0L;
+    long size = 0L;
+    for (final Stripe<K, V> stripe : stripes) {
+      if (concurrent) {
+        stripe.lock.lock();
+      }
+      try {
+        hits += stripe.hits;
+        misses += stripe.misses;
+        evictions += stripe.evictions;
+        size += stripe.entries.size();
+      } finally {
+        if (concurrent) {
+          stripe.lock.unlock();
+        }
+      }
+    }
+    return new Stats(hits, misses, evictions, size);
+  }
+
+  private static final class Stripe<K, V> {
+
+    // a lock rather than synchronized blocks, so virtual threads are not pinned while waiting:
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<K, V>     entries;
+    private long                hits;
+    private long                misses;
+    private long                evictions;
+
+    private Stripe(int maxSize) {
+      this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+          if (size() <= maxSize) {
+            return false;
+          }
+          evictions++;
+          return true;
+        }
+      };
+    }
+
+    private V get(K key) {
+      final V value = entries.get(key);
+      if (value == null) {
+        misses++;
+      } else {
+        hits++;
+      }
+      return value;
+    }
+
+  }
+
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hu.aestallon.adventofcode.year2023.util;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event spanning a memoised computation, reporting the hits, misses and evictions
+ * of its {@link MemoCache}.
+ *
+ * <p>The statistics are only read from the memo once the computation has finished. When the event
+ * is disabled, {@link #report(int, String, MemoCache)} does nothing.
+ */
+@Name("hu.aestallon.adventofcode.Memo")
+@Label("Memo")
+@Category({ "Advent of Code", "Memoisation" })
+@Description("A memoised computation of a solver, with the hits, misses and evictions of its memo")
+@StackTrace(false)
+public final class MemoEvent extends jdk.jfr.Event {
+
+  @Label("Day")
+  int day;
+
+  @Label("Memo")
+  String memo;
+
+  @Label("Hits")
+  long hits;
+
+  @Label("Misses")
+  long misses;
+
+  @Label("Evictions")
+  long evictions;
+
+  @Label("Size")
+  long size;
+
+  public void report(int day, String memo, MemoCache<?, ?> cache) {
+    end();
+    if (shouldCommit()) {
+      commitWith(day, memo, cache.stats());
+    }
+  }
+
+  /** Reports the statistics of a memo other than a {@link MemoCache}, e.g. a table of counts. */
+  public void report(int day, String memo, MemoCache.Stats stats) {
+    end();
+    if (shouldCommit()) {
+      commitWith(day, memo, stats);
+    }
+  }
+
+  private void commitWith(int day, String memo, MemoCache.Stats stats) {
+    this.day = day;
+    this.memo = memo;
+    this.hits = stats.hits();
+    this.misses = stats.misses();
+    this.evictions = stats.evictions();
+    this.size = stats.size();
+    commit();
+  }
+
+}
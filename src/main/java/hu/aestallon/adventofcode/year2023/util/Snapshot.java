@@ -0,0 +1,264 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hu.aestallon.adventofcode.year2023.util;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A versioned binary image of a parsed puzzle model, made of a sequence of primitive arrays.
+ *
+ * <p>The file starts with a magic number, the version of this format and the schema of the model,
+ * followed by the sections in the order they were written. Each section is a type tag, an element
+ * count and the elements in little-endian order, padded to 8 bytes, so loading a section is a
+ * single bulk copy out of the memory mapping. Models are stored as tables of their primitive
+ * fields, thus loading them involves no text parsing. A model may still build its solving
+ * structures from the loaded tables, e.g. objects of its rows or a hash map of its entries, which
+ * is a single pass over primitives.
+ *
+ * <p>The schema names the model and the layout of its sections. It has to be changed whenever the
+ * layout does, so images written by an older layout are rejected instead of being misread.
+ */
+public final class Snapshot {
+
+  private static final int MAGIC          = 0x53434F41; // "AOCS"
+  private static final int FORMAT_VERSION = 1;
+
+  private static final byte BYTES = 'B';
+  private static final byte INTS  = 'I';
+  private static final byte LONGS = 'L';
+
+  private Snapshot() {}
+
+  private static int padding(int length) {
+    return -length & 7;
+  }
+
+  /** Collects the sections of a model, and writes them to a file at once. */
+  public static final class Writer {
+
+    private final String schema;
+    private ByteBuffer   buffer;
+
+    public Writer(String schema) {
+      this.schema = schema;
+      this.buffer = ByteBuffer.allocate(1 << 12).order(ByteOrder.LITTLE_ENDIAN);
+      buffer.putInt(MAGIC).putInt(FORMAT_VERSION);
+      writeBytes(schema.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void ensureCapacity(int bytes) {
+      if (buffer.remaining() < bytes) {
+        final int capacity = Math.max(buffer.capacity() * 2, buffer.position() + bytes);
+        buffer = ByteBuffer.allocate(capacity)
+            .order(ByteOrder.LITTLE_ENDIAN)
+            .put(buffer.flip());
+      }
+    }
+
+    private void header(byte type, int count, int elementSize) {
+      final long length = (long) count * elementSize;
+      if (length > Integer.MAX_VALUE - 16) {
+        throw new IllegalArgumentException("Section of " + length + " bytes is too large!");
+      }
+      ensureCapacity(8 + (int) length + 8);
+      buffer.put(type).put(new byte[3]).putInt(count);
+    }
+
+    private void pad() {
+      buffer.put(new byte[padding(buffer.position())]);
+    }
+
+    public Writer writeBytes(byte[] values) {
+      header(BYTES, values.length, Byte.BYTES);
+      buffer.put(values);
+      pad();
+      return this;
+    }
+
+    public Writer writeInts(int[] values) {
+      header(INTS, values.length, Integer.BYTES);
+      buffer.asIntBuffer().put(values);
+      buffer.position(buffer.position() + values.length * Integer.BYTES);
+      pad();
+      return this;
+    }
+
+    public Writer writeLongs(long[] values) {
+      header(LONGS, values.length, Long.BYTES);
+      buffer.asLongBuffer().put(values);
+      buffer.position(buffer.position() + values.length * Long.BYTES);
+      return this;
+    }
+
+    /** Writes the cells of a grid along with its dimensions. */
+    public Writer writeGrid(Grid grid) {
+      writeInts(new int[] { grid.rows(), grid.cols() });
+      return writeBytes(grid.cells());
+    }
+
+    /**
+     * Writes the snapshot to the given file, replacing it atomically, so concurrent readers never
+     * see a partial image.
+     */
+    public void writeTo(Path file) throws IOException {
+      final Path directory = file.toAbsolutePath().getParent();
+      Files.createDirectories(directory);
+      final Path tmp = Files.createTempFile(directory, "snapshot", ".tmp");
+      try (final var channel = FileChannel.open(tmp, StandardOpenOption.WRITE)) {
+        final ByteBuffer content = buffer.duplicate().flip();
+        while (content.hasRemaining()) {
+          channel.write(content);
+        }
+      } catch (IOException e) {
+        Files.deleteIfExists(tmp);
+        throw e;
+      }
+      Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    @Override
+    public String toString() {
+      return "Snapshot.Writer[ " + schema + " ]";
+    }
+
+  }
+
+  /** Reads the sections of a memory-mapped snapshot in the order they were written. */
+  public static final class Reader {
+
+    /**
+     * Maps the snapshot at the given path.
+     *
+     * @throws IOException if the file cannot be read, or is not a snapshot of the given schema in
+     *                     the current format
+     */
+    public static Reader map(Path file, String schema) throws IOException {
+      final ByteBuffer buffer;
+      try (final var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+        buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0L, channel.size());
+      }
+      buffer.order(ByteOrder.LITTLE_ENDIAN);
+
+      final var reader = new Reader(file, buffer);
+      try {
+        if (buffer.getInt() != MAGIC) {
+          throw new IOException(file + " is not a snapshot!");
+        }
+        final int version = buffer.getInt();
+        if (version != FORMAT_VERSION) {
+          throw new IOException(file + " is of snapshot format " + version + " instead of "
+                                + FORMAT_VERSION + "!");
+        }
+        final String actual = new String(reader.readBytes(), StandardCharsets.UTF_8);
+        if (!actual.equals(schema)) {
+          throw new IOException(
+              file + " is a snapshot of " + actual + " instead of " + schema + "!");
+        }
+      } catch (RuntimeException e) {
+        throw new IOException(file + " is corrupt!", e);
+      }
+      return reader;
+    }
+
+    private final Path       file;
+    private final ByteBuffer buffer;
+
+    private Reader(Path file, ByteBuffer buffer) {
+      this.file = file;
+      this.buffer = buffer;
+    }
+
+    private int header(byte type, int elementSize) {
+      if (buffer.remaining() < 8) {
+        throw new IllegalStateException(file + " has no more sections!");
+      }
+      final byte actual = buffer.get();
+      buffer.position(buffer.position() + 3);
+      final int count = buffer.getInt();
+      if (actual != type) {
+        throw new IllegalStateException(
+            "Expected a section of type " + (char) type + " in " + file + ", found "
+            + (char) actual + "!");
+      }
+      if (count < 0 || (long) count * elementSize > buffer.remaining()) {
+        throw new IllegalStateException("Section of " + count + " elements exceeds " + file + "!");
+      }
+      return count;
+    }
+
+    private void skipPadding() {
+      buffer.position(buffer.position() + padding(buffer.position()));
+    }
+
+    /**
+     * @throws IllegalStateException if the next section is not a byte array, or is truncated
+     */
+    public byte[] readBytes() {
+      final byte[] values = new byte[header(BYTES, Byte.BYTES)];
+      buffer.get(values);
+      skipPadding();
+      return values;
+    }
+
+    /**
+     * @throws IllegalStateException if the next section is not an int array, or is truncated
+     */
+    public int[] readInts() {
+      final int[] values = new int[header(INTS, Integer.BYTES)];
+      buffer.asIntBuffer().get(values);
+      buffer.position(buffer.position() + values.length * Integer.BYTES);
+      skipPadding();
+      return values;
+    }
+
+    /**
+     * @throws IllegalStateException if the next section is not a long array, or is truncated
+     */
+    public long[] readLongs() {
+      final long[] values = new long[header(LONGS, Long.BYTES)];
+      buffer.asLongBuffer().get(values);
+      buffer.position(buffer.position() + values.length * Long.BYTES);
+      return values;
+    }
+
+    /**
+     * @throws IllegalStateException if the next sections do not hold a grid
+     */
+    public Grid readGrid() {
+      final int[] dimensions = readInts();
+      if (dimensions.length != 2) {
+        throw new IllegalStateException("Expected grid dimensions in " + file + "!");
+      }
+      return Grid.of(dimensions[0], dimensions[1], readBytes());
+    }
+
+    /** Whether every section has been read. */
+    public boolean isExhausted() {
+      return !buffer.hasRemaining();
+    }
+
+  }
+
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hu.aestallon.adventofcode.year2023.util;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Compares as many bytes at a time as a vector species holds, by default the preferred one of the
+ * CPU, finishing the ranges not filling a whole vector byte by byte.
+ *
+ * <p>Only loaded by {@link ByteScan} once it has made sure the incubator module is present.
+ */
+final class VectorByteScan implements ByteScan.Kernel {
+
+  private final VectorSpecies<Byte> species;
+  private final int                 lanes;
+
+  VectorByteScan() {
+    this(ByteVector.SPECIES_PREFERRED);
+  }
+
+  VectorByteScan(VectorSpecies<Byte> species) {
+    this.species = species;
+    this.lanes = species.length();
+  }
+
+  int lanes() {
+    return lanes;
+  }
+
+  private static VectorMask<Byte> digits(ByteVector v) {
+    return v.compare(VectorOperators.GE, (byte) '0').and(v.compare(VectorOperators.LE, (byte) '9'));
+  }
+
+  @Override
+  public int indexOf(byte[] a, int from, int to, byte b) {
+    int i = from;
+    for (final int bound = from + species.loopBound(to - from); i < bound; i += lanes) {
+      final VectorMask<Byte> m = ByteVector.fromArray(species, a, i).eq(b);
+      if (m.anyTrue()) {
+        return i + m.firstTrue();
+      }
+    }
+    for (; i < to; i++) {
+      if (a[i] == b) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public int lastIndexOf(byte[] a, int from, int to, byte b) {
+    int i = to;
+    for (; i - lanes >= from; i -= lanes) {
+      final VectorMask<Byte> m = ByteVector.fromArray(species, a, i - lanes).eq(b);
+      if (m.anyTrue()) {
+        return i - lanes + m.lastTrue();
+      }
+    }
+    for (i--; i >= from; i--) {
+      if (a[i] == b) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public int countOf(byte[] a, int from, int to, byte b) {
+    int count = 0;
+    int i = from;
+    for (final int bound = from + species.loopBound(to - from); i < bound; i += lanes) {
+      count += ByteVector.fromArray(species, a, i).eq(b).trueCount();
+    }
+    for (; i < to; i++) {
+      if (a[i] == b) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  @Override
+  public long maskOf(byte[] a, int from, int to, byte b) {
+    long mask = 0L;
+    int i = from;
+    if (lanes <= Long.SIZE) {
+      for (final int bound = from + species.loopBound(to - from); i < bound; i += lanes) {
+        mask |= ByteVector.fromArray(species, a, i).eq(b).toLong() << (i - from);
+      }
+    }
+    for (; i < to; i++) {
+      if (a[i] == b) {
+        mask |= 1L << (i - from);
+      }
+    }
+    return mask;
+  }
+
+  @Override
+  public int firstDigit(byte[] a, int from, int to) {
+    int i = from;
+    for (final int bound = from + species.loopBound(to - from); i < bound; i += lanes) {
+      final VectorMask<Byte> m = digits(ByteVector.fromArray(species, a, i));
+      if (m.anyTrue()) {
+        return i + m.firstTrue();
+      }
+    }
+    for (; i < to; i++) {
+      if (ByteScan.isDigit(a[i])) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public int lastDigit(byte[] a, int from, int to) {
+    int i = to;
+    for (; i - lanes >= from; i -= lanes) {
+      final VectorMask<Byte> m = digits(ByteVector.fromArray(species, a, i - lanes));
+      if (m.anyTrue()) {
+        return i - lanes + m.lastTrue();
+      }
+    }
+    for (i--; i >= from; i--) {
+      if (ByteScan.isDigit(a[i])) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package hu.aestallon.adventofcode.year2023.visualisation;
+
+import hu.aestallon.adventofcode.year2023.util.IntIntHashMap;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageTypeSpecifier;
+import javax.imageio.ImageWriter;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.metadata.IIOMetadataNode;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBuffer;
+import java.awt.image.IndexColorModel;
+import java.awt.image.WritableRaster;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Writes frames into an animated GIF through the GIF writer of {@link ImageIO}.
+ *
+ * <p>Frames of at most 256 colours are indexed by a single pass over their pixels. Only frames of
+ * more colours are left to the writer to quantise, which is far slower.
+ */
+final class AnimatedGif implements FrameSink {
+
+  private static final String FORMAT = "javax_imageio_gif_image_1.0";
+
+  private final ImageOutputStream out;
+  private final ImageWriter       writer;
+  private final int               delayCentis;
+  private boolean                 first = true;
+
+  AnimatedGif(Path file, int delayMillis) throws IOException {
+    final Path parent = file.toAbsolutePath().getParent();
+    if (parent != null) {
+      Files.createDirectories(parent);
+    }
+    this.writer = ImageIO.getImageWritersByFormatName("gif").next();
+    this.out = ImageIO.createImageOutputStream(file.toFile());
+    this.delayCentis = Math.max(1, delayMillis / 10);
+    writer.setOutput(out);
+    writer.prepareWriteSequence(null);
+  }
+
+  /**
+   * Writes only the region painted since the previous frame, laid over the previous frames, so a
+   * step lighting up a few cells takes a few bytes rather than a whole frame.
+   */
+  @Override
+  public void write(FrameRenderer frame) throws IOException {
+    Rectangle region = frame.takeDirtyRegion();
+    if (region.isEmpty()) {
+      // a frame is still needed to keep the timing, so a single unchanged pixel is written:
+      region = new Rectangle(0, 0, 1, 1);
+    }
+
+    final BufferedImage image = indexed(frame, region);
+    final IIOMetadata metadata = writer.getDefaultImageMetadata(
+        ImageTypeSpecifier.createFromRenderedImage(image),
+        null);
+    final IIOMetadataNode root = (IIOMetadataNode) metadata.getAsTree(FORMAT);
+
+    final IIOMetadataNode descriptor = child(root, "ImageDescriptor");
+    descriptor.setAttribute("imageLeftPosition", String.valueOf(region.x));
+    descriptor.setAttribute("imageTopPosition", String.valueOf(region.y));
+    descriptor.setAttribute("imageWidth", String.valueOf(region.width));
+    descriptor.setAttribute("imageHeight", String.valueOf(region.height));
+    descriptor.setAttribute("interlaceFlag", "FALSE");
+
+    if (image.getColorModel() instanceof IndexColorModel palette) {
+      // the writer would reuse the palette of the first frame, unless told otherwise:
+      final IIOMetadataNode table = new IIOMetadataNode("LocalColorTable");
+      table.setAttribute("sizeOfLocalColorTable", String.valueOf(palette.getMapSize()));
+      table.setAttribute("sortFlag", "FALSE");
+      for (int i = 0; i < palette.getMapSize(); i++) {
+        final var entry = new IIOMetadataNode("ColorTableEntry");
+        entry.setAttribute("index", String.valueOf(i));
+        entry.setAttribute("red", String.valueOf(palette.getRed(i)));
+        entry.setAttribute("green", String.valueOf(palette.getGreen(i)));
+        entry.setAttribute("blue", String.valueOf(palette.getBlue(i)));
+        table.appendChild(entry);
+      }
+      final IIOMetadataNode previous = child(root, "LocalColorTable");
+      root.replaceChild(table, previous);
+    }
+
+    final IIOMetadataNode control = child(root, "GraphicControlExtension");
+    control.setAttribute("disposalMethod", "doNotDispose");
+    control.setAttribute("userInputFlag", "FALSE");
+    control.setAttribute("transparentColorFlag", "FALSE");
+    control.setAttribute("delayTime", String.valueOf(delayCentis));
+    control.setAttribute("transparentColorIndex", "0");
+
+    if (first) {
+      // only the first frame carries the extension making the animation loop endlessly:
+      final IIOMetadataNode loop = new IIOMetadataNode("ApplicationExtension");
+      loop.setAttribute("applicationID", "NETSCAPE");
+      loop.setAttribute("authenticationCode", "2.0");
+      loop.setUserObject(new byte[] { 1, 0, 0 });
+      child(root, "ApplicationExtensions").appendChild(loop);
+      first = false;
+    }
+
+    metadata.setFromTree(FORMAT, root);
+    writer.writeToSequence(new IIOImage(image, null, metadata), null);
+  }
+
+  /** Copies the given region of the frame, indexing its colours if there are at most 256. */
+  static BufferedImage indexed(FrameRenderer frame, Rectangle region) {
+    final int[] pixels = frame.pixels();
+    final int width = frame.image().getWidth();
+    final byte[] indices = new byte[region.width * region.height];
+    final IntIntHashMap indexByColour = new IntIntHashMap(256);
+    final int[] palette = new int[256];
+    int colours = 0;
+    for (int y = 0; y < region.height; y++) {
+      for (int x = 0; x < region.width; x++) {
+        final int rgb = pixels[(region.y + y) * width + region.x + x] & 0xFFFFFF;
+        int index = indexByColour.getOrDefault(rgb, -1);
+        if (index < 0) {
+          if (colours == palette.length) {
+            return frame.image().getSubimage(region.x, region.y, region.width, region.height);
+          }
+          index = colours++;
+          indexByColour.put(rgb, index);
+          palette[index] = rgb;
+        }
+        indices[y * region.width + x] = (byte) index;
+      }
+    }
+
+    // colour tables of GIFs hold a power of two of at least two colours:
+    final int size = Math.max(2, Integer.highestOneBit(colours - 1) << 1);
+    final var model = new IndexColorModel(8, size, palette, 0, false, -1, DataBuffer.TYPE_BYTE);
+    final WritableRaster raster = model.createCompatibleWritableRaster(
+        region.width,
+        region.height);
+    raster.setDataElements(0, 0, region.width, region.height, indices);
+    return new BufferedImage(model, raster, false, null);
+  }
+
+  private static IIOMetadataNode child(IIOMetadataNode parent, String name) {
+    for (int i = 0; i < parent.getLength(); i++) {
+      if (parent.item(i).getNodeName().equals(name)) {
+        return (IIOMetadataNode) parent.item(i);
+      }
+    }
+    final var node = new IIOMetadataNode(name);
+    parent.appendChild(node);
+    return node;
+  }
+
+  @Override
+  public void close() throws IOException {
+    try (out) {
+      writer.endWriteSequence();
+    } finally {
+      writer.dispose();
+    }
+  }
+
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package hu.aestallon.adventofcode.year2023.visualisation;
+
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.Arrays;
+
+/**
+ * Renders the cells of a grid as squares of pixels, straight into the {@code int[]} backing an
+ * image, without needing a display.
+ *
+ * <p>The image is kept between frames, so each frame only paints the cells which changed since the
+ * previous one. The region painted since the last frame was taken is tracked, so sinks may write
+ * only that region.
+ */
+public final class FrameRenderer {
+
+  private final int           rows;
+  private final int           cols;
+  private final int           scale;
+  private final BufferedImage image;
+  private final int[]         pixels;
+
+  private int dirtyMinX;
+  private int dirtyMinY;
+  private int dirtyMaxX;
+  private int dirtyMaxY;
+
+  public FrameRenderer(int rows, int cols, int scale) {
+    if (rows < 1 || cols < 1 || scale < 1) {
+      throw new IllegalArgumentException(
+          "Cannot render %d x %d cells at a scale of %d!".formatted(rows, cols, scale));
+    }
+    this.rows = rows;
+    this.cols = cols;
+    this.scale = scale;
+    this.image = new BufferedImage(cols * scale, rows * scale, BufferedImage.TYPE_INT_RGB);
+    this.pixels = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+    markDirty(0, 0, image.getWidth(), image.getHeight());
+  }
+
+  public int rows() {
+    return rows;
+  }
+
+  public int cols() {
+    return cols;
+  }
+
+  /** Returns the rendered image, which keeps changing as further cells are painted. */
+  public BufferedImage image() {
+    return image;
+  }
+
+  /** Returns the pixels of the image, row by row. */
+  int[] pixels() {
+    return pixels;
+  }
+
+  public void fill(int rgb) {
+    Arrays.fill(pixels, rgb);
+    markDirty(0, 0, image.getWidth(), image.getHeight());
+  }
+
+  public void paint(int row, int col, int rgb) {
+    final int width = image.getWidth();
+    final int from = row * scale * width + col * scale;
+    for (int y = 0; y < scale; y++) {
+      Arrays.fill(pixels, from + y * width, from + y * width + scale, rgb);
+    }
+    markDirty(col * scale, row * scale, (col + 1) * scale, (row + 1) * scale);
+  }
+
+  private void markDirty(int minX, int minY, int maxX, int maxY) {
+    dirtyMinX = Math.min(dirtyMinX, minX);
+    dirtyMinY = Math.min(dirtyMinY, minY);
+    dirtyMaxX = Math.max(dirtyMaxX, maxX);
+    dirtyMaxY = Math.max(dirtyMaxY, maxY);
+  }
+
+  /**
+   * Returns the pixels painted since the previous call, which is the whole image on the first call,
+   * and an empty rectangle if nothing was painted.
+   */
+  Rectangle takeDirtyRegion() {
+    final var region = (dirtyMinX < dirtyMaxX)
+        ? new Rectangle(dirtyMinX, dirtyMinY, dirtyMaxX - dirtyMinX, dirtyMaxY - dirtyMinY)
+        : new Rectangle();
+    dirtyMinX = image.getWidth();
+    dirtyMinY = image.getHeight();
+    dirtyMaxX = 0;
+    dirtyMaxY = 0;
+    return region;
+  }
+
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package hu.aestallon.adventofcode.year2023.visualisation;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Optional;
+
+/** Receives the frames of a visualisation rendered without a display. */
+public interface FrameSink extends AutoCloseable {
+
+  String PNG_OPTION = "--png=";
+  String GIF_OPTION = "--gif=";
+
+  /** The delay between the frames of animated GIFs. */
+  int GIF_DELAY_MILLIS = 20;
+
+  /** Writes every frame as a numbered PNG file into the given directory. */
+  static FrameSink pngSequence(Path directory) throws IOException {
+    return new PngSequence(directory);
+  }
+
+  /** Writes the frames as a single, endlessly looping animated GIF. */
+  static FrameSink animatedGif(Path file, int delayMillis) throws IOException {
+    return new AnimatedGif(file, delayMillis);
+  }
+
+  /**
+   * Creates the sink chosen by a {@code --png=<directory>} or a {@code --gif=<file>} argument, if
+   * either is given.
+   */
+  static Optional<FrameSink> fromArgs(String... args) throws IOException {
+    final Optional<String> option = Arrays.stream(args)
+        .filter(it -> it.startsWith(PNG_OPTION) || it.startsWith(GIF_OPTION))
+        .reduce((a, b) -> b);
+    if (option.isEmpty()) {
+      return Optional.empty();
+    }
+
+    final String arg = option.get();
+    return arg.startsWith(PNG_OPTION)
+        ? Optional.of(pngSequence(Path.of(arg.substring(PNG_OPTION.length()))))
+        : Optional.of(animatedGif(Path.of(arg.substring(GIF_OPTION.length())), GIF_DELAY_MILLIS));
+  }
+
+  /**
+   * Writes the current state of the image of the given renderer, which may be painted further once
+   * this returns.
+   */
+  void write(FrameRenderer frame) throws IOException;
+
+  @Override
+  void close() throws IOException;
+
+}
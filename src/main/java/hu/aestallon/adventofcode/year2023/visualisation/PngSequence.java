@@ -0,0 +1,45 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package hu.aestallon.adventofcode.year2023.visualisation;
+
+import javax.imageio.ImageIO;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+final class PngSequence implements FrameSink {
+
+  private final Path directory;
+  private int        frames;
+
+  PngSequence(Path directory) throws IOException {
+    this.directory = Files.createDirectories(directory);
+  }
+
+  @Override
+  public void write(FrameRenderer frame) throws IOException {
+    // every file holds a whole frame, so the painted region does not matter:
+    frame.takeDirtyRegion();
+    final Path file = directory.resolve("frame-%06d.png".formatted(frames++));
+    if (!ImageIO.write(frame.image(), "png", file.toFile())) {
+      throw new IOException("No PNG writer is available!");
+    }
+  }
+
+  @Override
+  public void close() {}
+
+}
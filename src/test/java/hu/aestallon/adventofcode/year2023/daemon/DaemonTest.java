@@ -0,0 +1,122 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hu.aestallon.adventofcode.year2023.daemon;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.URISyntaxException;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+class DaemonTest {
+
+  /** Runs a server on a socket of its own for the duration of the given test body. */
+  private static void withServer(ServerTest test) throws Exception {
+    final Path directory = Files.createTempDirectory("aoc-daemon");
+    final Path socket = directory.resolve("daemon.sock");
+    final String previous = System.setProperty("aoc.socket", socket.toString());
+    final var server = new Daemon.Server(UnixDomainSocketAddress.of(socket));
+    final var serving = CompletableFuture.runAsync(server::serve);
+    try {
+      test.run(server);
+    } finally {
+      server.stop();
+      serving.get(10, TimeUnit.SECONDS);
+      if (previous == null) {
+        System.clearProperty("aoc.socket");
+      } else {
+        System.setProperty("aoc.socket", previous);
+      }
+      Files.deleteIfExists(socket);
+      Files.delete(directory);
+    }
+  }
+
+  @FunctionalInterface
+  private interface ServerTest {
+    void run(Daemon.Server server) throws Exception;
+  }
+
+  private Path resource(String name) throws URISyntaxException {
+    return Path.of(getClass().getResource(name).toURI());
+  }
+
+  @Test
+  void clientShouldReceiveAnswersOfResidentSolvers() throws Exception {
+    withServer(server -> {
+      try (final var client = new Client()) {
+        assertThat(client.solve(1, 1, resource("/01/input01.txt"))).isEqualTo(54_304L);
+        assertThat(client.solve(1, 2, resource("/01/input01.txt"))).isEqualTo(54_418L);
+      }
+    });
+  }
+
+  @Test
+  void missingInputShouldBeAnsweredWithError() throws Exception {
+    withServer(server -> {
+      try (final var client = new Client()) {
+        assertThatThrownBy(() -> client.solve(1, 1, Path.of("/no/such/input01.txt")))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("Cannot read input file");
+        // the connection is still usable:
+        assertThat(client.solve(1, 1, resource("/01/input01.txt"))).isEqualTo(54_304L);
+      }
+    });
+  }
+
+  @Test
+  void unknownDayShouldBeAnsweredWithError() throws Exception {
+    withServer(server -> {
+      try (final var client = new Client()) {
+        assertThatThrownBy(() -> client.solve(26, 1, resource("/01/input01.txt")))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("No solver exists for day 26");
+      }
+    });
+  }
+
+  @Test
+  void idleClientShouldNotKeepServerFromStopping() throws Exception {
+    withServer(server -> {
+      try (final var idle = SocketChannel.open(Protocol.address())) {
+        // give the server a moment to hand the connection over to its handler:
+        Thread.sleep(100L);
+        CompletableFuture.runAsync(server::stop).get(10, TimeUnit.SECONDS);
+        assertThat(idle.read(ByteBuffer.allocate(1))).isEqualTo(-1);
+      }
+    });
+  }
+
+  @Test
+  void partNotSolvedYetShouldBeAnsweredWithError() throws Exception {
+    withServer(server -> {
+      try (final var client = new Client()) {
+        assertThatThrownBy(() -> client.solve(18, 2, resource("/18/input18.txt")))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("Part 2 of day 18 is not solved yet");
+      }
+    });
+  }
+
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hu.aestallon.adventofcode.year2023.daemon;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ProtocolTest {
+
+  @Test
+  void requestShouldSurviveRoundTrip() {
+    final var request = new Protocol.Request(16, 2, Path.of("/tmp/input 16.txt"));
+    assertThat(Protocol.Request.parse(request.format())).isEqualTo(request);
+    assertThat(Protocol.Request.parse("  3 1   in.txt ").input())
+        .isEqualTo(Path.of("in.txt"));
+  }
+
+  @Test
+  void responseShouldSurviveRoundTrip() {
+    final var response = new Protocol.Response(-54_304L, 1_234_567L);
+    assertThat(Protocol.Response.parse(response.format())).isEqualTo(response);
+  }
+
+  @Test
+  void malformedRequestShouldBeRejected() {
+    assertThatThrownBy(() -> Protocol.Request.parse("1 2"))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> Protocol.Request.parse("1 3 in.txt"))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> Protocol.Request.parse("one 1 in.txt"))
+        .isInstanceOf(NumberFormatException.class);
+  }
+
+  @Test
+  void malformedResponseShouldBeRejected() {
+    assertThatThrownBy(() -> Protocol.Response.parse("OK"))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> Protocol.Response.parse("OK 42"))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> Protocol.Response.parse("OK 42 17 3"))
+        .isInstanceOf(NumberFormatException.class);
+    assertThatThrownBy(() -> Protocol.Response.parse("NOPE 42 17"))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("Unexpected response");
+  }
+
+  @Test
+  void errorResponseShouldCarryItsMessage() {
+    assertThatThrownBy(() -> Protocol.Response.parse("ERR No solver exists for day 26"))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("No solver exists for day 26");
+  }
+
+}
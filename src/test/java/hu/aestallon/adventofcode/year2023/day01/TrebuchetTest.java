@@ -1,8 +1,22 @@
 package hu.aestallon.adventofcode.year2023.day01;
 
+import hu.aestallon.adventofcode.year2023.solver.Batch;
 import hu.aestallon.adventofcode.year2023.util.AocIO;
+import hu.aestallon.adventofcode.year2023.util.DifferentialFuzzer;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.random.RandomGenerator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
 import static org.assertj.core.api.Assertions.*;
 
 class TrebuchetTest {
@@ -37,4 +51,117 @@ class TrebuchetTest {
     assertThat(trebuchet.solvePart2()).isEqualTo(54_418);
   }
 
+  @Test
+  void mappedInputShouldReturnProblemAnswers() throws IOException, URISyntaxException {
+    final var input = AocIO.map(Path.of(getClass().getResource("/01/input01.txt").toURI()));
+    final var trebuchet = Trebuchet.of(input);
+    assertThat(trebuchet.solvePart1()).isEqualTo(54_304);
+    assertThat(trebuchet.solvePart2()).isEqualTo(54_418);
+  }
+
+  @Test
+  void incrementalSolverShouldKeepUpWithAppendedLines() {
+    final var lines = AocIO.lines("01", "input01.txt");
+    final var solver = new TrebuchetSolver();
+    assertThat(solver.incremental(1).orElseThrow().acceptAll(lines).currentAnswer()).isEqualTo(54_304L);
+    assertThat(solver.incremental(2).orElseThrow().acceptAll(lines).currentAnswer()).isEqualTo(54_418L);
+  }
+
+  @Test
+  void batchShouldAnswerEveryInputInSubmissionOrder() {
+    final var example = """
+        1abc2
+        pqr3stu8vwx
+        a1b2c3d4e5f
+        treb7uchet""".lines().toList();
+    final var problem = AocIO.lines("01", "input01.txt");
+    final List<List<String>> inputs = IntStream.range(0, 1_000)
+        .mapToObj(i -> (i % 3 == 0) ? problem : example)
+        .toList();
+
+    final List<Batch.Answers> answers = Batch.forDay(1, 16).solveLines(inputs);
+    assertThat(answers.stream().map(Batch.Answers::part1).toList()).isEqualTo(IntStream
+        .range(0, inputs.size())
+        .mapToObj(i -> OptionalLong.of((i % 3 == 0) ? 54_304L : 142L))
+        .toList());
+    assertThat(answers.get(0).part2()).isEqualTo(OptionalLong.of(54_418L));
+  }
+
+  @Test
+  void everySolutionShouldAgreeWithNaiveScanOnRandomLines() {
+    final var solver = new TrebuchetSolver();
+    DifferentialFuzzer
+        .<List<Long>>of(
+            lines -> List.of(
+                naiveCalibrationSum(lines, false), naiveCalibrationSum(lines, true),
+                naiveCalibrationSum(lines, false), naiveCalibrationSum(lines, true)),
+            lines -> List.of(
+                new Trebuchet(lines).solvePart1(), new Trebuchet(lines).solvePart2(),
+                solver.incremental(1).orElseThrow().acceptAll(lines).currentAnswer(),
+                solver.incremental(2).orElseThrow().acceptAll(lines).currentAnswer()))
+        .runs(1_000)
+        .check(TrebuchetTest::randomLines);
+  }
+
+
+  private static final String[] SPELLED = {
+      "one", "two", "three", "four", "five", "six", "seven", "eight", "nine"
+  };
+
+  /** Tries every number at every position of every line, as the puzzle describes it. */
+  private static long naiveCalibrationSum(List<String> lines, boolean spelled) {
+    long sum = 0L;
+    for (final String line : lines) {
+      final List<Integer> digits = new ArrayList<>();
+      for (int i = 0; i < line.length(); i++) {
+        if (Character.isDigit(line.charAt(i))) {
+          digits.add(line.charAt(i) - '0');
+        }
+        for (int n = 0; spelled && n < SPELLED.length; n++) {
+          if (line.startsWith(SPELLED[n], i)) {
+            digits.add(n + 1);
+          }
+        }
+      }
+      sum += digits.isEmpty() ? 0 : digits.get(0) * 10 + digits.get(digits.size() - 1);
+    }
+    return sum;
+  }
+
+  private static List<String> randomLines(RandomGenerator random) {
+    final String[] tokens = { "1", "5", "9", "e", "n", "o", "t", "x", "on", "eigh", "tw" };
+    return IntStream.range(0, random.nextInt(1, 8))
+        .mapToObj(__ -> IntStream.range(0, random.nextInt(0, 12))
+            .mapToObj(___ -> random.nextBoolean()
+                ? SPELLED[random.nextInt(SPELLED.length)]
+                : tokens[random.nextInt(tokens.length)])
+            .collect(Collectors.joining()))
+        .toList();
+  }
+
+  @Test
+  void overlappingNamesShouldCountFromBothEnds() {
+    assertThat(NumberAutomaton.FIRST.find("xtwone3four", 0, 11)).isEqualTo(2);
+    assertThat(NumberAutomaton.LAST.find("xtwone3four", 0, 11)).isEqualTo(4);
+    assertThat(NumberAutomaton.FIRST.find("oneight", 0, 7)).isEqualTo(1);
+    assertThat(NumberAutomaton.LAST.find("oneight", 0, 7)).isEqualTo(8);
+    assertThat(NumberAutomaton.LAST.find("sevenineightwo", 0, 5)).isEqualTo(7);
+    assertThat(NumberAutomaton.FIRST.find("ninine", 1, 6)).isEqualTo(9);
+    assertThat(NumberAutomaton.FIRST.find("nnin", 0, 4)).isEqualTo(-1);
+  }
+
+  @Test
+  void mappedInputShouldBeSummedAcrossManyChunks() throws IOException {
+    final var lines = AocIO.lines("01", "input01.txt");
+    final var file = Files.createTempFile("input01", ".txt");
+    try {
+      Files.write(file, Collections.nCopies(100, String.join("\r\n", lines) + "\r\n"));
+      final var trebuchet = Trebuchet.of(AocIO.map(file));
+      assertThat(trebuchet.solvePart1()).isEqualTo(100 * 54_304L);
+      assertThat(trebuchet.solvePart2()).isEqualTo(100 * 54_418L);
+    } finally {
+      Files.delete(file);
+    }
+  }
+
 }
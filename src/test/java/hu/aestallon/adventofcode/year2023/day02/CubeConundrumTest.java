@@ -4,6 +4,16 @@ import hu.aestallon.adventofcode.year2023.day02.internal.Sample;
 import hu.aestallon.adventofcode.year2023.util.AocIO;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
 import static org.assertj.core.api.Assertions.*;
 
 class CubeConundrumTest {
@@ -38,4 +48,61 @@ class CubeConundrumTest {
     assertThat(problem.solvePart2()).isEqualTo(63711);
   }
 
-}
\ No newline at end of file
+  @Test
+  void incrementalSolverShouldKeepUpWithAppendedLines() {
+    final var lines = AocIO.lines("02", "input02.txt");
+    final var solver = new CubeConundrumSolver();
+    assertThat(solver.incremental(1).orElseThrow().acceptAll(lines).currentAnswer()).isEqualTo(2439L);
+    assertThat(solver.incremental(2).orElseThrow().acceptAll(lines).currentAnswer()).isEqualTo(63711L);
+  }
+
+  @Test
+  void batchOfBoundsShouldAgreeWithOneBoundAtATime() {
+    final var problem = CubeConundrum.create(AocIO.lines("02", "input02.txt"));
+    final var random = new SplittableRandom(2023L);
+    final List<Sample> bounds = Stream
+        .generate(() -> Sample.of(random.nextInt(25), random.nextInt(25), random.nextInt(25)))
+        .limit(1_000)
+        .collect(Collectors.toCollection(ArrayList::new));
+    bounds.add(Sample.of(12, 13, 14));
+
+    final long[] answers = problem.solvePart1(bounds);
+    for (int i = 0; i < bounds.size(); i++) {
+      assertThat(answers[i]).isEqualTo(problem.solvePart1(bounds.get(i)));
+    }
+    assertThat(answers[bounds.size() - 1]).isEqualTo(2439L);
+  }
+
+  @Test
+  void mappedInputShouldReturnProblemAnswers() throws IOException, URISyntaxException {
+    final var input = AocIO.map(Path.of(getClass().getResource("/02/input02.txt").toURI()));
+    final var problem = CubeConundrum.create(input);
+    assertThat(problem.solvePart1(Sample.of(12, 13, 14))).isEqualTo(2439L);
+    assertThat(problem.solvePart2()).isEqualTo(63711L);
+  }
+
+  @Test
+  void batchOfBoundsShouldFallBackToColumnPassesForTooManyDistinctValues() {
+    // 1_100 distinct greens and blues would take an index of over 2^20 cells:
+    final var random = new SplittableRandom(2023L);
+    final List<String> games = IntStream
+        .rangeClosed(1, 1_100)
+        .mapToObj(i -> "Game %d: %d red, %d green; %d blue".formatted(
+            i, random.nextInt(100), i, 2_200 - i))
+        .toList();
+    final var problem = CubeConundrum.create(games);
+    final List<Sample> bounds = Stream
+        .generate(() -> Sample.of(
+            random.nextInt(100), random.nextInt(1_200), random.nextInt(1_100, 2_300)))
+        .limit(200)
+        .toList();
+
+    final long[] answers = problem.solvePart1(bounds);
+    for (int i = 0; i < bounds.size(); i++) {
+      assertThat(answers[i]).isEqualTo(problem.solvePart1(bounds.get(i)));
+    }
+    assertThat(problem.solvePart1(List.of(Sample.of(100, 1_100, 2_200))))
+        .isEqualTo(new long[] { 1_100L * 1_101L / 2 });
+  }
+
+}
@@ -1,10 +1,15 @@
 package hu.aestallon.adventofcode.year2023.day03;
 
+import hu.aestallon.adventofcode.year2023.util.AllocationBudgetExtension;
+import hu.aestallon.adventofcode.year2023.util.AllocationMeter;
 import hu.aestallon.adventofcode.year2023.util.AocIO;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
 
+import static hu.aestallon.adventofcode.year2023.util.AllocationMeter.MIB;
 import static org.assertj.core.api.Assertions.*;
 
+@ExtendWith(AllocationBudgetExtension.class)
 class GearRatiosTest {
 
   @Test
@@ -26,11 +31,11 @@ class GearRatiosTest {
   }
 
   @Test
-  void problemInputShouldReturnProblemAnswers() {
+  void problemInputShouldReturnProblemAnswers(AllocationMeter meter) {
     final var input = AocIO.lines("03", "input03.txt");
     final var problem = GearRatios.create(input);
-    assertThat(problem.solvePart1()).isEqualTo(560_670L);
-    assertThat(problem.solvePart2()).isEqualTo(91_622_824L);
+    assertThat(meter.solve("part 1", 16 * MIB, problem::solvePart1)).isEqualTo(560_670L);
+    assertThat(meter.solve("part 2", 16 * MIB, problem::solvePart2)).isEqualTo(91_622_824L);
   }
 
 }
\ No newline at end of file
@@ -53,4 +53,18 @@ class ScratchcardsTest {
     assertThat(problem.solvePart2()).isEqualTo(11_787_590L);
   }
 
-}
\ No newline at end of file
+  @Test
+  void incrementalSolverShouldKeepUpWithAppendedLines() {
+    final var lines = AocIO.lines("04", "input04.txt");
+    final var solver = new ScratchcardsSolver();
+    assertThat(solver.incremental(1).orElseThrow().acceptAll(lines).currentAnswer()).isEqualTo(18_519L);
+
+    // cards win copies of later cards, so they have to arrive in order, but may do so in batches:
+    final var part2 = solver.incremental(2).orElseThrow();
+    final int half = lines.size() / 2;
+    part2.acceptAll(lines.subList(0, half));
+    assertThat(part2.acceptAll(lines.subList(half, lines.size())).currentAnswer())
+        .isEqualTo(11_787_590L);
+  }
+
+}
@@ -19,16 +19,34 @@ package hu.aestallon.adventofcode.year2023.day05;
 
 import hu.aestallon.adventofcode.year2023.day04.Scratchcards;
 import hu.aestallon.adventofcode.year2023.util.AocIO;
+import hu.aestallon.adventofcode.year2023.util.DifferentialFuzzer;
 import org.junit.jupiter.api.Test;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.random.RandomGenerator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 class IfYouGiveASeedAFertilizerTest {
 
   private static final Logger log = LoggerFactory.getLogger(IfYouGiveASeedAFertilizerTest.class);
 
+  private static final String[] MAP_NAMES = {
+      "seed-to-soil", "soil-to-fertilizer", "fertilizer-to-water", "water-to-light",
+      "light-to-temperature", "temperature-to-humidity", "humidity-to-location"
+  };
+  private static final long     MAX_NUMBER = 100L;
+
   @Test
   void exampleInputShouldYieldExampleResult() {
     final var input = """
@@ -82,4 +100,156 @@ class IfYouGiveASeedAFertilizerTest {
     // assertThat(problem.solvePart2()).isEqualTo(11_787_590L);
   }
 
+  @Test
+  void lowestLocationsShouldAgreeWithForwardSearchOnRandomAlmanacs() {
+    DifferentialFuzzer
+        .<List<Long>>of(
+            lines -> {
+              final long[] seeds = seedsOf(lines);
+              final List<List<long[]>> maps = mapsOf(lines);
+              long lowestOfRanges = Long.MAX_VALUE;
+              for (int i = 0; i + 1 < seeds.length; i += 2) {
+                for (long seed = seeds[i]; seed < seeds[i] + seeds[i + 1]; seed++) {
+                  lowestOfRanges = Math.min(lowestOfRanges, locationOf(seed, maps));
+                }
+              }
+              return List.of(
+                  Arrays.stream(seeds).map(it -> locationOf(it, maps)).min().orElseThrow(),
+                  lowestOfRanges);
+            },
+            lines -> {
+              final var problem = new IfYouGiveASeedAFertilizer(lines);
+              return List.of(problem.solvePart1(), problem.solvePart2());
+            })
+        .validIf(IfYouGiveASeedAFertilizerTest::isPermutingAlmanac)
+        .runs(300)
+        .check(IfYouGiveASeedAFertilizerTest::randomAlmanac);
+  }
+
+  private static long[] seedsOf(List<String> lines) {
+    return Arrays.stream(lines.get(0).substring("seeds:".length()).trim().split(" +"))
+        .mapToLong(Long::parseLong)
+        .toArray();
+  }
+
+  private static List<List<long[]>> mapsOf(List<String> lines) {
+    final List<List<long[]>> maps = new ArrayList<>();
+    for (final String line : lines.subList(1, lines.size())) {
+      if (line.endsWith("map:")) {
+        maps.add(new ArrayList<>());
+      } else if (!line.isBlank()) {
+        maps.get(maps.size() - 1).add(Arrays.stream(line.trim().split(" +"))
+            .mapToLong(Long::parseLong)
+            .toArray());
+      }
+    }
+    return maps;
+  }
+
+  private static long locationOf(long seed, List<List<long[]>> maps) {
+    long value = seed;
+    for (final List<long[]> map : maps) {
+      for (final long[] range : map) {
+        if (value >= range[1] && value < range[1] + range[2]) {
+          value = range[0] + value - range[1];
+          break;
+        }
+      }
+    }
+    return value;
+  }
+
+  /**
+   * Accepts almanacs laid out as the puzzle input, with distinct seeds and seed ranges which are
+   * not empty. The search for the lowest location maps locations back to seeds, so it relies on
+   * every map merely permuting the numbers it covers, as in the puzzle input.
+   */
+  private static boolean isPermutingAlmanac(List<String> lines) {
+    final long[] seeds;
+    final List<List<long[]>> maps;
+    try {
+      seeds = seedsOf(lines);
+      maps = mapsOf(lines);
+    } catch (RuntimeException e) {
+      return false;
+    }
+
+    if (lines.size() < 3 || !lines.get(1).isBlank() || maps.size() != MAP_NAMES.length) {
+      return false;
+    }
+    for (int i = 1; i < lines.size(); i++) {
+      final boolean precedesMap = i + 1 < lines.size() && lines.get(i + 1).endsWith("map:");
+      if (lines.get(i).isBlank() != precedesMap) {
+        return false;
+      }
+    }
+
+    if (seeds.length < 2 || seeds.length % 2 != 0
+        || Arrays.stream(seeds).distinct().count() != seeds.length
+        || Arrays.stream(seeds).anyMatch(it -> it >= MAX_NUMBER)
+        || IntStream.range(0, seeds.length / 2).anyMatch(i -> seeds[2 * i + 1] == 0)) {
+      return false;
+    }
+    return maps.stream().allMatch(IfYouGiveASeedAFertilizerTest::isPermutation);
+  }
+
+  private static boolean isPermutation(List<long[]> map) {
+    final BitSet sources = new BitSet();
+    final BitSet destinations = new BitSet();
+    for (final long[] range : map) {
+      if (range.length != 3 || range[2] == 0
+          || Math.max(range[0], range[1]) + range[2] > MAX_NUMBER) {
+        return false;
+      }
+      final int src = (int) range[1];
+      final int dest = (int) range[0];
+      final int length = (int) range[2];
+      if (sources.get(src, src + length).cardinality() > 0
+          || destinations.get(dest, dest + length).cardinality() > 0) {
+        return false;
+      }
+      sources.set(src, src + length);
+      destinations.set(dest, dest + length);
+    }
+    return sources.equals(destinations);
+  }
+
+  /**
+   * Generates an almanac of which every map cuts the numbers below a random bound into segments,
+   * and moves them into a random order.
+   */
+  private static List<String> randomAlmanac(RandomGenerator random) {
+    final int bound = random.nextInt(5, 60);
+    // every number is a seed in the first part, so they are all distinct:
+    final Set<Long> seeds = new LinkedHashSet<>();
+    for (int i = random.nextInt(1, 4); i > 0; i--) {
+      while (!seeds.add((long) random.nextInt(0, bound))) {}
+      while (!seeds.add((long) random.nextInt(1, 10))) {}
+    }
+
+    final List<String> lines = new ArrayList<>();
+    lines.add(seeds.stream().map(String::valueOf).collect(Collectors.joining(" ", "seeds: ", "")));
+    for (final String name : MAP_NAMES) {
+      lines.add("");
+      lines.add(name + " map:");
+
+      final List<int[]> segments = new ArrayList<>();
+      for (int start = 0; start < bound; ) {
+        final int length = random.nextInt(1, bound - start + 1);
+        segments.add(new int[] { start, length });
+        start += length;
+      }
+      final List<int[]> moved = new ArrayList<>(segments);
+      Collections.shuffle(moved, random);
+      int dest = 0;
+      for (final int[] segment : moved) {
+        if (dest != segment[0] || random.nextBoolean()) {
+          lines.add(dest + " " + segment[0] + " " + segment[1]);
+        }
+        dest += segment[1];
+      }
+    }
+    return lines;
+  }
+
 }
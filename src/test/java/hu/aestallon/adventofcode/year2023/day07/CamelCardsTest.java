@@ -16,17 +16,29 @@
 
 package hu.aestallon.adventofcode.year2023.day07;
 
+import hu.aestallon.adventofcode.year2023.day07.internal.Hand;
 import hu.aestallon.adventofcode.year2023.util.AocIO;
+import hu.aestallon.adventofcode.year2023.util.DifferentialFuzzer;
 import org.junit.jupiter.api.Test;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.random.RandomGenerator;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 class CamelCardsTest {
 
   private static final Logger log = LoggerFactory.getLogger(CamelCardsTest.class);
 
+  private static final Pattern VALID_HAND = Pattern.compile("[2-9TJQKA]{5} \\d+");
+
   @Test
   void exampleInputYieldsExampleResult() {
     final var input = """
@@ -54,4 +66,65 @@ class CamelCardsTest {
     assertThat(solution2).isEqualTo(249_817_836L);
   }
 
-}
\ No newline at end of file
+  @Test
+  void incrementalSolverShouldKeepUpWithAppendedLinesInAnyOrder() {
+    final var lines = AocIO.lines("07", "input07.txt");
+    final var solver = new CamelCardsSolver();
+
+    final var part1 = solver.incremental(1).orElseThrow();
+    final var firstHalf = lines.subList(0, lines.size() / 2);
+    assertThat(part1.acceptAll(firstHalf).currentAnswer())
+        .isEqualTo(new CamelCards(firstHalf).solvePart1());
+    assertThat(part1.acceptAll(lines.subList(firstHalf.size(), lines.size())).currentAnswer())
+        .isEqualTo(248_422_077L);
+
+    assertThat(solver.incremental(2).orElseThrow().acceptAll(lines.reversed()).currentAnswer())
+        .isEqualTo(249_817_836L);
+  }
+
+  @Test
+  void winningsShouldAgreeWithSortedHandsOnRandomInputs() {
+    final var solver = new CamelCardsSolver();
+    DifferentialFuzzer
+        .<List<Long>>of(
+            lines -> List.of(
+                sortedWinnings(lines, Hand::parse), sortedWinnings(lines, Hand::parseWithJokers),
+                sortedWinnings(lines, Hand::parse), sortedWinnings(lines, Hand::parseWithJokers)),
+            lines -> List.of(
+                new CamelCards(lines).solvePart1(), new CamelCards(lines).solvePart2(),
+                solver.incremental(1).orElseThrow().acceptAll(lines).currentAnswer(),
+                solver.incremental(2).orElseThrow().acceptAll(lines).currentAnswer()))
+        .validIf(CamelCardsTest::hasDistinctHands)
+        .runs(500)
+        .check(CamelCardsTest::randomHands);
+  }
+
+  /** Equal hands could be ranked in either order, so the puzzle never has any. */
+  private static boolean hasDistinctHands(List<String> lines) {
+    return lines.stream().allMatch(it -> VALID_HAND.matcher(it).matches())
+           && lines.stream().map(it -> it.substring(0, 5)).distinct().count() == lines.size();
+  }
+
+  /** Sorts the hands weakest first, as they naturally order strongest first, and ranks them. */
+  private static long sortedWinnings(List<String> lines, Function<String, Hand> parser) {
+    final List<Hand> hands = lines.stream().map(parser).sorted(Comparator.reverseOrder()).toList();
+    long winnings = 0L;
+    for (int i = 0; i < hands.size(); i++) {
+      winnings += (i + 1L) * hands.get(i).bid();
+    }
+    return winnings;
+  }
+
+  private static List<String> randomHands(RandomGenerator random) {
+    // few different cards, so every type of hand, and plenty of jokers come up:
+    final String cards = "2J9JTA";
+    return IntStream.range(0, random.nextInt(1, 30))
+        .mapToObj(__ -> IntStream.range(0, 5)
+            .mapToObj(___ -> String.valueOf(cards.charAt(random.nextInt(cards.length()))))
+            .collect(Collectors.joining()))
+        .distinct()
+        .map(it -> it + " " + random.nextInt(1, 1_000))
+        .toList();
+  }
+
+}
@@ -17,10 +17,15 @@
 package hu.aestallon.adventofcode.year2023.day08;
 
 import hu.aestallon.adventofcode.year2023.util.AocIO;
+import hu.aestallon.adventofcode.year2023.util.Snapshot;
 import org.junit.jupiter.api.Test;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 class HauntedWastelandTest {
@@ -86,4 +91,23 @@ class HauntedWastelandTest {
     assertThat(result2).isEqualTo(13_129_439_557_681L);
   }
 
-}
\ No newline at end of file
+  @Test
+  void problemLoadedFromSnapshotShouldYieldCorrectResult() throws IOException {
+    final var codec = HauntedWasteland.SNAPSHOT_CODEC;
+    final var out = new Snapshot.Writer(codec.schema());
+    codec.write(new HauntedWasteland(AocIO.lines("08", "input08.txt")), out);
+
+    final Path file = Files.createTempFile("input08", ".snapshot");
+    try {
+      out.writeTo(file);
+      final var in = Snapshot.Reader.map(file, codec.schema());
+      final HauntedWasteland problem = codec.read(in);
+      assertThat(in.isExhausted()).isTrue();
+      assertThat(problem.solvePart1()).isEqualTo(13_771);
+      assertThat(problem.solvePart2()).isEqualTo(13_129_439_557_681L);
+    } finally {
+      Files.deleteIfExists(file);
+    }
+  }
+
+}
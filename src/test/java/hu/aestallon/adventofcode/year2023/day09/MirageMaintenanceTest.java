@@ -52,4 +52,12 @@ class MirageMaintenanceTest {
     assertThat(solution2).isEqualTo(942L);
   }
 
-}
\ No newline at end of file
+  @Test
+  void incrementalSolverShouldKeepUpWithAppendedLines() {
+    final var lines = AocIO.lines("09", "input09.txt");
+    final var solver = new MirageMaintenanceSolver();
+    assertThat(solver.incremental(1).orElseThrow().acceptAll(lines).currentAnswer()).isEqualTo(2_175_229_206L);
+    assertThat(solver.incremental(2).orElseThrow().acceptAll(lines).currentAnswer()).isEqualTo(942L);
+  }
+
+}
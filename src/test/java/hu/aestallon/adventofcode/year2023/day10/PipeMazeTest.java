@@ -16,13 +16,18 @@
 
 package hu.aestallon.adventofcode.year2023.day10;
 
+import hu.aestallon.adventofcode.year2023.util.AllocationBudgetExtension;
+import hu.aestallon.adventofcode.year2023.util.AllocationMeter;
 import hu.aestallon.adventofcode.year2023.util.AocIO;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import static hu.aestallon.adventofcode.year2023.util.AllocationMeter.KIB;
 import static org.assertj.core.api.Assertions.assertThat;
 
+@ExtendWith(AllocationBudgetExtension.class)
 class PipeMazeTest {
 
   private static final Logger log = LoggerFactory.getLogger(PipeMazeTest.class);
@@ -69,15 +74,15 @@ class PipeMazeTest {
   }
 
   @Test
-  void problemInputShouldYieldProblemResult() {
+  void problemInputShouldYieldProblemResult(AllocationMeter meter) {
     final var input = AocIO.lines("10", "input10.txt");
     final var problem = PipeMaze.parse(input);
 
-    final long solution1 = problem.solvePart1();
+    final long solution1 = meter.solve("part 1", 256 * KIB, problem::solvePart1);
     log.info("The farthest point in the pipe-loop is [ {} ]", solution1);
     assertThat(solution1).isEqualTo(6_815L);
 
-    final long solution2 = problem.solvePart2();
+    final long solution2 = meter.solve("part 2", 256 * KIB, problem::solvePart2);
     log.info("The count of points inside is [ {} ]", solution2);
     assertThat(solution2).isEqualTo(269L);
   }
@@ -16,13 +16,18 @@
 
 package hu.aestallon.adventofcode.year2023.day11;
 
+import hu.aestallon.adventofcode.year2023.util.AllocationBudgetExtension;
+import hu.aestallon.adventofcode.year2023.util.AllocationMeter;
 import hu.aestallon.adventofcode.year2023.util.AocIO;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import static hu.aestallon.adventofcode.year2023.util.AllocationMeter.KIB;
 import static org.assertj.core.api.Assertions.assertThat;
 
+@ExtendWith(AllocationBudgetExtension.class)
 class CosmicExpansionTest {
 
   private static final Logger log = LoggerFactory.getLogger(CosmicExpansionTest.class);
@@ -46,18 +51,18 @@ class CosmicExpansionTest {
   }
 
   @Test
-  void problemInputShouldYieldProblemResult() {
+  void problemInputShouldYieldProblemResult(AllocationMeter meter) {
     final var input = AocIO.lines("11", "input11.txt");
 
     final int expansionRate1 = 2;
     final var problem1 = new CosmicExpansion(input, expansionRate1);
-    final long solution1 = problem1.solve();
+    final long solution1 = meter.solve("part 1", 64 * KIB, problem1::solve);
     log.info("The sum of the shortest path between galaxy pairs is [ {} ]", solution1);
     assertThat(solution1).isEqualTo(9_647_174L);
 
     final int expansionRate2 = 1_000_000;
     final var problem2 = new CosmicExpansion(input, expansionRate2);
-    final long solution2 = problem2.solve();
+    final long solution2 = meter.solve("part 2", 64 * KIB, problem2::solve);
     log.info("The sum of the shortest path between galaxy pairs is [ {} ]", solution2);
     assertThat(solution2).isEqualTo(377_318_892_554L);
   }
@@ -18,16 +18,31 @@ package hu.aestallon.adventofcode.year2023.day12;
 
 import hu.aestallon.adventofcode.year2023.day12.internal.RowOfSprings;
 import hu.aestallon.adventofcode.year2023.util.AocIO;
+import hu.aestallon.adventofcode.year2023.util.DifferentialFuzzer;
 import org.junit.jupiter.api.Test;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.random.RandomGenerator;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 class HotSpringsTest {
 
   private static final Logger log = LoggerFactory.getLogger(HotSpringsTest.class);
 
+  private static final Pattern VALID_ROW    = Pattern.compile("[.#?]+ [1-9]\\d*(,[1-9]\\d*)*");
+  private static final int     MAX_UNKNOWNS = 7;
+
   @Test
   void exampleInputYieldsExampleResult() {
     final var input = """
@@ -62,4 +77,74 @@ class HotSpringsTest {
     assertThat(solution2).isEqualTo(1_909_291_258_644L);
   }
 
-}
\ No newline at end of file
+  @Test
+  void mappedInputShouldYieldProblemResultInParallel() throws IOException, URISyntaxException {
+    final var input = AocIO.map(Path.of(getClass().getResource("/12/input12.txt").toURI()));
+    final var problem = HotSprings.of(input);
+    assertThat(problem.solvePart1()).isEqualTo(7_260L);
+    assertThat(problem.solvePart2()).isEqualTo(1_909_291_258_644L);
+  }
+
+  @Test
+  void solutionsShouldAgreeWithBruteForceOnRandomRows() {
+    DifferentialFuzzer
+        .<List<Long>>of(
+            lines -> List.of(
+                lines.stream().mapToLong(it -> bruteForceArrangements(it, 1)).sum(),
+                lines.stream().mapToLong(it -> bruteForceArrangements(it, 2)).sum()),
+            lines -> List.of(
+                new HotSprings(lines).solvePart1(),
+                lines.stream().mapToLong(it -> RowOfSprings.parse(it).unfold(2).solve()).sum()))
+        .validIf(lines -> lines.stream().allMatch(HotSpringsTest::isSmallRow))
+        .runs(300)
+        .check(HotSpringsTest::randomRows);
+  }
+
+  private static boolean isSmallRow(String line) {
+    return VALID_ROW.matcher(line).matches()
+           && line.chars().filter(c -> c == '?').count() <= MAX_UNKNOWNS;
+  }
+
+  /** Tries every state of the unknown springs of the row unfolded the given number of times. */
+  private static long bruteForceArrangements(String line, int copies) {
+    final String[] parts = line.split(" ");
+    final String springs = String.join("?", Collections.nCopies(copies, parts[0]));
+    final String runs = String.join(",", Collections.nCopies(copies, parts[1]));
+
+    final int[] unknowns = IntStream.range(0, springs.length())
+        .filter(i -> springs.charAt(i) == '?')
+        .toArray();
+    long arrangements = 0L;
+    for (long mask = 0L; mask < (1L << unknowns.length); mask++) {
+      final char[] states = springs.toCharArray();
+      for (int i = 0; i < unknowns.length; i++) {
+        states[unknowns[i]] = ((mask >> i) & 1L) == 1L ? '#' : '.';
+      }
+      final String damagedRuns = Arrays.stream(new String(states).split("\\.+"))
+          .filter(it -> !it.isEmpty())
+          .map(it -> String.valueOf(it.length()))
+          .collect(Collectors.joining(","));
+      if (damagedRuns.equals(runs)) {
+        arrangements++;
+      }
+    }
+    return arrangements;
+  }
+
+  private static List<String> randomRows(RandomGenerator random) {
+    return IntStream.range(0, random.nextInt(1, 6))
+        .mapToObj(__ -> {
+          final var springs = new StringBuilder();
+          for (int i = random.nextInt(1, 11), unknowns = 0; i > 0; i--) {
+            final char c = ".#?".charAt(random.nextInt(3));
+            springs.append((c == '?' && ++unknowns > MAX_UNKNOWNS) ? '.' : c);
+          }
+          final String runs = IntStream.range(0, random.nextInt(1, 4))
+              .mapToObj(___ -> String.valueOf(random.nextInt(1, 4)))
+              .collect(Collectors.joining(","));
+          return springs + " " + runs;
+        })
+        .toList();
+  }
+
+}
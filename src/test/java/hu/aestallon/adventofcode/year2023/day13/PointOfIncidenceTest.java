@@ -16,13 +16,18 @@
 
 package hu.aestallon.adventofcode.year2023.day13;
 
+import hu.aestallon.adventofcode.year2023.util.AllocationBudgetExtension;
+import hu.aestallon.adventofcode.year2023.util.AllocationMeter;
 import hu.aestallon.adventofcode.year2023.util.AocIO;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import static hu.aestallon.adventofcode.year2023.util.AllocationMeter.MIB;
 import static org.assertj.core.api.Assertions.assertThat;
 
+@ExtendWith(AllocationBudgetExtension.class)
 class PointOfIncidenceTest {
 
   private static final Logger log = LoggerFactory.getLogger(PointOfIncidenceTest.class);
@@ -52,15 +57,15 @@ class PointOfIncidenceTest {
   }
 
   @Test
-  void problemInputYieldsCorrectResult() {
+  void problemInputYieldsCorrectResult(AllocationMeter meter) {
     final var input = AocIO.lines("13", "input13.txt");
     final var problem = new PointOfIncidence(input);
 
-    final long solution1 = problem.solvePart1();
+    final long solution1 = meter.solve("part 1", 2 * MIB, problem::solvePart1);
     log.info("The weighted sum of all lines of reflection is [ {} ]", solution1);
     assertThat(solution1).isEqualTo(32_371L);
 
-    final long solution2 = problem.solvePart2();
+    final long solution2 = meter.solve("part 2", 512 * MIB, problem::solvePart2);
     log.info("The weighted sum of the smudgeless reflections is [ {} ]", solution2);
     assertThat(solution2).isEqualTo(37_416L);
   }
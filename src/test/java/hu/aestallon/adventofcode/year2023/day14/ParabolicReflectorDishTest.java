@@ -18,13 +18,18 @@ package hu.aestallon.adventofcode.year2023.day14;
 
 import hu.aestallon.adventofcode.year2023.day14.internal.Direction;
 import hu.aestallon.adventofcode.year2023.util.AocIO;
+import hu.aestallon.adventofcode.year2023.util.DifferentialFuzzer;
 import org.junit.jupiter.api.Test;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.random.RandomGenerator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -110,4 +115,85 @@ class ParabolicReflectorDishTest {
     assertThat(northernLoad).isEqualTo(expected);
   }
 
+  @Test
+  void tiltsAndSpinsShouldAgreeWithNaiveRollingOnRandomDishes() {
+    final int cycles = 100;
+    DifferentialFuzzer
+        .<List<String>>of(
+            lines -> {
+              final char[][] cells = lines.stream().map(String::toCharArray).toArray(char[][]::new);
+              roll(cells, -1, 0);
+              final String tilted = toString(cells);
+              final long load = northernLoad(cells);
+              for (int i = 0; i < cycles; i++) {
+                roll(cells, -1, 0);
+                roll(cells, 0, -1);
+                roll(cells, 1, 0);
+                roll(cells, 0, 1);
+              }
+              return List.of(tilted, String.valueOf(load), toString(cells));
+            },
+            lines -> {
+              final var tilted = new ParabolicReflectorDish(lines).tilt(Direction.NORTH);
+              return List.of(
+                  tilted.toString(),
+                  String.valueOf(tilted.currentLoad(Direction.NORTH)),
+                  new ParabolicReflectorDish(lines).spin(cycles).toString());
+            })
+        .validIf(ParabolicReflectorDishTest::isDish)
+        .runs(300)
+        .check(ParabolicReflectorDishTest::randomDish);
+  }
+
+  private static boolean isDish(List<String> lines) {
+    return !lines.isEmpty()
+           && !lines.get(0).isEmpty()
+           && lines.stream().allMatch(it -> it.length() == lines.get(0).length()
+                                            && it.chars().allMatch(c -> "O#.".indexOf(c) >= 0));
+  }
+
+  /** Moves every round rock a single cell at a time, for as long as any of them can move. */
+  private static void roll(char[][] cells, int dRow, int dCol) {
+    boolean moved = true;
+    while (moved) {
+      moved = false;
+      for (int r = 0; r < cells.length; r++) {
+        for (int c = 0; c < cells[r].length; c++) {
+          final int toRow = r + dRow;
+          final int toCol = c + dCol;
+          if (cells[r][c] == 'O'
+              && toRow >= 0 && toRow < cells.length && toCol >= 0 && toCol < cells[r].length
+              && cells[toRow][toCol] == '.') {
+            cells[toRow][toCol] = 'O';
+            cells[r][c] = '.';
+            moved = true;
+          }
+        }
+      }
+    }
+  }
+
+  private static long northernLoad(char[][] cells) {
+    long load = 0L;
+    for (int r = 0; r < cells.length; r++) {
+      for (final char c : cells[r]) {
+        load += (c == 'O') ? cells.length - r : 0;
+      }
+    }
+    return load;
+  }
+
+  private static String toString(char[][] cells) {
+    return Arrays.stream(cells).map(String::new).collect(Collectors.joining("\n"));
+  }
+
+  private static List<String> randomDish(RandomGenerator random) {
+    final int cols = random.nextInt(1, 9);
+    return IntStream.range(0, random.nextInt(1, 9))
+        .mapToObj(__ -> IntStream.range(0, cols)
+            .mapToObj(___ -> String.valueOf("OO#...".charAt(random.nextInt(6))))
+            .collect(Collectors.joining()))
+        .toList();
+  }
+
 }
@@ -16,13 +16,19 @@
 
 package hu.aestallon.adventofcode.year2023.day16;
 
+import hu.aestallon.adventofcode.year2023.util.AllocationBudgetExtension;
+import hu.aestallon.adventofcode.year2023.util.AllocationMeter;
 import hu.aestallon.adventofcode.year2023.util.AocIO;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import static hu.aestallon.adventofcode.year2023.util.AllocationMeter.KIB;
+import static hu.aestallon.adventofcode.year2023.util.AllocationMeter.MIB;
 import static org.assertj.core.api.Assertions.assertThat;
 
+@ExtendWith(AllocationBudgetExtension.class)
 class TheFloorWillBeLavaTest {
 
   private static final Logger log = LoggerFactory.getLogger(TheFloorWillBeLavaTest.class);
@@ -46,15 +52,15 @@ class TheFloorWillBeLavaTest {
   }
 
   @Test
-  void problemInputYieldsCorrectResult() {
+  void problemInputYieldsCorrectResult(AllocationMeter meter) {
     final var input = AocIO.lines("16", "input16.txt");
     final var problem = new TheFloorWillBeLava(input);
 
-    final long solution1 = problem.solvePart1();
+    final long solution1 = meter.solve("part 1", 256 * KIB, problem::solvePart1);
     log.info("There are [ {} ] energized tiles.", solution1);
     assertThat(solution1).isEqualTo(8_901L);
 
-    final long solution2 = problem.solvePart2();
+    final long solution2 = meter.solve("part 2", 64 * MIB, problem::solvePart2);
     log.info("At most, [ {} ] tiles can be energized.", solution2);
     assertThat(solution2).isEqualTo(9_064L);
   }
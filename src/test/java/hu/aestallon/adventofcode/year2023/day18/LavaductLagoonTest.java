@@ -16,13 +16,18 @@
 
 package hu.aestallon.adventofcode.year2023.day18;
 
+import hu.aestallon.adventofcode.year2023.util.AllocationBudgetExtension;
+import hu.aestallon.adventofcode.year2023.util.AllocationMeter;
 import hu.aestallon.adventofcode.year2023.util.AocIO;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import static hu.aestallon.adventofcode.year2023.util.AllocationMeter.KIB;
 import static org.assertj.core.api.Assertions.assertThat;
 
+@ExtendWith(AllocationBudgetExtension.class)
 class LavaductLagoonTest {
 
   private static final Logger log = LoggerFactory.getLogger(LavaductLagoonTest.class);
@@ -49,11 +54,11 @@ class LavaductLagoonTest {
   }
 
   @Test
-  void problem() {
+  void problem(AllocationMeter meter) {
     final var input = AocIO.lines("18", "input18.txt");
     final var problem = new LavaductLagoon(input);
 
-    final long solution1 = problem.solvePart1();
+    final long solution1 = meter.solve("part 1", 1024 * KIB, problem::solvePart1);
     log.info("The volume of the excavated hole is [ {} ]", solution1);
   }
 
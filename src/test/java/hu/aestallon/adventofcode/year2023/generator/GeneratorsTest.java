@@ -0,0 +1,140 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hu.aestallon.adventofcode.year2023.generator;
+
+import hu.aestallon.adventofcode.year2023.solver.Solver;
+import hu.aestallon.adventofcode.year2023.solver.Solvers;
+import hu.aestallon.adventofcode.year2023.util.AocIO;
+import hu.aestallon.adventofcode.year2023.util.Cursor;
+import hu.aestallon.adventofcode.year2023.util.MappedInput;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static java.util.stream.Collectors.toSet;
+import static org.assertj.core.api.Assertions.*;
+
+class GeneratorsTest {
+
+  /** Sizes well above the trivial ones, which still parse and solve part 1 in a moment. */
+  private static final Map<Integer, Long> SIZES = Map.ofEntries(
+      Map.entry(1, 10_000L),
+      Map.entry(2, 10_000L),
+      Map.entry(3, 200L),
+      Map.entry(4, 10_000L),
+      Map.entry(5, 1_000L),
+      Map.entry(6, 100_000_000L),
+      Map.entry(7, 10_000L),
+      Map.entry(8, 10_000L),
+      Map.entry(9, 1_000L),
+      Map.entry(10, 200L),
+      Map.entry(11, 200L),
+      Map.entry(12, 1_000L),
+      Map.entry(13, 200L),
+      Map.entry(14, 100L),
+      Map.entry(15, 10_000L),
+      Map.entry(16, 50L),
+      Map.entry(18, 1_000L));
+
+  private static List<String> generate(InputGenerator generator, long size) throws IOException {
+    final var out = new StringWriter();
+    generator.generate(size, new SplittableRandom(Generate.DEFAULT_SEED), out);
+    return out.toString().lines().toList();
+  }
+
+  private static <M> long parseAndSolvePart1(Solver<M> solver, List<String> lines) {
+    return solver.solvePart1(solver.parse(lines));
+  }
+
+  private static <M> long parseAndSolvePart1(Solver<M> solver, MappedInput input) {
+    return solver.solvePart1(solver.parse(input));
+  }
+
+  @Test
+  void everyGeneratedInputShouldBeParsedAndSolvedBySolverOfItsDay() throws IOException {
+    assertThat(SIZES.keySet())
+        .isEqualTo(Generators.all().stream().map(InputGenerator::day).collect(toSet()));
+    for (final InputGenerator generator : Generators.all()) {
+      final Solver<?> solver = Solvers.forDay(generator.day()).orElseThrow();
+      final List<String> lines = generate(generator, SIZES.get(generator.day()));
+      final Path file = Files.write(Files.createTempFile("generated", ".txt"), lines);
+      try {
+        assertThat(parseAndSolvePart1(solver, AocIO.map(file)))
+            .as("day %d parsed from bytes", generator.day())
+            .isEqualTo(parseAndSolvePart1(solver, lines));
+      } catch (RuntimeException e) {
+        throw new AssertionError("Day " + generator.day() + " cannot solve its input!", e);
+      } finally {
+        Files.delete(file);
+      }
+    }
+  }
+
+  @Test
+  void racesShouldFitIntoTheSinglePart2Race() throws IOException {
+    final InputGenerator generator = Generators.forDay(6).orElseThrow();
+    final Solver<?> solver = Solvers.forDay(6).orElseThrow();
+    for (long size = 1_000L; size <= 100_000_000L; size *= 10) {
+      final List<String> lines = generate(generator, size);
+      final long time = Long.parseLong(lines.get(0).replaceAll("\\D", ""));
+      final long distance = Long.parseLong(lines.get(1).replaceAll("\\D", ""));
+      assertThat(Long.toString(time).length()).isEqualTo(Long.toString(size).length());
+      assertThat(distance).isLessThan((time / 2) * (time - time / 2));
+      assertThat(Cursor.of(lines.get(0)).skipPast(':').nextInts().length).isGreaterThan(2);
+
+      if (size <= 1_000_000L) {
+        long ways = 0L;
+        for (long hold = 0; hold <= time; hold++) {
+          if (hold * (time - hold) > distance) {
+            ways++;
+          }
+        }
+        assertThat(solvePart2(solver, lines)).isEqualTo(ways);
+      }
+    }
+    assertThatThrownBy(() -> generate(generator, 1_000_000_000L))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static <M> long solvePart2(Solver<M> solver, List<String> lines) {
+    return solver.solvePart2(solver.parse(lines));
+  }
+
+  @Test
+  void seedRangesShouldCoverAboutTheGivenFraction() throws IOException {
+    for (final double coverage : new double[] { 0.001, 0.01, 0.5 }) {
+      final var generator = new IfYouGiveASeedAFertilizerGenerator(coverage);
+      final long[] seeds = Cursor.of(generate(generator, 1_000L).get(0)).skipPast(':').nextLongs();
+      long covered = 0L;
+      for (int i = 1; i < seeds.length; i += 2) {
+        covered += seeds[i];
+      }
+      final double fraction = covered / (double) (1L << 32);
+      assertThat(fraction).isGreaterThan(coverage / 2);
+      assertThat(fraction).isLessThan(coverage * 2);
+    }
+    assertThatThrownBy(() -> new IfYouGiveASeedAFertilizerGenerator(0.0))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hu.aestallon.adventofcode.year2023.solver;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.OptionalLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+class BatchTest {
+
+  /**
+   * Sums the numbers of its input, overflowing its stack on a line of "error", and running out of
+   * memory on a line of "oom".
+   */
+  private static final class Summing implements Solver<List<String>> {
+
+    @Override
+    public List<String> parse(List<String> lines) {
+      if (lines.contains("error")) {
+        throw new StackOverflowError("Too deep!");
+      }
+      if (lines.contains("oom")) {
+        throw new OutOfMemoryError("Too much!");
+      }
+      return lines;
+    }
+
+    @Override
+    public long solvePart1(List<String> model) {
+      return model.stream().mapToLong(Long::parseLong).sum();
+    }
+
+    @Override
+    public long solvePart2(List<String> model) {
+      return model.size();
+    }
+
+  }
+
+  @Test
+  void answersShouldBeReturnedInSubmissionOrder() {
+    final var batch = new Batch(0, Summing::new, 2);
+    final List<Batch.Answers> answers = batch.solveLines(List.of(
+        List.of("1", "2"), List.of("3"), List.of(), List.of("4", "5", "6")));
+
+    assertThat(answers.stream().map(Batch.Answers::part1).toList()).isEqualTo(List.of(
+        OptionalLong.of(3L), OptionalLong.of(3L), OptionalLong.of(0L), OptionalLong.of(15L)));
+    assertThat(answers.stream().map(Batch.Answers::part2).toList()).isEqualTo(List.of(
+        OptionalLong.of(2L), OptionalLong.of(1L), OptionalLong.of(0L), OptionalLong.of(3L)));
+    assertThat(answers.stream().allMatch(Batch.Answers::isSolved)).isTrue();
+  }
+
+  @Test
+  void failingInputShouldNotLoseTheOtherAnswers() {
+    final var batch = new Batch(0, Summing::new, 1);
+    final List<Batch.Answers> answers = batch.solveLines(List.of(
+        List.of("1"), List.of("error"), List.of("x"), List.of("2")));
+
+    assertThat(answers.get(0).part1()).isEqualTo(OptionalLong.of(1L));
+    assertThat(answers.get(1).isSolved()).isFalse();
+    assertThat(answers.get(1).failure().orElseThrow()).isInstanceOf(StackOverflowError.class);
+    assertThat(answers.get(2).failure().orElseThrow()).isInstanceOf(NumberFormatException.class);
+    assertThat(answers.get(2).part1()).isEqualTo(OptionalLong.empty());
+    assertThat(answers.get(3).part1()).isEqualTo(OptionalLong.of(2L));
+  }
+
+  @Test
+  void virtualMachineErrorShouldNotBeHeldAsFailure() {
+    final var batch = new Batch(0, Summing::new, 2);
+    assertThatThrownBy(() -> batch.solveLines(List.of(List.of("1"), List.of("oom"))))
+        .isInstanceOf(OutOfMemoryError.class);
+  }
+
+  @Test
+  void nonPositiveInFlightLimitShouldBeRejected() {
+    assertThatThrownBy(() -> Batch.forDay(1, 0)).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> Batch.forDay(99, 1)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hu.aestallon.adventofcode.year2023.solver;
+
+import hu.aestallon.adventofcode.year2023.util.AocIO;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ContentHashTest {
+
+  private static long hashOfFile(String content) throws IOException {
+    final Path file = Files.createTempFile("content", ".txt");
+    try {
+      Files.writeString(file, content, StandardCharsets.UTF_8);
+      return ContentHash.of(AocIO.map(file));
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  @Test
+  void sameContentShouldHashTheSame() throws IOException {
+    final String content = "Game 1: 3 blue, 4 red\nGame 2: 1 blue\n";
+    assertThat(hashOfFile(content)).isEqualTo(hashOfFile(content));
+    assertThat(ContentHash.of(List.of("a", "b"))).isEqualTo(ContentHash.of(List.of("a", "b")));
+    assertThat(ContentHash.of("a|b")).isEqualTo(ContentHash.of("a|b"));
+  }
+
+  @Test
+  void rawBytesShouldIncludeLineTerminators() throws IOException {
+    assertThat(hashOfFile("ab\ncd\n")).isNotEqualTo(hashOfFile("ab\r\ncd\r\n"));
+    assertThat(hashOfFile("ab\ncd\n")).isNotEqualTo(hashOfFile("ab\ncd"));
+    assertThat(ContentHash.of(List.of("ab", "cd"))).isNotEqualTo(ContentHash.of(List.of("abcd")));
+  }
+
+  @Test
+  void everyPrefixAndSingleByteChangeShouldHashDifferently() throws IOException {
+    // long enough to be hashed both in whole words and in a tail of single bytes:
+    final String content = "1abc2\npqr3stu8vwx\na1b2c3d4e5f\ntreb7uchet\n";
+    final Set<Long> hashes = new HashSet<>();
+    for (int length = 0; length <= content.length(); length++) {
+      hashes.add(hashOfFile(content.substring(0, length)));
+    }
+    for (int i = 0; i < content.length(); i++) {
+      final char[] changed = content.toCharArray();
+      changed[i] ^= 1;
+      hashes.add(hashOfFile(new String(changed)));
+    }
+    assertThat(hashes.size()).isEqualTo(2 * content.length() + 1);
+  }
+
+}
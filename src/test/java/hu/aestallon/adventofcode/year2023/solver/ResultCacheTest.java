@@ -0,0 +1,174 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hu.aestallon.adventofcode.year2023.solver;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ResultCacheTest {
+
+  private static final long INPUT = 0xC0FFEEL;
+
+  private static Solver<Object> solver(String version, String parameters) {
+    return new Solver<>() {
+      @Override
+      public Object parse(List<String> lines) {
+        return lines;
+      }
+
+      @Override
+      public long solvePart1(Object model) {
+        return 0L;
+      }
+
+      @Override
+      public long solvePart2(Object model) {
+        return 0L;
+      }
+
+      @Override
+      public String version() {
+        return version;
+      }
+
+      @Override
+      public String parameters() {
+        return parameters;
+      }
+    };
+  }
+
+  @FunctionalInterface
+  private interface CacheTest {
+    void run(Path directory) throws IOException;
+  }
+
+  private static void withDirectory(CacheTest test) throws IOException {
+    final Path directory = Files.createTempDirectory("aoc-cache");
+    try {
+      test.run(directory);
+    } finally {
+      try (final Stream<Path> files = Files.walk(directory)) {
+        for (final Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+          Files.delete(file);
+        }
+      }
+    }
+  }
+
+  private static List<Path> answerFiles(Path directory) throws IOException {
+    try (final Stream<Path> files = Files.list(directory)) {
+      return files.filter(it -> it.toString().endsWith(".answer")).sorted().toList();
+    }
+  }
+
+  @Test
+  void answerShouldBeSolvedOnMissAndReusedOnHit() throws IOException {
+    withDirectory(directory -> {
+      final var cache = new ResultCache(directory, ResultCache.DEFAULT_MAX_BYTES);
+      final var solver = solver("1", "");
+      final var calls = new AtomicInteger();
+
+      final var miss = cache.lookup(1, solver, INPUT);
+      assertThat(miss.contains(1)).isFalse();
+      assertThat(miss.getOrSolve(1, () -> calls.incrementAndGet() * 42L)).isEqualTo(42L);
+
+      final var hit = cache.lookup(1, solver, INPUT);
+      assertThat(hit.contains(1)).isTrue();
+      assertThat(hit.contains(2)).isFalse();
+      assertThat(hit.getOrSolve(1, () -> calls.incrementAndGet() * 42L)).isEqualTo(42L);
+      assertThat(calls.get()).isEqualTo(1);
+
+      assertThat(cache.lookup(2, solver, INPUT).contains(1)).isFalse();
+      assertThat(cache.lookup(1, solver, INPUT + 1).contains(1)).isFalse();
+    });
+  }
+
+  @Test
+  void changedVersionOrParametersShouldInvalidateAnswers() throws IOException {
+    withDirectory(directory -> {
+      final var cache = new ResultCache(directory, ResultCache.DEFAULT_MAX_BYTES);
+      cache.lookup(5, solver("1", "seeds=10"), INPUT).getOrSolve(2, () -> 7L);
+
+      assertThat(cache.lookup(5, solver("1", "seeds=10"), INPUT).contains(2)).isTrue();
+      assertThat(cache.lookup(5, solver("2", "seeds=10"), INPUT).contains(2)).isFalse();
+      assertThat(cache.lookup(5, solver("1", "seeds=11"), INPUT).contains(2)).isFalse();
+    });
+  }
+
+  @Test
+  void leastRecentlyUsedAnswersShouldBeEvicted() throws IOException {
+    withDirectory(directory -> {
+      final var solver = solver("1", "");
+      new ResultCache(directory, Long.MAX_VALUE).lookup(1, solver, INPUT).getOrSolve(1, () -> 1L);
+      final long entrySize = Files.size(answerFiles(directory).getFirst());
+
+      // room for two answers of the same size:
+      final var cache = new ResultCache(directory, 2 * entrySize + entrySize / 2);
+      cache.lookup(2, solver, INPUT).getOrSolve(1, () -> 2L);
+      for (final Path file : answerFiles(directory)) {
+        Files.setLastModifiedTime(file, FileTime.from(Instant.parse("2023-12-01T00:00:00Z")));
+      }
+      // refreshes day 1, leaving day 2 the least recently used:
+      assertThat(cache.lookup(1, solver, INPUT).contains(1)).isTrue();
+
+      cache.lookup(3, solver, INPUT).getOrSolve(1, () -> 3L);
+      assertThat(answerFiles(directory).size()).isEqualTo(2);
+      assertThat(cache.lookup(1, solver, INPUT).contains(1)).isTrue();
+      assertThat(cache.lookup(2, solver, INPUT).contains(1)).isFalse();
+      assertThat(cache.lookup(3, solver, INPUT).contains(1)).isTrue();
+    });
+  }
+
+  @Test
+  void answerStoredUnderSameFileNameForAnotherKeyShouldBeIgnored() throws IOException {
+    withDirectory(directory -> {
+      final var cache = new ResultCache(directory, ResultCache.DEFAULT_MAX_BYTES);
+      final var solver = solver("1", "");
+      cache.lookup(1, solver, INPUT).getOrSolve(1, () -> 42L);
+
+      // as if another key hashed to the same file name:
+      final Path file = answerFiles(directory).getFirst();
+      Files.writeString(file, "1|1|1||%016x\n42\n".formatted(INPUT + 1));
+      assertThat(cache.lookup(1, solver, INPUT).contains(1)).isFalse();
+
+      Files.writeString(file, "1|1|1||%016x\n42\n".formatted(INPUT));
+      assertThat(cache.lookup(1, solver, INPUT).contains(1)).isTrue();
+    });
+  }
+
+  @Test
+  void disabledCacheShouldNeverHoldAnswers() {
+    final var cache = ResultCache.disabled();
+    final var calls = new AtomicInteger();
+    cache.lookup(1, solver("1", ""), INPUT).getOrSolve(1, calls::incrementAndGet);
+    cache.lookup(1, solver("1", ""), INPUT).getOrSolve(1, calls::incrementAndGet);
+    assertThat(calls.get()).isEqualTo(2);
+  }
+
+}
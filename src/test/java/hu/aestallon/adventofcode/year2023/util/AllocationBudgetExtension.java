@@ -0,0 +1,85 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hu.aestallon.adventofcode.year2023.util;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Provides test methods with an {@link AllocationMeter}, so they can declare how many bytes each of
+ * their solves may allocate:
+ *
+ * <pre>{@code
+ * @Test
+ * void problemInputShouldYieldProblemResult(AllocationMeter meter) {
+ *   final var problem = new Problem(AocIO.lines("01", "input01.txt"));
+ *   assertThat(meter.solve("part 1", 64 * AllocationMeter.KIB, problem::solvePart1))
+ *       .isEqualTo(42L);
+ * }
+ * }</pre>
+ *
+ * <p>A solve exceeding its budget fails the test. The allocations measured are logged after every
+ * test, to help setting budgets.
+ *
+ * <p>Solves are measured after warming up (see {@link AllocationMeter}), but what a solve allocates
+ * still depends on the JIT, e.g. on whether escape analysis got to a loop yet. Budgets are thus
+ * meant to catch order-of-magnitude regressions only: set them to about ten times the allocations
+ * logged, rounded up to a power of two, instead of tightly above them.
+ */
+public final class AllocationBudgetExtension implements ParameterResolver, AfterEachCallback {
+
+  private static final Logger log = LoggerFactory.getLogger(AllocationBudgetExtension.class);
+
+  private static final ExtensionContext.Namespace NAMESPACE =
+      ExtensionContext.Namespace.create(AllocationBudgetExtension.class);
+
+  @Override
+  public boolean supportsParameter(ParameterContext parameterContext,
+                                   ExtensionContext extensionContext) {
+    return parameterContext.getParameter().getType() == AllocationMeter.class;
+  }
+
+  @Override
+  public AllocationMeter resolveParameter(ParameterContext parameterContext,
+                                          ExtensionContext extensionContext) {
+    return extensionContext.getStore(NAMESPACE).getOrComputeIfAbsent(
+        AllocationMeter.class,
+        __ -> new AllocationMeter(),
+        AllocationMeter.class);
+  }
+
+  @Override
+  public void afterEach(ExtensionContext context) {
+    final AllocationMeter meter = context.getStore(NAMESPACE)
+        .get(AllocationMeter.class, AllocationMeter.class);
+    if (meter == null) {
+      return;
+    }
+
+    if (!AllocationMeter.isSupported()) {
+      log.warn("Allocation budgets of {} were not checked: the JVM cannot measure allocations",
+          context.getDisplayName());
+      return;
+    }
+    meter.measurements().forEach(it -> log.info("{}: {}", context.getDisplayName(), it));
+  }
+
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hu.aestallon.adventofcode.year2023.util;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Measures the bytes allocated on the current thread while solving, and fails the test if a solve
+ * allocates more than its budget.
+ *
+ * <p>Every solve is run {@value #WARM_UP_RUNS} times before it is measured, so class loading,
+ * lambda linkage and the first, interpreted run do not count against the budget. The measured run
+ * has to return the same result as the warm-up runs, thus solves have to be repeatable.
+ *
+ * <p>Work handed off to other threads, e.g. by parallel streams, is not accounted for. On JVMs not
+ * supporting per-thread allocation measurement, budgets are not enforced.
+ *
+ * @see AllocationBudgetExtension
+ */
+public final class AllocationMeter {
+
+  public static final long KIB = 1024L;
+  public static final long MIB = 1024L * KIB;
+
+  private static final int WARM_UP_RUNS = 2;
+
+  private static final com.sun.management.ThreadMXBean THREADS =
+      (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+  public record Measurement(String name, long budgetBytes, long allocatedBytes) {
+
+    @Override
+    public String toString() {
+      return "%s allocated %,d bytes of its %,d byte budget".formatted(
+          name, allocatedBytes, budgetBytes);
+    }
+
+  }
+
+  private final List<Measurement> measurements = new ArrayList<>();
+
+  AllocationMeter() {}
+
+  public static boolean isSupported() {
+    return THREADS.isThreadAllocatedMemorySupported() && THREADS.isThreadAllocatedMemoryEnabled();
+  }
+
+  public long solve(String name, long budgetBytes, LongSupplier solve) {
+    return solve(name, budgetBytes, (Supplier<Long>) solve::getAsLong);
+  }
+
+  public <T> T solve(String name, long budgetBytes, Supplier<T> solve) {
+    T result = solve.get();
+    for (int i = 1; i < WARM_UP_RUNS; i++) {
+      result = repeated(name, result, solve.get());
+    }
+
+    final long allocated = THREADS.getCurrentThreadAllocatedBytes();
+    final T measured = solve.get();
+    final long allocatedBytes = THREADS.getCurrentThreadAllocatedBytes() - allocated;
+    check(name, budgetBytes, allocatedBytes);
+    return repeated(name, result, measured);
+  }
+
+  private static <T> T repeated(String name, T previous, T result) {
+    if (!Objects.equals(previous, result)) {
+      throw new AssertionError(name + " returned " + result + " after " + previous + "!");
+    }
+    return result;
+  }
+
+  private void check(String name, long budgetBytes, long allocatedBytes) {
+    if (!isSupported()) {
+      return;
+    }
+
+    final var measurement = new Measurement(name, budgetBytes, allocatedBytes);
+    measurements.add(measurement);
+    if (allocatedBytes > budgetBytes) {
+      throw new AssertionError("Allocation budget exceeded: " + measurement);
+    }
+  }
+
+  public List<Measurement> measurements() {
+    return Collections.unmodifiableList(measurements);
+  }
+
+}
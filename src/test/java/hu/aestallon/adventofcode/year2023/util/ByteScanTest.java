@@ -0,0 +1,172 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hu.aestallon.adventofcode.year2023.util;
+
+import jdk.incubator.vector.ByteVector;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ByteScanTest {
+
+  /** The scalar kernel, and vector kernels of every species from 8 up to 64 lanes. */
+  private static final List<ByteScan.Kernel> KERNELS = List.of(
+      new ByteScan.Scalar(),
+      new VectorByteScan(ByteVector.SPECIES_64),
+      new VectorByteScan(ByteVector.SPECIES_128),
+      new VectorByteScan(ByteVector.SPECIES_256),
+      new VectorByteScan(ByteVector.SPECIES_512));
+
+  private static final byte NEEDLE = (byte) 0xFF;
+
+  private static int naiveIndexOf(byte[] a, int from, int to, boolean digit, boolean last) {
+    for (int k = 0; k < to - from; k++) {
+      final int i = last ? to - 1 - k : from + k;
+      if (digit ? ByteScan.isDigit(a[i]) : a[i] == NEEDLE) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /** Range starts on and around the edges of every vector size the kernels use. */
+  private static final int[] FROMS = { 0, 1, 7, 8, 15, 16, 31, 32, 63, 64, 65 };
+
+  /** Asserts every kernel agrees with a naive scan on the ranges of the given bytes. */
+  private static void assertKernelsAgree(byte[] a) {
+    for (final int from : FROMS) {
+      if (from > a.length) {
+        break;
+      }
+      for (int to = from; to <= a.length; to++) {
+        int count = 0;
+        long mask = 0L;
+        for (int i = from; i < to; i++) {
+          if (a[i] == NEEDLE) {
+            count++;
+            mask |= (i - from < Long.SIZE) ? 1L << (i - from) : 0L;
+          }
+        }
+        for (final ByteScan.Kernel kernel : KERNELS) {
+          assertThat(kernel.indexOf(a, from, to, NEEDLE))
+              .isEqualTo(naiveIndexOf(a, from, to, false, false));
+          assertThat(kernel.lastIndexOf(a, from, to, NEEDLE))
+              .isEqualTo(naiveIndexOf(a, from, to, false, true));
+          assertThat(kernel.firstDigit(a, from, to))
+              .isEqualTo(naiveIndexOf(a, from, to, true, false));
+          assertThat(kernel.lastDigit(a, from, to))
+              .isEqualTo(naiveIndexOf(a, from, to, true, true));
+          assertThat(kernel.countOf(a, from, to, NEEDLE)).isEqualTo(count);
+          assertThat(kernel.maskOf(a, from, Math.min(to, from + Long.SIZE), NEEDLE))
+              .isEqualTo(mask);
+        }
+      }
+    }
+  }
+
+  @Test
+  void kernelsShouldAgreeOnSingleMatchAtEveryPosition() {
+    // 150 bytes span two 64-lane vectors and a tail, and matches land on every vector edge:
+    for (int position = 0; position < 150; position++) {
+      final byte[] a = new byte[150];
+      a[position] = NEEDLE;
+      assertKernelsAgree(a);
+
+      final byte[] digits = new byte[150];
+      digits[position] = '7';
+      assertKernelsAgree(digits);
+    }
+  }
+
+  @Test
+  void kernelsShouldAgreeOnRandomBytes() {
+    final var random = new SplittableRandom(16L);
+    for (int run = 0; run < 20; run++) {
+      final byte[] a = new byte[random.nextInt(1, 140)];
+      for (int i = 0; i < a.length; i++) {
+        // mostly bytes near the digits and the needle, to make matches frequent:
+        a[i] = switch (random.nextInt(4)) {
+          case 0 -> NEEDLE;
+          case 1 -> (byte) random.nextInt('/', ':' + 1);
+          default -> (byte) random.nextInt(256);
+        };
+      }
+      assertKernelsAgree(a);
+    }
+  }
+
+  @Test
+  void byteOfAllOnesShouldNotBeMistakenForDigitSearch() {
+    final byte[] content = { 'a', '1', 'b', NEEDLE, '2', 'c' };
+    final ByteBuffer direct = ByteBuffer.allocateDirect(content.length).put(content);
+    for (final ByteBuffer buffer : List.of(ByteBuffer.wrap(content), direct)) {
+      assertThat(ByteScan.indexOf(buffer, 0, content.length, NEEDLE)).isEqualTo(3);
+      assertThat(ByteScan.lastIndexOf(buffer, 0, content.length, NEEDLE)).isEqualTo(3);
+      assertThat(ByteScan.firstDigit(buffer, 0, content.length)).isEqualTo(1);
+      assertThat(ByteScan.lastDigit(buffer, 0, content.length)).isEqualTo(4);
+
+      final var slice = new ByteSlice(buffer, 0, content.length);
+      assertThat(ByteScan.indexOf(slice, 0, slice.length(), 'ÿ')).isEqualTo(3);
+      assertThat(ByteScan.indexOf(slice, 0, slice.length(), 'Ā')).isEqualTo(-1);
+    }
+  }
+
+  @Test
+  void directBuffersShouldBeSearchedAcrossCopiedChunks() {
+    // longer than the copy threshold, and than a few chunks copied onto the heap:
+    final int size = 3 * 4096 + 300;
+    final byte[] content = new byte[size];
+    final ByteBuffer direct = ByteBuffer.allocateDirect(size);
+    for (final int position : new int[] { 0, 127, 128, 4095, 4096, 8191, 8192, size - 1 }) {
+      content[position] = NEEDLE;
+      direct.put(position, NEEDLE);
+      for (final int from : new int[] { 0, 1, 129, 4096, 4097 }) {
+        for (final int to : new int[] { size, size - 1, 8192, 4200 }) {
+          if (from > to) {
+            continue;
+          }
+          assertThat(ByteScan.indexOf(direct, from, to, NEEDLE))
+              .isEqualTo(naiveIndexOf(content, from, to, false, false));
+          assertThat(ByteScan.lastIndexOf(direct, from, to, NEEDLE))
+              .isEqualTo(naiveIndexOf(content, from, to, false, true));
+        }
+      }
+      content[position] = '5';
+      direct.put(position, (byte) '5');
+      assertThat(ByteScan.firstDigit(direct, 0, size))
+          .isEqualTo(naiveIndexOf(content, 0, size, true, false));
+      assertThat(ByteScan.lastDigit(direct, 0, size))
+          .isEqualTo(naiveIndexOf(content, 0, size, true, true));
+    }
+  }
+
+  @Test
+  void heapBuffersShouldBeSearchedRelativeToTheirArrayOffset() {
+    final byte[] content = "xx12abÿcd3".getBytes(StandardCharsets.ISO_8859_1);
+    final ByteBuffer slice = ByteBuffer.wrap(content).slice(2, content.length - 2);
+    assertThat(ByteScan.firstDigit(slice, 0, slice.capacity())).isEqualTo(0);
+    assertThat(ByteScan.lastDigit(slice, 0, slice.capacity())).isEqualTo(7);
+    assertThat(ByteScan.indexOf(slice, 1, slice.capacity(), NEEDLE)).isEqualTo(4);
+    assertThat(ByteScan.lastIndexOf(slice, 0, 4, NEEDLE)).isEqualTo(-1);
+  }
+
+}
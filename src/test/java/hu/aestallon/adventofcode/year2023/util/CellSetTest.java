@@ -0,0 +1,76 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hu.aestallon.adventofcode.year2023.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CellSetTest {
+
+  @Test
+  void randomOperationsShouldMatchTreeSet() {
+    final var random = new SplittableRandom(15L);
+    // a capacity that is not a multiple of 64 leaves the last word partially used:
+    final int capacity = 200;
+    final var actual = new CellSet(capacity);
+    final TreeSet<Integer> expected = new TreeSet<>();
+    for (int op = 0; op < 50_000; op++) {
+      final int cell = random.nextInt(capacity);
+      switch (random.nextInt(10)) {
+        case 0, 1 -> assertThat(actual.contains(cell)).isEqualTo(expected.contains(cell));
+        case 2, 3, 4 -> assertThat(actual.remove(cell)).isEqualTo(expected.remove(cell));
+        case 5 -> {
+          if (random.nextInt(500) == 0) {
+            actual.clear();
+            expected.clear();
+          }
+        }
+        default -> assertThat(actual.add(cell)).isEqualTo(expected.add(cell));
+      }
+      assertThat(actual.size()).isEqualTo(expected.size());
+    }
+    assertThat(actual.isEmpty()).isEqualTo(expected.isEmpty());
+
+    final List<Integer> cells = new ArrayList<>();
+    actual.forEach(cells::add);
+    assertThat(cells).isEqualTo(new ArrayList<>(expected));
+  }
+
+  @Test
+  void cellsOutsideTheCapacityShouldBeRejected() {
+    final var set = new CellSet(65);
+    assertThat(set.add(64)).isTrue();
+    assertThatThrownBy(() -> set.add(65)).isInstanceOf(IndexOutOfBoundsException.class);
+    assertThatThrownBy(() -> set.contains(-1)).isInstanceOf(IndexOutOfBoundsException.class);
+    assertThatThrownBy(() -> set.remove(128)).isInstanceOf(IndexOutOfBoundsException.class);
+    assertThatThrownBy(() -> new CellSet(-1)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void setOfGridShouldCoverEveryCell() {
+    final var grid = Grid.of("ab\ncd\nef\n".getBytes(StandardCharsets.US_ASCII));
+    assertThat(CellSet.of(grid).capacity()).isEqualTo(grid.size());
+  }
+
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hu.aestallon.adventofcode.year2023.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CursorTest {
+
+  @Test
+  void numbersShouldBeReadWithTheirSign() {
+    final var cursor = Cursor.of("  12 -7\t0 -0 +3");
+    assertThat(cursor.nextInt()).isEqualTo(12);
+    assertThat(cursor.nextLong()).isEqualTo(-7L);
+    assertThat(cursor.nextInt()).isEqualTo(0);
+    assertThat(cursor.nextInt()).isEqualTo(0);
+    assertThat(cursor.hasNextNumber()).isFalse();
+    assertThatThrownBy(cursor::nextInt).isInstanceOf(NumberFormatException.class);
+  }
+
+  @Test
+  void extremeValuesShouldBeReadAndOverflowRejected() {
+    assertThat(Cursor.of("9223372036854775807").nextLong()).isEqualTo(Long.MAX_VALUE);
+    assertThat(Cursor.of("-9223372036854775808").nextLong()).isEqualTo(Long.MIN_VALUE);
+    assertThat(Cursor.of("-2147483648").nextInt()).isEqualTo(Integer.MIN_VALUE);
+
+    assertThatThrownBy(() -> Cursor.of("9223372036854775808").nextLong())
+        .isInstanceOf(NumberFormatException.class);
+    assertThatThrownBy(() -> Cursor.of("-9223372036854775809").nextLong())
+        .isInstanceOf(NumberFormatException.class);
+    assertThatThrownBy(() -> Cursor.of("99999999999999999999").nextLong())
+        .isInstanceOf(NumberFormatException.class);
+    assertThatThrownBy(() -> Cursor.of("2147483648").nextInt())
+        .isInstanceOf(NumberFormatException.class);
+  }
+
+  @Test
+  void loneMinusShouldNotBeANumber() {
+    final var cursor = Cursor.of("- 5");
+    assertThat(cursor.hasNextNumber()).isFalse();
+    assertThatThrownBy(cursor::nextLong).isInstanceOf(NumberFormatException.class);
+  }
+
+  @Test
+  void emptyInputShouldHaveNothingToRead() {
+    final var cursor = Cursor.of("");
+    assertThat(cursor.hasNext()).isFalse();
+    assertThat(cursor.hasNextNumber()).isFalse();
+    assertThat(cursor.nextInts()).isEqualTo(new int[0]);
+    assertThat(cursor.tryConsume(':')).isFalse();
+    assertThat(cursor.tryConsumeIgnoreCase("x")).isFalse();
+    assertThatThrownBy(cursor::peek).isInstanceOf(IllegalStateException.class);
+    assertThatThrownBy(cursor::nextLong).isInstanceOf(NumberFormatException.class);
+    assertThat(Cursor.isBlank("")).isTrue();
+    assertThat(Cursor.isBlank(" \t ")).isTrue();
+    assertThat(Cursor.isBlank(" x")).isFalse();
+  }
+
+  @Test
+  void numberListsShouldStopAtFirstNonNumber() {
+    final var cursor = Cursor.of("Card  1: 41 -48 83 | 83 86");
+    assertThat(cursor.tryConsumeIgnoreCase("card")).isTrue();
+    assertThat(cursor.nextInt()).isEqualTo(1);
+    assertThat(cursor.tryConsume(':')).isTrue();
+    assertThat(cursor.nextInts()).isEqualTo(new int[] { 41, -48, 83 });
+    assertThat(cursor.tryConsume('|')).isTrue();
+    assertThat(cursor.nextLongs()).isEqualTo(new long[] { 83L, 86L });
+    assertThat(cursor.hasNext()).isFalse();
+  }
+
+  @Test
+  void rangeShouldBoundTheCursor() {
+    final var cursor = Cursor.of("1 23 4", 2, 4);
+    assertThat(cursor.nextInt()).isEqualTo(23);
+    assertThat(cursor.hasNext()).isFalse();
+    assertThatThrownBy(() -> Cursor.of("abc", 2, 4))
+        .isInstanceOf(IndexOutOfBoundsException.class);
+
+    final byte[] bytes = "x=17;".getBytes(StandardCharsets.US_ASCII);
+    final var byteCursor = Cursor.of(bytes, 0, 4).skipPast('=');
+    assertThat(byteCursor.nextInt()).isEqualTo(17);
+    assertThat(byteCursor.hasNext()).isFalse();
+  }
+
+  @Test
+  void skipPastShouldRejectMissingCharacter() {
+    final var cursor = Cursor.of("a:b:c");
+    assertThat(cursor.skipPast(':').skipPast(':').peek()).isEqualTo('c');
+    assertThatThrownBy(() -> cursor.skipPast(':'))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("does not contain ':'");
+  }
+
+}
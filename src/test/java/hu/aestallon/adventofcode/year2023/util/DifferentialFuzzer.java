@@ -0,0 +1,169 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package hu.aestallon.adventofcode.year2023.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.random.RandomGenerator;
+
+/**
+ * Checks an optimised solution against a straightforward reference on random inputs.
+ *
+ * <p>Every run generates an input, and fails the test if the subject throws, or answers differently
+ * from the reference. Before failing, the input is shrunk by dropping lines and characters for as
+ * long as the two still disagree, so the failure reports an input small enough to reason about.
+ * Inputs the reference rejects by throwing, or which fail the validity check, are never reported.
+ *
+ * <p>The seed and the number of runs can be overridden with the {@code aoc.fuzz.seed} and
+ * {@code aoc.fuzz.runs} system properties, e.g. to replay a failure or to fuzz for longer.
+ *
+ * @param <R> the type of the answers compared
+ */
+public final class DifferentialFuzzer<R> {
+
+  private static final long DEFAULT_SEED = 2023L;
+  private static final int  DEFAULT_RUNS = 200;
+
+  public static <R> DifferentialFuzzer<R> of(
+      Function<List<String>, R> reference,
+      Function<List<String>, R> subject) {
+    return new DifferentialFuzzer<>(reference, subject);
+  }
+
+  private final Function<List<String>, R> reference;
+  private final Function<List<String>, R> subject;
+  private Predicate<List<String>>         valid = __ -> true;
+  private long                            seed  = Long.getLong("aoc.fuzz.seed", DEFAULT_SEED);
+  private int                             runs  = Integer.getInteger("aoc.fuzz.runs", DEFAULT_RUNS);
+
+  private DifferentialFuzzer(Function<List<String>, R> reference,
+                             Function<List<String>, R> subject) {
+    this.reference = reference;
+    this.subject = subject;
+  }
+
+  /** Restricts shrinking to inputs the given predicate accepts. */
+  public DifferentialFuzzer<R> validIf(Predicate<List<String>> valid) {
+    this.valid = valid;
+    return this;
+  }
+
+  /** Sets the number of runs, unless it is overridden by the {@code aoc.fuzz.runs} property. */
+  public DifferentialFuzzer<R> runs(int runs) {
+    this.runs = Integer.getInteger("aoc.fuzz.runs", runs);
+    return this;
+  }
+
+  /**
+   * Compares the subject to the reference on inputs of the given generator.
+   *
+   * @throws AssertionError describing the shrunk input, if the two disagree on any input, or the
+   *     input, if the generator produced an invalid one
+   */
+  public void check(Function<RandomGenerator, List<String>> inputs) {
+    final var random = new SplittableRandom(seed);
+    for (int run = 0; run < runs; run++) {
+      final List<String> input = inputs.apply(random);
+      if (!valid.test(input)) {
+        throw new AssertionError("Run %d of seed %d generated an invalid input:%n%s"
+            .formatted(run, seed, String.join("\n", input)));
+      }
+      if (disagree(input)) {
+        final List<String> shrunk = shrink(input);
+        throw new AssertionError(
+            "Run %d of seed %d disagrees on an input shrunk from %d to %d lines:%n%s%n%s"
+                .formatted(run, seed, input.size(), shrunk.size(), String.join("\n", shrunk),
+                    describe(shrunk)));
+      }
+    }
+  }
+
+  private boolean disagree(List<String> input) {
+    if (!valid.test(input)) {
+      return false;
+    }
+
+    final R expected;
+    try {
+      expected = reference.apply(input);
+    } catch (RuntimeException e) {
+      // the reference cannot tell the answer to invalid inputs, so they are not failures:
+      return false;
+    }
+
+    try {
+      return !Objects.equals(expected, subject.apply(input));
+    } catch (RuntimeException e) {
+      return true;
+    }
+  }
+
+  private String describe(List<String> input) {
+    final R expected = reference.apply(input);
+    try {
+      return "Expected [ %s ], but was [ %s ]".formatted(expected, subject.apply(input));
+    } catch (RuntimeException e) {
+      return "Expected [ %s ], but the subject threw %s".formatted(expected, e);
+    }
+  }
+
+  /**
+   * Drops ever smaller chunks of lines, then of characters within each line, until no single
+   * line or character can be dropped while the subject still disagrees.
+   */
+  private List<String> shrink(List<String> failing) {
+    List<String> input = failing;
+    boolean progress = true;
+    while (progress) {
+      progress = false;
+      for (int chunk = Math.max(1, input.size() / 2); chunk >= 1; chunk /= 2) {
+        for (int from = 0; from + chunk <= input.size(); ) {
+          final List<String> candidate = new ArrayList<>(input.subList(0, from));
+          candidate.addAll(input.subList(from + chunk, input.size()));
+          if (disagree(candidate)) {
+            input = candidate;
+            progress = true;
+          } else {
+            from += chunk;
+          }
+        }
+      }
+
+      for (int i = 0; i < input.size(); i++) {
+        final String line = input.get(i);
+        for (int chunk = Math.max(1, line.length() / 2); chunk >= 1; chunk /= 2) {
+          for (int from = 0; from + chunk <= input.get(i).length(); ) {
+            final String s = input.get(i);
+            final List<String> candidate = new ArrayList<>(input);
+            candidate.set(i, s.substring(0, from) + s.substring(from + chunk));
+            if (disagree(candidate)) {
+              input = candidate;
+              progress = true;
+            } else {
+              from += chunk;
+            }
+          }
+        }
+      }
+    }
+    return input;
+  }
+
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hu.aestallon.adventofcode.year2023.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.*;
+
+class FenwickTree2DTest {
+
+  @Test
+  void prefixSumsShouldMatchNaiveSums() {
+    final var random = new SplittableRandom(25L);
+    final int rows = 13;
+    final int columns = 37;
+    final var tree = new FenwickTree2D(rows, columns);
+    final long[][] cells = new long[rows][columns];
+    for (int op = 0; op < 500; op++) {
+      final int row = random.nextInt(rows);
+      final int column = random.nextInt(columns);
+      final long delta = random.nextLong(-1_000L, 1_000L);
+      tree.add(row, column, delta);
+      cells[row][column] += delta;
+
+      final int rowCount = random.nextInt(rows + 1);
+      final int columnCount = random.nextInt(columns + 1);
+      long expected = 0L;
+      for (int i = 0; i < rowCount; i++) {
+        for (int j = 0; j < columnCount; j++) {
+          expected += cells[i][j];
+        }
+      }
+      assertThat(tree.prefixSum(rowCount, columnCount)).isEqualTo(expected);
+    }
+  }
+
+  @Test
+  void cellsOutsideTheGridShouldBeRejected() {
+    final var tree = new FenwickTree2D(2, 3);
+    assertThat(tree.prefixSum(0, 3)).isEqualTo(0L);
+    assertThatThrownBy(() -> tree.add(2, 0, 1L)).isInstanceOf(IndexOutOfBoundsException.class);
+    assertThatThrownBy(() -> tree.add(0, -1, 1L)).isInstanceOf(IndexOutOfBoundsException.class);
+    assertThatThrownBy(() -> tree.prefixSum(3, 0)).isInstanceOf(IndexOutOfBoundsException.class);
+    assertThatThrownBy(() -> new FenwickTree2D(-1, 1))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+}
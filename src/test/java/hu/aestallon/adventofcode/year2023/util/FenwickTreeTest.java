@@ -0,0 +1,65 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hu.aestallon.adventofcode.year2023.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.*;
+
+class FenwickTreeTest {
+
+  @Test
+  void prefixSumsShouldMatchNaiveSums() {
+    final var random = new SplittableRandom(25L);
+    final int size = 37;
+    final var tree = new FenwickTree(size);
+    final long[] values = new long[size];
+    for (int op = 0; op < 1_000; op++) {
+      final int index = random.nextInt(size);
+      final long delta = random.nextLong(-1_000L, 1_000L);
+      tree.add(index, delta);
+      values[index] += delta;
+
+      final int count = random.nextInt(size + 1);
+      long expected = 0L;
+      for (int i = 0; i < count; i++) {
+        expected += values[i];
+      }
+      assertThat(tree.prefixSum(count)).isEqualTo(expected);
+    }
+
+    long total = 0L;
+    for (final long value : values) {
+      total += value;
+    }
+    assertThat(tree.sum()).isEqualTo(total);
+  }
+
+  @Test
+  void indicesOutsideTheTreeShouldBeRejected() {
+    final var tree = new FenwickTree(3);
+    assertThat(tree.prefixSum(0)).isEqualTo(0L);
+    assertThat(new FenwickTree(0).sum()).isEqualTo(0L);
+    assertThatThrownBy(() -> tree.add(3, 1L)).isInstanceOf(IndexOutOfBoundsException.class);
+    assertThatThrownBy(() -> tree.prefixSum(-1)).isInstanceOf(IndexOutOfBoundsException.class);
+    assertThatThrownBy(() -> tree.prefixSum(4)).isInstanceOf(IndexOutOfBoundsException.class);
+    assertThatThrownBy(() -> new FenwickTree(-1)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+}
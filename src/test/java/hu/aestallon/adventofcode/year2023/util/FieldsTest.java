@@ -0,0 +1,74 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hu.aestallon.adventofcode.year2023.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class FieldsTest {
+
+  private static List<String> fieldsOf(String s, char delimiter) {
+    final var fields = Fields.of(s, delimiter);
+    final List<String> result = new ArrayList<>();
+    while (fields.next()) {
+      result.add(s.substring(fields.start(), fields.end()));
+    }
+    return result;
+  }
+
+  @Test
+  void fieldsShouldMatchSplitKeepingTrailingEmptyFields() {
+    final String[] inputs = { "a,b,c", "a,,b", ",a", "a,", "a,,", ",", ",,", "", "abc" };
+    for (final String s : inputs) {
+      assertThat(fieldsOf(s, ',')).isEqualTo(Arrays.asList(s.split(",", -1)));
+    }
+  }
+
+  @Test
+  void trailingDelimiterShouldYieldAnEmptyLastField() {
+    assertThat(fieldsOf("1,2,", ',')).isEqualTo(List.of("1", "2", ""));
+  }
+
+  @Test
+  void emptyRangeShouldHaveASingleEmptyField() {
+    final var fields = Fields.of("a;b", 1, 1, ';');
+    assertThat(fields.next()).isTrue();
+    assertThat(fields.start()).isEqualTo(1);
+    assertThat(fields.end()).isEqualTo(1);
+    assertThat(fields.cursor().hasNext()).isFalse();
+    assertThat(fields.next()).isFalse();
+  }
+
+  @Test
+  void cursorShouldBeBoundToTheCurrentField() {
+    final var fields = Fields.of("Game 3: 12 red, -4 blue; x", 8, 23, ',');
+    long sum = 0L;
+    while (fields.next()) {
+      final var cursor = fields.cursor();
+      sum += cursor.nextLong();
+      cursor.skipWhitespace().skipWord();
+      assertThat(cursor.hasNext()).isFalse();
+    }
+    assertThat(sum).isEqualTo(8L);
+  }
+
+}
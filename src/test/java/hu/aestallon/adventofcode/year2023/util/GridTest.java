@@ -0,0 +1,102 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hu.aestallon.adventofcode.year2023.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class GridTest {
+
+  private static Grid of(String input) {
+    return Grid.of(input.getBytes(StandardCharsets.US_ASCII));
+  }
+
+  @Test
+  void bytesShouldGiveSameGridAsLines() {
+    final Grid expected = Grid.of(List.of("ab.", "#cd", "e.f"));
+    assertThat(of("ab.\n#cd\ne.f")).isEqualTo(expected);
+    assertThat(of("ab.\n#cd\ne.f\n")).isEqualTo(expected);
+    assertThat(of("ab.\r\n#cd\r\ne.f")).isEqualTo(expected);
+    assertThat(of("ab.\r\n#cd\r\ne.f\r\n")).isEqualTo(expected);
+    assertThat(of("ab.\n#cd\ne.f\n\n")).isEqualTo(expected);
+  }
+
+  @Test
+  void singleRowAndSingleColumnShouldBeAccepted() {
+    assertThat(of("abc\n").rows()).isEqualTo(1);
+    assertThat(of("abc\n").cols()).isEqualTo(3);
+    assertThat(of("a\r\nb\r\nc").rows()).isEqualTo(3);
+    assertThat(of("a\r\nb\r\nc").cols()).isEqualTo(1);
+  }
+
+  @Test
+  void raggedLinesShouldBeRejected() {
+    // the lengths of the middle lines add up to a whole row:
+    assertThatThrownBy(() -> of("abc\nd\ne\nfgh")).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> of("abc\nde\nfgh")).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> of("abc\ndefg\nhij")).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> of("ab\r\ncd\nef\r\n")).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> of("ab\r\nc\r\rd\r\n")).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> Grid.of(List.of("abc", "de")))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void emptyInputShouldBeRejected() {
+    assertThatThrownBy(() -> of("")).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> of("\r\n")).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> Grid.of(List.of())).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void neighboursShouldStayInBounds() {
+    final Grid grid = of("abc\ndef\nghi");
+    final int[] out = new int[8];
+    assertThat(grid.neighbours(grid.index(0, 0), out)).isEqualTo(2);
+    assertThat(grid.neighbours(grid.index(1, 1), out)).isEqualTo(4);
+    assertThat(grid.adjacent(grid.index(0, 2), out)).isEqualTo(3);
+    assertThat(grid.adjacent(grid.index(1, 1), out)).isEqualTo(8);
+    assertThat(grid.get(out[7])).isEqualTo((byte) 'i');
+  }
+
+  @Test
+  void rowsAndColumnsShouldBeViewsOfCells() {
+    final Grid grid = of("abc\ndef");
+    assertThat(grid.row(1).toString()).isEqualTo("def");
+    assertThat(grid.col(2).toString()).isEqualTo("cf");
+    grid.set(1, 2, (byte) '#');
+    assertThat(grid.col(2).toString()).isEqualTo("c#");
+    assertThat(grid.row(0).mismatches(grid.row(1))).isEqualTo(3);
+    assertThat(grid.count((byte) '#')).isEqualTo(1);
+    assertThat(grid.indexOf((byte) '#', 0)).isEqualTo(5);
+  }
+
+  @Test
+  void rangeOfBytesShouldGiveGridOfThatRangeOnly() {
+    final byte[] input = "ab\ncd\n\nef.\n#gh\n".getBytes(StandardCharsets.US_ASCII);
+    assertThat(Grid.of(input, 0, 6)).isEqualTo(Grid.of(List.of("ab", "cd")));
+    assertThat(Grid.of(input, 7, input.length)).isEqualTo(Grid.of(List.of("ef.", "#gh")));
+    assertThatThrownBy(() -> Grid.of(input, 0, 9)).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> Grid.of(input, 7, input.length + 1))
+        .isInstanceOf(IndexOutOfBoundsException.class);
+  }
+
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hu.aestallon.adventofcode.year2023.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.*;
+
+class IntHashSetTest {
+
+  private static Set<Integer> contentsOf(IntHashSet set) {
+    final Set<Integer> contents = new HashSet<>();
+    set.forEach(contents::add);
+    return contents;
+  }
+
+  @Test
+  void randomOperationsShouldMatchHashSet() {
+    final var random = new SplittableRandom(15L);
+    final var actual = new IntHashSet(2);
+    final Set<Integer> expected = new HashSet<>();
+    for (int op = 0; op < 50_000; op++) {
+      // a narrow key range around zero makes repeats, probe collisions and rehashes frequent:
+      final int key = random.nextInt(-2_000, 2_000);
+      switch (random.nextInt(10)) {
+        case 0 -> assertThat(actual.contains(key)).isEqualTo(expected.contains(key));
+        case 1 -> {
+          if (random.nextInt(500) == 0) {
+            actual.clear();
+            expected.clear();
+          }
+        }
+        default -> assertThat(actual.add(key)).isEqualTo(expected.add(key));
+      }
+      assertThat(actual.size()).isEqualTo(expected.size());
+    }
+    assertThat(actual.isEmpty()).isEqualTo(expected.isEmpty());
+    assertThat(contentsOf(actual)).isEqualTo(expected);
+  }
+
+  @Test
+  void zeroShouldBeStoredApartFromTheSlots() {
+    final var set = new IntHashSet();
+    assertThat(set.contains(0)).isFalse();
+    assertThat(set.add(0)).isTrue();
+    assertThat(set.add(0)).isFalse();
+    assertThat(set.contains(0)).isTrue();
+    assertThat(set.size()).isEqualTo(1);
+    assertThat(set.toString()).isEqualTo("[0]");
+
+    set.clear();
+    assertThat(set.contains(0)).isFalse();
+    assertThat(set.isEmpty()).isTrue();
+    assertThat(set.toString()).isEqualTo("[]");
+  }
+
+  @Test
+  void extremeKeysShouldBeKeptApart() {
+    final var set = new IntHashSet();
+    for (final int key : new int[] { Integer.MIN_VALUE, Integer.MAX_VALUE, -1, 1 }) {
+      assertThat(set.add(key)).isTrue();
+    }
+    assertThat(contentsOf(set))
+        .isEqualTo(Set.of(Integer.MIN_VALUE, Integer.MAX_VALUE, -1, 1));
+  }
+
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hu.aestallon.adventofcode.year2023.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.*;
+
+class IntIntHashMapTest {
+
+  @Test
+  void randomOperationsShouldMatchHashMap() {
+    final var random = new SplittableRandom(15L);
+    final var actual = new IntIntHashMap(2);
+    final Map<Integer, Integer> expected = new HashMap<>();
+    for (int op = 0; op < 50_000; op++) {
+      final int key = random.nextInt(-2_000, 2_000);
+      switch (random.nextInt(10)) {
+        case 0 -> assertThat(actual.containsKey(key)).isEqualTo(expected.containsKey(key));
+        case 1 -> assertThat(actual.getOrDefault(key, -1))
+            .isEqualTo(expected.getOrDefault(key, -1));
+        case 2 -> {
+          if (random.nextInt(500) == 0) {
+            actual.clear();
+            expected.clear();
+          }
+        }
+        default -> {
+          final int value = random.nextInt();
+          actual.put(key, value);
+          expected.put(key, value);
+        }
+      }
+      assertThat(actual.size()).isEqualTo(expected.size());
+    }
+    assertThat(actual.isEmpty()).isEqualTo(expected.isEmpty());
+
+    final int[] keys = actual.keys();
+    assertThat(keys.length).isEqualTo(expected.size());
+    assertThat(new HashSet<>(Arrays.stream(keys).boxed().toList())).isEqualTo(expected.keySet());
+    for (final int key : keys) {
+      assertThat(actual.getOrDefault(key, -1)).isEqualTo(expected.get(key));
+    }
+  }
+
+  @Test
+  void clearShouldForgetTheValueOfZero() {
+    final var map = new IntIntHashMap();
+    map.put(0, 42);
+    map.put(7, 43);
+    assertThat(map.getOrDefault(0, -1)).isEqualTo(42);
+    assertThat(map.keys().length).isEqualTo(2);
+
+    map.clear();
+    assertThat(map.containsKey(0)).isFalse();
+    assertThat(map.getOrDefault(0, -1)).isEqualTo(-1);
+    assertThat(map.getOrDefault(7, -1)).isEqualTo(-1);
+    assertThat(map.keys()).isEqualTo(new int[0]);
+  }
+
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hu.aestallon.adventofcode.year2023.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LongHashSetTest {
+
+  private static Set<Long> contentsOf(LongHashSet set) {
+    final Set<Long> contents = new HashSet<>();
+    set.forEach(contents::add);
+    return contents;
+  }
+
+  @Test
+  void randomOperationsShouldMatchHashSet() {
+    final var random = new SplittableRandom(15L);
+    final var actual = new LongHashSet(2);
+    final Set<Long> expected = new HashSet<>();
+    for (int op = 0; op < 50_000; op++) {
+      // keys differing only in their high half, which a weak mix would send to the same slot:
+      final long key = ((long) random.nextInt(-40, 40) << 32) | random.nextInt(0, 50);
+      switch (random.nextInt(10)) {
+        case 0 -> assertThat(actual.contains(key)).isEqualTo(expected.contains(key));
+        case 1 -> {
+          if (random.nextInt(500) == 0) {
+            actual.clear();
+            expected.clear();
+          }
+        }
+        default -> assertThat(actual.add(key)).isEqualTo(expected.add(key));
+      }
+      assertThat(actual.size()).isEqualTo(expected.size());
+    }
+    assertThat(actual.isEmpty()).isEqualTo(expected.isEmpty());
+    assertThat(contentsOf(actual)).isEqualTo(expected);
+
+    final long[] array = actual.toArray();
+    assertThat(array.length).isEqualTo(expected.size());
+    assertThat(new HashSet<>(Arrays.stream(array).boxed().toList())).isEqualTo(expected);
+  }
+
+  @Test
+  void zeroShouldBeStoredApartFromTheSlots() {
+    final var set = new LongHashSet();
+    assertThat(set.add(0L)).isTrue();
+    assertThat(set.add(0L)).isFalse();
+    assertThat(set.contains(0L)).isTrue();
+    assertThat(set.toArray()).isEqualTo(new long[] { 0L });
+
+    set.clear();
+    assertThat(set.contains(0L)).isFalse();
+    assertThat(set.isEmpty()).isTrue();
+    assertThat(set.toArray()).isEqualTo(new long[0]);
+  }
+
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hu.aestallon.adventofcode.year2023.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LongLongHashMapTest {
+
+  @Test
+  void randomOperationsShouldMatchHashMap() {
+    final var random = new SplittableRandom(15L);
+    final var actual = new LongLongHashMap(2);
+    final Map<Long, Long> expected = new HashMap<>();
+    for (int op = 0; op < 50_000; op++) {
+      final long key = ((long) random.nextInt(-40, 40) << 32) | random.nextInt(0, 50);
+      switch (random.nextInt(10)) {
+        case 0 -> assertThat(actual.containsKey(key)).isEqualTo(expected.containsKey(key));
+        case 1 -> assertThat(actual.getOrDefault(key, -1L))
+            .isEqualTo(expected.getOrDefault(key, -1L));
+        case 2 -> {
+          if (random.nextInt(500) == 0) {
+            actual.clear();
+            expected.clear();
+          }
+        }
+        case 3, 4, 5 -> {
+          final long delta = random.nextLong(-100L, 100L);
+          assertThat(actual.addTo(key, delta)).isEqualTo(expected.merge(key, delta, Long::sum));
+        }
+        default -> {
+          final long value = random.nextLong();
+          actual.put(key, value);
+          expected.put(key, value);
+        }
+      }
+      assertThat(actual.size()).isEqualTo(expected.size());
+    }
+    assertThat(actual.isEmpty()).isEqualTo(expected.isEmpty());
+    expected.forEach((key, value) -> assertThat(actual.getOrDefault(key, -1L)).isEqualTo(value));
+  }
+
+  @Test
+  void clearShouldForgetEveryValue() {
+    final var map = new LongLongHashMap();
+    map.addTo(0L, 5L);
+    map.addTo(9L, 6L);
+
+    map.clear();
+    assertThat(map.isEmpty()).isTrue();
+    assertThat(map.getOrDefault(0L, -1L)).isEqualTo(-1L);
+    assertThat(map.addTo(0L, 1L)).isEqualTo(1L);
+    assertThat(map.addTo(9L, 1L)).isEqualTo(1L);
+    assertThat(map.size()).isEqualTo(2);
+  }
+
+}
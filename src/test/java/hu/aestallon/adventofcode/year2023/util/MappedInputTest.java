@@ -0,0 +1,160 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hu.aestallon.adventofcode.year2023.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+class MappedInputTest {
+
+  @FunctionalInterface
+  private interface WithFile {
+    void accept(Path file) throws IOException;
+  }
+
+  private static void withFile(String content, WithFile test) throws IOException {
+    final Path file = Files.createTempFile("mapped-input", ".txt");
+    try {
+      Files.writeString(file, content, StandardCharsets.US_ASCII);
+      test.accept(file);
+    } finally {
+      Files.deleteIfExists(file);
+    }
+  }
+
+  private static List<String> linesOf(MappedInput input) {
+    return input.lines().map(CharSequence::toString).toList();
+  }
+
+  private static List<String> parallelLinesOf(MappedInput input) {
+    return input.parallelLines().map(CharSequence::toString).toList();
+  }
+
+  @Test
+  void linesShouldBeSplitAtLineFeeds() throws IOException {
+    withFile("abc\n\nde\n", file -> {
+      final var input = MappedInput.map(file);
+      assertThat(input.size()).isEqualTo(8L);
+      assertThat(linesOf(input)).isEqualTo(List.of("abc", "", "de"));
+      assertThat(parallelLinesOf(input)).isEqualTo(List.of("abc", "", "de"));
+    });
+  }
+
+  @Test
+  void carriageReturnsShouldNotBePartOfLines() throws IOException {
+    withFile("abc\r\nde\r\n\r\nf", file -> {
+      final var input = MappedInput.map(file);
+      assertThat(linesOf(input)).isEqualTo(List.of("abc", "de", "", "f"));
+      assertThat(parallelLinesOf(input)).isEqualTo(List.of("abc", "de", "", "f"));
+    });
+  }
+
+  @Test
+  void lastLineShouldBeReadWithoutTrailingLineFeed() throws IOException {
+    withFile("abc\nde", file -> {
+      assertThat(linesOf(MappedInput.map(file))).isEqualTo(List.of("abc", "de"));
+    });
+    withFile("x", file -> {
+      assertThat(linesOf(MappedInput.map(file))).isEqualTo(List.of("x"));
+    });
+  }
+
+  @Test
+  void emptyFileShouldHaveNoLines() throws IOException {
+    withFile("", file -> {
+      final var input = MappedInput.map(file);
+      assertThat(input.size()).isEqualTo(0L);
+      assertThat(input.regions()).isEmpty();
+      assertThat(linesOf(input)).isEmpty();
+      assertThat(parallelLinesOf(input)).isEmpty();
+      assertThat(input.parallelChunks().count()).isEqualTo(0L);
+    });
+  }
+
+  @Test
+  void regionsShouldBeCutAtLineBreaks() throws IOException {
+    final List<String> lines = IntStream.range(0, 200)
+        .mapToObj(i -> "line" + "#".repeat(i % 13) + i)
+        .toList();
+    final String content = lines.stream().collect(Collectors.joining("\r\n", "", "\r\n"));
+    withFile(content, file -> {
+      final var input = MappedInput.map(file, 64L);
+      assertThat(input.size()).isEqualTo((long) content.length());
+      assertThat(input.regions().size()).isGreaterThan(1);
+      for (final var region : input.regions()) {
+        assertThat(region.get(region.limit() - 1)).isEqualTo((byte) '\n');
+      }
+      assertThat(linesOf(input)).isEqualTo(lines);
+      assertThat(parallelLinesOf(input)).isEqualTo(lines);
+      assertThat(input.parallelChunks().map(CharSequence::toString).collect(Collectors.joining()))
+          .isEqualTo(content);
+    });
+  }
+
+  @Test
+  void lineLongerThanRegionShouldBeRejected() throws IOException {
+    withFile("a".repeat(100) + "\nb\n", file -> {
+      assertThatThrownBy(() -> MappedInput.map(file, 64L))
+          .isInstanceOf(IOException.class)
+          .hasMessageContaining("exceeds 64 bytes");
+    });
+  }
+
+  @Test
+  void missingFileShouldFailToMap() throws IOException {
+    final Path missing = Files.createTempDirectory("mapped-input").resolve("missing.txt");
+    try {
+      assertThatThrownBy(() -> AocIO.map(missing)).isInstanceOf(NoSuchFileException.class);
+      assertThatThrownBy(() -> AocIO.lines(missing)).isInstanceOf(UncheckedIOException.class);
+    } finally {
+      Files.delete(missing.getParent());
+    }
+  }
+
+  @Test
+  void heapContentShouldBeSplitLikeMappedContent() {
+    final var input = MappedInput.of("ab\r\ncd".getBytes(StandardCharsets.US_ASCII));
+    assertThat(input.size()).isEqualTo(6L);
+    assertThat(linesOf(input)).isEqualTo(List.of("ab", "cd"));
+    assertThat(linesOf(MappedInput.of(new byte[0]))).isEmpty();
+  }
+
+  @Test
+  void contentShouldBeCopiedAcrossRegions() throws IOException {
+    final String content = IntStream.range(0, 100)
+        .mapToObj(i -> "row" + i)
+        .collect(Collectors.joining("\n", "", "\n"));
+    withFile(content, file -> {
+      final var input = MappedInput.map(file, 64L);
+      assertThat(input.regions().size()).isGreaterThan(1);
+      assertThat(input.toByteArray()).isEqualTo(content.getBytes(StandardCharsets.US_ASCII));
+    });
+    assertThat(MappedInput.of(new byte[0]).toByteArray()).isEqualTo(new byte[0]);
+  }
+
+}
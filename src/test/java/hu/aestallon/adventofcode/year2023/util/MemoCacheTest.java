@@ -0,0 +1,163 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hu.aestallon.adventofcode.year2023.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.*;
+
+class MemoCacheTest {
+
+  /** Keeps its keys in a list ordered by last use, and counts like the memo is meant to. */
+  private static final class ReferenceLru {
+
+    private final int                   maxSize;
+    private final List<Integer>         order   = new ArrayList<>();
+    private final Map<Integer, Integer> entries = new HashMap<>();
+    private long                        hits;
+    private long                        misses;
+    private long                        evictions;
+
+    private ReferenceLru(int maxSize) {
+      this.maxSize = maxSize;
+    }
+
+    private Integer get(int key) {
+      final Integer value = entries.get(key);
+      if (value == null) {
+        misses++;
+      } else {
+        hits++;
+        touch(key);
+      }
+      return value;
+    }
+
+    private void put(int key, int value) {
+      entries.put(key, value);
+      touch(key);
+      if (order.size() > maxSize) {
+        entries.remove(order.remove(0));
+        evictions++;
+      }
+    }
+
+    private void touch(int key) {
+      order.remove(Integer.valueOf(key));
+      order.add(key);
+    }
+
+    private MemoCache.Stats stats() {
+      return new MemoCache.Stats(hits, misses, evictions, entries.size());
+    }
+
+  }
+
+  @Test
+  void leastRecentlyUsedEntryShouldBeEvicted() {
+    final MemoCache<String, Integer> memo = MemoCache.scoped(2);
+    memo.put("a", 1);
+    memo.put("b", 2);
+    assertThat(memo.get("a")).isEqualTo(1);
+    memo.put("c", 3);
+
+    assertThat(memo.get("b")).isNull();
+    assertThat(memo.get("a")).isEqualTo(1);
+    assertThat(memo.get("c")).isEqualTo(3);
+    assertThat(memo.stats()).isEqualTo(new MemoCache.Stats(3L, 1L, 1L, 2L));
+  }
+
+  @Test
+  void randomOperationsShouldMatchReference() {
+    final var random = new SplittableRandom(14L);
+    final MemoCache<Integer, Integer> actual = MemoCache.scoped(64);
+    final var expected = new ReferenceLru(64);
+    for (int op = 0; op < 50_000; op++) {
+      final int key = random.nextInt(-100, 100);
+      if (random.nextBoolean()) {
+        assertThat(actual.get(key)).isEqualTo(expected.get(key));
+      } else {
+        final int value = random.nextInt();
+        actual.put(key, value);
+        expected.put(key, value);
+      }
+    }
+    assertThat(actual.stats()).isEqualTo(expected.stats());
+  }
+
+  @Test
+  void nonPositiveSizeShouldBeRejected() {
+    assertThatThrownBy(() -> MemoCache.scoped(0)).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> MemoCache.striped(-1)).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> MemoCache.scoped(1).put("a", null))
+        .isInstanceOf(NullPointerException.class);
+  }
+
+  @Test
+  void stripedMemoShouldBeSharedByThreads() throws Exception {
+    final int threads = 8;
+    final int opsPerThread = 100_000;
+    final int maxSize = 1_024;
+    final MemoCache<Integer, Integer> memo = MemoCache.striped(maxSize);
+
+    final List<Future<Long>> lookups = new ArrayList<>();
+    try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+      for (int t = 0; t < threads; t++) {
+        final long seed = t;
+        lookups.add(executor.submit(() -> {
+          final var random = new SplittableRandom(seed);
+          long gets = 0L;
+          for (int op = 0; op < opsPerThread; op++) {
+            final int key = random.nextInt(4 * maxSize);
+            final Integer value = memo.get(key);
+            gets++;
+            if (value == null) {
+              memo.put(key, -key);
+            } else if (value != -key) {
+              throw new AssertionError(key + " was memoised as " + value);
+            }
+          }
+          return gets;
+        }));
+      }
+    }
+
+    long gets = 0L;
+    for (final Future<Long> future : lookups) {
+      gets += future.get();
+    }
+    final MemoCache.Stats stats = memo.stats();
+    assertThat(stats.hits() + stats.misses()).isEqualTo(gets);
+    assertThat(stats.hits()).isGreaterThan(0L);
+    assertThat(stats.evictions()).isGreaterThan(0L);
+    // threads missing the same key at once both put it, so the later put only replaces:
+    assertThat(stats.misses() - stats.evictions()).isGreaterThanOrEqualTo(stats.size());
+    // stripes round their share of the size up, and there are at most 8 of them per processor:
+    final int processors = Runtime.getRuntime().availableProcessors();
+    assertThat(stats.size()).isLessThan((long) maxSize + 8 * processors);
+  }
+
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hu.aestallon.adventofcode.year2023.util;
+
+import hu.aestallon.adventofcode.year2023.day05.internal.Almanac;
+import hu.aestallon.adventofcode.year2023.day16.internal.Contraption;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SnapshotTest {
+
+  private static final String SCHEMA = "test/1";
+
+  @FunctionalInterface
+  private interface InDirectory {
+    void accept(Path directory) throws IOException;
+  }
+
+  private static void inTempDirectory(InDirectory test) throws IOException {
+    final Path directory = Files.createTempDirectory("snapshot-test");
+    try {
+      test.accept(directory);
+    } finally {
+      try (final Stream<Path> files = Files.walk(directory)) {
+        for (final Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+          Files.deleteIfExists(file);
+        }
+      }
+    }
+  }
+
+  @Test
+  void primitiveSectionsShouldRoundTrip() throws IOException {
+    inTempDirectory(directory -> {
+      final Path file = directory.resolve("primitives.snapshot");
+      final byte[] bytes = { 1, 2, 3 };
+      final int[] ints = { -1, 0, Integer.MAX_VALUE };
+      final long[] longs = { Long.MIN_VALUE, 42L };
+      new Snapshot.Writer(SCHEMA)
+          .writeBytes(bytes)
+          .writeInts(ints)
+          .writeLongs(longs)
+          .writeBytes(new byte[0])
+          .writeTo(file);
+
+      final var in = Snapshot.Reader.map(file, SCHEMA);
+      assertThat(in.readBytes()).isEqualTo(bytes);
+      assertThat(in.readInts()).isEqualTo(ints);
+      assertThat(in.readLongs()).isEqualTo(longs);
+      assertThat(in.readBytes()).isEqualTo(new byte[0]);
+      assertThat(in.isExhausted()).isTrue();
+      assertThatThrownBy(in::readBytes).isInstanceOf(IllegalStateException.class);
+    });
+  }
+
+  @Test
+  void almanacShouldRoundTrip() throws IOException {
+    final var almanac = Almanac.parse(AocIO.lines("05", "input05.txt"));
+    inTempDirectory(directory -> {
+      final Path file = directory.resolve("almanac.snapshot");
+      final var out = new Snapshot.Writer(SCHEMA);
+      almanac.writeTo(out);
+      out.writeTo(file);
+
+      final var in = Snapshot.Reader.map(file, SCHEMA);
+      final var loaded = Almanac.readFrom(in);
+      assertThat(in.isExhausted()).isTrue();
+      assertThat(loaded.seedsByLocation()).isEqualTo(almanac.seedsByLocation());
+    });
+  }
+
+  @Test
+  void contraptionShouldRoundTrip() throws IOException {
+    final var lines = AocIO.lines("16", "input16.txt");
+    final var contraption = Contraption.parse(lines);
+    inTempDirectory(directory -> {
+      final Path file = directory.resolve("contraption.snapshot");
+      final var out = new Snapshot.Writer(SCHEMA);
+      contraption.writeTo(out);
+      out.writeTo(file);
+
+      final var grid = Snapshot.Reader.map(file, SCHEMA).readGrid();
+      assertThat(grid).isEqualTo(Grid.of(lines));
+
+      final var in = Snapshot.Reader.map(file, SCHEMA);
+      final var loaded = Contraption.readFrom(in);
+      assertThat(in.isExhausted()).isTrue();
+      assertThat(loaded.runAll().toArray()).isEqualTo(contraption.runAll().toArray());
+    });
+  }
+
+  @Test
+  void fileOfAnotherFormatShouldBeRejected() throws IOException {
+    inTempDirectory(directory -> {
+      final Path file = directory.resolve("wrong.snapshot");
+      new Snapshot.Writer(SCHEMA).writeInts(new int[] { 1 }).writeTo(file);
+      final byte[] content = Files.readAllBytes(file);
+
+      final byte[] wrongMagic = content.clone();
+      wrongMagic[0] ^= 1;
+      Files.write(file, wrongMagic);
+      assertThatThrownBy(() -> Snapshot.Reader.map(file, SCHEMA))
+          .isInstanceOf(IOException.class)
+          .hasMessageContaining("is not a snapshot");
+
+      final byte[] wrongVersion = content.clone();
+      ByteBuffer.wrap(wrongVersion).order(ByteOrder.LITTLE_ENDIAN).putInt(4, 99);
+      Files.write(file, wrongVersion);
+      assertThatThrownBy(() -> Snapshot.Reader.map(file, SCHEMA))
+          .isInstanceOf(IOException.class)
+          .hasMessageContaining("format 99");
+
+      Files.write(file, content);
+      assertThatThrownBy(() -> Snapshot.Reader.map(file, "test/2"))
+          .isInstanceOf(IOException.class)
+          .hasMessageContaining("instead of test/2");
+
+      Files.write(file, Arrays.copyOf(content, 6));
+      assertThatThrownBy(() -> Snapshot.Reader.map(file, SCHEMA))
+          .isInstanceOf(IOException.class)
+          .hasMessageContaining("is corrupt");
+    });
+  }
+
+  @Test
+  void truncatedSectionShouldBeRejected() throws IOException {
+    inTempDirectory(directory -> {
+      final Path file = directory.resolve("truncated.snapshot");
+      new Snapshot.Writer(SCHEMA).writeLongs(new long[] { 1L, 2L, 3L }).writeTo(file);
+      final byte[] content = Files.readAllBytes(file);
+      Files.write(file, Arrays.copyOf(content, content.length - Long.BYTES));
+
+      final var in = Snapshot.Reader.map(file, SCHEMA);
+      assertThatThrownBy(in::readLongs)
+          .isInstanceOf(IllegalStateException.class)
+          .hasMessageContaining("exceeds");
+    });
+  }
+
+  @Test
+  void sectionOfAnotherTypeShouldBeRejected() throws IOException {
+    inTempDirectory(directory -> {
+      final Path file = directory.resolve("mistyped.snapshot");
+      new Snapshot.Writer(SCHEMA).writeInts(new int[] { 1, 2 }).writeTo(file);
+
+      final var in = Snapshot.Reader.map(file, SCHEMA);
+      assertThatThrownBy(in::readLongs)
+          .isInstanceOf(IllegalStateException.class)
+          .hasMessageContaining("Expected a section of type L");
+    });
+  }
+
+  @Test
+  void trailingDataShouldBeDetected() throws IOException {
+    inTempDirectory(directory -> {
+      final Path file = directory.resolve("trailing.snapshot");
+      final var out = new Snapshot.Writer(SCHEMA);
+      Almanac.parse(AocIO.lines("05", "input05.txt")).writeTo(out);
+      out.writeInts(new int[] { 7 }).writeTo(file);
+
+      final var in = Snapshot.Reader.map(file, SCHEMA);
+      Almanac.readFrom(in);
+      assertThat(in.isExhausted()).isFalse();
+      assertThat(in.readInts()).isEqualTo(new int[] { 7 });
+      assertThat(in.isExhausted()).isTrue();
+    });
+  }
+
+}
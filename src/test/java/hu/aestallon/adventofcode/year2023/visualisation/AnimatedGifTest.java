@@ -0,0 +1,109 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hu.aestallon.adventofcode.year2023.visualisation;
+
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.awt.image.IndexColorModel;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.*;
+
+class AnimatedGifTest {
+
+  /** Paints a row of cells of the given number of distinct colours. */
+  private static FrameRenderer ofColours(int colours) {
+    final var renderer = new FrameRenderer(1, colours, 1);
+    for (int col = 0; col < colours; col++) {
+      renderer.paint(0, col, col << 8);
+    }
+    return renderer;
+  }
+
+  private static BufferedImage indexed(FrameRenderer renderer) {
+    return AnimatedGif.indexed(renderer, new Rectangle(0, 0, renderer.cols(), renderer.rows()));
+  }
+
+  @Test
+  void paletteShouldHoldPowerOfTwoOfAtLeastTwoColours() {
+    final int[][] sizeByColours = { { 1, 2 }, { 2, 2 }, { 3, 4 }, { 5, 8 }, { 129, 256 },
+        { 256, 256 } };
+    for (final int[] expected : sizeByColours) {
+      final BufferedImage image = indexed(ofColours(expected[0]));
+      assertThat(image.getColorModel()).isInstanceOf(IndexColorModel.class);
+      assertThat(((IndexColorModel) image.getColorModel()).getMapSize()).isEqualTo(expected[1]);
+      for (int x = 0; x < expected[0]; x++) {
+        assertThat(image.getRGB(x, 0) & 0xFFFFFF).isEqualTo(x << 8);
+      }
+    }
+  }
+
+  @Test
+  void frameOfMoreThan256ColoursShouldNotBeIndexed() {
+    final BufferedImage image = indexed(ofColours(257));
+    assertThat(image.getColorModel() instanceof IndexColorModel).isFalse();
+    assertThat(image.getRGB(256, 0) & 0xFFFFFF).isEqualTo(256 << 8);
+  }
+
+  @Test
+  void onlyTheDirtyRegionShouldBeIndexed() {
+    final var renderer = new FrameRenderer(4, 4, 3);
+    renderer.takeDirtyRegion();
+    renderer.paint(2, 1, 0xABCDEF);
+    final Rectangle region = renderer.takeDirtyRegion();
+    final BufferedImage image = AnimatedGif.indexed(renderer, region);
+    assertThat(image.getWidth()).isEqualTo(3);
+    assertThat(image.getHeight()).isEqualTo(3);
+    assertThat(((IndexColorModel) image.getColorModel()).getMapSize()).isEqualTo(2);
+    assertThat(image.getRGB(2, 2) & 0xFFFFFF).isEqualTo(0xABCDEF);
+  }
+
+  @Test
+  void everyFrameShouldBeWrittenEvenIfUnchanged() throws IOException {
+    final Path file = Files.createTempFile("animated", ".gif");
+    try {
+      final var renderer = new FrameRenderer(4, 4, 2);
+      try (final var gif = FrameSink.animatedGif(file, 20)) {
+        gif.write(renderer);
+        renderer.paint(1, 1, 0xFF0000);
+        gif.write(renderer);
+        gif.write(renderer);
+      }
+
+      final ImageReader reader = ImageIO.getImageReadersByFormatName("gif").next();
+      try (ImageInputStream in = ImageIO.createImageInputStream(file.toFile())) {
+        reader.setInput(in);
+        assertThat(reader.getNumImages(true)).isEqualTo(3);
+        assertThat(reader.getWidth(0)).isEqualTo(8);
+        assertThat(reader.getWidth(1)).isEqualTo(2);
+        assertThat(reader.getWidth(2)).isEqualTo(1);
+      } finally {
+        reader.dispose();
+      }
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+}
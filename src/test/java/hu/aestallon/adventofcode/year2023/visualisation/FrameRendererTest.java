@@ -0,0 +1,70 @@
+/*
+ * Copyright 2023 Szabolcs Bazil Papp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hu.aestallon.adventofcode.year2023.visualisation;
+
+import org.junit.jupiter.api.Test;
+
+import java.awt.Rectangle;
+
+import static org.assertj.core.api.Assertions.*;
+
+class FrameRendererTest {
+
+  @Test
+  void firstFrameShouldBeDirtyAsAWhole() {
+    final var renderer = new FrameRenderer(3, 4, 2);
+    assertThat(renderer.image().getWidth()).isEqualTo(8);
+    assertThat(renderer.image().getHeight()).isEqualTo(6);
+    assertThat(renderer.takeDirtyRegion()).isEqualTo(new Rectangle(0, 0, 8, 6));
+  }
+
+  @Test
+  void frameWithoutPaintingShouldHaveEmptyDirtyRegion() {
+    final var renderer = new FrameRenderer(3, 4, 2);
+    renderer.takeDirtyRegion();
+    assertThat(renderer.takeDirtyRegion().isEmpty()).isTrue();
+  }
+
+  @Test
+  void dirtyRegionShouldBoundThePaintedCellsOnly() {
+    final var renderer = new FrameRenderer(5, 4, 2);
+    renderer.takeDirtyRegion();
+
+    renderer.paint(1, 2, 0xFF0000);
+    renderer.paint(3, 0, 0x00FF00);
+    assertThat(renderer.takeDirtyRegion()).isEqualTo(new Rectangle(0, 2, 6, 6));
+    assertThat(renderer.image().getRGB(4, 2) & 0xFFFFFF).isEqualTo(0xFF0000);
+    assertThat(renderer.image().getRGB(5, 3) & 0xFFFFFF).isEqualTo(0xFF0000);
+    assertThat(renderer.image().getRGB(6, 2) & 0xFFFFFF).isEqualTo(0);
+    assertThat(renderer.image().getRGB(1, 7) & 0xFFFFFF).isEqualTo(0x00FF00);
+
+    renderer.paint(4, 3, 0x0000FF);
+    assertThat(renderer.takeDirtyRegion()).isEqualTo(new Rectangle(6, 8, 2, 2));
+
+    renderer.fill(0xFFFFFF);
+    assertThat(renderer.takeDirtyRegion()).isEqualTo(new Rectangle(0, 0, 8, 10));
+  }
+
+  @Test
+  void emptyGridShouldBeRejected() {
+    assertThatThrownBy(() -> new FrameRenderer(0, 1, 1))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new FrameRenderer(1, 1, 0))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+}